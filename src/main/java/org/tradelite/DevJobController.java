@@ -5,9 +5,13 @@ import java.util.Map;
 import java.util.function.BooleanSupplier;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.tradelite.scheduling.AsyncJobService;
+import org.tradelite.scheduling.AsyncJobSnapshot;
 
 @RestController
 @Profile("dev")
@@ -19,110 +23,125 @@ public class DevJobController {
     private final Scheduler scheduler;
     private final DevDataSeeder devDataSeeder;
     private final RootErrorHandler rootErrorHandler;
+    private final AsyncJobService asyncJobService;
 
     public DevJobController(
-            Scheduler scheduler, DevDataSeeder devDataSeeder, RootErrorHandler rootErrorHandler) {
+            Scheduler scheduler,
+            DevDataSeeder devDataSeeder,
+            RootErrorHandler rootErrorHandler,
+            AsyncJobService asyncJobService) {
         this.scheduler = scheduler;
         this.devDataSeeder = devDataSeeder;
         this.rootErrorHandler = rootErrorHandler;
+        this.asyncJobService = asyncJobService;
+    }
+
+    /** Status, progress and result of a job submitted through one of the POST endpoints. */
+    @GetMapping("/{id}")
+    public ResponseEntity<AsyncJobSnapshot> job(@PathVariable String id) {
+        return ResponseEntity.of(asyncJobService.find(id));
     }
 
     @PostMapping("/stock-monitoring")
-    public ResponseEntity<Map<String, String>> stockMonitoring() {
+    public ResponseEntity<Map<String, Object>> stockMonitoring() {
         return runJob("stock-monitoring", scheduler::manualStockMarketMonitoring);
     }
 
     @PostMapping("/hourly-signals")
-    public ResponseEntity<Map<String, String>> hourlySignals() {
+    public ResponseEntity<Map<String, Object>> hourlySignals() {
         return runJob("hourly-signals", scheduler::manualHourlySignalMonitoring);
     }
 
     @PostMapping("/crypto-monitoring")
-    public ResponseEntity<Map<String, String>> cryptoMonitoring() {
+    public ResponseEntity<Map<String, Object>> cryptoMonitoring() {
         return runJob("crypto-monitoring", scheduler::manualCryptoMarketMonitoring);
     }
 
     @PostMapping("/rs-monitoring")
-    public ResponseEntity<Map<String, String>> rsMonitoring() {
+    public ResponseEntity<Map<String, Object>> rsMonitoring() {
         return runJob("rs-monitoring", scheduler::manualRelativeStrengthMonitoring);
     }
 
     @PostMapping("/insider-report")
-    public ResponseEntity<Map<String, String>> insiderReport() {
+    public ResponseEntity<Map<String, Object>> insiderReport() {
         return runJob("insider-report", scheduler::manualWeeklyInsiderTradingReport);
     }
 
     @PostMapping("/sector-rotation")
-    public ResponseEntity<Map<String, String>> sectorRotation() {
+    public ResponseEntity<Map<String, Object>> sectorRotation() {
         return runJob("sector-rotation", scheduler::manualDailySectorRotationTracking);
     }
 
     @PostMapping("/sector-rs-summary")
-    public ResponseEntity<Map<String, String>> sectorRelativeStrengthSummary() {
+    public ResponseEntity<Map<String, Object>> sectorRelativeStrengthSummary() {
         return runJob("sector-rs-summary", scheduler::manualDailySectorRelativeStrengthReport);
     }
 
     @PostMapping("/tail-risk")
-    public ResponseEntity<Map<String, String>> tailRisk() {
+    public ResponseEntity<Map<String, Object>> tailRisk() {
         return runJob("tail-risk", scheduler::manualDailyTailRiskMonitoring);
     }
 
     @PostMapping("/ema-report")
-    public ResponseEntity<Map<String, String>> emaReport() {
+    public ResponseEntity<Map<String, Object>> emaReport() {
         return runJob("ema-report", scheduler::manualEmaReport);
     }
 
     @PostMapping("/monthly-api-usage")
-    public ResponseEntity<Map<String, String>> monthlyApiUsage() {
+    public ResponseEntity<Map<String, Object>> monthlyApiUsage() {
         return runJob("monthly-api-usage", scheduler::manualMonthlyApiUsageReport);
     }
 
     @PostMapping("/seed-analytics")
-    public ResponseEntity<Map<String, String>> seedAnalytics() {
+    public ResponseEntity<Map<String, Object>> seedAnalytics() {
         return runJob(
                 "seed-analytics", () -> rootErrorHandler.runWithStatus(devDataSeeder::reseed));
     }
 
     @PostMapping("/ohlcv-fetch")
-    public ResponseEntity<Map<String, String>> ohlcvFetch() {
+    public ResponseEntity<Map<String, Object>> ohlcvFetch() {
         return runJob("ohlcv-fetch", scheduler::manualOhlcvFetch);
     }
 
     @PostMapping("/vfi-report")
-    public ResponseEntity<Map<String, String>> vfiReport() {
+    public ResponseEntity<Map<String, Object>> vfiReport() {
         return runJob("vfi-report", scheduler::manualVfiReport);
     }
 
     @PostMapping("/pullback-buy-alert")
-    public ResponseEntity<Map<String, String>> pullbackBuyAlert() {
+    public ResponseEntity<Map<String, Object>> pullbackBuyAlert() {
         return runJob("pullback-buy-alert", scheduler::manualPullbackBuyAlert);
     }
 
     @PostMapping("/earnings-calendar")
-    public ResponseEntity<Map<String, String>> earningsCalendar() {
+    public ResponseEntity<Map<String, Object>> earningsCalendar() {
         return runJob("earnings-calendar", scheduler::manualEarningsCalendarCheck);
     }
 
     @PostMapping("/treasury")
-    public ResponseEntity<Map<String, String>> treasury() {
+    public ResponseEntity<Map<String, Object>> treasury() {
         return runJob("treasury", scheduler::manualTreasuryReport);
     }
 
     @PostMapping("/accumulation-detection")
-    public ResponseEntity<Map<String, String>> accumulationDetection() {
+    public ResponseEntity<Map<String, Object>> accumulationDetection() {
         return runJob("accumulation-detection", scheduler::manualAccumulationDetection);
     }
 
     @PostMapping("/market-holiday-notification")
-    public ResponseEntity<Map<String, String>> marketHolidayNotification() {
+    public ResponseEntity<Map<String, Object>> marketHolidayNotification() {
         return runJob("market-holiday-notification", scheduler::manualMarketHolidayNotification);
     }
 
     @PostMapping("/yahoo-price-evaluation")
-    public ResponseEntity<Map<String, String>> yahooPriceEvaluation() {
+    public ResponseEntity<Map<String, Object>> yahooPriceEvaluation() {
         return runJob("yahoo-price-evaluation", scheduler::manualYahooPriceEvaluation);
     }
 
+    /**
+     * Runs every job in dependency order on the request thread and reports per-job results. Kept
+     * synchronous so the smoke test gets the full outcome in one response.
+     */
     @PostMapping("/run-all")
     public ResponseEntity<Map<String, Object>> runAll() {
         LinkedHashMap<String, String> results = new LinkedHashMap<>();
@@ -214,11 +233,19 @@ public class DevJobController {
         return ok ? 0 : 1;
     }
 
-    private ResponseEntity<Map<String, String>> runJob(String job, BooleanSupplier jobRunner) {
-        if (jobRunner.getAsBoolean()) {
-            return ResponseEntity.ok(Map.of("status", "ok", "job", job));
-        }
-        return ResponseEntity.internalServerError()
-                .body(Map.of("status", "error", "job", job, "message", "check logs"));
+    /**
+     * Submits the job in the background and answers 202 with its id; poll {@code GET
+     * /dev/jobs/{id}} or listen for {@code job-progress} events. Triggering a job that is still
+     * running attaches to that run.
+     */
+    private ResponseEntity<Map<String, Object>> runJob(String job, BooleanSupplier jobRunner) {
+        AsyncJobService.Submission submission = asyncJobService.submit(job, jobRunner);
+        return ResponseEntity.accepted()
+                .body(
+                        Map.of(
+                                "status", submission.job().status().name().toLowerCase(),
+                                "job", job,
+                                "jobId", submission.job().id(),
+                                "attached", submission.attached()));
     }
 }
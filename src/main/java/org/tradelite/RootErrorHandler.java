@@ -2,6 +2,8 @@ package org.tradelite;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.tradelite.scheduling.JobDeadlineExceededException;
+import org.tradelite.scheduling.JobRunContext;
 
 @Slf4j
 @Component
@@ -11,15 +13,26 @@ public class RootErrorHandler {
         runWithStatus(body);
     }
 
+    /**
+     * Runs {@code body}, logging and recording any failure. A body started after its run's deadline
+     * is not run at all, and one that hits the deadline midway stops without counting as a failure;
+     * the ledger records the run as cancelled instead.
+     */
     public boolean runWithStatus(ThrowingRunnable body) {
         try {
+            JobRunContext.checkDeadline();
             body.run();
             return true;
+        } catch (JobDeadlineExceededException e) {
+            log.warn("Stopped at job deadline: {}", e.getMessage());
+            return false;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            JobRunContext.markFailed();
             log.error("Operation was interrupted: {}", e.getMessage());
             return false;
         } catch (Exception e) {
+            JobRunContext.markFailed();
             log.error(e.getMessage(), e);
             return false;
         }
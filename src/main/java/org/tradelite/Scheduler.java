@@ -2,8 +2,11 @@ package org.tradelite;
 
 import static org.tradelite.common.TargetPriceProvider.IGNORE_DURATION_TTL_SECONDS;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,10 +18,17 @@ import org.tradelite.common.TargetPriceProvider;
 import org.tradelite.core.*;
 import org.tradelite.quant.BollingerBandTracker;
 import org.tradelite.quant.EmaTracker;
+import org.tradelite.quant.IndicatorMaterializer;
 import org.tradelite.quant.PullbackBuyTracker;
 import org.tradelite.quant.RsiTracker;
 import org.tradelite.quant.TailRiskTracker;
 import org.tradelite.quant.VfiTracker;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.JobGraph;
+import org.tradelite.scheduling.JobGraphRunner;
+import org.tradelite.scheduling.JobLane;
+import org.tradelite.scheduling.JobLaneExecutor;
+import org.tradelite.scheduling.JobRunLedger;
 import org.tradelite.service.ApiRequestMeteringService;
 import org.tradelite.service.LivePriceCache;
 import org.tradelite.service.MarketStatusService;
@@ -29,6 +39,9 @@ import org.tradelite.service.OhlcvFetcher;
 @Component
 public class Scheduler {
 
+    // LivePriceCache refreshes exchanged between stockMarketMonitoring graph nodes
+    private static final String INTERNATIONAL_LIVE_PRICES = "livePrices.international";
+
     private final FinnhubPriceEvaluator finnhubPriceEvaluator;
     private final CoinGeckoPriceEvaluator coinGeckoPriceEvaluator;
     private final YahooPriceEvaluator yahooPriceEvaluator;
@@ -56,9 +69,19 @@ public class Scheduler {
     private final LivePriceCache livePriceCache;
     private final MarketHolidayNotifier marketHolidayNotifier;
     private final TreasuryTracker treasuryTracker;
+    private final JobLaneExecutor jobLaneExecutor;
+    private final JobGraphRunner jobGraphRunner;
+    private final JobRunLedger jobRunLedger;
+    private final InstanceCoordinator instanceCoordinator;
+    private final IndicatorMaterializer indicatorMaterializer;
 
     protected ZonedDateTime marketDateTime = null;
 
+    /**
+     * Next open last logged by {@link #stockMarketMonitoring()}, so each idle stretch logs once.
+     */
+    private volatile Instant idleUntilLogged;
+
     @Autowired
     Scheduler(
             FinnhubPriceEvaluator finnhubPriceEvaluator,
@@ -87,7 +110,12 @@ public class Scheduler {
             OhlcvBackfillService ohlcvBackfillService,
             LivePriceCache livePriceCache,
             MarketHolidayNotifier marketHolidayNotifier,
-            TreasuryTracker treasuryTracker) {
+            TreasuryTracker treasuryTracker,
+            JobLaneExecutor jobLaneExecutor,
+            JobGraphRunner jobGraphRunner,
+            JobRunLedger jobRunLedger,
+            InstanceCoordinator instanceCoordinator,
+            IndicatorMaterializer indicatorMaterializer) {
         this.finnhubPriceEvaluator = finnhubPriceEvaluator;
         this.coinGeckoPriceEvaluator = coinGeckoPriceEvaluator;
         this.yahooPriceEvaluator = yahooPriceEvaluator;
@@ -115,16 +143,91 @@ public class Scheduler {
         this.livePriceCache = livePriceCache;
         this.marketHolidayNotifier = marketHolidayNotifier;
         this.treasuryTracker = treasuryTracker;
+        this.jobLaneExecutor = jobLaneExecutor;
+        this.jobGraphRunner = jobGraphRunner;
+        this.jobRunLedger = jobRunLedger;
+        this.instanceCoordinator = instanceCoordinator;
+        this.indicatorMaterializer = indicatorMaterializer;
     }
 
     @Scheduled(initialDelay = 0, fixedRate = 300000)
     public void stockMarketMonitoring() {
+        jobLaneExecutor.execute(
+                JobLane.REALTIME,
+                "stockMarketMonitoring",
+                () -> {
+                    Optional<Instant> nextOpen =
+                            marketStatusService.nextOpenIfAllClosed(marketDateTime);
+                    if (nextOpen.isPresent()) {
+                        logIdleUntil(nextOpen.get());
+                        return;
+                    }
+                    jobGraphRunner.run(stockMarketMonitoringGraph());
+                    log.info("Stock market monitoring round completed.");
+                });
+    }
+
+    /**
+     * While NYSE and every international exchange are closed the monitoring rounds return at once.
+     * The trigger keeps its fixed rate so the job ledger's cadence accounting stays intact; only
+     * the first idle round of each closed stretch logs when markets reopen.
+     */
+    private void logIdleUntil(Instant nextOpen) {
+        if (!nextOpen.equals(idleUntilLogged)) {
+            idleUntilLogged = nextOpen;
+            log.info("All tracked markets closed, stock market monitoring idle until {}", nextOpen);
+        }
+    }
+
+    /**
+     * Quotes the US symbols whose adaptive cadence is due (see {@code SymbolPollingPlanner}) and
+     * evaluates target prices. Runs every minute, but most symbols are only quoted every few
+     * minutes, so the Finnhub budget goes to the names trading near a target.
+     */
+    @Scheduled(initialDelay = 0, fixedRate = 60000)
+    public void domesticPricePolling() {
+        jobLaneExecutor.execute(
+                JobLane.REALTIME,
+                "domesticPricePolling",
+                () -> {
+                    if (marketStatusService.isMarketOpen(marketDateTime)) {
+                        rootErrorHandler.run(finnhubPriceEvaluator::evaluatePrice);
+                    }
+                });
+    }
+
+    /**
+     * Builds the stock monitoring graph for the current round. Yahoo and the sector trackers are
+     * independent and run concurrently; the international pullback analysis waits for the Yahoo
+     * evaluator that refreshes {@code LivePriceCache} for its tickers. The only edge is that one:
+     * US prices come from {@link #domesticPricePolling()}, which runs outside this graph, so the
+     * domestic pullback analysis is not ordered after a Finnhub poll. It reads each symbol's last
+     * polled price, as old as that symbol's polling cadence, or older while polling fails.
+     */
+    JobGraph stockMarketMonitoringGraph() {
+        JobGraph.Builder graph = JobGraph.builder("stockMarketMonitoring");
         if (marketStatusService.isMarketOpen(marketDateTime)) {
-            rootErrorHandler.run(finnhubPriceEvaluator::evaluatePrice);
-            rootErrorHandler.run(pullbackBuyTracker::analyzeDomestic);
-            // Analyze sector ETFs in real-time for rotation signals
-            rootErrorHandler.run(sectorRelativeStrengthTracker::analyzeAndSendAlerts);
-            rootErrorHandler.run(sectorMomentumRocTracker::analyzeAndSendAlerts);
+            graph.node(
+                    "pullbackBuyTracker::analyzeDomestic",
+                    Set.of(),
+                    Set.of(),
+                    pullbackBuyTracker::analyzeDomestic);
+            // Analyze sector ETFs in real-time for rotation signals. The sector scans aren't
+            // split by symbol, so only the leader instance sends them. They read US prices from
+            // LivePriceCache without waiting for a poll, so a price can be up to one polling
+            // cadence old.
+            if (instanceCoordinator.isLeader()) {
+                graph.node(
+                                "sectorRelativeStrengthTracker::analyzeAndSendAlerts",
+                                Set.of(),
+                                Set.of(),
+                                sectorRelativeStrengthTracker::analyzeAndSendAlerts)
+                        .node(
+                                "sectorMomentumRocTracker::analyzeAndSendAlerts",
+                                Set.of(),
+                                Set.of(),
+                                sectorMomentumRocTracker::analyzeAndSendAlerts);
+            }
         } else {
             log.info("Market is off-hours or it's a weekend. Skipping price evaluation.");
         }
@@ -134,262 +237,483 @@ public class Scheduler {
         // international exchanges span multiple time zones - a CET-based weekend filter
         // could silently skip valid trading windows (e.g., adding ASX where Monday open
         // in Sydney falls on Sunday CET).
-        rootErrorHandler.run(yahooPriceEvaluator::evaluatePrice);
-        // International pullback runs after Yahoo so LivePriceCache is fresh for .DE/.KS tickers.
-        // The tracker gates per-symbol via MarketStatusService.isExchangeOpen().
-        rootErrorHandler.run(pullbackBuyTracker::analyzeInternational);
-        log.info("Stock market monitoring round completed.");
+        // The pullback tracker gates per-symbol via MarketStatusService.isExchangeOpen().
+        return graph.node(
+                        "yahooPriceEvaluator::evaluatePrice",
+                        Set.of(),
+                        Set.of(INTERNATIONAL_LIVE_PRICES),
+                        yahooPriceEvaluator::evaluatePrice)
+                .node(
+                        "pullbackBuyTracker::analyzeInternational",
+                        Set.of(INTERNATIONAL_LIVE_PRICES),
+                        Set.of(),
+                        pullbackBuyTracker::analyzeInternational)
+                .build();
     }
 
     @Scheduled(cron = "0 0 * * * MON-FRI", zone = "CET")
     protected void hourlySignalMonitoring() {
-        if (marketStatusService.isMarketOpen(marketDateTime)) {
-            rootErrorHandler.run(bollingerBandTracker::analyzeAndSendAlerts);
-            rootErrorHandler.run(rsiTracker::analyzeAndSendReport);
-            rootErrorHandler.run(relativeStrengthTracker::analyzeAndSendAlerts);
-        } else {
-            log.info("Market is off-hours or it's a weekend. Skipping hourly signal monitoring.");
-        }
-        log.info("Hourly signal monitoring round completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "hourlySignalMonitoring",
+                () -> {
+                    if (marketStatusService.isMarketOpen(marketDateTime)) {
+                        rootErrorHandler.run(bollingerBandTracker::analyzeAndSendAlerts);
+                        rootErrorHandler.run(rsiTracker::analyzeAndSendReport);
+                        rootErrorHandler.run(relativeStrengthTracker::analyzeAndSendAlerts);
+                    } else {
+                        log.info(
+                                "Market is off-hours or it's a weekend. Skipping hourly signal monitoring.");
+                    }
+                    log.info("Hourly signal monitoring round completed.");
+                });
     }
 
     @Scheduled(initialDelay = 0, fixedRate = 420000)
     public void cryptoMarketMonitoring() {
-        rootErrorHandler.run(coinGeckoPriceEvaluator::evaluatePrice);
-        log.info("Crypto market monitoring round completed.");
+        jobLaneExecutor.execute(
+                JobLane.REALTIME,
+                "cryptoMarketMonitoring",
+                () -> {
+                    rootErrorHandler.run(coinGeckoPriceEvaluator::evaluatePrice);
+                    log.info("Crypto market monitoring round completed.");
+                });
     }
 
     @Scheduled(cron = "0 0 16,21 * * MON-FRI", zone = "CET")
     protected void dailySectorRelativeStrengthReport() {
-        rootErrorHandler.run(sectorRelativeStrengthTracker::sendDailySectorRsSummary);
-        log.info("Daily sector relative strength report completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "dailySectorRelativeStrengthReport",
+                () -> {
+                    rootErrorHandler.run(sectorRelativeStrengthTracker::sendDailySectorRsSummary);
+                    log.info("Daily sector relative strength report completed.");
+                });
     }
 
     @Scheduled(cron = "0 0 13 * * MON-FRI", zone = "CET")
     protected void dailyTailRiskMonitoring() {
-        rootErrorHandler.run(tailRiskTracker::sendDailyReport);
-        rootErrorHandler.run(tailRiskTracker::trackAndAlert);
-        log.info("Daily tail risk monitoring completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "dailyTailRiskMonitoring",
+                () -> {
+                    rootErrorHandler.run(tailRiskTracker::sendDailyReport);
+                    rootErrorHandler.run(tailRiskTracker::trackAndAlert);
+                    log.info("Daily tail risk monitoring completed.");
+                });
     }
 
     @Scheduled(cron = "0 50 15 * * MON-FRI", zone = "CET")
     protected void dailyEmaReport() {
-        rootErrorHandler.run(emaTracker::sendDailyReport);
-        log.info("Daily EMA report completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "dailyEmaReport",
+                () -> {
+                    rootErrorHandler.run(emaTracker::sendDailyReport);
+                    log.info("Daily EMA report completed.");
+                });
     }
 
     @Scheduled(cron = "0 0 9 * * MON-FRI", zone = "CET")
     protected void dailyVfiReport() {
-        rootErrorHandler.run(vfiTracker::sendDailyReport);
-        log.info("Daily VFI report completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "dailyVfiReport",
+                () -> {
+                    rootErrorHandler.run(vfiTracker::sendDailyReport);
+                    log.info("Daily VFI report completed.");
+                });
     }
 
     @Scheduled(cron = "0 0 10 * * MON-FRI", zone = "CET")
     protected void dailyAccumulationDetection() {
-        rootErrorHandler.run(accumulationDetectionTracker::analyzeAndSendAlerts);
-        log.info("Daily accumulation detection completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "dailyAccumulationDetection",
+                () -> {
+                    rootErrorHandler.run(accumulationDetectionTracker::analyzeAndSendAlerts);
+                    log.info("Daily accumulation detection completed.");
+                });
     }
 
     @Scheduled(cron = "0 0 8 * * MON-FRI", zone = "CET")
     protected void dailyMarketHolidayNotification() {
-        rootErrorHandler.run(marketHolidayNotifier::sendDailyReport);
-        log.info("Daily market holiday notification check completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "dailyMarketHolidayNotification",
+                () -> {
+                    rootErrorHandler.run(marketHolidayNotifier::sendDailyReport);
+                    log.info("Daily market holiday notification check completed.");
+                });
     }
 
     @Scheduled(cron = "0 15 8 * * *", zone = "CET")
     protected void dailyEarningsCalendarCheck() {
-        rootErrorHandler.run(earningsCalendarTracker::checkAndAlert);
-        log.info("Daily earnings calendar check completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "dailyEarningsCalendarCheck",
+                () -> {
+                    rootErrorHandler.run(earningsCalendarTracker::checkAndAlert);
+                    log.info("Daily earnings calendar check completed.");
+                });
     }
 
     @Scheduled(cron = "0 30 8 * * MON-FRI", zone = "CET")
     protected void dailyTreasuryReport() {
-        rootErrorHandler.run(treasuryTracker::checkAndAlert);
-        log.info("Daily Treasury macro report completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "dailyTreasuryReport",
+                () -> {
+                    rootErrorHandler.run(treasuryTracker::checkAndAlert);
+                    log.info("Daily Treasury macro report completed.");
+                });
     }
 
     @Scheduled(fixedRate = 600000)
     public void periodicMaintenance() {
-        rootErrorHandler.run(
-                () -> targetPriceProvider.cleanupIgnoreSymbols(IGNORE_DURATION_TTL_SECONDS));
-        rootErrorHandler.run(apiRequestMeteringService::flushCounters);
-        rootErrorHandler.run(ohlcvBackfillService::backfillNewlyAddedSymbols);
-        rootErrorHandler.run(ohlcvBackfillService::cleanupExpiredSymbols);
-        rootErrorHandler.run(livePriceCache::evictStale);
-
-        log.info("Periodic maintenance completed.");
+        jobLaneExecutor.execute(
+                JobLane.MAINTENANCE,
+                "periodicMaintenance",
+                () -> {
+                    rootErrorHandler.run(
+                            () ->
+                                    targetPriceProvider.cleanupIgnoreSymbols(
+                                            IGNORE_DURATION_TTL_SECONDS));
+                    rootErrorHandler.run(apiRequestMeteringService::flushCounters);
+                    rootErrorHandler.run(ohlcvBackfillService::backfillNewlyAddedSymbols);
+                    rootErrorHandler.run(ohlcvBackfillService::cleanupExpiredSymbols);
+                    rootErrorHandler.run(livePriceCache::evictStale);
+                    rootErrorHandler.run(jobRunLedger::pruneOldRuns);
+
+                    log.info("Periodic maintenance completed.");
+                });
     }
 
     @Scheduled(fixedRate = 60000)
     public void pollTelegramChatUpdates() {
-        rootErrorHandler.run(
+        jobLaneExecutor.executeOnLeader(
+                JobLane.TELEGRAM,
+                "pollTelegramChatUpdates",
                 () -> {
-                    List<TelegramUpdateResponse> chatUpdates = telegramClient.getChatUpdates();
-                    telegramMessageProcessor.processUpdates(chatUpdates);
-                    log.info("Telegram chat updates processed.");
+                    rootErrorHandler.run(
+                            () -> {
+                                List<TelegramUpdateResponse> chatUpdates =
+                                        telegramClient.getChatUpdates();
+                                telegramMessageProcessor.processUpdates(chatUpdates);
+                                log.info("Telegram chat updates processed.");
+                            });
                 });
     }
 
     @Scheduled(cron = "0 0 12 ? * SAT", zone = "CET")
     public void weeklyInsiderTradingReport() {
-        rootErrorHandler.run(insiderTracker::trackInsiderTransactions);
+        jobLaneExecutor.executeOnLeader(
+                JobLane.SIGNALS,
+                "weeklyInsiderTradingReport",
+                () -> {
+                    rootErrorHandler.run(insiderTracker::trackInsiderTransactions);
 
-        log.info("Weekly insider trading report generated.");
+                    log.info("Weekly insider trading report generated.");
+                });
     }
 
     @Scheduled(cron = "0 30 16 * * MON-FRI", zone = "CET")
     public void dailySectorRotationTracking() {
-        rootErrorHandler.run(sectorRotationTracker::fetchAndStoreDailyPerformance);
+        jobLaneExecutor.executeOnLeader(
+                JobLane.BATCH_INGEST,
+                "dailySectorRotationTracking",
+                () -> {
+                    rootErrorHandler.run(sectorRotationTracker::fetchAndStoreDailyPerformance);
 
-        log.info("Daily sector rotation tracking completed.");
+                    log.info("Daily sector rotation tracking completed.");
+                });
     }
 
     @Scheduled(cron = "0 0 23 * * MON-FRI", zone = "CET")
     protected void dailyOhlcvFetch() {
-        rootErrorHandler.run(ohlcvFetcher::fetchAndBackfillOhlcv);
-        log.info("Daily OHLCV fetch completed.");
+        jobLaneExecutor.execute(
+                JobLane.BATCH_INGEST,
+                "dailyOhlcvFetch",
+                () -> {
+                    rootErrorHandler.run(ohlcvFetcher::fetchAndBackfillOhlcv);
+                    rootErrorHandler.run(indicatorMaterializer::materializeAll);
+                    log.info("Daily OHLCV fetch completed.");
+                });
     }
 
     @Scheduled(cron = "0 0 0 1 * *", zone = "UTC")
     public void monthlyApiUsageReport() {
-        rootErrorHandler.run(apiRequestMeteringService::sendMonthlyUsageReport);
-        log.info("Monthly API usage report completed.");
+        jobLaneExecutor.executeOnLeader(
+                JobLane.MAINTENANCE,
+                "monthlyApiUsageReport",
+                () -> {
+                    rootErrorHandler.run(apiRequestMeteringService::sendMonthlyUsageReport);
+                    log.info("Monthly API usage report completed.");
+                });
+    }
+
+    @Scheduled(cron = "0 0 9 * * MON", zone = "CET")
+    public void weeklyJobRunDigest() {
+        jobLaneExecutor.executeOnLeader(
+                JobLane.MAINTENANCE,
+                "weeklyJobRunDigest",
+                () -> {
+                    rootErrorHandler.run(jobRunLedger::sendWeeklyDigest);
+                    log.info("Weekly job run digest completed.");
+                });
     }
 
     public boolean manualStockMarketMonitoring() {
-        boolean success = true;
-        success &= rootErrorHandler.runWithStatus(finnhubPriceEvaluator::evaluatePrice);
-        success &= rootErrorHandler.runWithStatus(yahooPriceEvaluator::evaluatePrice);
-        success &= rootErrorHandler.runWithStatus(pullbackBuyTracker::analyzeDomestic);
-        success &= rootErrorHandler.runWithStatus(pullbackBuyTracker::analyzeInternational);
-        success &=
-                rootErrorHandler.runWithStatus(sectorRelativeStrengthTracker::analyzeAndSendAlerts);
-        success &= rootErrorHandler.runWithStatus(sectorMomentumRocTracker::analyzeAndSendAlerts);
-        log.info("Manual stock market monitoring completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "stockMarketMonitoring",
+                manualCoalesceKey("stockMarketMonitoring"),
+                () -> {
+                    boolean success = true;
+                    success &= rootErrorHandler.runWithStatus(finnhubPriceEvaluator::evaluatePrice);
+                    success &= rootErrorHandler.runWithStatus(yahooPriceEvaluator::evaluatePrice);
+                    success &= rootErrorHandler.runWithStatus(pullbackBuyTracker::analyzeDomestic);
+                    success &=
+                            rootErrorHandler.runWithStatus(
+                                    pullbackBuyTracker::analyzeInternational);
+                    success &=
+                            rootErrorHandler.runWithStatus(
+                                    sectorRelativeStrengthTracker::analyzeAndSendAlerts);
+                    success &=
+                            rootErrorHandler.runWithStatus(
+                                    sectorMomentumRocTracker::analyzeAndSendAlerts);
+                    log.info("Manual stock market monitoring completed.");
+                    return success;
+                });
     }
 
     public boolean manualHourlySignalMonitoring() {
-        boolean success = true;
-        success &= rootErrorHandler.runWithStatus(bollingerBandTracker::analyzeAndSendAlerts);
-        success &= rootErrorHandler.runWithStatus(rsiTracker::analyzeAndSendReport);
-        success &= rootErrorHandler.runWithStatus(relativeStrengthTracker::analyzeAndSendAlerts);
-        log.info("Manual hourly signal monitoring completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "hourlySignalMonitoring",
+                manualCoalesceKey("hourlySignalMonitoring"),
+                () -> {
+                    boolean success = true;
+                    success &=
+                            rootErrorHandler.runWithStatus(
+                                    bollingerBandTracker::analyzeAndSendAlerts);
+                    success &= rootErrorHandler.runWithStatus(rsiTracker::analyzeAndSendReport);
+                    success &=
+                            rootErrorHandler.runWithStatus(
+                                    relativeStrengthTracker::analyzeAndSendAlerts);
+                    log.info("Manual hourly signal monitoring completed.");
+                    return success;
+                });
     }
 
     public boolean manualCryptoMarketMonitoring() {
-        boolean success = rootErrorHandler.runWithStatus(coinGeckoPriceEvaluator::evaluatePrice);
-        log.info("Manual crypto market monitoring completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "cryptoMarketMonitoring",
+                manualCoalesceKey("cryptoMarketMonitoring"),
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(coinGeckoPriceEvaluator::evaluatePrice);
+                    log.info("Manual crypto market monitoring completed.");
+                    return success;
+                });
+    }
+
+    /**
+     * Coalesce key for manual runs that a scheduled run of the same job must not answer. The
+     * scheduled monitoring rounds skip work outside market hours and leave US quotes to {@link
+     * #domesticPricePolling()}, and a manual crypto trigger asks for prices fresher than the last
+     * round, so these manual runs only coalesce with each other.
+     */
+    private static String manualCoalesceKey(String jobName) {
+        return jobName + ":manual";
     }
 
     public boolean manualRelativeStrengthMonitoring() {
-        boolean success =
-                rootErrorHandler.runWithStatus(relativeStrengthTracker::analyzeAndSendAlerts);
-        log.info("Manual relative strength monitoring completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "relativeStrengthMonitoring",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(
+                                    relativeStrengthTracker::analyzeAndSendAlerts);
+                    log.info("Manual relative strength monitoring completed.");
+                    return success;
+                });
     }
 
     public boolean manualWeeklyInsiderTradingReport() {
-        boolean success = rootErrorHandler.runWithStatus(insiderTracker::trackInsiderTransactions);
-        log.info("Manual insider trading report completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "weeklyInsiderTradingReport",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(
+                                    insiderTracker::trackInsiderTransactions);
+                    log.info("Manual insider trading report completed.");
+                    return success;
+                });
     }
 
     public boolean manualDailySectorRotationTracking() {
-        boolean success =
-                rootErrorHandler.runWithStatus(
-                        sectorRotationTracker::fetchAndStoreDailyPerformance);
-        log.info("Manual sector rotation tracking completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailySectorRotationTracking",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(
+                                    sectorRotationTracker::fetchAndStoreDailyPerformance);
+                    log.info("Manual sector rotation tracking completed.");
+                    return success;
+                });
     }
 
     public boolean manualDailySectorRelativeStrengthReport() {
-        boolean success =
-                rootErrorHandler.runWithStatus(
-                        sectorRelativeStrengthTracker::sendDailySectorRsSummary);
-        log.info("Manual sector relative strength report completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailySectorRelativeStrengthReport",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(
+                                    sectorRelativeStrengthTracker::sendDailySectorRsSummary);
+                    log.info("Manual sector relative strength report completed.");
+                    return success;
+                });
     }
 
     public boolean manualDailyTailRiskMonitoring() {
-        boolean success = true;
-        success &= rootErrorHandler.runWithStatus(tailRiskTracker::sendDailyReport);
-        success &= rootErrorHandler.runWithStatus(tailRiskTracker::trackAndAlert);
-        log.info("Manual tail risk monitoring completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailyTailRiskMonitoring",
+                () -> {
+                    boolean success = true;
+                    success &= rootErrorHandler.runWithStatus(tailRiskTracker::sendDailyReport);
+                    success &= rootErrorHandler.runWithStatus(tailRiskTracker::trackAndAlert);
+                    log.info("Manual tail risk monitoring completed.");
+                    return success;
+                });
     }
 
     public boolean manualEmaReport() {
-        boolean success = rootErrorHandler.runWithStatus(emaTracker::sendDailyReport);
-        log.info("Manual EMA report completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailyEmaReport",
+                () -> {
+                    boolean success = rootErrorHandler.runWithStatus(emaTracker::sendDailyReport);
+                    log.info("Manual EMA report completed.");
+                    return success;
+                });
     }
 
     public boolean manualMonthlyApiUsageReport() {
-        boolean success =
-                rootErrorHandler.runWithStatus(apiRequestMeteringService::sendMonthlyUsageReport);
-        log.info("Manual monthly API usage report completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "monthlyApiUsageReport",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(
+                                    apiRequestMeteringService::sendMonthlyUsageReport);
+                    log.info("Manual monthly API usage report completed.");
+                    return success;
+                });
     }
 
     public boolean manualOhlcvFetch() {
-        boolean success = rootErrorHandler.runWithStatus(ohlcvFetcher::fetchAndBackfillOhlcv);
-        log.info("Manual OHLCV fetch completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailyOhlcvFetch",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(ohlcvFetcher::fetchAndBackfillOhlcv);
+                    success &=
+                            rootErrorHandler.runWithStatus(indicatorMaterializer::materializeAll);
+                    log.info("Manual OHLCV fetch completed.");
+                    return success;
+                });
     }
 
     public boolean manualOhlcvFetchLimited(int maxSymbols) {
-        boolean success =
-                rootErrorHandler.runWithStatus(
-                        () -> ohlcvFetcher.fetchAndBackfillOhlcv(maxSymbols));
-        log.info("Manual OHLCV fetch (limited to {} symbols) completed.", maxSymbols);
-        return success;
+        // A partial fetch must not stand in for the full one, so it coalesces only with itself
+        return jobRunLedger.recordManual(
+                "dailyOhlcvFetch",
+                "dailyOhlcvFetch:limit=" + maxSymbols,
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(
+                                    () -> ohlcvFetcher.fetchAndBackfillOhlcv(maxSymbols));
+                    success &=
+                            rootErrorHandler.runWithStatus(indicatorMaterializer::materializeAll);
+                    log.info("Manual OHLCV fetch (limited to {} symbols) completed.", maxSymbols);
+                    return success;
+                });
     }
 
     public boolean manualVfiReport() {
-        boolean success = rootErrorHandler.runWithStatus(vfiTracker::sendDailyReport);
-        log.info("Manual VFI report completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailyVfiReport",
+                () -> {
+                    boolean success = rootErrorHandler.runWithStatus(vfiTracker::sendDailyReport);
+                    log.info("Manual VFI report completed.");
+                    return success;
+                });
     }
 
     public boolean manualPullbackBuyAlert() {
-        boolean success = true;
-        success &= rootErrorHandler.runWithStatus(pullbackBuyTracker::analyzeDomestic);
-        success &= rootErrorHandler.runWithStatus(pullbackBuyTracker::analyzeInternational);
-        log.info("Manual pullback buy alert scan completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "pullbackBuyAlert",
+                () -> {
+                    boolean success = true;
+                    success &= rootErrorHandler.runWithStatus(pullbackBuyTracker::analyzeDomestic);
+                    success &=
+                            rootErrorHandler.runWithStatus(
+                                    pullbackBuyTracker::analyzeInternational);
+                    log.info("Manual pullback buy alert scan completed.");
+                    return success;
+                });
     }
 
     public boolean manualEarningsCalendarCheck() {
-        boolean success = rootErrorHandler.runWithStatus(earningsCalendarTracker::checkAndAlert);
-        log.info("Manual earnings calendar check completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailyEarningsCalendarCheck",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(earningsCalendarTracker::checkAndAlert);
+                    log.info("Manual earnings calendar check completed.");
+                    return success;
+                });
     }
 
     public boolean manualTreasuryReport() {
-        boolean success = rootErrorHandler.runWithStatus(treasuryTracker::checkAndAlert);
-        log.info("Manual Treasury macro report completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailyTreasuryReport",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(treasuryTracker::checkAndAlert);
+                    log.info("Manual Treasury macro report completed.");
+                    return success;
+                });
     }
 
     public boolean manualAccumulationDetection() {
-        boolean success =
-                rootErrorHandler.runWithStatus(accumulationDetectionTracker::analyzeAndSendAlerts);
-        log.info("Manual accumulation detection completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailyAccumulationDetection",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(
+                                    accumulationDetectionTracker::analyzeAndSendAlerts);
+                    log.info("Manual accumulation detection completed.");
+                    return success;
+                });
     }
 
     public boolean manualMarketHolidayNotification() {
-        boolean success = rootErrorHandler.runWithStatus(marketHolidayNotifier::sendDailyReport);
-        log.info("Manual market holiday notification completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "dailyMarketHolidayNotification",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(marketHolidayNotifier::sendDailyReport);
+                    log.info("Manual market holiday notification completed.");
+                    return success;
+                });
     }
 
     public boolean manualYahooPriceEvaluation() {
-        boolean success = rootErrorHandler.runWithStatus(yahooPriceEvaluator::evaluatePrice);
-        log.info("Manual Yahoo price evaluation completed.");
-        return success;
+        return jobRunLedger.recordManual(
+                "yahooPriceEvaluation",
+                () -> {
+                    boolean success =
+                            rootErrorHandler.runWithStatus(yahooPriceEvaluator::evaluatePrice);
+                    log.info("Manual Yahoo price evaluation completed.");
+                    return success;
+                });
     }
 }
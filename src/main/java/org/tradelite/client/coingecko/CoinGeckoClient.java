@@ -1,5 +1,8 @@
 package org.tradelite.client.coingecko;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
@@ -10,6 +13,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.tradelite.client.coingecko.dto.CoinGeckoPriceResponse;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.common.CoinId;
 import org.tradelite.config.TradebotApiProperties;
 import org.tradelite.service.ApiRequestMeteringService;
@@ -23,20 +28,44 @@ public class CoinGeckoClient {
     private final RestTemplate restTemplate;
     private final ApiRequestMeteringService meteringService;
     private final TradebotApiProperties apiProperties;
+    private final RateLimiterRegistry rateLimiterRegistry;
 
     @Autowired
     public CoinGeckoClient(
             RestTemplate restTemplate,
             ApiRequestMeteringService meteringService,
-            TradebotApiProperties apiProperties) {
+            TradebotApiProperties apiProperties,
+            RateLimiterRegistry rateLimiterRegistry) {
         this.restTemplate = restTemplate;
         this.meteringService = meteringService;
         this.apiProperties = apiProperties;
+        this.rateLimiterRegistry = rateLimiterRegistry;
     }
 
     public CoinGeckoPriceResponse.CoinData getCoinPriceData(CoinId coinId) {
+        CoinGeckoPriceResponse.CoinData data =
+                getCoinPrices(List.of(coinId.getId())).get(coinId.getId());
+        if (data == null) {
+            throw priceFailure(
+                    coinId.getId(),
+                    new IllegalStateException(
+                            "CoinGecko response missing payload for " + coinId.getId()));
+        }
+        data.setCoinId(coinId);
+        return data;
+    }
+
+    /**
+     * Prices every coin in {@code ids} with one {@code /simple/price} request, keyed by CoinGecko
+     * id. An id CoinGecko doesn't know is absent from the result rather than failing the others.
+     */
+    public Map<String, CoinGeckoPriceResponse.CoinData> getCoinPrices(List<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        String label = String.join(",", ids);
         if (apiProperties.getCoingeckoKey() == null || apiProperties.getCoingeckoKey().isBlank()) {
-            throw priceFailure(coinId, new IllegalStateException("COINGECKO key not configured"));
+            throw priceFailure(label, new IllegalStateException("COINGECKO key not configured"));
         }
 
         String endpointUrl = "/simple/price";
@@ -44,7 +73,7 @@ public class CoinGeckoClient {
                 BASE_URL
                         + endpointUrl
                         + "?ids="
-                        + coinId.getId()
+                        + label
                         + "&vs_currencies=usd"
                         + "&include_24hr_change=true";
 
@@ -54,6 +83,7 @@ public class CoinGeckoClient {
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
+        rateLimiterRegistry.acquire(ApiProvider.COINGECKO);
         ResponseEntity<CoinGeckoPriceResponse> response;
         try {
             meteringService.incrementCoingeckoRequests();
@@ -61,29 +91,29 @@ public class CoinGeckoClient {
                     restTemplate.exchange(
                             url, HttpMethod.GET, entity, CoinGeckoPriceResponse.class);
         } catch (RestClientException e) {
-            throw priceFailure(coinId, e);
+            throw priceFailure(label, e);
         }
 
         if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
             throw priceFailure(
-                    coinId,
+                    label,
                     new IllegalStateException(
                             "Failed to fetch coin price data: " + response.getStatusCode()));
         }
 
-        CoinGeckoPriceResponse.CoinData data = response.getBody().getCoinData().get(coinId.getId());
-        if (data == null) {
-            throw priceFailure(
-                    coinId,
-                    new IllegalStateException(
-                            "CoinGecko response missing payload for " + coinId.getId()));
+        Map<String, CoinGeckoPriceResponse.CoinData> prices =
+                new LinkedHashMap<>(response.getBody().getCoinData());
+        prices.keySet().retainAll(ids);
+        if (prices.size() < ids.size()) {
+            log.warn(
+                    "CoinGecko returned no price for {}",
+                    ids.stream().filter(id -> !prices.containsKey(id)).toList());
         }
-        data.setCoinId(coinId);
-        return data;
+        return prices;
     }
 
-    private RuntimeException priceFailure(CoinId coinId, Exception cause) {
-        log.error("Failed to fetch CoinGecko price data for {}", coinId.getId(), cause);
+    private RuntimeException priceFailure(String ids, Exception cause) {
+        log.error("Failed to fetch CoinGecko price data for {}", ids, cause);
         return toRuntime(cause);
     }
 
@@ -6,7 +6,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Data;
-import org.tradelite.common.CoinId;
+import org.tradelite.common.TickerSymbol;
 
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -30,6 +30,7 @@ public class CoinGeckoPriceResponse {
         @JsonProperty("usd_24h_change")
         private Double usd_24h_change;
 
-        private CoinId coinId;
+        /** The coin this price belongs to; set by the caller, not part of the JSON. */
+        private TickerSymbol coinId;
     }
 }
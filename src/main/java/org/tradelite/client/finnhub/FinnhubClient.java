@@ -1,20 +1,36 @@
 package org.tradelite.client.finnhub;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.tradelite.client.finnhub.dto.EarningsCalendarResponse;
 import org.tradelite.client.finnhub.dto.InsiderTransactionResponse;
 import org.tradelite.client.finnhub.dto.MarketHolidayResponse;
 import org.tradelite.client.finnhub.dto.PriceQuoteResponse;
+import org.tradelite.client.http.ProviderHttpTransport;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimitHeaders;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.config.TradebotApiProperties;
 import org.tradelite.service.ApiRequestMeteringService;
@@ -25,19 +41,31 @@ import org.tradelite.utils.DateUtil;
 public class FinnhubClient {
 
     private static final String API_URL = "https://finnhub.io/api/v1";
+    static final String RATE_LIMIT_REMAINING = "X-Ratelimit-Remaining";
+    static final String RATE_LIMIT_RESET = "X-Ratelimit-Reset";
+    static final int MAX_RATE_LIMIT_RETRIES = 1;
 
     private final RestTemplate restTemplate;
+    private final ProviderHttpTransport transport;
+    private final ObjectMapper objectMapper;
     private final ApiRequestMeteringService meteringService;
     private final TradebotApiProperties apiProperties;
+    private final RateLimiterRegistry rateLimiterRegistry;
 
     @Autowired
     public FinnhubClient(
             RestTemplate restTemplate,
+            ProviderHttpTransport transport,
+            ObjectMapper objectMapper,
             ApiRequestMeteringService meteringService,
-            TradebotApiProperties apiProperties) {
+            TradebotApiProperties apiProperties,
+            RateLimiterRegistry rateLimiterRegistry) {
         this.restTemplate = restTemplate;
+        this.transport = transport;
+        this.objectMapper = objectMapper;
         this.meteringService = meteringService;
         this.apiProperties = apiProperties;
+        this.rateLimiterRegistry = rateLimiterRegistry;
     }
 
     private String getApiUrl(String baseUrl, StockSymbol ticker) {
@@ -55,6 +83,78 @@ public class FinnhubClient {
         }
     }
 
+    /**
+     * Non-blocking {@link #getPriceQuote}: waits for Finnhub budget on the calling thread, then
+     * returns while the request is in flight, so callers can keep several quotes in flight within
+     * the budget. Rate-limit headers are fed back as on the blocking path, but a 429 fails the
+     * future instead of being retried.
+     */
+    public CompletableFuture<PriceQuoteResponse> getPriceQuoteAsync(StockSymbol ticker) {
+        if (apiProperties.getFinnhubKey() == null || apiProperties.getFinnhubKey().isBlank()) {
+            return CompletableFuture.failedFuture(
+                    quoteFailure(ticker, new IllegalStateException("FINNHUB key not configured")));
+        }
+
+        rateLimiterRegistry.acquire(ApiProvider.FINNHUB);
+        meteringService.incrementFinnhubRequests();
+        HttpRequest request =
+                transport.get(ApiProvider.FINNHUB, getApiUrl("/quote?symbol=%s", ticker), Map.of());
+        return transport
+                .sendAsync(request)
+                .thenApply(response -> toPriceQuote(ticker, response))
+                .whenComplete(
+                        (_, failure) -> {
+                            if (failure != null) {
+                                log.error(
+                                        "Failed to fetch Finnhub quote for {}",
+                                        ticker.getTicker(),
+                                        failure instanceof CompletionException
+                                                ? failure.getCause()
+                                                : failure);
+                            }
+                        });
+    }
+
+    /** Reads the quote off the streamed body, which is closed on every path. */
+    private PriceQuoteResponse toPriceQuote(
+            StockSymbol ticker, HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            HttpHeaders headers = new HttpHeaders();
+            response.headers().map().forEach(headers::addAll);
+            if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                rateLimiterRegistry.onRateLimited(
+                        ApiProvider.FINNHUB,
+                        RateLimitHeaders.retryAfter(headers),
+                        RateLimitHeaders.epochSeconds(headers, RATE_LIMIT_RESET));
+                throw new IllegalStateException(
+                        "Finnhub rate limit exceeded fetching quote for " + ticker.getTicker());
+            }
+            Integer remaining = RateLimitHeaders.intValue(headers, RATE_LIMIT_REMAINING);
+            if (remaining != null) {
+                rateLimiterRegistry.onResponse(
+                        ApiProvider.FINNHUB,
+                        remaining,
+                        RateLimitHeaders.epochSeconds(headers, RATE_LIMIT_RESET));
+            }
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(
+                        "Failed to fetch price quote for "
+                                + ticker.getTicker()
+                                + ": "
+                                + response.statusCode());
+            }
+            PriceQuoteResponse quote = objectMapper.readValue(body, PriceQuoteResponse.class);
+            quote.setStockSymbol(ticker);
+            return quote;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Invalid price quote for " + ticker.getTicker() + ": " + e.getOriginalMessage(),
+                    e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Attempts to fetch a price quote without raising or logging at ERROR. Intended for callers
      * (e.g. ticker validation in `/add`) where an unknown symbol is an expected outcome rather than
@@ -78,12 +178,7 @@ public class FinnhubClient {
         }
 
         String url = getApiUrl("/quote?symbol=%s", ticker);
-        HttpEntity<MultiValueMap<String, Object>> requestEntity =
-                new HttpEntity<>(new LinkedMultiValueMap<>(), new HttpHeaders());
-
-        meteringService.incrementFinnhubRequests();
-        ResponseEntity<PriceQuoteResponse> response =
-                restTemplate.exchange(url, HttpMethod.GET, requestEntity, PriceQuoteResponse.class);
+        ResponseEntity<PriceQuoteResponse> response = exchange(url, PriceQuoteResponse.class);
 
         PriceQuoteResponse quote = response.getBody();
         if (quote == null || !response.getStatusCode().is2xxSuccessful()) {
@@ -107,16 +202,9 @@ public class FinnhubClient {
         String url = getApiUrl(baseUrl, ticker);
         url = url + "&from=" + fromDate;
 
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        HttpHeaders headers = new HttpHeaders();
-        HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
         ResponseEntity<InsiderTransactionResponse> response;
         try {
-            meteringService.incrementFinnhubRequests();
-            response =
-                    restTemplate.exchange(
-                            url, HttpMethod.GET, requestEntity, InsiderTransactionResponse.class);
+            response = exchange(url, InsiderTransactionResponse.class);
         } catch (Exception e) {
             throw insiderFailure(ticker, e);
         }
@@ -140,15 +228,9 @@ public class FinnhubClient {
                         + "/stock/market-holiday?exchange=US&token="
                         + apiProperties.getFinnhubKey();
 
-        HttpEntity<MultiValueMap<String, Object>> requestEntity =
-                new HttpEntity<>(new LinkedMultiValueMap<>(), new HttpHeaders());
-
         ResponseEntity<MarketHolidayResponse> response;
         try {
-            meteringService.incrementFinnhubRequests();
-            response =
-                    restTemplate.exchange(
-                            url, HttpMethod.GET, requestEntity, MarketHolidayResponse.class);
+            response = exchange(url, MarketHolidayResponse.class);
         } catch (Exception e) {
             log.error("Failed to fetch market holidays from Finnhub", e);
             return null;
@@ -172,15 +254,9 @@ public class FinnhubClient {
                         + "&token="
                         + apiProperties.getFinnhubKey();
 
-        HttpEntity<MultiValueMap<String, Object>> requestEntity =
-                new HttpEntity<>(new LinkedMultiValueMap<>(), new HttpHeaders());
-
         ResponseEntity<EarningsCalendarResponse> response;
         try {
-            meteringService.incrementFinnhubRequests();
-            response =
-                    restTemplate.exchange(
-                            url, HttpMethod.GET, requestEntity, EarningsCalendarResponse.class);
+            response = exchange(url, EarningsCalendarResponse.class);
         } catch (Exception e) {
             log.error("Failed to fetch earnings calendar from Finnhub", e);
             return null;
@@ -194,6 +270,43 @@ public class FinnhubClient {
         return body;
     }
 
+    /**
+     * Performs a rate-limited GET. The remaining budget from Finnhub's {@code X-Ratelimit-*}
+     * headers is fed back into the shared limiter; a 429 pauses the limiter until Finnhub allows
+     * calls again and is retried once.
+     */
+    private <T> ResponseEntity<T> exchange(String url, Class<T> responseType) {
+        HttpEntity<MultiValueMap<String, Object>> requestEntity =
+                new HttpEntity<>(new LinkedMultiValueMap<>(), new HttpHeaders());
+
+        for (int attempt = 0; ; attempt++) {
+            rateLimiterRegistry.acquire(ApiProvider.FINNHUB);
+            meteringService.incrementFinnhubRequests();
+            try {
+                ResponseEntity<T> response =
+                        restTemplate.exchange(url, HttpMethod.GET, requestEntity, responseType);
+                Integer remaining =
+                        RateLimitHeaders.intValue(response.getHeaders(), RATE_LIMIT_REMAINING);
+                if (remaining != null) {
+                    rateLimiterRegistry.onResponse(
+                            ApiProvider.FINNHUB,
+                            remaining,
+                            RateLimitHeaders.epochSeconds(response.getHeaders(), RATE_LIMIT_RESET));
+                }
+                return response;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                HttpHeaders headers = e.getResponseHeaders();
+                rateLimiterRegistry.onRateLimited(
+                        ApiProvider.FINNHUB,
+                        RateLimitHeaders.retryAfter(headers),
+                        RateLimitHeaders.epochSeconds(headers, RATE_LIMIT_RESET));
+                if (attempt >= MAX_RATE_LIMIT_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
+
     private RuntimeException quoteFailure(StockSymbol ticker, Exception cause) {
         log.error("Failed to fetch Finnhub quote for {}", ticker.getTicker(), cause);
         return toRuntime(cause);
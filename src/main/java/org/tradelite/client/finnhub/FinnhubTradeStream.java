@@ -0,0 +1,263 @@
+package org.tradelite.client.finnhub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.tradelite.config.TradebotApiProperties;
+import org.tradelite.config.TradebotStreamingProperties;
+
+/**
+ * Finnhub's trade stream over one WebSocket: subscribes to a set of symbols and hands every trade
+ * to a listener as it arrives. When the socket drops it reconnects with exponential back-off and
+ * subscribes the whole set again, since Finnhub forgets subscriptions with the connection.
+ *
+ * <p>Callers poll over REST for anything {@link #isFresh} doesn't cover, so a dropped socket only
+ * slows alerts down to the polling interval.
+ */
+@Slf4j
+@Component
+public class FinnhubTradeStream {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final TradebotApiProperties apiProperties;
+    private final TradebotStreamingProperties properties;
+    private final Clock clock;
+
+    private final Set<String> symbols = new HashSet<>();
+    private final Map<String, Instant> lastTradeAt = new ConcurrentHashMap<>();
+    private volatile Consumer<Trade> listener;
+    private volatile WebSocket webSocket;
+    private CompletableFuture<WebSocket> pendingSend;
+    private boolean running;
+    private boolean connecting;
+    private int failedAttempts;
+
+    public FinnhubTradeStream(
+            HttpClient httpClient,
+            ObjectMapper objectMapper,
+            TradebotApiProperties apiProperties,
+            TradebotStreamingProperties properties,
+            Clock clock) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.apiProperties = apiProperties;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /** Opens the socket and delivers trades to {@code listener}. Repeated calls are no-ops. */
+    public synchronized void start(Consumer<Trade> listener) {
+        if (running) {
+            return;
+        }
+        this.listener = listener;
+        running = true;
+        connect();
+    }
+
+    /**
+     * Makes {@code wanted} the subscribed set: symbols that left it are unsubscribed, new ones are
+     * subscribed. While disconnected the set is only remembered and sent on the next connect.
+     */
+    public synchronized void subscribe(Collection<String> wanted) {
+        Set<String> target = new HashSet<>(wanted);
+        for (String symbol : Set.copyOf(symbols)) {
+            if (!target.contains(symbol)) {
+                symbols.remove(symbol);
+                lastTradeAt.remove(symbol);
+                send("unsubscribe", symbol);
+            }
+        }
+        for (String symbol : target) {
+            if (symbols.add(symbol)) {
+                send("subscribe", symbol);
+            }
+        }
+    }
+
+    public boolean isConnected() {
+        return webSocket != null;
+    }
+
+    /**
+     * Whether {@code symbol} traded on a live connection within the configured freshness window.
+     */
+    public boolean isFresh(String symbol) {
+        Instant last = lastTradeAt.get(symbol);
+        return isConnected()
+                && last != null
+                && !last.plus(properties.getFreshFor()).isBefore(clock.instant());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        WebSocket current = webSocket;
+        webSocket = null;
+        if (current != null) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+        }
+    }
+
+    private synchronized void connect() {
+        if (!running || connecting || webSocket != null) {
+            return;
+        }
+        connecting = true;
+        URI uri = URI.create(properties.getUrl() + "?token=" + apiProperties.getFinnhubKey());
+        httpClient
+                .newWebSocketBuilder()
+                .buildAsync(uri, new Listener())
+                .whenComplete(
+                        (socket, error) -> {
+                            if (error != null) {
+                                onDisconnect(null, error);
+                            } else {
+                                onConnect(socket);
+                            }
+                        });
+    }
+
+    private synchronized void onConnect(WebSocket socket) {
+        connecting = false;
+        if (!running) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+            return;
+        }
+        webSocket = socket;
+        pendingSend = CompletableFuture.completedFuture(socket);
+        failedAttempts = 0;
+        log.info("Finnhub trade stream connected, subscribing {} symbols", symbols.size());
+        symbols.forEach(symbol -> send("subscribe", symbol));
+    }
+
+    private synchronized void onDisconnect(WebSocket socket, Throwable error) {
+        if (socket != null && socket != webSocket) {
+            return;
+        }
+        connecting = false;
+        webSocket = null;
+        if (!running) {
+            return;
+        }
+        Duration delay = reconnectDelay(failedAttempts++);
+        log.warn(
+                "Finnhub trade stream disconnected ({}), reconnecting in {}",
+                error == null ? "closed by server" : error.getMessage(),
+                delay);
+        CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(this::connect);
+    }
+
+    Duration reconnectDelay(int attempt) {
+        Duration max = properties.getMaxReconnectDelay();
+        Duration delay = properties.getReconnectDelay().multipliedBy(1L << Math.min(attempt, 20));
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    /**
+     * The JDK socket allows one outstanding send at a time, so each message is chained onto the
+     * previous one.
+     */
+    private void send(String type, String symbol) {
+        WebSocket socket = webSocket;
+        if (socket == null) {
+            return;
+        }
+        String message =
+                objectMapper.createObjectNode().put("type", type).put("symbol", symbol).toString();
+        pendingSend =
+                pendingSend
+                        .thenCompose(s -> s.sendText(message, true))
+                        .exceptionally(
+                                e -> {
+                                    log.warn("Failed to {} {}: {}", type, symbol, e.getMessage());
+                                    return socket;
+                                });
+    }
+
+    void onMessage(String message) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(message);
+        } catch (Exception e) {
+            log.warn("Unreadable Finnhub stream message: {}", e.getMessage());
+            return;
+        }
+        switch (root.path("type").asText()) {
+            case "trade" -> root.path("data").forEach(this::onTrade);
+            case "error" -> log.warn("Finnhub stream error: {}", root.path("msg").asText());
+            default -> {
+                // ping and anything new: nothing to do
+            }
+        }
+    }
+
+    private void onTrade(JsonNode data) {
+        String symbol = data.path("s").asText(null);
+        double price = data.path("p").asDouble();
+        if (symbol == null || price <= 0) {
+            return;
+        }
+        lastTradeAt.put(symbol, clock.instant());
+        Trade trade = new Trade(symbol, price, data.path("v").asDouble(), data.path("t").asLong());
+        try {
+            listener.accept(trade);
+        } catch (Exception e) {
+            log.error("Failed to evaluate trade for {}", symbol, e);
+        }
+    }
+
+    /** One trade from the stream; {@code timestamp} is in epoch milliseconds. */
+    public record Trade(String symbol, double price, double volume, long timestamp) {}
+
+    private final class Listener implements WebSocket.Listener {
+
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            text.append(data);
+            if (last) {
+                String message = text.toString();
+                text.setLength(0);
+                onMessage(message);
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            onDisconnect(socket, null);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            onDisconnect(socket, error);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.tradelite.client.finviz;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.stereotype.Component;
 import org.tradelite.client.finviz.dto.IndustryPerformance;
+import org.tradelite.scheduling.JobRunContext;
 
 @Slf4j
 @Component
@@ -20,13 +22,14 @@ public class FinvizClient {
             "https://finviz.com/groups.ashx?g=industry&v=140&o=name";
     private static final String USER_AGENT =
             "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36";
-    private static final int TIMEOUT_MS = 30000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
 
     public List<IndustryPerformance> fetchIndustryPerformance() throws IOException {
         log.info("Fetching industry performance from FinViz");
 
+        int timeoutMs = (int) JobRunContext.boundedByDeadline(TIMEOUT).toMillis();
         Document doc =
-                Jsoup.connect(FINVIZ_GROUPS_URL).userAgent(USER_AGENT).timeout(TIMEOUT_MS).get();
+                Jsoup.connect(FINVIZ_GROUPS_URL).userAgent(USER_AGENT).timeout(timeoutMs).get();
 
         Elements rows = doc.select("table.styled-table-new tbody tr");
 
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.tradelite.client.fred.dto.FredObservationDto;
 import org.tradelite.client.fred.dto.FredObservationsResponseDto;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.config.TradebotApiProperties;
 
 /**
@@ -48,11 +50,16 @@ public class FredClient {
 
     private final RestTemplate restTemplate;
     private final String apiKey;
+    private final RateLimiterRegistry rateLimiterRegistry;
 
     @Autowired
-    public FredClient(RestTemplate restTemplate, TradebotApiProperties apiProperties) {
+    public FredClient(
+            RestTemplate restTemplate,
+            TradebotApiProperties apiProperties,
+            RateLimiterRegistry rateLimiterRegistry) {
         this.restTemplate = restTemplate;
         this.apiKey = apiProperties.getFredKey();
+        this.rateLimiterRegistry = rateLimiterRegistry;
     }
 
     /**
@@ -75,6 +82,7 @@ public class FredClient {
                         + "&observation_end="
                         + to.format(DATE_FORMAT);
 
+        rateLimiterRegistry.acquire(ApiProvider.FRED);
         ResponseEntity<FredObservationsResponseDto> response;
         try {
             response = restTemplate.getForEntity(url, FredObservationsResponseDto.class);
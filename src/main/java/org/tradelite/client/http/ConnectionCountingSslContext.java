@@ -0,0 +1,84 @@
+package org.tradelite.client.http;
+
+import java.security.KeyManagementException;
+import java.security.SecureRandom;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+/**
+ * {@link SSLContext} that behaves like {@code delegate} and reports each {@link SSLEngine} it
+ * creates to {@link HttpTransportMetrics}. {@link java.net.http.HttpClient} creates one engine per
+ * TLS connection, named after the target host, so this counts the connections it opens per host.
+ */
+public class ConnectionCountingSslContext extends SSLContext {
+
+    public ConnectionCountingSslContext(SSLContext delegate, HttpTransportMetrics metrics) {
+        super(new CountingSpi(delegate, metrics), delegate.getProvider(), delegate.getProtocol());
+    }
+
+    private static final class CountingSpi extends SSLContextSpi {
+
+        private final SSLContext delegate;
+        private final HttpTransportMetrics metrics;
+
+        private CountingSpi(SSLContext delegate, HttpTransportMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void engineInit(KeyManager[] km, TrustManager[] tm, SecureRandom sr)
+                throws KeyManagementException {
+            delegate.init(km, tm, sr);
+        }
+
+        @Override
+        protected SSLSocketFactory engineGetSocketFactory() {
+            return delegate.getSocketFactory();
+        }
+
+        @Override
+        protected SSLServerSocketFactory engineGetServerSocketFactory() {
+            return delegate.getServerSocketFactory();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine() {
+            metrics.recordConnection(null);
+            return delegate.createSSLEngine();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine(String host, int port) {
+            metrics.recordConnection(host);
+            return delegate.createSSLEngine(host, port);
+        }
+
+        @Override
+        protected SSLSessionContext engineGetServerSessionContext() {
+            return delegate.getServerSessionContext();
+        }
+
+        @Override
+        protected SSLSessionContext engineGetClientSessionContext() {
+            return delegate.getClientSessionContext();
+        }
+
+        @Override
+        protected SSLParameters engineGetDefaultSSLParameters() {
+            return delegate.getDefaultSSLParameters();
+        }
+
+        @Override
+        protected SSLParameters engineGetSupportedSSLParameters() {
+            return delegate.getSupportedSSLParameters();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.tradelite.client.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * gzip/deflate handling for callers that use {@link java.net.http.HttpClient} directly, which
+ * neither asks for nor decodes compressed responses. {@link ProviderRequestFactory} covers the
+ * {@code RestTemplate} clients.
+ */
+public final class HttpCompression {
+
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private HttpCompression() {}
+
+    /**
+     * Body handler that streams the response, decoded per its {@code Content-Encoding} as it is
+     * read. The caller reads the body to its end or closes it, or the connection isn't released.
+     */
+    public static HttpResponse.BodyHandler<InputStream> ofDecodedStream() {
+        return responseInfo -> {
+            String encoding = responseInfo.headers().firstValue("Content-Encoding").orElse(null);
+            return HttpResponse.BodySubscribers.mapping(
+                    HttpResponse.BodySubscribers.ofInputStream(), body -> decoding(encoding, body));
+        };
+    }
+
+    /** {@code body} decoded per {@code contentEncoding}; unencoded bodies are returned as is. */
+    public static byte[] decode(String contentEncoding, byte[] body) throws IOException {
+        if (body.length == 0) {
+            return body;
+        }
+        InputStream decoded = decoder(contentEncoding, new ByteArrayInputStream(body));
+        if (decoded == null) {
+            return body;
+        }
+        try (decoded) {
+            return decoded.readAllBytes();
+        }
+    }
+
+    /** {@code body}, decoded per {@code contentEncoding} once reading starts. */
+    static InputStream decoding(String contentEncoding, InputStream body) {
+        if (contentEncoding == null) {
+            return body;
+        }
+        return new DecodingInputStream(contentEncoding, body);
+    }
+
+    /** A decoder over {@code body}, or null if {@code contentEncoding} isn't gzip or deflate. */
+    private static InputStream decoder(String contentEncoding, InputStream body)
+            throws IOException {
+        if (contentEncoding == null) {
+            return null;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body);
+            case "deflate" -> new InflaterInputStream(body);
+            default -> null;
+        };
+    }
+
+    /**
+     * Wraps the decoder around the body on the first read. {@link GZIPInputStream} reads the
+     * header in its constructor, which would block the client thread that is meant to deliver it.
+     * An empty body stays empty instead of failing as a truncated header.
+     */
+    private static final class DecodingInputStream extends FilterInputStream {
+
+        private final String contentEncoding;
+        private boolean started;
+
+        DecodingInputStream(String contentEncoding, InputStream body) {
+            super(body);
+            this.contentEncoding = contentEncoding;
+        }
+
+        @Override
+        public int read() throws IOException {
+            start();
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            start();
+            return in.read(buffer, offset, length);
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            start();
+            return in.skip(count);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void start() throws IOException {
+            if (started) {
+                return;
+            }
+            started = true;
+            PushbackInputStream body = new PushbackInputStream(in, 1);
+            int first = body.read();
+            if (first < 0) {
+                in = body;
+                return;
+            }
+            body.unread(first);
+            InputStream decoded = decoder(contentEncoding, body);
+            in = decoded == null ? body : decoded;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.tradelite.client.http;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-host request and connection counts of the shared provider transport since startup. Every
+ * request the transport sends is counted against its host, and so is every new TLS connection, so
+ * the difference is the number of requests that went out on a pooled connection.
+ */
+@Component
+public class HttpTransportMetrics {
+
+    private final Map<String, Counters> hosts = new ConcurrentHashMap<>();
+
+    public void recordRequest(String host) {
+        counters(host).requests.increment();
+    }
+
+    public void recordConnection(String host) {
+        counters(host).connections.increment();
+    }
+
+    /** Stats per host, sorted by host name. */
+    public Map<String, HostStats> getStats() {
+        Map<String, HostStats> stats = new TreeMap<>();
+        hosts.forEach(
+                (host, counters) -> {
+                    long requests = counters.requests.sum();
+                    long connections = counters.connections.sum();
+                    stats.put(
+                            host,
+                            new HostStats(
+                                    requests, connections, Math.max(0, requests - connections)));
+                });
+        return stats;
+    }
+
+    private Counters counters(String host) {
+        String key = host == null ? "unknown" : host.toLowerCase(Locale.ROOT);
+        return hosts.computeIfAbsent(key, _ -> new Counters());
+    }
+
+    /**
+     * @param requests requests sent to the host
+     * @param connectionsOpened TLS connections opened to the host
+     * @param reusedRequests requests served by an already open connection
+     */
+    public record HostStats(long requests, long connectionsOpened, long reusedRequests) {}
+
+    private static final class Counters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder connections = new LongAdder();
+    }
+}
@@ -0,0 +1,78 @@
+package org.tradelite.client.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.stereotype.Component;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.config.TradebotHttpProperties;
+import org.tradelite.scheduling.JobRunContext;
+
+/**
+ * Direct access to the shared provider {@link HttpClient} for clients that don't go through {@code
+ * RestTemplate}: builds GET requests with the provider's timeout and compression settings, and
+ * sends them blocking or asynchronously. Response bodies come back as decoded streams, so callers
+ * parse them as they arrive instead of buffering each into a String first; a caller reads the body
+ * to its end or closes it, which releases the connection.
+ *
+ * <p>Rate budget and metering stay with the calling client, which acquires and counts a request
+ * before handing it here.
+ */
+@Component
+public class ProviderHttpTransport {
+
+    private static final Executor BODY_READERS = Thread::startVirtualThread;
+
+    private final HttpClient httpClient;
+    private final TradebotHttpProperties properties;
+    private final HttpTransportMetrics metrics;
+
+    public ProviderHttpTransport(
+            HttpClient httpClient,
+            TradebotHttpProperties properties,
+            HttpTransportMetrics metrics) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * A GET request for {@code url} with {@code provider}'s read timeout, bounded by the current
+     * job's deadline.
+     */
+    public HttpRequest get(ApiProvider provider, String url, Map<String, String> headers) {
+        Duration timeout = JobRunContext.boundedByDeadline(properties.readTimeout(provider));
+        HttpRequest.Builder builder =
+                HttpRequest.newBuilder().uri(URI.create(url)).timeout(timeout).GET();
+        headers.forEach(builder::header);
+        if (properties.isCompression()) {
+            builder.header("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
+        }
+        return builder.build();
+    }
+
+    public HttpResponse<InputStream> send(HttpRequest request)
+            throws IOException, InterruptedException {
+        metrics.recordRequest(request.uri().getHost());
+        return httpClient.send(request, HttpCompression.ofDecodedStream());
+    }
+
+    /**
+     * Sends {@code request} without blocking. The future completes once the headers are in, with
+     * the body still arriving, and hands off to a virtual thread first: reading the body blocks, so
+     * dependent stages must not run on the client's executor, which delivers it.
+     */
+    public CompletableFuture<HttpResponse<InputStream>> sendAsync(HttpRequest request) {
+        metrics.recordRequest(request.uri().getHost());
+        return httpClient
+                .sendAsync(request, HttpCompression.ofDecodedStream())
+                .thenApplyAsync(response -> response, BODY_READERS);
+    }
+}
@@ -0,0 +1,60 @@
+package org.tradelite.client.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.config.TradebotHttpProperties;
+
+/**
+ * {@link ClientHttpRequestFactory} for the shared provider transport: every request goes through
+ * one {@link HttpClient}, which keeps a connection pool per host and negotiates HTTP/2 where the
+ * server supports it. The response timeout is picked per provider from the request's host, and
+ * responses are requested gzip/deflate-encoded when compression is enabled.
+ */
+public class ProviderRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpClient httpClient;
+    private final TradebotHttpProperties properties;
+    private final HttpTransportMetrics metrics;
+    private final Map<Duration, JdkClientHttpRequestFactory> factories = new ConcurrentHashMap<>();
+
+    public ProviderRequestFactory(
+            HttpClient httpClient,
+            TradebotHttpProperties properties,
+            HttpTransportMetrics metrics) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        String host = uri.getHost();
+        metrics.recordRequest(host);
+        return factories
+                .computeIfAbsent(readTimeout(host), this::newFactory)
+                .createRequest(uri, httpMethod);
+    }
+
+    Duration readTimeout(String host) {
+        return ApiProvider.forHost(host)
+                .map(properties::readTimeout)
+                .orElse(properties.getReadTimeout());
+    }
+
+    /** The JDK factory only holds settings, so one per distinct timeout shares the same client. */
+    private JdkClientHttpRequestFactory newFactory(Duration readTimeout) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout);
+        factory.enableCompression(properties.isCompression());
+        return factory;
+    }
+}
@@ -0,0 +1,42 @@
+package org.tradelite.client.ratelimit;
+
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * Upstream data providers with a request budget. The defaults are the documented (or, for Yahoo,
+ * empirically tolerated) per-minute limits of the plans we use; {@code
+ * tradebot.rate-limits.requests-per-minute.<provider>} overrides them. {@link #getHost()} is the
+ * API host the provider's client talks to, which the HTTP transport uses to pick its timeouts.
+ */
+@Getter
+public enum ApiProvider {
+    /** Free plan: 60 calls/minute. */
+    FINNHUB(60, "finnhub.io"),
+    /** Basic plan: 8 credits/minute, one credit per {@code time_series} call. */
+    TWELVEDATA(8, "api.twelvedata.com"),
+    /** Unofficial chart endpoint; bursts beyond ~20/minute start returning 429s. */
+    YAHOO(20, "query1.finance.yahoo.com"),
+    /** Demo plan: 30 calls/minute. */
+    COINGECKO(30, "api.coingecko.com"),
+    /** 120 requests/minute per API key. */
+    FRED(120, "api.stlouisfed.org");
+
+    private final int defaultRequestsPerMinute;
+    private final String host;
+
+    ApiProvider(int defaultRequestsPerMinute, String host) {
+        this.defaultRequestsPerMinute = defaultRequestsPerMinute;
+        this.host = host;
+    }
+
+    /** The provider whose API lives on {@code host}, if any. */
+    public static Optional<ApiProvider> forHost(String host) {
+        for (ApiProvider provider : values()) {
+            if (provider.host.equalsIgnoreCase(host)) {
+                return Optional.of(provider);
+            }
+        }
+        return Optional.empty();
+    }
+}
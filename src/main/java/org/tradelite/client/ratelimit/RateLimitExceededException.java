@@ -0,0 +1,15 @@
+package org.tradelite.client.ratelimit;
+
+import lombok.Getter;
+
+/** The provider rejected a request for exceeding its rate limit, even after backing off. */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final ApiProvider provider;
+
+    public RateLimitExceededException(ApiProvider provider, String message) {
+        super(message);
+        this.provider = provider;
+    }
+}
@@ -0,0 +1,41 @@
+package org.tradelite.client.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Lenient readers for providers' rate-limit response headers. Every method returns {@code null}
+ * when the header is absent or malformed, so callers fall back to local pacing.
+ */
+public final class RateLimitHeaders {
+
+    private RateLimitHeaders() {}
+
+    public static Integer intValue(HttpHeaders headers, String name) {
+        String value = headers == null ? null : headers.getFirst(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException _) {
+            return null;
+        }
+    }
+
+    /** A header carrying a Unix timestamp in seconds, e.g. Finnhub's {@code X-Ratelimit-Reset}. */
+    public static Instant epochSeconds(HttpHeaders headers, String name) {
+        Integer value = intValue(headers, name);
+        return value == null ? null : Instant.ofEpochSecond(value);
+    }
+
+    /**
+     * {@code Retry-After} in its delta-seconds form; the HTTP-date form is not used by our
+     * providers.
+     */
+    public static Duration retryAfter(HttpHeaders headers) {
+        Integer seconds = intValue(headers, HttpHeaders.RETRY_AFTER);
+        return seconds == null ? null : Duration.ofSeconds(seconds);
+    }
+}
@@ -0,0 +1,174 @@
+package org.tradelite.client.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.tradelite.config.TradebotRateLimitProperties;
+import org.tradelite.scheduling.JobDeadlineExceededException;
+import org.tradelite.scheduling.JobRunContext;
+
+/**
+ * One {@link TokenBucket} per {@link ApiProvider}, shared by every caller of that provider. Clients
+ * call {@link #acquire(ApiProvider)} immediately before each outbound request, so concurrent jobs
+ * (e.g. the price loop and a sector scan both hitting Finnhub) draw from the same budget instead of
+ * each pacing itself with a fixed sleep.
+ *
+ * <p>Clients that see the provider's rate-limit headers report them through {@link #onResponse} and
+ * {@link #onRateLimited}, which re-sync the bucket with the provider's own accounting.
+ */
+@Slf4j
+@Component
+public class RateLimiterRegistry {
+
+    static final Duration WINDOW = Duration.ofMinutes(1);
+
+    /** Upper bound on a single server-requested pause, so a bogus header can't stall a job. */
+    static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private static final long SLOW_WAIT_LOG_MS = 5_000;
+
+    private final Map<ApiProvider, TokenBucket> buckets = new EnumMap<>(ApiProvider.class);
+    private final Map<ApiProvider, AtomicLong> rateLimitedResponses =
+            new EnumMap<>(ApiProvider.class);
+    private final Clock clock;
+
+    @Autowired
+    public RateLimiterRegistry(TradebotRateLimitProperties properties, Clock clock) {
+        this.clock = clock;
+        for (ApiProvider provider : ApiProvider.values()) {
+            buckets.put(provider, new TokenBucket(properties.requestsPerMinute(provider), WINDOW));
+            rateLimitedResponses.put(provider, new AtomicLong());
+        }
+    }
+
+    RateLimiterRegistry(Map<ApiProvider, TokenBucket> buckets, Clock clock) {
+        this.clock = clock;
+        this.buckets.putAll(buckets);
+        buckets.keySet().forEach(provider -> rateLimitedResponses.put(provider, new AtomicLong()));
+    }
+
+    /**
+     * Blocks until {@code provider} has budget for one more request.
+     *
+     * <p>Inside a job run with a deadline, the wait is bounded by the time the run has left.
+     *
+     * @throws CancellationException if the thread is interrupted while waiting; the interrupt flag
+     *     is preserved
+     * @throws JobDeadlineExceededException if the run's deadline has passed or would pass before
+     *     budget frees up
+     */
+    public void acquire(ApiProvider provider) {
+        acquire(provider, 1);
+    }
+
+    /**
+     * Blocks until {@code provider} has budget for a request it bills as {@code permits} calls,
+     * such as a batch request charged per symbol. Otherwise behaves like {@link
+     * #acquire(ApiProvider)}.
+     *
+     * @throws IllegalArgumentException if {@code permits} exceeds {@link #capacity}
+     */
+    public void acquire(ApiProvider provider, int permits) {
+        JobRunContext.checkDeadline();
+        try {
+            long maxWaitNanos =
+                    JobRunContext.boundedByDeadline(Duration.ofNanos(Long.MAX_VALUE)).toNanos();
+            long waitedNanos = buckets.get(provider).acquire(permits, maxWaitNanos);
+            if (waitedNanos < 0) {
+                throw JobRunContext.deadlineExceeded(
+                        provider + " rate limit budget not available before the job deadline");
+            }
+            long waitedMs = TimeUnit.NANOSECONDS.toMillis(waitedNanos);
+            if (waitedMs >= SLOW_WAIT_LOG_MS) {
+                log.info("Waited {}ms for {} rate limit budget", waitedMs, provider);
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException(
+                    "Interrupted while waiting for " + provider + " rate limit budget");
+        }
+    }
+
+    /** The most calls {@code provider} allows per window, and so the largest single acquire. */
+    public int capacity(ApiProvider provider) {
+        return buckets.get(provider).getCapacity();
+    }
+
+    /**
+     * Records the provider's remaining budget as reported on a successful response.
+     *
+     * @param resetAt when the provider's window resets, or {@code null} if it didn't say; then a
+     *     full window from now is assumed
+     */
+    public void onResponse(ApiProvider provider, int remaining, Instant resetAt) {
+        buckets.get(provider).sync(remaining, untilReset(resetAt, WINDOW).toNanos());
+    }
+
+    /**
+     * Records a rejected request and pauses {@code provider} until the provider says calls are
+     * allowed again: {@code retryAfter} if given, otherwise {@code resetAt}, otherwise a full
+     * window.
+     */
+    public void onRateLimited(ApiProvider provider, Duration retryAfter, Instant resetAt) {
+        rateLimitedResponses.get(provider).incrementAndGet();
+        Duration pause =
+                retryAfter != null ? clampBackoff(retryAfter) : untilReset(resetAt, MAX_BACKOFF);
+        log.warn("{} rate limit exceeded, pausing requests for {}s", provider, pause.toSeconds());
+        buckets.get(provider).sync(0, pause.toNanos());
+    }
+
+    public Map<ApiProvider, RateLimiterStats> getStats() {
+        Map<ApiProvider, RateLimiterStats> stats = new EnumMap<>(ApiProvider.class);
+        buckets.forEach(
+                (provider, bucket) ->
+                        stats.put(
+                                provider,
+                                RateLimiterStats.of(
+                                        bucket, rateLimitedResponses.get(provider).get())));
+        return stats;
+    }
+
+    private Duration untilReset(Instant resetAt, Duration max) {
+        if (resetAt == null) {
+            return WINDOW;
+        }
+        Duration untilReset = Duration.between(clock.instant(), resetAt);
+        return untilReset.compareTo(max) > 0 ? max : clampBackoff(untilReset);
+    }
+
+    private static Duration clampBackoff(Duration pause) {
+        if (pause.isNegative()) {
+            return Duration.ZERO;
+        }
+        return pause.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : pause;
+    }
+
+    public record RateLimiterStats(
+            int requestsPerMinute,
+            int availableTokens,
+            long acquisitions,
+            long throttled,
+            long totalWaitMs,
+            long maxWaitMs,
+            long rateLimitedResponses) {
+
+        static RateLimiterStats of(TokenBucket bucket, long rateLimitedResponses) {
+            return new RateLimiterStats(
+                    bucket.getCapacity(),
+                    bucket.availableTokens(),
+                    bucket.getAcquisitions(),
+                    bucket.getThrottled(),
+                    TimeUnit.NANOSECONDS.toMillis(bucket.getTotalWaitNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(bucket.getMaxWaitNanos()),
+                    rateLimitedResponses);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.tradelite.client.ratelimit;
+
+import java.time.Duration;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket holding {@code capacity} tokens, where each spent token comes back exactly one
+ * {@code window} after it was spent. A full bucket therefore admits a burst of {@code capacity}
+ * requests at once, but no rolling window ever sees more than {@code capacity} requests.
+ *
+ * <p>A classic continuously-refilling bucket would allow a full burst followed by a steady stream
+ * at the refill rate, i.e. up to twice the budget inside one window, which per-minute provider
+ * limits reject.
+ *
+ * <p>Callers reserve their slot under the lock and sleep outside it, so waiters are served in
+ * arrival order without holding the lock while asleep.
+ *
+ * <p>{@link #sync} lets the provider's own accounting (rate-limit response headers, 429s) override
+ * the local view: the bucket slows down when the server reports fewer remaining calls than it
+ * thinks it has, and speeds back up when the server refunds credits earlier than one window after
+ * they were spent.
+ */
+public class TokenBucket {
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final int capacity;
+    private final long windowNanos;
+    private final LongSupplier nanoTime;
+    private final Sleeper sleeper;
+
+    /** When each token was (or, for queued waiters, will be) spent. Not necessarily ordered. */
+    private final PriorityQueue<Long> spentAt = new PriorityQueue<>();
+
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public TokenBucket(int capacity, Duration window) {
+        this(capacity, window, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    TokenBucket(int capacity, Duration window, LongSupplier nanoTime, Sleeper sleeper) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.windowNanos = window.toNanos();
+        this.nanoTime = nanoTime;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Takes one token, sleeping until one is available.
+     *
+     * @return how long the caller waited, in nanoseconds
+     */
+    public long acquire() throws InterruptedException {
+        return acquire(Long.MAX_VALUE);
+    }
+
+    /**
+     * Takes one token unless that would mean waiting longer than {@code waitLimitNanos}, in which
+     * case nothing is reserved.
+     *
+     * @return how long the caller waited, in nanoseconds, or {@code -1} if it would have had to
+     *     wait too long
+     */
+    public long acquire(long waitLimitNanos) throws InterruptedException {
+        return acquire(1, waitLimitNanos);
+    }
+
+    /**
+     * Takes {@code permits} tokens at once, for a request the provider bills as several calls,
+     * unless that would mean waiting longer than {@code waitLimitNanos}. All of them count as spent
+     * at the moment the last one frees up.
+     *
+     * @return how long the caller waited, in nanoseconds, or {@code -1} if it would have had to
+     *     wait too long
+     * @throws IllegalArgumentException if {@code permits} is not between 1 and the capacity
+     */
+    public long acquire(int permits, long waitLimitNanos) throws InterruptedException {
+        if (permits < 1 || permits > capacity) {
+            throw new IllegalArgumentException(
+                    "permits must be between 1 and " + capacity + ": " + permits);
+        }
+        long waitNanos = reserve(permits, waitLimitNanos);
+        if (waitNanos < 0) {
+            return -1;
+        }
+        if (waitNanos > 0) {
+            sleeper.sleep(waitNanos);
+            throttled.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+        acquisitions.addAndGet(permits);
+        return waitNanos;
+    }
+
+    /**
+     * Aligns the bucket with the provider's view: {@code remaining} calls are left until the
+     * provider's window resets {@code resetInNanos} from now, at which point every spent token
+     * comes back. Tokens spent earlier return at that reset at the latest, and if the bucket holds
+     * more free tokens than {@code remaining}, the surplus is withheld until the reset. Waiters
+     * that already reserved a slot keep it.
+     */
+    public synchronized void sync(int remaining, long resetInNanos) {
+        long now = nanoTime.getAsLong();
+        long refundedSpend = now + Math.max(0, resetInNanos) - windowNanos;
+        PriorityQueue<Long> retimed = new PriorityQueue<>();
+        for (long spent : spentAt) {
+            retimed.add(spent <= now ? Math.min(spent, refundedSpend) : spent);
+        }
+        spentAt.clear();
+        spentAt.addAll(retimed);
+        expire(now);
+
+        int surplus = capacity - spentAt.size() - Math.max(0, remaining);
+        for (int i = 0; i < surplus; i++) {
+            spentAt.add(refundedSpend);
+        }
+    }
+
+    /** Tokens that could be taken right now without waiting. */
+    public synchronized int availableTokens() {
+        expire(nanoTime.getAsLong());
+        return capacity - spentAt.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.get();
+    }
+
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.get();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    private synchronized long reserve(int permits, long waitLimitNanos) {
+        long now = nanoTime.getAsLong();
+        expire(now);
+        int missing = permits - (capacity - spentAt.size());
+        long waitNanos = 0;
+        if (missing > 0) {
+            // The oldest tokens (possibly reserved by earlier waiters) are the next to come back;
+            // claim as many as are missing, for the moment the last of them does.
+            long lastAvailableAt =
+                    spentAt.stream().sorted().skip(missing - 1L).findFirst().orElseThrow()
+                            + windowNanos;
+            waitNanos = lastAvailableAt - now;
+            if (waitNanos > waitLimitNanos) {
+                return -1;
+            }
+            for (int i = 0; i < missing; i++) {
+                spentAt.poll();
+            }
+        }
+        for (int i = 0; i < permits; i++) {
+            spentAt.add(now + waitNanos);
+        }
+        return waitNanos;
+    }
+
+    private void expire(long now) {
+        while (!spentAt.isEmpty() && spentAt.peek() + windowNanos <= now) {
+            spentAt.poll();
+        }
+    }
+}
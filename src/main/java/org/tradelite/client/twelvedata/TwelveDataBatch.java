@@ -0,0 +1,12 @@
+package org.tradelite.client.twelvedata;
+
+import java.util.List;
+import java.util.Map;
+import org.tradelite.common.OhlcvRecord;
+
+/**
+ * Outcome of a multi-symbol time series request: records for each symbol the API answered, and an
+ * error message for each one it rejected or left out.
+ */
+public record TwelveDataBatch(
+        Map<String, List<OhlcvRecord>> records, Map<String, String> failures) {}
@@ -1,19 +1,35 @@
 package org.tradelite.client.twelvedata;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimitExceededException;
+import org.tradelite.client.ratelimit.RateLimitHeaders;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.OhlcvSeries;
 import org.tradelite.config.TradebotApiProperties;
 import org.tradelite.service.ApiRequestMeteringService;
 
@@ -22,105 +38,391 @@ import org.tradelite.service.ApiRequestMeteringService;
 public class TwelveDataClient {
 
     private static final String BASE_URL = "https://api.twelvedata.com/time_series";
+    static final String API_CREDITS_LEFT = "api-credits-left";
+    static final int MAX_RATE_LIMIT_RETRIES = 1;
+
+    /** Twelve Data's cap on symbols per time_series request. */
+    static final int MAX_BATCH_SYMBOLS = 120;
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final ApiRequestMeteringService meteringService;
     private final TradebotApiProperties apiProperties;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final Clock clock;
 
     @Autowired
     public TwelveDataClient(
             RestTemplate restTemplate,
             ObjectMapper objectMapper,
             ApiRequestMeteringService meteringService,
-            TradebotApiProperties apiProperties) {
+            TradebotApiProperties apiProperties,
+            RateLimiterRegistry rateLimiterRegistry,
+            Clock clock) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.meteringService = meteringService;
         this.apiProperties = apiProperties;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.clock = clock;
     }
 
     public List<OhlcvRecord> fetchDailyOhlcv(String symbol, int outputSize) {
-        if (apiProperties.getTwelvedataKey() == null
-                || apiProperties.getTwelvedataKey().isBlank()) {
-            throw fetchFailure(symbol, new IllegalStateException("TWELVEDATA key not configured"));
-        }
+        String url =
+                String.format(
+                        "%s?symbol=%s&interval=1day&outputsize=%d&apikey=%s",
+                        BASE_URL, symbol, outputSize, apiKey(symbol));
+        return exchange(symbol, url, 1, parser -> parseResponse(parser, symbol, outputSize));
+    }
+
+    /**
+     * Largest batch {@link #fetchDailyOhlcvBatch} accepts: Twelve Data bills one credit per symbol,
+     * so a batch can't be larger than the credits the bucket holds in one window.
+     */
+    public int maxBatchSize() {
+        return Math.min(MAX_BATCH_SYMBOLS, rateLimiterRegistry.capacity(ApiProvider.TWELVEDATA));
+    }
 
+    /**
+     * Fetches {@code symbols} in one request. A symbol the API rejects, or leaves out, lands in
+     * {@link TwelveDataBatch#failures()} without affecting the others; only a failure of the
+     * request itself is thrown.
+     */
+    public TwelveDataBatch fetchDailyOhlcvBatch(List<String> symbols, int outputSize) {
+        if (symbols.isEmpty()) {
+            return new TwelveDataBatch(Map.of(), Map.of());
+        }
+        if (symbols.size() > maxBatchSize()) {
+            throw new IllegalArgumentException(
+                    "Batch of " + symbols.size() + " exceeds " + maxBatchSize() + " symbols");
+        }
+        String label = String.join(",", symbols);
         String url =
                 String.format(
                         "%s?symbol=%s&interval=1day&outputsize=%d&apikey=%s",
-                        BASE_URL, symbol, outputSize, apiProperties.getTwelvedataKey());
+                        BASE_URL, label, outputSize, apiKey(label));
+        return exchange(
+                label,
+                url,
+                symbols.size(),
+                parser -> parseBatchResponse(parser, symbols, outputSize));
+    }
+
+    private String apiKey(String label) {
+        String key = apiProperties.getTwelvedataKey();
+        if (key == null || key.isBlank()) {
+            throw fetchFailure(label, new IllegalStateException("TWELVEDATA key not configured"));
+        }
+        return key;
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Accept", "application/json");
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+    /**
+     * Sends one request worth {@code credits} credits and parses its body, retrying once when the
+     * credits turn out to be exhausted.
+     */
+    private <T> T exchange(String label, String url, int credits, BodyParser<T> parser) {
+        for (int attempt = 0; ; attempt++) {
+            rateLimiterRegistry.acquire(ApiProvider.TWELVEDATA, credits);
+            try {
+                meteringService.incrementTwelveDataRequests();
+                return restTemplate.execute(
+                        url,
+                        HttpMethod.GET,
+                        request ->
+                                request.getHeaders()
+                                        .setAccept(List.of(MediaType.APPLICATION_JSON)),
+                        response -> read(response, parser));
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                backOff(e.getResponseHeaders());
+                if (attempt >= MAX_RATE_LIMIT_RETRIES) {
+                    throw fetchFailure(label, e);
+                }
+            } catch (RateLimitExceededException e) {
+                // read() has already backed off, with the headers of the response
+                if (attempt >= MAX_RATE_LIMIT_RETRIES) {
+                    throw fetchFailure(label, e);
+                }
+            } catch (Exception e) {
+                throw fetchFailure(label, e);
+            }
+        }
+    }
 
-        ResponseEntity<String> response;
-        try {
-            meteringService.incrementTwelveDataRequests();
-            response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-        } catch (Exception e) {
-            throw fetchFailure(symbol, e);
+    /**
+     * Syncs the limiter to the response's credit header, then parses the body as it streams in,
+     * without buffering it into a String first. Malformed JSON is rethrown unchecked, so {@code
+     * RestTemplate} doesn't report it as an I/O error.
+     */
+    private <T> T read(ClientHttpResponse response, BodyParser<T> bodyParser) throws IOException {
+        HttpHeaders headers = response.getHeaders();
+        Integer creditsLeft = RateLimitHeaders.intValue(headers, API_CREDITS_LEFT);
+        if (creditsLeft != null) {
+            rateLimiterRegistry.onResponse(ApiProvider.TWELVEDATA, creditsLeft, nextCreditReset());
         }
 
-        String body = response.getBody();
-        if (body == null) {
-            throw fetchFailure(symbol, new IllegalStateException("Twelve Data returned null body"));
+        try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+            return bodyParser.parse(parser);
+        } catch (RateLimitExceededException e) {
+            backOff(headers);
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw toRuntime(e);
         }
+    }
 
-        return parseResponse(symbol, body);
+    @FunctionalInterface
+    private interface BodyParser<T> {
+        T parse(JsonParser parser) throws IOException;
     }
 
-    List<OhlcvRecord> parseResponse(String symbol, String json) {
-        try {
-            JsonNode root = objectMapper.readTree(json);
+    /**
+     * Twelve Data reports exhausted credits either as an HTTP 429 or as a 200 whose body carries
+     * {@code "code": 429}. Credits are refilled at the start of each minute.
+     */
+    private void backOff(HttpHeaders headers) {
+        rateLimiterRegistry.onRateLimited(
+                ApiProvider.TWELVEDATA, RateLimitHeaders.retryAfter(headers), nextCreditReset());
+    }
+
+    private Instant nextCreditReset() {
+        return clock.instant().truncatedTo(ChronoUnit.MINUTES).plus(1, ChronoUnit.MINUTES);
+    }
+
+    private List<OhlcvRecord> parseResponse(JsonParser parser, String symbol, int expectedBars)
+            throws IOException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT, symbol);
+        return parseSeries(parser, symbol, expectedBars);
+    }
+
+    /**
+     * A multi-symbol response is keyed by symbol, each entry shaped like a single-symbol response.
+     * With a single symbol the API drops the outer object, so that case parses as one series.
+     */
+    private TwelveDataBatch parseBatchResponse(
+            JsonParser parser, List<String> symbols, int expectedBars) throws IOException {
+        if (symbols.size() == 1) {
+            String symbol = symbols.getFirst();
+            return new TwelveDataBatch(
+                    Map.of(symbol, parseResponse(parser, symbol, expectedBars)), Map.of());
+        }
 
-            if ("error".equals(root.path("status").asText())) {
-                String message = root.path("message").asText("Unknown API error");
-                throw new IllegalStateException(
-                        "Twelve Data API error for " + symbol + ": " + message);
+        String label = String.join(",", symbols);
+        Map<String, List<OhlcvRecord>> parsed = new HashMap<>();
+        Map<String, String> errors = new HashMap<>();
+        expect(parser.nextToken(), JsonToken.START_OBJECT, label);
+        Status status = new Status();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                status.read(name, parser);
+            } else if (!symbols.contains(name)) {
+                parser.skipChildren();
+            } else {
+                try {
+                    parsed.put(name, parseSeries(parser, name, expectedBars));
+                } catch (RuntimeException e) {
+                    errors.put(name, e.getMessage());
+                }
             }
+        }
+        // An error for the whole request (exhausted credits, bad key) comes back unkeyed
+        status.check(label);
 
-            JsonNode values = root.path("values");
-            if (!values.isArray()) {
-                throw new IllegalStateException(
-                        "Twelve Data response missing values array for " + symbol);
+        Map<String, List<OhlcvRecord>> records = new LinkedHashMap<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            if (parsed.containsKey(symbol)) {
+                records.put(symbol, parsed.get(symbol));
+            } else {
+                failures.put(
+                        symbol,
+                        errors.getOrDefault(symbol, "Twelve Data response missing " + symbol));
             }
+        }
+        if (!failures.isEmpty()) {
+            log.warn("Twelve Data batch failed for {} of {}: {}", failures.size(), label, failures);
+        }
+        return new TwelveDataBatch(records, failures);
+    }
 
-            List<OhlcvRecord> records = new ArrayList<>();
-            for (JsonNode entry : values) {
-                String datetime = entry.path("datetime").asText(null);
-                JsonNode openNode = entry.path("open");
-                JsonNode highNode = entry.path("high");
-                JsonNode lowNode = entry.path("low");
-                JsonNode closeNode = entry.path("close");
-                JsonNode volumeNode = entry.path("volume");
-
-                if (datetime == null
-                        || openNode.isMissingNode()
-                        || highNode.isMissingNode()
-                        || lowNode.isMissingNode()
-                        || closeNode.isMissingNode()
-                        || volumeNode.isMissingNode()) {
+    /**
+     * Reads one series object, the parser positioned on its {@code START_OBJECT}, straight into an
+     * {@link OhlcvSeries}. The object is always read to its end, even when it turns out to be an
+     * error, so a batch can carry on with the next symbol.
+     */
+    private OhlcvSeries parseSeries(JsonParser parser, String symbol, int expectedBars)
+            throws IOException {
+        OhlcvSeries series = new OhlcvSeries(symbol, expectedBars);
+        Status status = new Status();
+        boolean hasValues = false;
+        RuntimeException malformed = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"values".equals(name)) {
+                status.read(name, parser);
+                continue;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            hasValues = true;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (malformed != null || parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
                     continue;
                 }
+                try {
+                    readBar(parser, series);
+                } catch (RuntimeException e) {
+                    malformed = e;
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        status.check(symbol);
+        if (!hasValues) {
+            throw new IllegalStateException(
+                    "Twelve Data response missing values array for " + symbol);
+        }
+        if (malformed != null) {
+            throw malformed;
+        }
+        log.debug("Parsed {} OHLCV records for {} from Twelve Data", series.size(), symbol);
+        return series;
+    }
 
-                records.add(
-                        new OhlcvRecord(
-                                symbol,
-                                LocalDate.parse(datetime),
-                                Double.parseDouble(openNode.asText()),
-                                Double.parseDouble(highNode.asText()),
-                                Double.parseDouble(lowNode.asText()),
-                                Double.parseDouble(closeNode.asText()),
-                                Long.parseLong(volumeNode.asText())));
+    /**
+     * Appends one {@code values} entry; Twelve Data sends every number as a string. Entries missing
+     * a field are skipped. A malformed number throws with the parser still inside the entry.
+     */
+    private static void readBar(JsonParser parser, OhlcvSeries series) throws IOException {
+        long epochDay = Long.MIN_VALUE;
+        double open = Double.NaN;
+        double high = Double.NaN;
+        double low = Double.NaN;
+        double close = Double.NaN;
+        long volume = -1;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
             }
+            switch (name) {
+                case "datetime" -> epochDay = readEpochDay(parser);
+                case "open" -> open = readDouble(parser);
+                case "high" -> high = readDouble(parser);
+                case "low" -> low = readDouble(parser);
+                case "close" -> close = readDouble(parser);
+                case "volume" -> volume = readLong(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        if (epochDay == Long.MIN_VALUE
+                || Double.isNaN(open)
+                || Double.isNaN(high)
+                || Double.isNaN(low)
+                || Double.isNaN(close)
+                || volume < 0) {
+            return;
+        }
+        series.append(epochDay, open, high, low, close, volume);
+    }
 
-            log.debug("Parsed {} OHLCV records for {} from Twelve Data", records.size(), symbol);
-            return records;
+    /** A {@code yyyy-MM-dd} date read from the parser's buffer; other forms go through parse. */
+    private static long readEpochDay(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (parser.getTextLength() != 10 || chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+            return LocalDate.parse(parser.getText()).toEpochDay();
+        }
+        int year = digits(chars, offset, 4);
+        int month = digits(chars, offset + 5, 2);
+        int day = digits(chars, offset + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return LocalDate.parse(parser.getText()).toEpochDay();
+        }
+        return LocalDate.of(year, month, day).toEpochDay();
+    }
 
-        } catch (Exception e) {
-            throw fetchFailure(symbol, e);
+    /** The decimal value of {@code count} chars at {@code offset}, or -1 if one isn't a digit. */
+    private static int digits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            if (chars[i] < '0' || chars[i] > '9') {
+                return -1;
+            }
+            value = value * 10 + (chars[i] - '0');
+        }
+        return value;
+    }
+
+    /** Parses a quoted number from the parser's buffer, without a String per value. */
+    private static double readDouble(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        return NumberInput.parseDouble(
+                parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), true);
+    }
+
+    private static long readLong(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getLongValue();
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        if (length == 0 || length > 18) {
+            return Long.parseLong(parser.getText());
+        }
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (chars[i] < '0' || chars[i] > '9') {
+                return Long.parseLong(parser.getText());
+            }
+            value = value * 10 + (chars[i] - '0');
+        }
+        return value;
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, String label) {
+        if (actual != expected) {
+            throw new IllegalStateException(
+                    "Unexpected Twelve Data response for " + label + ": " + actual);
+        }
+    }
+
+    /** The {@code status}, {@code code} and {@code message} fields of a response object. */
+    private static final class Status {
+
+        private String status;
+        private int code;
+        private String message;
+
+        /** Records {@code name} if it is a status field, skips it otherwise. */
+        void read(String name, JsonParser parser) throws IOException {
+            switch (name) {
+                case "status" -> status = parser.getValueAsString();
+                case "code" -> code = parser.getValueAsInt();
+                case "message" -> message = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+
+        void check(String label) {
+            if (!"error".equals(status)) {
+                return;
+            }
+            String text = message == null ? "Unknown API error" : message;
+            if (code == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                throw new RateLimitExceededException(
+                        ApiProvider.TWELVEDATA, "Twelve Data API error for " + label + ": " + text);
+            }
+            throw new IllegalStateException("Twelve Data API error for " + label + ": " + text);
         }
     }
 
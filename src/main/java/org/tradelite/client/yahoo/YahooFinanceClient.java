@@ -1,24 +1,38 @@
 package org.tradelite.client.yahoo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 import lombok.Generated;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.tradelite.client.http.ProviderHttpTransport;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.OhlcvSeries;
 import org.tradelite.service.ApiRequestMeteringService;
 
 @Slf4j
@@ -26,43 +40,198 @@ import org.tradelite.service.ApiRequestMeteringService;
 public class YahooFinanceClient {
 
     private static final String BASE_URL = "https://query1.finance.yahoo.com/v8/finance/chart/";
-    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+    private static final String QUOTE_URL =
+            "https://query1.finance.yahoo.com/v7/finance/quote?symbols=";
+    private static final String COOKIE_URL = "https://fc.yahoo.com";
+    private static final String CRUMB_URL = "https://query1.finance.yahoo.com/v1/test/getcrumb";
     private static final String USER_AGENT = "Mozilla/5.0";
 
+    /** Symbols per batched quote request. */
+    public static final int MAX_QUOTE_BATCH = 50;
+
+    /** Daily bars in the longest chart range requested, two years of trading days. */
+    static final int CHART_BARS = 512;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
     private final ObjectMapper objectMapper;
     private final ApiRequestMeteringService meteringService;
-    private final HttpClient yahooHttpClient;
+    private final ProviderHttpTransport transport;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final String quoteUrl;
+    private final String cookieUrl;
+    private final String crumbUrl;
+
+    /** Cookie and crumb of the batched quote endpoint, or null until the first batch. */
+    private volatile CrumbSession crumbSession;
 
     @Autowired
     public YahooFinanceClient(
             ObjectMapper objectMapper,
             ApiRequestMeteringService meteringService,
-            HttpClient yahooHttpClient) {
+            ProviderHttpTransport transport,
+            RateLimiterRegistry rateLimiterRegistry) {
+        this(
+                objectMapper,
+                meteringService,
+                transport,
+                rateLimiterRegistry,
+                QUOTE_URL,
+                COOKIE_URL,
+                CRUMB_URL);
+    }
+
+    YahooFinanceClient(
+            ObjectMapper objectMapper,
+            ApiRequestMeteringService meteringService,
+            ProviderHttpTransport transport,
+            RateLimiterRegistry rateLimiterRegistry,
+            String quoteUrl,
+            String cookieUrl,
+            String crumbUrl) {
         this.objectMapper = objectMapper;
         this.meteringService = meteringService;
-        this.yahooHttpClient = yahooHttpClient;
+        this.transport = transport;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.quoteUrl = quoteUrl;
+        this.cookieUrl = cookieUrl;
+        this.crumbUrl = crumbUrl;
     }
 
     public List<OhlcvRecord> fetchDailyOhlcv(String symbol, int days) {
-        String range = mapDaysToRange(days);
-        String url = BASE_URL + symbol + "?interval=1d&range=" + range;
+        String url = ohlcvUrl(symbol, days);
 
+        rateLimiterRegistry.acquire(ApiProvider.YAHOO);
         meteringService.incrementYahooRequests();
-        String json = executeRequest(symbol, url);
-        return parseResponse(symbol, json);
+        return parseResponse(symbol, executeRequest(symbol, url), expectedBars(days));
     }
 
     public YahooPriceQuote fetchCurrentPrice(String symbol) {
-        String url = BASE_URL + symbol + "?interval=1d&range=1d";
+        String url = quoteUrl(symbol);
+
+        rateLimiterRegistry.acquire(ApiProvider.YAHOO);
+        meteringService.incrementYahooRequests();
+        return parseQuoteFromMeta(symbol, executeRequest(symbol, url));
+    }
+
+    /**
+     * Current quotes for up to {@link #MAX_QUOTE_BATCH} symbols in one request. A symbol the
+     * response leaves out, or prices at zero, is absent from the result so the caller can fall back
+     * to {@link #fetchCurrentPrice} for it. Throws {@link YahooFetchException} when the request
+     * itself fails.
+     *
+     * <p>Unlike the chart endpoint, {@code v7/finance/quote} answers 401 without a session cookie
+     * and the matching crumb. Both are fetched before the first batch and reused until Yahoo
+     * rejects them, then fetched again once for the rejected batch.
+     */
+    public Map<String, YahooPriceQuote> fetchCurrentPrices(List<String> symbols) {
+        if (symbols.isEmpty()) {
+            return Map.of();
+        }
+        if (symbols.size() > MAX_QUOTE_BATCH) {
+            throw new IllegalArgumentException(
+                    "Batch of " + symbols.size() + " exceeds " + MAX_QUOTE_BATCH + " symbols");
+        }
+        String label = String.join(",", symbols);
+
+        CrumbSession session = crumbSession(label);
+        HttpResponse<InputStream> response = sendQuoteRequest(label, session);
+        if (response.statusCode() == 401) {
+            log.info("Yahoo rejected the quote crumb, fetching a new one");
+            discard(response);
+            invalidate(session);
+            response = sendQuoteRequest(label, crumbSession(label));
+        }
+        return parseQuotes(symbols, body(label, response));
+    }
+
+    private HttpResponse<InputStream> sendQuoteRequest(String label, CrumbSession session) {
+        String url =
+                quoteUrl
+                        + label
+                        + "&crumb="
+                        + URLEncoder.encode(session.crumb(), StandardCharsets.UTF_8);
+
+        rateLimiterRegistry.acquire(ApiProvider.YAHOO);
+        meteringService.incrementYahooRequests();
+        return send(label, request(url, session.cookie()));
+    }
+
+    /**
+     * The cached cookie and crumb, or new ones: the cookie comes from the {@code Set-Cookie} of
+     * {@code fc.yahoo.com}, whatever its status, and the crumb is the body of {@code getcrumb}
+     * requested with that cookie. Each costs a metered request.
+     */
+    private synchronized CrumbSession crumbSession(String label) {
+        CrumbSession session = crumbSession;
+        if (session != null) {
+            return session;
+        }
+
+        rateLimiterRegistry.acquire(ApiProvider.YAHOO);
+        meteringService.incrementYahooRequests();
+        HttpResponse<InputStream> cookieResponse = send(label, request(cookieUrl));
+        discard(cookieResponse);
+        String cookie =
+                cookieResponse.headers().allValues("set-cookie").stream()
+                        .map(header -> header.split(";", 2)[0].strip())
+                        .filter(pair -> !pair.isEmpty())
+                        .collect(Collectors.joining("; "));
+        if (cookie.isEmpty()) {
+            throw new YahooFetchException(label, "no session cookie from " + cookieUrl);
+        }
+
+        rateLimiterRegistry.acquire(ApiProvider.YAHOO);
+        meteringService.incrementYahooRequests();
+        String crumb = text(label, body(label, send(label, request(crumbUrl, cookie)))).strip();
+        if (crumb.isEmpty()) {
+            throw new YahooFetchException(label, "empty crumb from " + crumbUrl);
+        }
+
+        session = new CrumbSession(cookie, crumb);
+        crumbSession = session;
+        return session;
+    }
+
+    private synchronized void invalidate(CrumbSession session) {
+        if (crumbSession == session) {
+            crumbSession = null;
+        }
+    }
+
+    /**
+     * Non-blocking {@link #fetchDailyOhlcv}: waits for rate budget on the calling thread, then
+     * returns while the request is in flight. The future fails with {@link YahooFetchException}.
+     */
+    public CompletableFuture<List<OhlcvRecord>> fetchDailyOhlcvAsync(String symbol, int days) {
+        String url = ohlcvUrl(symbol, days);
+
+        rateLimiterRegistry.acquire(ApiProvider.YAHOO);
+        meteringService.incrementYahooRequests();
+        return executeRequestAsync(symbol, url)
+                .thenApply(body -> parseResponse(symbol, body, expectedBars(days)));
+    }
+
+    /** Non-blocking {@link #fetchCurrentPrice}; see {@link #fetchDailyOhlcvAsync}. */
+    public CompletableFuture<YahooPriceQuote> fetchCurrentPriceAsync(String symbol) {
+        String url = quoteUrl(symbol);
 
+        rateLimiterRegistry.acquire(ApiProvider.YAHOO);
         meteringService.incrementYahooRequests();
-        String json = executeRequest(symbol, url);
-        return parseQuoteFromMeta(symbol, json);
+        return executeRequestAsync(symbol, url).thenApply(body -> parseQuoteFromMeta(symbol, body));
     }
 
-    YahooPriceQuote parseQuoteFromMeta(String symbol, String json) {
+    private String ohlcvUrl(String symbol, int days) {
+        return BASE_URL + symbol + "?interval=1d&range=" + mapDaysToRange(days);
+    }
+
+    private static String quoteUrl(String symbol) {
+        return BASE_URL + symbol + "?interval=1d&range=1d";
+    }
+
+    YahooPriceQuote parseQuoteFromMeta(String symbol, InputStream body) {
         try {
-            JsonNode root = objectMapper.readTree(json);
+            JsonNode root = objectMapper.readTree(body);
 
             JsonNode error = root.path("chart").path("error");
             if (!error.isNull() && !error.isMissingNode()) {
@@ -88,11 +257,6 @@ public class YahooFinanceClient {
                         symbol, "invalid regularMarketPrice: " + currentPrice);
             }
 
-            double changePercent = 0;
-            if (previousClose > 0) {
-                changePercent = ((currentPrice - previousClose) / previousClose) * 100;
-            }
-
             return new YahooPriceQuote(
                     symbol,
                     currentPrice,
@@ -100,7 +264,7 @@ public class YahooFinanceClient {
                     dailyOpen,
                     dailyHigh,
                     dailyLow,
-                    changePercent,
+                    changePercent(currentPrice, previousClose),
                     timestamp);
         } catch (YahooFetchException e) {
             throw e;
@@ -109,6 +273,67 @@ public class YahooFinanceClient {
         }
     }
 
+    /** Maps a {@code v7/finance/quote} response to quotes keyed by the requested symbols. */
+    Map<String, YahooPriceQuote> parseQuotes(List<String> symbols, InputStream body) {
+        String label = String.join(",", symbols);
+        try {
+            JsonNode response = objectMapper.readTree(body).path("quoteResponse");
+
+            JsonNode error = response.path("error");
+            if (!error.isNull() && !error.isMissingNode()) {
+                throw new YahooFetchException(
+                        label, "API error: " + error.path("description").asText("unknown"));
+            }
+
+            JsonNode result = response.path("result");
+            if (!result.isArray()) {
+                throw new YahooFetchException(label, "no result in response");
+            }
+
+            Set<String> requested = Set.copyOf(symbols);
+            Map<String, YahooPriceQuote> quotes = new LinkedHashMap<>();
+            for (JsonNode entry : result) {
+                String symbol = entry.path("symbol").asText(null);
+                double currentPrice = entry.path("regularMarketPrice").asDouble(0);
+                if (symbol == null || !requested.contains(symbol)) {
+                    continue;
+                }
+                if (currentPrice <= 0) {
+                    log.debug("Yahoo batch quote for {} has no price, skipping", symbol);
+                    continue;
+                }
+
+                double previousClose = entry.path("regularMarketPreviousClose").asDouble(0);
+                JsonNode changePercent = entry.path("regularMarketChangePercent");
+                quotes.put(
+                        symbol,
+                        new YahooPriceQuote(
+                                symbol,
+                                currentPrice,
+                                previousClose,
+                                entry.path("regularMarketOpen").asDouble(0),
+                                entry.path("regularMarketDayHigh").asDouble(0),
+                                entry.path("regularMarketDayLow").asDouble(0),
+                                changePercent.isNumber()
+                                        ? changePercent.asDouble()
+                                        : changePercent(currentPrice, previousClose),
+                                entry.path("regularMarketTime").asLong(0)));
+            }
+            return quotes;
+        } catch (YahooFetchException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new YahooFetchException(label, "JSON parse error: " + e.getMessage());
+        }
+    }
+
+    private static double changePercent(double currentPrice, double previousClose) {
+        if (previousClose <= 0) {
+            return 0;
+        }
+        return ((currentPrice - previousClose) / previousClose) * 100;
+    }
+
     /**
      * HTTP transport via {@link java.net.http.HttpClient}. On non-2xx, the exception message
      * includes status code, full response headers, and full response body so failure forensics are
@@ -120,118 +345,341 @@ public class YahooFinanceClient {
      * SSL/TLS-related failures observed, disproving the original "Yahoo blocks Java HTTP clients
      * via TLS fingerprinting" hypothesis. The legacy ProcessBuilder + curl path was removed in
      * #457.
+     *
+     * <p>Requests go through the shared provider transport, so quote calls reuse pooled connections
+     * and responses come gzip-encoded when compression is enabled.
      */
     @Generated
-    String executeRequest(String symbol, String url) {
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header("User-Agent", USER_AGENT)
-                        .timeout(REQUEST_TIMEOUT)
-                        .GET()
-                        .build();
+    InputStream executeRequest(String symbol, String url) {
+        return body(symbol, send(symbol, request(url)));
+    }
+
+    private HttpResponse<InputStream> send(String symbol, HttpRequest request) {
         try {
-            HttpResponse<String> response =
-                    yahooHttpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() != 200) {
-                throw new YahooFetchException(
-                        symbol,
-                        "HTTP "
-                                + response.statusCode()
-                                + " headers="
-                                + response.headers().map()
-                                + " body="
-                                + response.body());
-            }
-            return response.body();
-        } catch (YahooFetchException e) {
-            throw e;
-        } catch (HttpTimeoutException _) {
-            throw new YahooFetchException(symbol, "request timed out after 15 seconds");
-        } catch (IOException e) {
-            throw new YahooFetchException(
-                    symbol, "I/O error: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+            return transport.send(request);
+        } catch (IOException | UncheckedIOException e) {
+            throw transportFailure(symbol, request, e);
         } catch (InterruptedException _) {
             Thread.currentThread().interrupt();
             throw new YahooFetchException(symbol, "interrupted");
         }
     }
 
-    List<OhlcvRecord> parseResponse(String symbol, String json) {
+    CompletableFuture<InputStream> executeRequestAsync(String symbol, String url) {
+        HttpRequest request = request(url);
+        return transport
+                .sendAsync(request)
+                .handle(
+                        (response, failure) -> {
+                            if (failure == null) {
+                                return body(symbol, response);
+                            }
+                            Throwable cause =
+                                    failure instanceof CompletionException
+                                            ? failure.getCause()
+                                            : failure;
+                            throw cause instanceof YahooFetchException fetchException
+                                    ? fetchException
+                                    : transportFailure(symbol, request, cause);
+                        });
+    }
+
+    private HttpRequest request(String url) {
+        return transport.get(ApiProvider.YAHOO, url, Map.of("User-Agent", USER_AGENT));
+    }
+
+    private HttpRequest request(String url, String cookie) {
+        return transport.get(
+                ApiProvider.YAHOO, url, Map.of("User-Agent", USER_AGENT, "Cookie", cookie));
+    }
+
+    private static InputStream body(String symbol, HttpResponse<InputStream> response) {
+        if (response.statusCode() != 200) {
+            throw new YahooFetchException(
+                    symbol,
+                    "HTTP "
+                            + response.statusCode()
+                            + " headers="
+                            + response.headers().map()
+                            + " body="
+                            + text(symbol, response.body()));
+        }
+        return response.body();
+    }
+
+    /** Reads a short body, a crumb or an error page, to its end. */
+    private static String text(String symbol, InputStream body) {
+        try (body) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new YahooFetchException(
+                    symbol, "I/O error: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    /** Closes a body nothing is read from, so its connection goes back to the pool. */
+    private static void discard(HttpResponse<InputStream> response) {
         try {
-            JsonNode root = objectMapper.readTree(json);
+            response.body().close();
+        } catch (IOException _) {
+            // The connection is dropped instead of reused
+        }
+    }
 
-            JsonNode error = root.path("chart").path("error");
-            if (!error.isNull() && !error.isMissingNode()) {
-                throw new YahooFetchException(
-                        symbol, "API error: " + error.path("description").asText("unknown"));
+    static YahooFetchException transportFailure(
+            String symbol, HttpRequest request, Throwable failure) {
+        if (failure instanceof HttpTimeoutException) {
+            long timeoutMs = request.timeout().map(Duration::toMillis).orElse(0L);
+            return new YahooFetchException(symbol, "request timed out after " + timeoutMs + "ms");
+        }
+        return new YahooFetchException(
+                symbol,
+                "I/O error: " + failure.getClass().getSimpleName() + ": " + failure.getMessage());
+    }
+
+    List<OhlcvRecord> parseResponse(String symbol, InputStream body) {
+        return parseResponse(symbol, body, CHART_BARS);
+    }
+
+    /**
+     * Streams a chart response into an {@link OhlcvSeries} as it arrives, without buffering the
+     * body or building a JSON tree. Yahoo sends {@code timestamp} and the quote arrays as parallel
+     * columns in no fixed order, so each is read into a primitive buffer sized for {@code
+     * expectedBars} and the rows are joined at the end. Rows with a null in any field are skipped.
+     */
+    List<OhlcvRecord> parseResponse(String symbol, InputStream body, int expectedBars) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            Chart chart = new Chart(expectedBars);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new YahooFetchException(symbol, "no result in response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("chart".equals(name) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    readChart(parser, symbol, chart);
+                } else {
+                    parser.skipChildren();
+                }
             }
 
-            JsonNode result = root.path("chart").path("result");
-            if (!result.isArray() || result.isEmpty()) {
+            if (!chart.hasResult) {
                 throw new YahooFetchException(symbol, "no result in response");
             }
+            if (chart.timestamps == null || !chart.hasQuote) {
+                throw new YahooFetchException(symbol, "missing timestamp or quote data");
+            }
+            OhlcvSeries series = chart.toSeries(symbol);
+            log.debug("Parsed {} OHLCV records for {} from Yahoo Finance", series.size(), symbol);
+            return series;
 
-            JsonNode firstResult = result.get(0);
-            String timezone = firstResult.path("meta").path("exchangeTimezoneName").asText("UTC");
-            ZoneId zoneId = ZoneId.of(timezone);
+        } catch (YahooFetchException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new YahooFetchException(symbol, "JSON parse error: " + e.getMessage());
+        }
+    }
 
-            JsonNode timestamps = firstResult.path("timestamp");
-            JsonNode indicators = firstResult.path("indicators").path("quote");
-            if (!timestamps.isArray() || !indicators.isArray() || indicators.isEmpty()) {
-                throw new YahooFetchException(symbol, "missing timestamp or quote data");
+    /** Reads {@code chart.error} and the first entry of {@code chart.result}. */
+    private static void readChart(JsonParser parser, String symbol, Chart chart)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("error".equals(name) && token != JsonToken.VALUE_NULL) {
+                String description =
+                        token == JsonToken.START_OBJECT ? errorDescription(parser) : "unknown";
+                throw new YahooFetchException(symbol, "API error: " + description);
+            } else if ("result".equals(name) && token == JsonToken.START_ARRAY) {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    chart.hasResult = true;
+                    readResult(parser, chart);
+                }
+                while (parser.currentToken() != JsonToken.END_ARRAY) {
+                    parser.skipChildren();
+                    parser.nextToken();
+                }
+            } else {
+                parser.skipChildren();
             }
+        }
+    }
 
-            JsonNode quote = indicators.get(0);
-            JsonNode opens = quote.path("open");
-            JsonNode highs = quote.path("high");
-            JsonNode lows = quote.path("low");
-            JsonNode closes = quote.path("close");
-            JsonNode volumes = quote.path("volume");
-
-            List<OhlcvRecord> records = new ArrayList<>();
-            for (int i = 0; i < timestamps.size(); i++) {
-                JsonNode openNode = opens.get(i);
-                JsonNode highNode = highs.get(i);
-                JsonNode lowNode = lows.get(i);
-                JsonNode closeNode = closes.get(i);
-                JsonNode volumeNode = volumes.get(i);
-
-                if (openNode == null
-                        || openNode.isNull()
-                        || highNode == null
-                        || highNode.isNull()
-                        || lowNode == null
-                        || lowNode.isNull()
-                        || closeNode == null
-                        || closeNode.isNull()
-                        || volumeNode == null
-                        || volumeNode.isNull()) {
-                    continue;
+    private static String errorDescription(JsonParser parser) throws IOException {
+        String description = "unknown";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("description".equals(name) && parser.currentToken().isScalarValue()) {
+                description = parser.getValueAsString(description);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return description;
+    }
+
+    private static void readResult(JsonParser parser, Chart chart) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "meta" -> chart.timezone = readTimezone(parser);
+                case "timestamp" -> chart.timestamps = readColumn(parser, chart.expectedBars);
+                case "indicators" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        readIndicators(parser, chart);
+                    } else {
+                        parser.skipChildren();
+                    }
                 }
+                default -> parser.skipChildren();
+            }
+        }
+    }
 
-                long epochSeconds = timestamps.get(i).asLong();
-                LocalDate date = Instant.ofEpochSecond(epochSeconds).atZone(zoneId).toLocalDate();
+    private static String readTimezone(JsonParser parser) throws IOException {
+        String timezone = "UTC";
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return timezone;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("exchangeTimezoneName".equals(name) && parser.currentToken().isScalarValue()) {
+                timezone = parser.getValueAsString(timezone);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return timezone;
+    }
 
-                records.add(
-                        new OhlcvRecord(
-                                symbol,
-                                date,
-                                openNode.asDouble(),
-                                highNode.asDouble(),
-                                lowNode.asDouble(),
-                                closeNode.asDouble(),
-                                volumeNode.asLong()));
+    /** Reads the first entry of {@code indicators.quote}. */
+    private static void readIndicators(JsonParser parser, Chart chart) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"quote".equals(name) || token != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
             }
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                chart.hasQuote = true;
+                readQuote(parser, chart);
+            }
+            while (parser.currentToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+                parser.nextToken();
+            }
+        }
+    }
 
-            log.debug("Parsed {} OHLCV records for {} from Yahoo Finance", records.size(), symbol);
-            return records;
+    private static void readQuote(JsonParser parser, Chart chart) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "open" -> chart.opens = readColumn(parser, chart.expectedBars);
+                case "high" -> chart.highs = readColumn(parser, chart.expectedBars);
+                case "low" -> chart.lows = readColumn(parser, chart.expectedBars);
+                case "close" -> chart.closes = readColumn(parser, chart.expectedBars);
+                case "volume" -> chart.volumes = readColumn(parser, chart.expectedBars);
+                default -> parser.skipChildren();
+            }
+        }
+    }
 
-        } catch (YahooFetchException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new YahooFetchException(symbol, "JSON parse error: " + e.getMessage());
+    /**
+     * A numeric array as doubles, {@code NaN} standing in for null. Timestamps and volumes fit a
+     * double exactly, so one buffer type covers every column.
+     */
+    private static Column readColumn(JsonParser parser, int expectedBars) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        double[] values = new double[Math.max(expectedBars, 1)];
+        int length = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (length == values.length) {
+                values = Arrays.copyOf(values, length * 2);
+            }
+            values[length++] =
+                    parser.currentToken().isNumeric() ? parser.getDoubleValue() : Double.NaN;
+            parser.skipChildren();
+        }
+        return new Column(values, length);
+    }
+
+    private record CrumbSession(String cookie, String crumb) {}
+
+    private record Column(double[] values, int length) {
+
+        /** The value at {@code index}, {@code NaN} if null or past the end. */
+        double get(int index) {
+            return index < length ? values[index] : Double.NaN;
+        }
+    }
+
+    /** What a chart response has yielded so far. */
+    private static final class Chart {
+
+        private final int expectedBars;
+        private boolean hasResult;
+        private boolean hasQuote;
+        private String timezone = "UTC";
+        private Column timestamps;
+        private Column opens;
+        private Column highs;
+        private Column lows;
+        private Column closes;
+        private Column volumes;
+
+        private Chart(int expectedBars) {
+            this.expectedBars = expectedBars;
         }
+
+        OhlcvSeries toSeries(String symbol) {
+            OhlcvSeries series = new OhlcvSeries(symbol, timestamps.length());
+            if (opens == null
+                    || highs == null
+                    || lows == null
+                    || closes == null
+                    || volumes == null) {
+                return series;
+            }
+            ZoneRules zone = ZoneId.of(timezone).getRules();
+            for (int i = 0; i < timestamps.length(); i++) {
+                double open = opens.get(i);
+                double high = highs.get(i);
+                double low = lows.get(i);
+                double close = closes.get(i);
+                double volume = volumes.get(i);
+                if (Double.isNaN(open)
+                        || Double.isNaN(high)
+                        || Double.isNaN(low)
+                        || Double.isNaN(close)
+                        || Double.isNaN(volume)) {
+                    continue;
+                }
+                long epochSecond = (long) timestamps.get(i);
+                int offset = zone.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+                long epochDay = Math.floorDiv(epochSecond + offset, SECONDS_PER_DAY);
+                series.append(epochDay, open, high, low, close, (long) volume);
+            }
+            return series;
+        }
+    }
+
+    /** Bars the range {@link #mapDaysToRange} picks for {@code days} holds, at most. */
+    static int expectedBars(int days) {
+        return switch (mapDaysToRange(days)) {
+            case "5d" -> 5;
+            case "1mo" -> 23;
+            default -> CHART_BARS;
+        };
     }
 
     static String mapDaysToRange(int days) {
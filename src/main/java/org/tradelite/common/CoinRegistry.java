@@ -0,0 +1,96 @@
+package org.tradelite.common;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.tradelite.repository.TrackedSymbolRepository;
+
+/**
+ * The coins the crypto loop prices: the built-in {@link CoinId} coins plus any added at runtime,
+ * which are stored in {@code tracked_symbols} as {@link AssetType#COIN} rows keyed by their
+ * CoinGecko id.
+ */
+@Slf4j
+@Service
+public class CoinRegistry {
+
+    private final TrackedSymbolRepository trackedSymbolRepository;
+    private volatile List<CoinSymbol> coins;
+
+    @Autowired
+    public CoinRegistry(TrackedSymbolRepository trackedSymbolRepository) {
+        this.trackedSymbolRepository = trackedSymbolRepository;
+        this.coins = loadCoins(trackedSymbolRepository);
+    }
+
+    /** Built-in coins first, then tracked ones by id. */
+    public List<CoinSymbol> getAll() {
+        return coins;
+    }
+
+    public Optional<CoinSymbol> fromString(String id) {
+        if (id == null || id.isEmpty()) {
+            return Optional.empty();
+        }
+        return coins.stream().filter(coin -> coin.id().equalsIgnoreCase(id)).findFirst();
+    }
+
+    public boolean isBuiltIn(String id) {
+        return CoinId.fromString(id).isPresent();
+    }
+
+    /** Tracks {@code id}. Returns false when the coin is already known. */
+    public boolean addCoin(String id, String displayName) {
+        if (id == null || id.isBlank() || displayName == null || displayName.isBlank()) {
+            return false;
+        }
+        if (fromString(id).isPresent()) {
+            log.warn("Coin {} already tracked", id);
+            return false;
+        }
+        trackedSymbolRepository.save(id.toLowerCase(Locale.ROOT), displayName, AssetType.COIN);
+        reload();
+        log.info("Added coin: {} ({})", id, displayName);
+        return true;
+    }
+
+    /** Stops tracking a coin added at runtime. Built-in coins can't be removed. */
+    public boolean removeCoin(String id) {
+        if (id == null || id.isEmpty() || isBuiltIn(id)) {
+            return false;
+        }
+        boolean removed =
+                trackedSymbolRepository.deleteByTickerAndType(
+                        id.toLowerCase(Locale.ROOT), AssetType.COIN);
+        if (removed) {
+            reload();
+            log.info("Removed coin: {}", id);
+        }
+        return removed;
+    }
+
+    /** Reloads tracked coins from the database. */
+    public void reload() {
+        this.coins = loadCoins(trackedSymbolRepository);
+    }
+
+    private static List<CoinSymbol> loadCoins(TrackedSymbolRepository trackedSymbolRepository) {
+        Map<String, CoinSymbol> byId = new LinkedHashMap<>();
+        for (CoinId coinId : CoinId.getAll()) {
+            byId.put(coinId.getId(), CoinSymbol.of(coinId));
+        }
+        for (SymbolRegistry.StockSymbolEntry entry :
+                trackedSymbolRepository.findByType(AssetType.COIN)) {
+            byId.putIfAbsent(
+                    entry.getTicker(), new CoinSymbol(entry.getTicker(), entry.getDisplayName()));
+        }
+        List<CoinSymbol> coins = List.copyOf(byId.values());
+        log.info("Loaded {} coins ({} built-in)", coins.size(), CoinId.getAll().size());
+        return coins;
+    }
+}
@@ -0,0 +1,27 @@
+package org.tradelite.common;
+
+/**
+ * A coin priced through CoinGecko, identified by its CoinGecko id ({@code "bitcoin"}). Covers both
+ * the built-in {@link CoinId} coins and the ones added at runtime.
+ */
+public record CoinSymbol(String id, String name) implements TickerSymbol {
+
+    public static CoinSymbol of(CoinId coinId) {
+        return new CoinSymbol(coinId.getId(), coinId.getDisplayName());
+    }
+
+    @Override
+    public String getName() {
+        return id;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return name;
+    }
+
+    @Override
+    public SymbolType getSymbolType() {
+        return SymbolType.CRYPTO;
+    }
+}
@@ -0,0 +1,106 @@
+package org.tradelite.common;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Daily bars of one symbol held in primitive columns, as the OHLCV parsers fill them. It reads as
+ * an unmodifiable {@code List<OhlcvRecord>}, but {@link #get} builds each record only when asked;
+ * callers that only need the numbers, like {@code SqliteOhlcvRepository.saveAll}, read the columns
+ * through the per-field accessors instead.
+ */
+public final class OhlcvSeries extends AbstractList<OhlcvRecord> implements RandomAccess {
+
+    private final String symbol;
+    private long[] epochDays;
+    private double[] opens;
+    private double[] highs;
+    private double[] lows;
+    private double[] closes;
+    private long[] volumes;
+    private int size;
+
+    /** An empty series with room for {@code expectedBars} bars before the columns grow. */
+    public OhlcvSeries(String symbol, int expectedBars) {
+        int capacity = Math.max(expectedBars, 1);
+        this.symbol = symbol;
+        this.epochDays = new long[capacity];
+        this.opens = new double[capacity];
+        this.highs = new double[capacity];
+        this.lows = new double[capacity];
+        this.closes = new double[capacity];
+        this.volumes = new long[capacity];
+    }
+
+    public void append(
+            long epochDay, double open, double high, double low, double close, long volume) {
+        if (size == epochDays.length) {
+            grow();
+        }
+        epochDays[size] = epochDay;
+        opens[size] = open;
+        highs[size] = high;
+        lows[size] = low;
+        closes[size] = close;
+        volumes[size] = volume;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = epochDays.length * 2;
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        opens = Arrays.copyOf(opens, capacity);
+        highs = Arrays.copyOf(highs, capacity);
+        lows = Arrays.copyOf(lows, capacity);
+        closes = Arrays.copyOf(closes, capacity);
+        volumes = Arrays.copyOf(volumes, capacity);
+    }
+
+    public String symbol() {
+        return symbol;
+    }
+
+    public LocalDate date(int index) {
+        return LocalDate.ofEpochDay(epochDays[Objects.checkIndex(index, size)]);
+    }
+
+    public double open(int index) {
+        return opens[Objects.checkIndex(index, size)];
+    }
+
+    public double high(int index) {
+        return highs[Objects.checkIndex(index, size)];
+    }
+
+    public double low(int index) {
+        return lows[Objects.checkIndex(index, size)];
+    }
+
+    public double close(int index) {
+        return closes[Objects.checkIndex(index, size)];
+    }
+
+    public long volume(int index) {
+        return volumes[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public OhlcvRecord get(int index) {
+        return new OhlcvRecord(
+                symbol,
+                date(index),
+                opens[index],
+                highs[index],
+                lows[index],
+                closes[index],
+                volumes[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
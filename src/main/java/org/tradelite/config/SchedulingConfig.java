@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.tradelite.scheduling.JobLane;
 
 @Configuration
 @EnableScheduling
@@ -16,10 +17,34 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 public class SchedulingConfig {
 
     @Bean
-    public TaskScheduler taskScheduler() {
+    public TaskScheduler taskScheduler(TradebotSchedulingProperties schedulingProperties) {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(1);
+        scheduler.setPoolSize(poolSize(schedulingProperties));
         scheduler.setThreadNamePrefix("scheduling-");
+        // Running jobs must survive context close; GracefulShutdown drains them.
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
         return scheduler;
     }
+
+    /**
+     * One thread per lane permit so every lane can run at its limit, one more per lane, plus one
+     * for the holiday-retry tasks in {@link org.tradelite.service.MarketStatusService} and one so
+     * the {@link org.tradelite.scheduling.InstanceCoordinator} heartbeat never waits behind busy
+     * lanes.
+     *
+     * <p>A trigger waiting under {@code COALESCE} holds its thread, and every job of the lane can
+     * have one waiting at once ({@code QUEUE} triggers wait without a thread). That still fits:
+     * Spring never starts a scheduled task while its previous execution is running, and manual
+     * runs don't go through the lanes, so a job waits only while it isn't running and a {@code
+     * COALESCE} lane holds at most one thread per job. {@code REALTIME} has three jobs, within its
+     * three permits plus one; a {@code COALESCE} lane with more jobs than that needs a thread
+     * reserved per job here.
+     */
+    public static int poolSize(TradebotSchedulingProperties schedulingProperties) {
+        int size = 2;
+        for (JobLane lane : JobLane.values()) {
+            size += schedulingProperties.maxConcurrent(lane) + 1;
+        }
+        return size;
+    }
 }
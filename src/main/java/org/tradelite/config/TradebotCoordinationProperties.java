@@ -0,0 +1,33 @@
+package org.tradelite.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tradebot.coordination")
+public class TradebotCoordinationProperties {
+
+    /**
+     * Splits the symbol universe across every instance sharing the database. Off by default: a
+     * single instance owns every symbol and leads without touching the lease table.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Stable id of this instance, so a restart takes over its own lease. Blank picks a random id
+     * per process.
+     */
+    private String instanceId = "";
+
+    /** How often the lease is renewed and the shards recomputed. */
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    /**
+     * How long a lease outlives its last renewal. An instance silent for longer is treated as dead
+     * and its shards move to the survivors.
+     */
+    private Duration leaseTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,46 @@
+package org.tradelite.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.tradelite.client.ratelimit.ApiProvider;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tradebot.http")
+public class TradebotHttpProperties {
+
+    /** Time allowed to open a connection, TLS handshake included. */
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /** Time allowed for a response when the host has no per-provider entry. */
+    private Duration readTimeout = Duration.ofSeconds(20);
+
+    /**
+     * Per-provider response timeouts, matched on the provider's API host. Hosts that aren't a
+     * provider (Telegram, Enrico, Finviz) use {@link #readTimeout}.
+     */
+    private Map<ApiProvider, Duration> readTimeouts = new EnumMap<>(ApiProvider.class);
+
+    /** Ask for gzip/deflate-encoded responses and decode them transparently. */
+    private boolean compression = true;
+
+    /**
+     * How many quote requests a price evaluator keeps in flight at once. Each still waits for rate
+     * budget before it is sent; this only stops round trips from adding up one after another.
+     */
+    private int maxInFlight = 8;
+
+    public TradebotHttpProperties() {
+        readTimeouts.put(ApiProvider.TWELVEDATA, Duration.ofSeconds(30));
+        readTimeouts.put(ApiProvider.YAHOO, Duration.ofSeconds(15));
+        readTimeouts.put(ApiProvider.FINNHUB, Duration.ofSeconds(10));
+    }
+
+    public Duration readTimeout(ApiProvider provider) {
+        return readTimeouts.getOrDefault(provider, readTimeout);
+    }
+}
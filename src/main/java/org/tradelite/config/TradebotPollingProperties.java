@@ -0,0 +1,22 @@
+package org.tradelite.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tradebot.polling")
+public class TradebotPollingProperties {
+
+    /** Cadence for quiet symbols far from any target. */
+    private Duration maxCadence = Duration.ofMinutes(15);
+
+    /**
+     * Finnhub quotes per polling cycle. Stays below the 60/minute budget so the sector trackers and
+     * Telegram commands sharing the key aren't starved; symbols beyond it roll over to the next
+     * cycle, most overdue first.
+     */
+    private int maxPollsPerCycle = 40;
+}
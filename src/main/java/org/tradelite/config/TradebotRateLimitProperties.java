@@ -0,0 +1,28 @@
+package org.tradelite.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.tradelite.client.ratelimit.ApiProvider;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tradebot.rate-limits")
+public class TradebotRateLimitProperties {
+
+    /**
+     * Per-provider overrides. Providers without an entry use the defaults declared on {@link
+     * ApiProvider}.
+     */
+    private Map<ApiProvider, Integer> requestsPerMinute = new EnumMap<>(ApiProvider.class);
+
+    public int requestsPerMinute(ApiProvider provider) {
+        Integer override = requestsPerMinute.get(provider);
+        if (override == null) {
+            return provider.getDefaultRequestsPerMinute();
+        }
+        return Math.max(1, override);
+    }
+}
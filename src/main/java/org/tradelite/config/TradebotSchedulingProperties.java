@@ -0,0 +1,70 @@
+package org.tradelite.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.tradelite.scheduling.JobLane;
+import org.tradelite.scheduling.OverlapPolicy;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tradebot.scheduling")
+public class TradebotSchedulingProperties {
+
+    private boolean enabled = true;
+
+    /** Upper bound on concurrent per-symbol tasks in tracker loops. {@code 1} runs sequentially. */
+    private int fanOutParallelism = 8;
+
+    /** How long {@code job_runs} ledger rows are kept before periodic maintenance prunes them. */
+    private int jobRunRetentionDays = 90;
+
+    /**
+     * Per-job run budgets, by job name. Scheduled jobs without an entry must finish before their
+     * next fire; {@code 0} removes the deadline.
+     */
+    private Map<String, Duration> jobDeadlines = new HashMap<>();
+
+    /**
+     * How long a successful run answers later triggers of the same job when a manual trigger is
+     * involved, e.g. a manual OHLCV fetch right after the nightly one. {@code 0} only coalesces
+     * triggers that overlap an active run.
+     */
+    private Duration coalesceWindow = Duration.ofMinutes(5);
+
+    /**
+     * How long shutdown waits for running jobs to finish before cancelling them. Keep it below
+     * {@code spring.lifecycle.timeout-per-shutdown-phase} and the deployment's stop timeout.
+     */
+    private Duration shutdownDrainTimeout = Duration.ofSeconds(25);
+
+    /** Per-lane overrides. Lanes without an entry use the defaults declared on {@link JobLane}. */
+    private Map<JobLane, LaneSettings> lanes = new EnumMap<>(JobLane.class);
+
+    public int maxConcurrent(JobLane lane) {
+        LaneSettings settings = lanes.get(lane);
+        if (settings == null || settings.getMaxConcurrent() == null) {
+            return lane.getDefaultMaxConcurrent();
+        }
+        return Math.max(1, settings.getMaxConcurrent());
+    }
+
+    public OverlapPolicy policy(JobLane lane) {
+        LaneSettings settings = lanes.get(lane);
+        if (settings == null || settings.getPolicy() == null) {
+            return lane.getDefaultPolicy();
+        }
+        return settings.getPolicy();
+    }
+
+    @Getter
+    @Setter
+    public static class LaneSettings {
+        private Integer maxConcurrent;
+        private OverlapPolicy policy;
+    }
+}
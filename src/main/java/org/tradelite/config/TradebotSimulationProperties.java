@@ -0,0 +1,31 @@
+package org.tradelite.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tradebot.simulation")
+public class TradebotSimulationProperties {
+
+    public enum Mode {
+        /** Calls the real providers and stores every response under {@link #recordingsDir}. */
+        RECORD,
+        /** Serves provider responses from {@link #recordingsDir} and replays the job schedule. */
+        REPLAY
+    }
+
+    private Mode mode = Mode.REPLAY;
+
+    /** Simulated instant the replay starts at. Nothing is replayed while unset. */
+    private Instant start;
+
+    /** Simulated time to replay, e.g. {@code 1d} for a trading day or {@code 30d} for a month. */
+    private Duration length = Duration.ofDays(1);
+
+    private Path recordingsDir = Path.of("simulation/recordings");
+}
@@ -0,0 +1,30 @@
+package org.tradelite.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tradebot.streaming")
+public class TradebotStreamingProperties {
+
+    /** Streams Finnhub trades for the domestic universe instead of only polling quotes. */
+    private boolean enabled = false;
+
+    /** Finnhub WebSocket endpoint; the API key is appended as the {@code token} parameter. */
+    private String url = "wss://ws.finnhub.io";
+
+    /** Wait before the first reconnect after the socket drops; doubles with each failed attempt. */
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+
+    /** Upper bound for the reconnect wait. */
+    private Duration maxReconnectDelay = Duration.ofMinutes(1);
+
+    /**
+     * A symbol whose last trade is older than this is polled over REST again. Thinly traded symbols
+     * go quiet on the socket, and polling also refreshes their previous close.
+     */
+    private Duration freshFor = Duration.ofMinutes(2);
+}
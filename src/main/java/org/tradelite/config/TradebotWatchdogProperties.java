@@ -0,0 +1,40 @@
+package org.tradelite.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tradebot.watchdog")
+public class TradebotWatchdogProperties {
+
+    private boolean enabled = true;
+
+    /** How often running jobs are checked. */
+    private Duration checkInterval = Duration.ofSeconds(30);
+
+    /** A run that reports no progress for this long is stuck. {@code 0} disables the check. */
+    private Duration heartbeatTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Per-job expected run durations, by job name. A run still going after this long is stuck. Jobs
+     * without an entry are stuck once they outlive their deadline by {@link #deadlineGrace}.
+     */
+    private Map<String, Duration> expectedDurations = new HashMap<>();
+
+    /** How long a run may outlive its deadline before it counts as stuck. */
+    private Duration deadlineGrace = Duration.ofMinutes(1);
+
+    /** Where thread dumps and JFR recordings of stuck runs are written. */
+    private String dumpDirectory = "data/watchdog";
+
+    /** Length of the JFR recording started when a run is stuck. {@code 0} skips the recording. */
+    private Duration jfrDuration = Duration.ofSeconds(30);
+
+    /** Cancels and interrupts stuck runs instead of only reporting them. */
+    private boolean interrupt = false;
+}
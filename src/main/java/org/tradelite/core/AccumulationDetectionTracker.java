@@ -1,7 +1,6 @@
 package org.tradelite.core;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -21,6 +20,7 @@ import org.tradelite.quant.TrendDirection;
 import org.tradelite.quant.VfiAnalysis;
 import org.tradelite.quant.VfiService;
 import org.tradelite.repository.AccumulationStreakRepository;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.RelativeStrengthService;
 import org.tradelite.service.RsTrendResult;
@@ -42,47 +42,21 @@ public class AccumulationDetectionTracker {
     private final SymbolRegistry symbolRegistry;
     private final FeatureToggleService featureToggleService;
     private final AccumulationStreakRepository accumulationStreakRepository;
+    private final SymbolFanOut symbolFanOut;
 
     public void analyzeAndSendAlerts() {
         if (!featureToggleService.isEnabled(FeatureToggle.ACCUMULATION_DETECTION)) {
             return;
         }
 
-        List<AccumulationSignal> signals = new ArrayList<>();
-
-        for (StockSymbol stock : symbolRegistry.getStocks()) {
-            if (RelativeStrengthService.BENCHMARK_SYMBOL.equals(stock.getTicker())) {
-                continue;
-            }
-
-            Optional<EmaAnalysis> emaOpt =
-                    emaService.analyze(stock.getTicker(), stock.getCompanyName());
-            if (emaOpt.isEmpty()) {
-                log.warn("Accumulation skip: {} — EMA analysis returned empty", stock.getTicker());
-                continue;
-            }
-
-            Optional<VfiAnalysis> vfiOpt =
-                    vfiService.analyze(stock.getTicker(), stock.getCompanyName());
-            if (vfiOpt.isEmpty()) {
-                log.warn("Accumulation skip: {} — VFI analysis returned empty", stock.getTicker());
-                continue;
-            }
-
-            // RS is informational — null-safe if unavailable
-            RsTrendResult rsTrend =
-                    relativeStrengthService.getRsTrend(stock.getTicker()).orElse(null);
-
-            Optional<AccumulationSignal> signal =
-                    accumulationDetectionService.evaluate(
-                            stock.getTicker(),
-                            stock.getCompanyName(),
-                            emaOpt.get(),
-                            vfiOpt.get(),
-                            rsTrend);
-
-            signal.ifPresent(signals::add);
-        }
+        List<StockSymbol> stocks =
+                symbolRegistry.getStocks().stream()
+                        .filter(
+                                stock ->
+                                        !RelativeStrengthService.BENCHMARK_SYMBOL.equals(
+                                                stock.getTicker()))
+                        .toList();
+        List<AccumulationSignal> signals = symbolFanOut.map(stocks, this::evaluateStock);
 
         Map<String, Integer> streakDays = updateStreaks(signals);
 
@@ -93,6 +67,28 @@ public class AccumulationDetectionTracker {
         }
     }
 
+    private Optional<AccumulationSignal> evaluateStock(StockSymbol stock) {
+        Optional<EmaAnalysis> emaOpt =
+                emaService.analyze(stock.getTicker(), stock.getCompanyName());
+        if (emaOpt.isEmpty()) {
+            log.warn("Accumulation skip: {} — EMA analysis returned empty", stock.getTicker());
+            return Optional.empty();
+        }
+
+        Optional<VfiAnalysis> vfiOpt =
+                vfiService.analyze(stock.getTicker(), stock.getCompanyName());
+        if (vfiOpt.isEmpty()) {
+            log.warn("Accumulation skip: {} — VFI analysis returned empty", stock.getTicker());
+            return Optional.empty();
+        }
+
+        // RS is informational — null-safe if unavailable
+        RsTrendResult rsTrend = relativeStrengthService.getRsTrend(stock.getTicker()).orElse(null);
+
+        return accumulationDetectionService.evaluate(
+                stock.getTicker(), stock.getCompanyName(), emaOpt.get(), vfiOpt.get(), rsTrend);
+    }
+
     Map<String, Integer> updateStreaks(List<AccumulationSignal> signals) {
         LocalDate today = LocalDate.now();
         Set<String> signalingSymbols = new HashSet<>();
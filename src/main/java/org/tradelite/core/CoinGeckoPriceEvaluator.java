@@ -7,9 +7,13 @@ import org.springframework.stereotype.Component;
 import org.tradelite.client.coingecko.CoinGeckoClient;
 import org.tradelite.client.coingecko.dto.CoinGeckoPriceResponse;
 import org.tradelite.client.telegram.TelegramGateway;
-import org.tradelite.common.CoinId;
+import org.tradelite.common.CoinRegistry;
+import org.tradelite.common.CoinSymbol;
 import org.tradelite.common.TargetPrice;
 import org.tradelite.common.TargetPriceProvider;
+import org.tradelite.common.TickerSymbol;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.JobRunContext;
 import org.tradelite.web.dashboard.DashboardEventPublisher;
 
 @Component
@@ -18,49 +22,69 @@ public class CoinGeckoPriceEvaluator extends BasePriceEvaluator {
     private final CoinGeckoClient coinGeckoClient;
     private final TargetPriceProvider targetPriceProvider;
     private final TelegramGateway telegramClient;
+    private final InstanceCoordinator instanceCoordinator;
+    private final CoinRegistry coinRegistry;
 
-    @Getter protected final Map<CoinId, Double> lastPriceCache = new EnumMap<>(CoinId.class);
+    /** Last seen USD price per CoinGecko id. */
+    @Getter protected final Map<String, Double> lastPriceCache = new HashMap<>();
 
     @Autowired
     public CoinGeckoPriceEvaluator(
             CoinGeckoClient coinGeckoClient,
             TargetPriceProvider targetPriceProvider,
             TelegramGateway telegramClient,
-            DashboardEventPublisher dashboardEventPublisher) {
+            DashboardEventPublisher dashboardEventPublisher,
+            InstanceCoordinator instanceCoordinator,
+            CoinRegistry coinRegistry) {
         super(telegramClient, targetPriceProvider, dashboardEventPublisher);
         this.coinGeckoClient = coinGeckoClient;
         this.targetPriceProvider = targetPriceProvider;
         this.telegramClient = telegramClient;
+        this.instanceCoordinator = instanceCoordinator;
+        this.coinRegistry = coinRegistry;
     }
 
+    /**
+     * Prices every owned coin with a single CoinGecko request, so a cycle costs one request no
+     * matter how many coins are tracked.
+     */
     @Override
     public int evaluatePrice() throws InterruptedException {
 
-        List<CoinId> coinIds = CoinId.getAll();
+        List<CoinSymbol> coins =
+                coinRegistry.getAll().stream()
+                        .filter(coin -> instanceCoordinator.owns(coin.id()))
+                        .toList();
+        if (coins.isEmpty()) {
+            return 0;
+        }
+        Map<String, CoinGeckoPriceResponse.CoinData> prices =
+                coinGeckoClient.getCoinPrices(coins.stream().map(CoinSymbol::id).toList());
+        JobRunContext.recordSymbolsProcessed(coins.size());
+
         List<CoinGeckoPriceResponse.CoinData> coinData = new ArrayList<>();
         List<TargetPrice> targetPrices = targetPriceProvider.getCoinTargetPrices();
 
-        for (CoinId coinId : coinIds) {
-            CoinGeckoPriceResponse.CoinData priceData = coinGeckoClient.getCoinPriceData(coinId);
-
+        for (CoinSymbol coin : coins) {
+            CoinGeckoPriceResponse.CoinData priceData = prices.get(coin.id());
             if (priceData == null || priceData.getUsd() == null) {
                 continue;
             }
+            priceData.setCoinId(coin);
 
-            Double lastPrice = lastPriceCache.get(coinId);
+            Double lastPrice = lastPriceCache.get(coin.id());
             if (lastPrice != null && Math.abs(lastPrice - priceData.getUsd()) < 0.0001) {
                 continue;
             }
-            lastPriceCache.put(coinId, priceData.getUsd());
+            lastPriceCache.put(coin.id(), priceData.getUsd());
 
             coinData.add(priceData);
-            Thread.sleep(100);
         }
 
         for (CoinGeckoPriceResponse.CoinData priceData : coinData) {
             evaluateHighPriceChange(priceData);
             for (TargetPrice targetPrice : targetPrices) {
-                if (priceData.getCoinId().getId().equalsIgnoreCase(targetPrice.getSymbol())) {
+                if (priceData.getCoinId().getName().equalsIgnoreCase(targetPrice.getSymbol())) {
                     comparePrices(
                             priceData.getCoinId(),
                             priceData.getUsd(),
@@ -74,7 +98,7 @@ public class CoinGeckoPriceEvaluator extends BasePriceEvaluator {
     }
 
     public void evaluateHighPriceChange(CoinGeckoPriceResponse.CoinData priceData) {
-        CoinId coinId = priceData.getCoinId();
+        TickerSymbol coinId = priceData.getCoinId();
         Double percentChange = priceData.getUsd_24h_change();
         if (percentChange == null) {
             return;
@@ -94,7 +118,7 @@ public class CoinGeckoPriceEvaluator extends BasePriceEvaluator {
             telegramClient.sendMessage(
                     emoji
                             + " "
-                            + coinId.getId()
+                            + coinId.getName()
                             + ": "
                             + String.format("%.2f", percentChange)
                             + "%");
@@ -1,10 +1,15 @@
 package org.tradelite.core;
 
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.tradelite.client.finnhub.FinnhubClient;
+import org.tradelite.client.finnhub.FinnhubTradeStream;
 import org.tradelite.client.finnhub.dto.PriceQuoteResponse;
 import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.FeatureToggle;
@@ -12,7 +17,10 @@ import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
 import org.tradelite.common.TargetPrice;
 import org.tradelite.common.TargetPriceProvider;
+import org.tradelite.config.TradebotHttpProperties;
 import org.tradelite.repository.PriceQuoteRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.JobRunContext;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.LivePriceCache;
 import org.tradelite.service.MarketStatusService;
@@ -29,6 +37,19 @@ public class FinnhubPriceEvaluator extends BasePriceEvaluator {
     private final FeatureToggleService featureToggleService;
     private final MarketStatusService marketStatusService;
     private final LivePriceCache livePriceCache;
+    private final SymbolPollingPlanner pollingPlanner;
+    private final InstanceCoordinator instanceCoordinator;
+    private final TradebotHttpProperties httpProperties;
+    private final FinnhubTradeStream tradeStream;
+
+    /**
+     * Last REST quote per symbol, with the session it was quoted in: its previous close is the base
+     * for streamed change alerts, and only valid during that session.
+     */
+    private final Map<String, SessionQuote> sessionQuotes = new ConcurrentHashMap<>();
+
+    /** Target prices as of the last cycle, for evaluating streamed trades without a lookup. */
+    private volatile Map<String, TargetPrice> streamTargets = Map.of();
 
     @Autowired
     public FinnhubPriceEvaluator(
@@ -40,7 +61,11 @@ public class FinnhubPriceEvaluator extends BasePriceEvaluator {
             FeatureToggleService featureToggleService,
             MarketStatusService marketStatusService,
             LivePriceCache livePriceCache,
-            DashboardEventPublisher dashboardEventPublisher) {
+            DashboardEventPublisher dashboardEventPublisher,
+            SymbolPollingPlanner pollingPlanner,
+            InstanceCoordinator instanceCoordinator,
+            TradebotHttpProperties httpProperties,
+            FinnhubTradeStream tradeStream) {
         super(telegramClient, targetPriceProvider, dashboardEventPublisher);
         this.finnhubClient = finnhubClient;
         this.targetPriceProvider = targetPriceProvider;
@@ -49,65 +74,214 @@ public class FinnhubPriceEvaluator extends BasePriceEvaluator {
         this.featureToggleService = featureToggleService;
         this.marketStatusService = marketStatusService;
         this.livePriceCache = livePriceCache;
+        this.pollingPlanner = pollingPlanner;
+        this.instanceCoordinator = instanceCoordinator;
+        this.httpProperties = httpProperties;
+        this.tradeStream = tradeStream;
     }
 
     @SuppressWarnings("java:S135") // allow multiple continue in for-loop
     public int evaluatePrice() throws InterruptedException {
-        int updatedCount = 0;
-
-        // Loop 1: Fetch & cache prices for ALL symbols (stocks + ETFs)
-        for (StockSymbol symbol : symbolRegistry.getAll()) {
-            if (symbolRegistry.isInternationalSymbol(symbol.getTicker())) {
-                continue;
-            }
-            PriceQuoteResponse priceQuote = finnhubClient.getPriceQuote(symbol);
-            // Rate limit: Finnhub has 60 requests/minute limit, sleep after EVERY API call
-            Thread.sleep(1100);
-
-            Double lastPrice = livePriceCache.get(symbol.getTicker());
-            if (priceQuote == null
-                    || (lastPrice != null
-                            && Math.abs(lastPrice - priceQuote.getCurrentPrice()) < 0.0001)) {
-                continue;
-            }
-            livePriceCache.put(symbol.getTicker(), priceQuote.getCurrentPrice());
+        AtomicInteger updatedCount = new AtomicInteger();
+        List<TargetPrice> targetPrices = targetPriceProvider.getStockTargetPrices();
+        Map<String, TargetPrice> targetsBySymbol = new HashMap<>();
+        targetPrices.forEach(target -> targetsBySymbol.putIfAbsent(target.getSymbol(), target));
 
-            // Persist price quote to SQLite for historical data collection (if enabled)
-            if (featureToggleService.isEnabled(FeatureToggle.FINNHUB_PRICE_COLLECTION)
-                    && marketStatusService.isMarketOpen(null)) {
-                priceQuoteRepository.save(priceQuote);
+        // Loop 1: Fetch & cache prices for the symbols (stocks + ETFs) due this cycle, with
+        // several quote requests in flight at once. Symbols the trade stream keeps fresh are
+        // evaluated per trade in onTrade and skip the poll.
+        List<StockSymbol> domesticSymbols =
+                symbolRegistry.getAll().stream()
+                        .filter(symbol -> !symbolRegistry.isInternationalSymbol(symbol.getTicker()))
+                        .filter(symbol -> instanceCoordinator.owns(symbol.getTicker()))
+                        .toList();
+        List<StockSymbol> polledSymbols = domesticSymbols;
+        if (tradeStream.isEnabled()) {
+            streamTargets = targetsBySymbol;
+            tradeStream.subscribe(domesticSymbols.stream().map(StockSymbol::getTicker).toList());
+            tradeStream.start(this::onTrade);
+            LocalDate session = marketStatusService.currentSessionDate();
+            Map<Boolean, List<StockSymbol>> byPolling =
+                    domesticSymbols.stream()
+                            .collect(
+                                    Collectors.partitioningBy(
+                                            symbol -> needsPolling(symbol, session)));
+            polledSymbols = byPolling.get(true);
+            // Streamed symbols skip the poll; their range history and stored quotes get one
+            // sample per cycle
+            for (StockSymbol symbol : byPolling.get(false)) {
+                livePriceCache.sampleHistory(symbol.getTicker());
+                collectStreamedQuote(symbol, session);
             }
-
-            evaluateHighPriceChange(priceQuote);
-            updatedCount++;
         }
+        RequestPipeline.run(
+                pollingPlanner.selectDue(polledSymbols),
+                httpProperties.getMaxInFlight(),
+                finnhubClient::getPriceQuoteAsync,
+                (symbol, priceQuote, _) -> {
+                    if (onQuote(symbol, priceQuote, targetsBySymbol.get(symbol.getTicker()))) {
+                        updatedCount.incrementAndGet();
+                    }
+                });
 
         // Loop 2: Evaluate target prices using cached data (no API calls)
         // Only evaluate domestic (US) symbols — international symbols are handled by
         // YahooPriceEvaluator
-        for (TargetPrice targetPrice : targetPriceProvider.getStockTargetPrices()) {
-            if (symbolRegistry.isInternationalSymbol(targetPrice.getSymbol())) {
-                continue;
-            }
-            Double price = livePriceCache.get(targetPrice.getSymbol());
-            if (price == null) {
-                continue;
+        // Streamed trades compare on the socket thread; one at a time keeps alerts single
+        synchronized (this) {
+            for (TargetPrice targetPrice : targetPrices) {
+                if (symbolRegistry.isInternationalSymbol(targetPrice.getSymbol())
+                        || !instanceCoordinator.owns(targetPrice.getSymbol())) {
+                    continue;
+                }
+                Double price = livePriceCache.get(targetPrice.getSymbol());
+                if (price == null) {
+                    continue;
+                }
+                Optional<StockSymbol> ticker = symbolRegistry.fromString(targetPrice.getSymbol());
+                if (ticker.isEmpty()) {
+                    log.warn(
+                            "Target price symbol {} not found in stock symbol registry",
+                            targetPrice.getSymbol());
+                    continue;
+                }
+                comparePrices(
+                        ticker.get(),
+                        price,
+                        targetPrice.getBuyTarget(),
+                        targetPrice.getSellTarget());
             }
-            Optional<StockSymbol> ticker = symbolRegistry.fromString(targetPrice.getSymbol());
-            if (ticker.isEmpty()) {
-                log.warn(
-                        "Target price symbol {} not found in stock symbol registry",
-                        targetPrice.getSymbol());
-                continue;
-            }
-            comparePrices(
-                    ticker.get(), price, targetPrice.getBuyTarget(), targetPrice.getSellTarget());
         }
 
-        return updatedCount;
+        return updatedCount.get();
+    }
+
+    /**
+     * Caches and evaluates one fetched quote; a failed fetch ({@code priceQuote == null}, already
+     * logged by the client) is retried on the next cycle. Returns whether the price changed. Holds
+     * the monitor like {@link #onTrade}, since polled symbols are subscribed to the stream too.
+     */
+    private synchronized boolean onQuote(StockSymbol symbol, PriceQuoteResponse priceQuote, TargetPrice target) {
+        JobRunContext.recordSymbolsProcessed(1);
+        String ticker = symbol.getTicker();
+        if (priceQuote == null) {
+            pollingPlanner.scheduleRetry(ticker);
+            return false;
+        }
+
+        Double lastPrice = livePriceCache.get(ticker);
+        if (lastPrice != null && Math.abs(lastPrice - priceQuote.getCurrentPrice()) < 0.0001) {
+            pollingPlanner.schedule(ticker, target);
+            return false;
+        }
+        livePriceCache.put(ticker, priceQuote.getCurrentPrice());
+        pollingPlanner.schedule(ticker, target);
+        if (priceQuote.getPreviousClose() > 0) {
+            sessionQuotes.put(
+                    ticker, new SessionQuote(marketStatusService.currentSessionDate(), priceQuote));
+        }
+
+        // Persist price quote to SQLite for historical data collection (if enabled)
+        if (isCollectingPrices()) {
+            priceQuoteRepository.save(priceQuote);
+        }
+
+        evaluateHighPriceChange(priceQuote);
+        return true;
+    }
+
+    /**
+     * Polled over REST unless the stream delivered a recent trade for it and a previous close
+     * quoted in this {@code session} is known to measure the day's change against. A close cached
+     * in an earlier session is the one before yesterday's, so the first cycle of every session
+     * polls each symbol once.
+     */
+    private boolean needsPolling(StockSymbol symbol, LocalDate session) {
+        String ticker = symbol.getTicker();
+        return !tradeStream.isFresh(ticker) || previousClose(ticker, session).isEmpty();
+    }
+
+    private OptionalDouble previousClose(String ticker, LocalDate session) {
+        SessionQuote sessionQuote = sessionQuotes.get(ticker);
+        return sessionQuote != null && sessionQuote.session().equals(session)
+                ? OptionalDouble.of(sessionQuote.quote().getPreviousClose())
+                : OptionalDouble.empty();
+    }
+
+    private boolean isCollectingPrices() {
+        return featureToggleService.isEnabled(FeatureToggle.FINNHUB_PRICE_COLLECTION)
+                && marketStatusService.isMarketOpen(null);
+    }
+
+    /**
+     * Stores the streamed price of a symbol that skipped the poll as a quote, so price collection
+     * keeps one row per cycle for it. The session's last quote supplies the open and previous
+     * close; high and low widen to the streamed price. Like a poll, an unchanged price is skipped.
+     */
+    private void collectStreamedQuote(StockSymbol symbol, LocalDate session) {
+        String ticker = symbol.getTicker();
+        Double price = livePriceCache.get(ticker);
+        SessionQuote last = sessionQuotes.get(ticker);
+        if (price == null
+                || last == null
+                || !last.session().equals(session)
+                || Math.abs(last.quote().getCurrentPrice() - price) < 0.0001
+                || !isCollectingPrices()) {
+            return;
+        }
+        PriceQuoteResponse quote = new PriceQuoteResponse();
+        quote.setStockSymbol(symbol);
+        quote.setCurrentPrice(price);
+        quote.setDailyOpen(last.quote().getDailyOpen());
+        quote.setDailyHigh(Math.max(last.quote().getDailyHigh(), price));
+        quote.setDailyLow(
+                last.quote().getDailyLow() > 0
+                        ? Math.min(last.quote().getDailyLow(), price)
+                        : price);
+        quote.setPreviousClose(last.quote().getPreviousClose());
+        quote.setChange(price - quote.getPreviousClose());
+        quote.setChangePercent(quote.getChange() / quote.getPreviousClose() * 100);
+        sessionQuotes.put(ticker, new SessionQuote(session, quote));
+        priceQuoteRepository.save(quote);
+    }
+
+    /**
+     * Caches and evaluates one streamed trade the same way a polled quote is, so target and
+     * high-change alerts fire on the trade instead of on the next cycle. The stream keeps
+     * delivering pre-market and after-hours trades; like the polling job, those are ignored.
+     */
+    synchronized void onTrade(FinnhubTradeStream.Trade trade) {
+        if (!marketStatusService.isMarketOpen(null)) {
+            return;
+        }
+        String ticker = trade.symbol();
+        double price = trade.price();
+        Double lastPrice = livePriceCache.get(ticker);
+        if (lastPrice != null && Math.abs(lastPrice - price) < 0.0001) {
+            return;
+        }
+        // Trades arrive many times a minute; the range history is sampled once per cycle instead
+        livePriceCache.putLatest(ticker, price);
+
+        Optional<StockSymbol> symbol = symbolRegistry.fromString(ticker);
+        if (symbol.isEmpty()) {
+            return;
+        }
+        OptionalDouble previousClose =
+                previousClose(ticker, marketStatusService.currentSessionDate());
+        if (previousClose.isPresent()) {
+            double close = previousClose.getAsDouble();
+            evaluateHighPriceChange(symbol.get(), (price - close) / close * 100);
+        }
+        TargetPrice target = streamTargets.get(ticker);
+        if (target != null) {
+            comparePrices(symbol.get(), price, target.getBuyTarget(), target.getSellTarget());
+        }
     }
 
     public void evaluateHighPriceChange(PriceQuoteResponse priceQuote) {
         evaluateHighPriceChange(priceQuote.getStockSymbol(), priceQuote.getChangePercent());
     }
+
+    private record SessionQuote(LocalDate session, PriceQuoteResponse quote) {}
 }
@@ -0,0 +1,68 @@
+package org.tradelite.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.tradelite.scheduling.JobRunContext;
+
+/**
+ * Runs one async provider request per item with up to {@code maxInFlight} of them open at once,
+ * handing results back in item order on the calling thread. Starting a request blocks while the
+ * provider's rate budget is spent, so the pipeline never gets ahead of the budget; it only overlaps
+ * the round trips that would otherwise add up symbol by symbol.
+ *
+ * <p>The job deadline is checked before each request. If the run is cancelled or times out,
+ * requests still in flight are cancelled and their results dropped.
+ *
+ * <p>Requests are started and handlers called on the calling thread, so both report into the
+ * caller's {@link JobRunContext}; completion stages on the HTTP client's threads run outside it.
+ */
+final class RequestPipeline {
+
+    private RequestPipeline() {}
+
+    @FunctionalInterface
+    interface ResultHandler<T, R> {
+        /** Called once per item, with either {@code result} or {@code failure} set. */
+        void handle(T item, R result, Throwable failure);
+    }
+
+    static <T, R> void run(
+            Iterable<T> items,
+            int maxInFlight,
+            Function<T, CompletableFuture<R>> request,
+            ResultHandler<T, R> handler)
+            throws InterruptedException {
+        Deque<InFlight<T, R>> inFlight = new ArrayDeque<>();
+        try {
+            for (T item : items) {
+                JobRunContext.checkDeadline();
+                if (inFlight.size() >= Math.max(1, maxInFlight)) {
+                    complete(inFlight.poll(), handler);
+                }
+                inFlight.add(new InFlight<>(item, request.apply(item)));
+            }
+            while (!inFlight.isEmpty()) {
+                complete(inFlight.poll(), handler);
+            }
+        } finally {
+            inFlight.forEach(pending -> pending.result().cancel(true));
+        }
+    }
+
+    private static <T, R> void complete(InFlight<T, R> pending, ResultHandler<T, R> handler)
+            throws InterruptedException {
+        R result = null;
+        Throwable failure = null;
+        try {
+            result = pending.result().get();
+        } catch (ExecutionException e) {
+            failure = e.getCause();
+        }
+        handler.handle(pending.item(), result, failure);
+    }
+
+    private record InFlight<T, R>(T item, CompletableFuture<R> result) {}
+}
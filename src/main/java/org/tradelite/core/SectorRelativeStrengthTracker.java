@@ -9,6 +9,7 @@ import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
 import org.tradelite.repository.ApexPerformerRepository;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.RelativeStrengthService;
 import org.tradelite.service.RelativeStrengthService.RsResult;
 
@@ -41,6 +42,7 @@ public class SectorRelativeStrengthTracker {
     private final SectorRsStreakPersistence streakPersistence;
     private final SymbolRegistry symbolRegistry;
     private final ApexPerformerRepository apexPerformerRepository;
+    private final SymbolFanOut symbolFanOut;
 
     /**
      * Analyzes sector ETFs for RS crossovers and sends alerts.
@@ -176,25 +178,14 @@ public class SectorRelativeStrengthTracker {
     protected List<LeaderOutperformer> computeLeaderOutperformers(List<SectorRsData> sectorData) {
         SectorRsData leader = sectorData.getFirst();
 
-        List<LeaderOutperformer> qualifying = new ArrayList<>();
-        for (StockSymbol stock : symbolRegistry.getStocks()) {
-            String ticker = stock.getTicker();
-            if (ticker.equals(leader.symbol())) {
-                continue;
-            }
-            Optional<RsResult> result = safeGetCurrentRsResult(ticker, leader.symbol());
-            if (result.isEmpty()) {
-                continue;
-            }
-            RsResult rs = result.get();
-            if (rs.ema() == 0) {
-                continue;
-            }
-            double pctDiff = ((rs.rs() - rs.ema()) / rs.ema()) * 100;
-            if (pctDiff > 0) {
-                qualifying.add(new LeaderOutperformer(ticker, stock.getDisplayName(), pctDiff));
-            }
-        }
+        List<StockSymbol> candidates =
+                symbolRegistry.getStocks().stream()
+                        .filter(stock -> !stock.getTicker().equals(leader.symbol()))
+                        .toList();
+        List<LeaderOutperformer> qualifying =
+                new ArrayList<>(
+                        symbolFanOut.map(
+                                candidates, stock -> toLeaderOutperformer(stock, leader.symbol())));
 
         qualifying.sort((a, b) -> Double.compare(b.pctDiff(), a.pctDiff()));
         return qualifying;
@@ -234,6 +225,20 @@ public class SectorRelativeStrengthTracker {
         return sb.toString();
     }
 
+    private Optional<LeaderOutperformer> toLeaderOutperformer(StockSymbol stock, String leader) {
+        Optional<RsResult> result = safeGetCurrentRsResult(stock.getTicker(), leader);
+        if (result.isEmpty() || result.get().ema() == 0) {
+            return Optional.empty();
+        }
+        RsResult rs = result.get();
+        double pctDiff = ((rs.rs() - rs.ema()) / rs.ema()) * 100;
+        if (pctDiff <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                new LeaderOutperformer(stock.getTicker(), stock.getDisplayName(), pctDiff));
+    }
+
     /**
      * Wrapper around {@link RelativeStrengthService#getCurrentRsResult(String, String)} that
      * swallows exceptions per-symbol so a single bad data point doesn't break the whole report.
@@ -0,0 +1,148 @@
+package org.tradelite.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.tradelite.common.StockSymbol;
+import org.tradelite.common.SymbolRegistry;
+import org.tradelite.common.TargetPrice;
+import org.tradelite.config.TradebotPollingProperties;
+import org.tradelite.service.LivePriceCache;
+
+/**
+ * Decides which US symbols the Finnhub polling job quotes in a given cycle. Each symbol gets its
+ * own cadence between {@link #MIN_CADENCE} and {@code tradebot.polling.max-cadence}: the closer its
+ * price is to a buy/sell target (after allowing for how far it has been swinging lately), the more
+ * often it is polled. Broad sector ETFs are polled at least every 5 minutes (the old fixed cycle),
+ * since their moves drive market-wide alerts.
+ */
+@Slf4j
+@Component
+public class SymbolPollingPlanner {
+
+    /** Period of the polling job, and therefore the fastest possible cadence. */
+    public static final Duration MIN_CADENCE = Duration.ofMinutes(1);
+
+    static final Duration BROAD_SECTOR_ETF_MAX_CADENCE = Duration.ofMinutes(5);
+    static final Duration FAILED_POLL_RETRY = Duration.ofMinutes(5);
+
+    /** Percent the price still has to travel to reach a target, mapped to a cadence. */
+    private static final List<Tier> TIERS =
+            List.of(
+                    new Tier(1.0, Duration.ofMinutes(1)),
+                    new Tier(3.0, Duration.ofMinutes(2)),
+                    new Tier(6.0, Duration.ofMinutes(5)),
+                    new Tier(10.0, Duration.ofMinutes(10)));
+
+    private final LivePriceCache livePriceCache;
+    private final TradebotPollingProperties properties;
+    private final Clock clock;
+    private final Map<String, Instant> nextPollAt = new ConcurrentHashMap<>();
+
+    /**
+     * When the current cycle selected its symbols. Next polls are counted from here rather than
+     * from when a quote came back, so a 1-minute symbol is due again at the very next trigger.
+     */
+    private volatile Instant cycleStartedAt;
+
+    public SymbolPollingPlanner(
+            LivePriceCache livePriceCache, TradebotPollingProperties properties, Clock clock) {
+        this.livePriceCache = livePriceCache;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Symbols due for a quote, most overdue first (never-polled symbols lead), capped at {@code
+     * tradebot.polling.max-polls-per-cycle}. Symbols left out stay due and lead the next cycle.
+     */
+    public List<StockSymbol> selectDue(List<StockSymbol> candidates) {
+        Instant now = clock.instant();
+        cycleStartedAt = now;
+        List<StockSymbol> due =
+                candidates.stream()
+                        .filter(symbol -> !nextPollAt(symbol).isAfter(now))
+                        .sorted(Comparator.comparing(this::nextPollAt))
+                        .toList();
+        if (due.size() > properties.getMaxPollsPerCycle()) {
+            log.info(
+                    "{} symbols due for polling, deferring {} to the next cycle",
+                    due.size(),
+                    due.size() - properties.getMaxPollsPerCycle());
+            return due.subList(0, properties.getMaxPollsPerCycle());
+        }
+        return due;
+    }
+
+    /**
+     * Records a successful poll and schedules the next one from the symbol's current cadence,
+     * counted from the start of the cycle that polled it.
+     */
+    public Duration schedule(String ticker, TargetPrice target) {
+        Duration cadence = cadenceFor(ticker, target);
+        nextPollAt.put(ticker, pollStartedAt().plus(cadence));
+        return cadence;
+    }
+
+    /**
+     * Records a poll that returned nothing; retried at the old fixed cycle instead of every run.
+     */
+    public void scheduleRetry(String ticker) {
+        nextPollAt.put(ticker, pollStartedAt().plus(FAILED_POLL_RETRY));
+    }
+
+    private Instant pollStartedAt() {
+        Instant started = cycleStartedAt;
+        return started != null ? started : clock.instant();
+    }
+
+    Duration cadenceFor(String ticker, TargetPrice target) {
+        Double price = livePriceCache.get(ticker);
+        if (price == null || price <= 0) {
+            return FAILED_POLL_RETRY;
+        }
+        double recentRange = livePriceCache.getRecentRangePercent(ticker).orElse(0);
+        double reach = Math.max(0, distanceToTargetPercent(price, target) - recentRange);
+
+        Duration cadence = properties.getMaxCadence();
+        for (Tier tier : TIERS) {
+            if (reach <= tier.maxReachPercent()) {
+                cadence = tier.cadence();
+                break;
+            }
+        }
+        if (SymbolRegistry.BROAD_SECTOR_ETFS.containsKey(ticker)
+                && cadence.compareTo(BROAD_SECTOR_ETF_MAX_CADENCE) > 0) {
+            cadence = BROAD_SECTOR_ETF_MAX_CADENCE;
+        }
+        if (cadence.compareTo(properties.getMaxCadence()) > 0) {
+            return properties.getMaxCadence();
+        }
+        return cadence.compareTo(MIN_CADENCE) < 0 ? MIN_CADENCE : cadence;
+    }
+
+    static double distanceToTargetPercent(double price, TargetPrice target) {
+        if (target == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double distance = Double.POSITIVE_INFINITY;
+        for (double level : new double[] {target.getBuyTarget(), target.getSellTarget()}) {
+            if (level > 0) {
+                distance = Math.min(distance, Math.abs(price - level) / price * 100);
+            }
+        }
+        return distance;
+    }
+
+    private Instant nextPollAt(StockSymbol symbol) {
+        return nextPollAt.getOrDefault(symbol.getTicker(), Instant.MIN);
+    }
+
+    private record Tier(double maxReachPercent, Duration cadence) {}
+}
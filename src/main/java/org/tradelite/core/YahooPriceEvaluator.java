@@ -1,6 +1,11 @@
 package org.tradelite.core;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -14,7 +19,10 @@ import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
 import org.tradelite.common.TargetPrice;
 import org.tradelite.common.TargetPriceProvider;
+import org.tradelite.config.TradebotHttpProperties;
 import org.tradelite.repository.PriceQuoteRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.JobRunContext;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.LivePriceCache;
 import org.tradelite.service.MarketStatusService;
@@ -24,8 +32,6 @@ import org.tradelite.web.dashboard.DashboardEventPublisher;
 @Component
 public class YahooPriceEvaluator extends BasePriceEvaluator {
 
-    static final long REQUEST_DELAY_MS = 3000;
-
     private final YahooFinanceClient yahooFinanceClient;
     private final TargetPriceProvider targetPriceProvider;
     private final SymbolRegistry symbolRegistry;
@@ -33,6 +39,8 @@ public class YahooPriceEvaluator extends BasePriceEvaluator {
     private final FeatureToggleService featureToggleService;
     private final MarketStatusService marketStatusService;
     private final LivePriceCache livePriceCache;
+    private final InstanceCoordinator instanceCoordinator;
+    private final TradebotHttpProperties httpProperties;
 
     @Autowired
     public YahooPriceEvaluator(
@@ -44,7 +52,9 @@ public class YahooPriceEvaluator extends BasePriceEvaluator {
             FeatureToggleService featureToggleService,
             MarketStatusService marketStatusService,
             LivePriceCache livePriceCache,
-            DashboardEventPublisher dashboardEventPublisher) {
+            DashboardEventPublisher dashboardEventPublisher,
+            InstanceCoordinator instanceCoordinator,
+            TradebotHttpProperties httpProperties) {
         super(telegramClient, targetPriceProvider, dashboardEventPublisher);
         this.yahooFinanceClient = yahooFinanceClient;
         this.targetPriceProvider = targetPriceProvider;
@@ -53,6 +63,8 @@ public class YahooPriceEvaluator extends BasePriceEvaluator {
         this.featureToggleService = featureToggleService;
         this.marketStatusService = marketStatusService;
         this.livePriceCache = livePriceCache;
+        this.instanceCoordinator = instanceCoordinator;
+        this.httpProperties = httpProperties;
     }
 
     @Override
@@ -62,41 +74,47 @@ public class YahooPriceEvaluator extends BasePriceEvaluator {
             return 0;
         }
 
-        int updatedCount = 0;
-
-        for (StockSymbol symbol : symbolRegistry.getInternationalStocks()) {
-            if (!marketStatusService.isExchangeOpen(symbol.getTicker())) {
+        AtomicInteger updatedCount = new AtomicInteger();
+        List<StockSymbol> openSymbols =
+                symbolRegistry.getInternationalStocks().stream()
+                        .filter(symbol -> instanceCoordinator.owns(symbol.getTicker()))
+                        .filter(symbol -> marketStatusService.isExchangeOpen(symbol.getTicker()))
+                        .toList();
+        Map<String, YahooPriceQuote> batchedQuotes = fetchBatched(openSymbols);
+        List<StockSymbol> unquoted = new ArrayList<>();
+        for (StockSymbol symbol : openSymbols) {
+            YahooPriceQuote quote = batchedQuotes.get(symbol.getTicker());
+            if (quote == null) {
+                unquoted.add(symbol);
                 continue;
             }
-
-            YahooPriceQuote quote;
-            try {
-                quote = yahooFinanceClient.fetchCurrentPrice(symbol.getTicker());
-            } catch (YahooFetchException e) {
-                log.error(
-                        "Yahoo price fetch failed for {}: {}", symbol.getTicker(), e.getMessage());
-                Thread.sleep(REQUEST_DELAY_MS);
-                continue;
+            JobRunContext.recordSymbolsProcessed(1);
+            if (onQuote(symbol, quote)) {
+                updatedCount.incrementAndGet();
             }
-            Thread.sleep(REQUEST_DELAY_MS);
-
-            Double lastPrice = livePriceCache.get(symbol.getTicker());
-            if (lastPrice != null && Math.abs(lastPrice - quote.currentPrice()) < 0.0001) {
-                continue;
-            }
-            livePriceCache.put(symbol.getTicker(), quote.currentPrice());
-
-            if (featureToggleService.isEnabled(FeatureToggle.FINNHUB_PRICE_COLLECTION)) {
-                persistQuote(symbol, quote);
-            }
-
-            evaluateHighPriceChange(symbol, quote);
-            updatedCount++;
         }
 
+        // Whatever the batch didn't price is fetched one by one from the chart endpoint
+        RequestPipeline.run(
+                unquoted,
+                httpProperties.getMaxInFlight(),
+                symbol -> yahooFinanceClient.fetchCurrentPriceAsync(symbol.getTicker()),
+                (symbol, quote, failure) -> {
+                    JobRunContext.recordSymbolsProcessed(1);
+                    if (failure != null) {
+                        log.error(
+                                "Yahoo price fetch failed for {}: {}",
+                                symbol.getTicker(),
+                                failure.getMessage());
+                    } else if (onQuote(symbol, quote)) {
+                        updatedCount.incrementAndGet();
+                    }
+                });
+
         // Evaluate target prices for international symbols
         for (TargetPrice targetPrice : targetPriceProvider.getStockTargetPrices()) {
-            if (!symbolRegistry.isInternationalSymbol(targetPrice.getSymbol())) {
+            if (!symbolRegistry.isInternationalSymbol(targetPrice.getSymbol())
+                    || !instanceCoordinator.owns(targetPrice.getSymbol())) {
                 continue;
             }
             Double price = livePriceCache.get(targetPrice.getSymbol());
@@ -111,7 +129,53 @@ public class YahooPriceEvaluator extends BasePriceEvaluator {
                     ticker.get(), price, targetPrice.getBuyTarget(), targetPrice.getSellTarget());
         }
 
-        return updatedCount;
+        return updatedCount.get();
+    }
+
+    /**
+     * Quotes {@code symbols} in batches of {@link YahooFinanceClient#MAX_QUOTE_BATCH}. A failed
+     * batch is logged and left out, so its symbols fall back to single-symbol requests.
+     */
+    private Map<String, YahooPriceQuote> fetchBatched(List<StockSymbol> symbols) {
+        Map<String, YahooPriceQuote> quotes = new HashMap<>();
+        for (int from = 0; from < symbols.size(); from += YahooFinanceClient.MAX_QUOTE_BATCH) {
+            JobRunContext.checkDeadline();
+            List<String> tickers =
+                    symbols
+                            .subList(
+                                    from,
+                                    Math.min(
+                                            symbols.size(),
+                                            from + YahooFinanceClient.MAX_QUOTE_BATCH))
+                            .stream()
+                            .map(StockSymbol::getTicker)
+                            .toList();
+            try {
+                quotes.putAll(yahooFinanceClient.fetchCurrentPrices(tickers));
+            } catch (YahooFetchException e) {
+                log.warn(
+                        "Batched Yahoo quote failed for {} symbols, fetching them one by one: {}",
+                        tickers.size(),
+                        e.getMessage());
+            }
+        }
+        return quotes;
+    }
+
+    /** Caches and evaluates one fetched quote. Returns whether the price changed. */
+    private boolean onQuote(StockSymbol symbol, YahooPriceQuote quote) {
+        Double lastPrice = livePriceCache.get(symbol.getTicker());
+        if (lastPrice != null && Math.abs(lastPrice - quote.currentPrice()) < 0.0001) {
+            return false;
+        }
+        livePriceCache.put(symbol.getTicker(), quote.currentPrice());
+
+        if (featureToggleService.isEnabled(FeatureToggle.FINNHUB_PRICE_COLLECTION)) {
+            persistQuote(symbol, quote);
+        }
+
+        evaluateHighPriceChange(symbol, quote);
+        return true;
     }
 
     void evaluateHighPriceChange(StockSymbol symbol, YahooPriceQuote quote) {
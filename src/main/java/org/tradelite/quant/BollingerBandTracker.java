@@ -2,15 +2,13 @@ package org.tradelite.quant;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.OptionalLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.tradelite.client.telegram.TelegramGateway;
-import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.scheduling.SymbolFanOut;
 
 /**
  * Tracks Bollinger Band signals across sector ETFs, SPY, and all tracked stocks to detect
@@ -32,6 +30,7 @@ public class BollingerBandTracker {
     private final BollingerBandService bollingerBandService;
     private final TelegramGateway telegramClient;
     private final SymbolRegistry symbolRegistry;
+    private final SymbolFanOut symbolFanOut;
 
     /**
      * Stores the Telegram message ID of the last sent hourly alert so it can be deleted before
@@ -41,31 +40,16 @@ public class BollingerBandTracker {
 
     /** Analyzes Bollinger Bands for all tracked sector ETFs and returns the results. */
     public List<BollingerBandAnalysis> analyzeAllSectors() {
-        List<BollingerBandAnalysis> results = new ArrayList<>();
-
-        for (Map.Entry<String, String> entry : symbolRegistry.getAllEtfs().entrySet()) {
-            String symbol = entry.getKey();
-            String displayName = entry.getValue();
-
-            Optional<BollingerBandAnalysis> analysis =
-                    bollingerBandService.analyze(symbol, displayName);
-            analysis.ifPresent(results::add);
-        }
-
-        return results;
+        return symbolFanOut.map(
+                symbolRegistry.getAllEtfs().entrySet(),
+                entry -> bollingerBandService.analyze(entry.getKey(), entry.getValue()));
     }
 
     /** Analyzes Bollinger Bands for all tracked stocks (excluding ETFs to avoid duplication). */
     public List<BollingerBandAnalysis> analyzeAllStocks() {
-        List<BollingerBandAnalysis> results = new ArrayList<>();
-
-        for (StockSymbol stock : symbolRegistry.getStocks()) {
-            Optional<BollingerBandAnalysis> analysis =
-                    bollingerBandService.analyze(stock.getTicker(), stock.getCompanyName());
-            analysis.ifPresent(results::add);
-        }
-
-        return results;
+        return symbolFanOut.map(
+                symbolRegistry.getStocks(),
+                stock -> bollingerBandService.analyze(stock.getTicker(), stock.getCompanyName()));
     }
 
     /** Performs hourly Bollinger Band check and sends Telegram alerts for actionable signals. */
@@ -1,5 +1,9 @@
 package org.tradelite.quant;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -24,12 +28,18 @@ public class EmaService {
     static final int MIN_DATA_POINTS = 9;
 
     /**
-     * Number of calendar days to fetch from the repository. 400 calendar days yields roughly 280+
-     * trading days, giving enough data for a 200-day EMA with warm-up.
+     * Minimum number of calendar days to fetch from the repository. 400 calendar days yields
+     * roughly 280+ trading days, giving enough data for a 200-day EMA with warm-up. The window
+     * itself starts at {@link #windowStart(LocalDate)}, up to a month further back.
      */
     static final int LOOKBACK_CALENDAR_DAYS = 400;
 
+    /** EMA periods, in the order of the {@link EmaAnalysis} fields. */
+    static final int[] PERIODS = {9, 21, 50, 100, 200};
+
     private final DailyPriceProvider dailyPriceProvider;
+    private final IndicatorSnapshotService indicatorSnapshotService;
+    private final Clock clock;
 
     /**
      * Analyzes EMA positions for a symbol, calculating every EMA for which enough data exists.
@@ -37,13 +47,27 @@ public class EmaService {
      * <p>With fewer than 200 data points, only the shorter EMAs are calculated; the rest are {@code
      * Double.NaN}. For example, 53 data points yield EMA 9, 21, and 50.
      *
+     * <p>The EMAs materialized after the nightly OHLCV fetch are used when current and computed
+     * over the same window. A live price for a later trading day is folded in with one EMA step per
+     * period, which is what a full recomputation over the extended series would do last.
+     *
      * @param symbol The stock or ETF ticker symbol
      * @param displayName Human-readable name for reporting
      * @return Analysis result, or empty if insufficient data even for the shortest EMA (9-day)
      */
     public Optional<EmaAnalysis> analyze(String symbol, String displayName) {
+        // Lookbacks are cut the way SQLite's date('now', '-N days') cuts them: by UTC date.
+        LocalDate today = LocalDate.ofInstant(clock.instant(), ZoneOffset.UTC);
+        Optional<EmaAnalysis> materialized =
+                indicatorSnapshotService
+                        .findCurrent(symbol)
+                        .flatMap(snapshot -> fromSnapshot(snapshot, displayName, today));
+        if (materialized.isPresent()) {
+            return materialized;
+        }
+
         List<DailyPrice> dailyPrices =
-                dailyPriceProvider.findDailyClosingPrices(symbol, LOOKBACK_CALENDAR_DAYS);
+                dailyPriceProvider.findDailyClosingPrices(symbol, lookbackDays(today));
 
         if (dailyPrices.size() < MIN_DATA_POINTS) {
             log.debug(
@@ -63,23 +87,105 @@ public class EmaService {
         double ema100 = computeEmaOrNaN(prices, 100);
         double ema200 = computeEmaOrNaN(prices, 200);
 
-        int emasAvailable = countAvailable(ema9, ema21, ema50, ema100, ema200);
-        int emasBelow = countEmasBelow(currentPrice, ema9, ema21, ema50, ema100, ema200);
-        EmaSignalType signalType = EmaSignalType.fromEmasBelow(emasBelow, emasAvailable);
+        return Optional.of(
+                toAnalysis(symbol, displayName, currentPrice, ema9, ema21, ema50, ema100, ema200));
+    }
+
+    private Optional<EmaAnalysis> fromSnapshot(
+            IndicatorSnapshot snapshot, String displayName, LocalDate today) {
+        if (snapshot.dataPoints() < MIN_DATA_POINTS) {
+            return Optional.empty();
+        }
+        LocalDate materializedOn = LocalDate.ofInstant(snapshot.computedAt(), ZoneOffset.UTC);
+        if (!windowStart(materializedOn).equals(windowStart(today))) {
+            // Seeded from bars the live window no longer starts with
+            return Optional.empty();
+        }
+        double[] emas = {
+            snapshot.ema9(),
+            snapshot.ema21(),
+            snapshot.ema50(),
+            snapshot.ema100(),
+            snapshot.ema200()
+        };
+        double currentPrice = snapshot.close();
+
+        Optional<DailyPrice> intraday =
+                dailyPriceProvider.findIntradayPriceAfter(snapshot.symbol(), snapshot.barDate());
+        if (intraday.isPresent()) {
+            currentPrice = intraday.get().getPrice();
+            int dataPoints = snapshot.dataPoints() + 1;
+            for (int i = 0; i < PERIODS.length; i++) {
+                if (!Double.isNaN(emas[i])) {
+                    emas[i] = extendEma(emas[i], currentPrice, PERIODS[i]);
+                } else if (dataPoints >= PERIODS[i]) {
+                    // The extra price completes this period's seed; only a recompute can tell.
+                    return Optional.empty();
+                }
+            }
+        }
 
         return Optional.of(
-                new EmaAnalysis(
-                        symbol,
+                toAnalysis(
+                        snapshot.symbol(),
                         displayName,
                         currentPrice,
-                        ema9,
-                        ema21,
-                        ema50,
-                        ema100,
-                        ema200,
-                        emasAvailable,
-                        emasBelow,
-                        signalType));
+                        emas[0],
+                        emas[1],
+                        emas[2],
+                        emas[3],
+                        emas[4]));
+    }
+
+    private static EmaAnalysis toAnalysis(
+            String symbol,
+            String displayName,
+            double currentPrice,
+            double ema9,
+            double ema21,
+            double ema50,
+            double ema100,
+            double ema200) {
+        int emasAvailable = countAvailable(ema9, ema21, ema50, ema100, ema200);
+        int emasBelow = countEmasBelow(currentPrice, ema9, ema21, ema50, ema100, ema200);
+        EmaSignalType signalType = EmaSignalType.fromEmasBelow(emasBelow, emasAvailable);
+
+        return new EmaAnalysis(
+                symbol,
+                displayName,
+                currentPrice,
+                ema9,
+                ema21,
+                ema50,
+                ema100,
+                ema200,
+                emasAvailable,
+                emasBelow,
+                signalType);
+    }
+
+    /**
+     * First day of the EMA window on {@code today}: {@link #LOOKBACK_CALENDAR_DAYS} back, rounded
+     * down to the first of that month. Each EMA is seeded from the SMA of the window's first prices,
+     * so the start only moves once a month and EMAs materialized on an earlier day stay comparable
+     * with a recomputation until it does.
+     */
+    static LocalDate windowStart(LocalDate today) {
+        return today.minusDays(LOOKBACK_CALENDAR_DAYS).withDayOfMonth(1);
+    }
+
+    /** Lookback in days that makes {@code findDailyClosingPrices} start at the EMA window. */
+    static int lookbackDays(LocalDate today) {
+        return (int) ChronoUnit.DAYS.between(windowStart(today), today);
+    }
+
+    /**
+     * Advances an EMA by one price, the same step {@link StatisticsUtil#calculateEma(List, int)}
+     * applies to every price after the seed.
+     */
+    static double extendEma(double ema, double price, int period) {
+        double multiplier = 2.0 / (period + 1);
+        return (price - ema) * multiplier + ema;
     }
 
     /**
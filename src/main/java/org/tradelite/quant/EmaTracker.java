@@ -1,15 +1,13 @@
 package org.tradelite.quant;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.FeatureToggle;
-import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.FeatureToggleService;
 
 /**
@@ -32,6 +30,7 @@ public class EmaTracker {
     private final TelegramGateway telegramClient;
     private final SymbolRegistry symbolRegistry;
     private final FeatureToggleService featureToggleService;
+    private final SymbolFanOut symbolFanOut;
 
     /** Analyzes all tracked stocks and sends a daily EMA report via Telegram. */
     public void sendDailyReport() {
@@ -52,15 +51,9 @@ public class EmaTracker {
 
     /** Analyzes all tracked stocks and returns EMA analysis results. */
     List<EmaAnalysis> analyzeAllStocks() {
-        List<EmaAnalysis> results = new ArrayList<>();
-
-        for (StockSymbol stock : symbolRegistry.getAll()) {
-            Optional<EmaAnalysis> analysis =
-                    emaService.analyze(stock.getTicker(), stock.getCompanyName());
-            analysis.ifPresent(results::add);
-        }
-
-        return results;
+        return symbolFanOut.map(
+                symbolRegistry.getAll(),
+                stock -> emaService.analyze(stock.getTicker(), stock.getCompanyName()));
     }
 
     /** Builds the Telegram report message from EMA analysis results. */
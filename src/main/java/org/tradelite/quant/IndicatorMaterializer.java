@@ -0,0 +1,186 @@
+package org.tradelite.quant;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.StockSymbol;
+import org.tradelite.common.SymbolRegistry;
+import org.tradelite.repository.IndicatorSnapshotRepository;
+import org.tradelite.repository.OhlcvRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.SymbolFanOut;
+import org.tradelite.service.MomentumRocService;
+import org.tradelite.service.RsiService;
+import org.tradelite.service.model.DailyPrice;
+
+/**
+ * Materializes the daily indicators of every tracked symbol into {@code indicator_snapshot} right
+ * after the nightly OHLCV fetch, so the morning reports read one row per symbol instead of
+ * replaying 400 days of history each.
+ *
+ * <p>Each symbol's history is loaded once and every indicator is computed from the slice its own
+ * service would load: EMA from {@link EmaService#windowStart(LocalDate)}, VFI over 400 calendar
+ * days, RSI over 300, Bollinger Bands over 90, ROC over 35 and tail risk over the {@link
+ * TailRiskTracker#SHORT} and {@link TailRiskTracker#LONG} windows. Only OHLCV bars are used; readers
+ * fold in a newer live price themselves or fall back to a live computation.
+ *
+ * <p>With instance sharding each instance materializes the symbols it owns, which are the symbols
+ * it fetched.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndicatorMaterializer {
+
+    /** Snapshot retention. */
+    static final int LOOKBACK_CALENDAR_DAYS = EmaService.LOOKBACK_CALENDAR_DAYS;
+
+    private final OhlcvRepository ohlcvRepository;
+    private final IndicatorSnapshotRepository indicatorSnapshotRepository;
+    private final SymbolRegistry symbolRegistry;
+    private final InstanceCoordinator instanceCoordinator;
+    private final SymbolFanOut symbolFanOut;
+    private final VfiService vfiService;
+    private final BollingerBandService bollingerBandService;
+    private final TailRiskService tailRiskService;
+    private final RsiService rsiService;
+    private final Clock clock;
+
+    /** Computes and stores the snapshots of all owned symbols that have OHLCV history. */
+    public void materializeAll() {
+        long start = System.nanoTime();
+        Instant now = clock.instant();
+        // Lookbacks are cut the way SQLite's date('now', '-N days') cuts them: by UTC date.
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+
+        List<String> symbols =
+                symbolRegistry.getAll().stream()
+                        .map(StockSymbol::getTicker)
+                        .filter(instanceCoordinator::owns)
+                        .toList();
+        List<IndicatorSnapshot> snapshots =
+                symbolFanOut.map(symbols, symbol -> materialize(symbol, today, now));
+
+        indicatorSnapshotRepository.saveAll(snapshots);
+        indicatorSnapshotRepository.deleteOlderThan(today.minusDays(LOOKBACK_CALENDAR_DAYS));
+        log.info(
+                "Materialized indicator snapshots for {} of {} symbols in {} ms",
+                snapshots.size(),
+                symbols.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    Optional<IndicatorSnapshot> materialize(String symbol, LocalDate today, Instant now) {
+        // The EMA window is the longest lookback of any materialized indicator
+        int emaLookbackDays = EmaService.lookbackDays(today);
+        List<OhlcvRecord> history = ohlcvRepository.findBySymbol(symbol, emaLookbackDays);
+        if (history.isEmpty()) {
+            log.debug("No OHLCV history for {}, no indicator snapshot", symbol);
+            return Optional.empty();
+        }
+        OhlcvRecord lastBar = history.getLast();
+
+        List<Double> emaCloses = closes(history);
+        double[] emas = new double[EmaService.PERIODS.length];
+        for (int i = 0; i < emas.length; i++) {
+            emas[i] = EmaService.computeEmaOrNaN(emaCloses, EmaService.PERIODS[i]);
+        }
+
+        double vfi = Double.NaN;
+        double vfiSignal = Double.NaN;
+        List<OhlcvRecord> vfiBars = within(history, today, VfiService.LOOKBACK_CALENDAR_DAYS);
+        if (vfiBars.size() >= VfiAnalysis.MIN_DATA_POINTS) {
+            VfiAnalysis analysis = vfiService.calculateVfi(symbol, symbol, vfiBars);
+            vfi = analysis.vfiValue();
+            vfiSignal = analysis.signalLineValue();
+        }
+
+        double rsi = Double.NaN;
+        List<Double> rsiCloses = closes(within(history, today, RsiService.RSI_LOOKBACK_DAYS));
+        if (rsiCloses.size() >= RsiService.RSI_PERIOD + 1) {
+            rsi = rsiService.calculateRsi(rsiCloses);
+        }
+
+        BollingerBandAnalysis bollinger = null;
+        List<Double> bollingerCloses =
+                closes(within(history, today, BollingerBandService.LOOKBACK_CALENDAR_DAYS));
+        if (bollingerCloses.size() >= BollingerBandAnalysis.MIN_DATA_POINTS) {
+            bollinger =
+                    bollingerBandService.calculateBollingerBands(symbol, symbol, bollingerCloses);
+        }
+
+        double roc10 = Double.NaN;
+        double roc20 = Double.NaN;
+        List<DailyPrice> rocPrices =
+                dailyPrices(within(history, today, MomentumRocService.ROC_LOOKBACK_DAYS));
+        if (rocPrices.size() >= MomentumRocService.MIN_DATA_POINTS) {
+            roc10 =
+                    StatisticsUtil.calculateRocValue(
+                            rocPrices, MomentumRocService.ROC_SHORT_PERIOD);
+            roc20 = StatisticsUtil.calculateRocValue(rocPrices, MomentumRocService.ROC_LONG_PERIOD);
+        }
+
+        Optional<TailRiskAnalysis> tailShort =
+                tailRisk(symbol, history, today, TailRiskTracker.SHORT);
+        Optional<TailRiskAnalysis> tailLong =
+                tailRisk(symbol, history, today, TailRiskTracker.LONG);
+
+        return Optional.of(
+                new IndicatorSnapshot(
+                        symbol,
+                        lastBar.date(),
+                        lastBar.close(),
+                        emaCloses.size(),
+                        emas[0],
+                        emas[1],
+                        emas[2],
+                        emas[3],
+                        emas[4],
+                        vfi,
+                        vfiSignal,
+                        rsi,
+                        bollinger == null ? Double.NaN : bollinger.sma(),
+                        bollinger == null ? Double.NaN : bollinger.upperBand(),
+                        bollinger == null ? Double.NaN : bollinger.lowerBand(),
+                        bollinger == null ? Double.NaN : bollinger.percentB(),
+                        bollinger == null ? Double.NaN : bollinger.bandwidth(),
+                        bollinger == null ? Double.NaN : bollinger.bandwidthPercentile(),
+                        roc10,
+                        roc20,
+                        tailShort.map(TailRiskAnalysis::kurtosis).orElse(Double.NaN),
+                        tailShort.map(TailRiskAnalysis::skewness).orElse(Double.NaN),
+                        tailLong.map(TailRiskAnalysis::kurtosis).orElse(Double.NaN),
+                        tailLong.map(TailRiskAnalysis::skewness).orElse(Double.NaN),
+                        now));
+    }
+
+    private Optional<TailRiskAnalysis> tailRisk(
+            String symbol, List<OhlcvRecord> history, LocalDate today, TailRiskWindow window) {
+        List<DailyPrice> prices =
+                dailyPrices(within(history, today, window.lookbackCalendarDays()));
+        return tailRiskService.analyzeSample(symbol, symbol, window, prices);
+    }
+
+    /**
+     * Bars on or after {@code today - days}, the slice {@code findBySymbol(symbol, days)} loads.
+     */
+    private static List<OhlcvRecord> within(List<OhlcvRecord> history, LocalDate today, int days) {
+        LocalDate from = today.minusDays(days);
+        return history.stream().filter(r -> !r.date().isBefore(from)).toList();
+    }
+
+    private static List<Double> closes(List<OhlcvRecord> bars) {
+        return bars.stream().map(OhlcvRecord::close).toList();
+    }
+
+    private static List<DailyPrice> dailyPrices(List<OhlcvRecord> bars) {
+        return bars.stream().map(r -> new DailyPrice(r.date(), r.close())).toList();
+    }
+}
@@ -0,0 +1,64 @@
+package org.tradelite.quant;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Indicators of a single symbol as of one OHLCV bar, materialized by {@link IndicatorMaterializer}
+ * after the nightly OHLCV fetch.
+ *
+ * <p>Every indicator uses the same lookback as the service that would otherwise compute it live.
+ * Values are {@code Double.NaN} when the history was too short for that indicator.
+ *
+ * @param symbol The stock or ETF ticker symbol
+ * @param barDate Date of the last OHLCV bar the values were computed from
+ * @param close Closing price of that bar
+ * @param dataPoints Number of daily closes in the EMA lookback
+ * @param ema9 9-day EMA
+ * @param ema21 21-day EMA
+ * @param ema50 50-day EMA
+ * @param ema100 100-day EMA
+ * @param ema200 200-day EMA
+ * @param vfi Volume Flow Indicator
+ * @param vfiSignal VFI signal line
+ * @param rsi 14-day RSI
+ * @param bollingerSma 20-day SMA of the Bollinger Bands
+ * @param bollingerUpper Upper Bollinger Band
+ * @param bollingerLower Lower Bollinger Band
+ * @param bollingerPercentB Bollinger %B
+ * @param bollingerBandwidth Bollinger bandwidth relative to the SMA
+ * @param bollingerBandwidthPercentile Percentile of the bandwidth in its recent history
+ * @param roc10 10-day rate of change in percent
+ * @param roc20 20-day rate of change in percent
+ * @param kurtosisShort Raw kurtosis over the short tail-risk window
+ * @param skewnessShort Skewness over the short tail-risk window
+ * @param kurtosisLong Raw kurtosis over the long tail-risk window
+ * @param skewnessLong Skewness over the long tail-risk window
+ * @param computedAt When the snapshot was materialized
+ */
+public record IndicatorSnapshot(
+        String symbol,
+        LocalDate barDate,
+        double close,
+        int dataPoints,
+        double ema9,
+        double ema21,
+        double ema50,
+        double ema100,
+        double ema200,
+        double vfi,
+        double vfiSignal,
+        double rsi,
+        double bollingerSma,
+        double bollingerUpper,
+        double bollingerLower,
+        double bollingerPercentB,
+        double bollingerBandwidth,
+        double bollingerBandwidthPercentile,
+        double roc10,
+        double roc20,
+        double kurtosisShort,
+        double skewnessShort,
+        double kurtosisLong,
+        double skewnessLong,
+        Instant computedAt) {}
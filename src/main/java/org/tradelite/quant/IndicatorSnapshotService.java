@@ -0,0 +1,49 @@
+package org.tradelite.quant;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.tradelite.common.OhlcvRecord;
+import org.tradelite.repository.IndicatorSnapshotRepository;
+import org.tradelite.repository.OhlcvRepository;
+
+/**
+ * Serves the indicators materialized by {@link IndicatorMaterializer} to the report services.
+ *
+ * <p>A snapshot is only current while its bar is still the latest OHLCV bar of the symbol with the
+ * same close. A fetch that adds a newer bar, or a split re-backfill that rewrites history, makes it
+ * stale; callers then fall back to computing the indicator from history.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IndicatorSnapshotService {
+
+    private final IndicatorSnapshotRepository indicatorSnapshotRepository;
+    private final OhlcvRepository ohlcvRepository;
+
+    /**
+     * Returns the snapshot of the symbol's latest OHLCV bar.
+     *
+     * @param symbol The stock or ETF ticker symbol
+     * @return The snapshot, or empty if none exists or it is stale
+     */
+    public Optional<IndicatorSnapshot> findCurrent(String symbol) {
+        Optional<IndicatorSnapshot> snapshot = indicatorSnapshotRepository.findLatest(symbol);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<OhlcvRecord> latestBar = ohlcvRepository.findLatest(symbol);
+        if (latestBar.isEmpty() || !isCurrent(snapshot.get(), latestBar.get())) {
+            log.debug("Indicator snapshot for {} is stale, computing from history", symbol);
+            return Optional.empty();
+        }
+        return snapshot;
+    }
+
+    private static boolean isCurrent(IndicatorSnapshot snapshot, OhlcvRecord latestBar) {
+        return snapshot.barDate().equals(latestBar.date())
+                && Double.compare(snapshot.close(), latestBar.close()) == 0;
+    }
+}
@@ -13,6 +13,7 @@ import org.tradelite.common.SymbolRegistry;
 import org.tradelite.common.TargetPriceProvider;
 import org.tradelite.core.IgnoreReason;
 import org.tradelite.repository.ApexPerformerRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.LivePriceCache;
 import org.tradelite.service.MarketStatusService;
@@ -44,6 +45,7 @@ public class PullbackBuyTracker {
     private final FeatureToggleService featureToggleService;
     private final ApexPerformerRepository apexPerformerRepository;
     private final MarketStatusService marketStatusService;
+    private final InstanceCoordinator instanceCoordinator;
 
     /**
      * Evaluates pullback pattern for domestic stocks. Caller is responsible for NYSE-hours gating.
@@ -57,6 +59,9 @@ public class PullbackBuyTracker {
         Set<String> apexPerformers = apexPerformerRepository.findAll();
 
         for (StockSymbol stock : symbolRegistry.getDomesticStocks()) {
+            if (!instanceCoordinator.owns(stock.getTicker())) {
+                continue;
+            }
             evaluateAndAlert(stock, priceCache, apexPerformers);
         }
     }
@@ -75,7 +80,8 @@ public class PullbackBuyTracker {
         Set<String> apexPerformers = apexPerformerRepository.findAll();
 
         for (StockSymbol stock : symbolRegistry.getInternationalStocks()) {
-            if (!marketStatusService.isExchangeOpen(stock.getTicker())) {
+            if (!instanceCoordinator.owns(stock.getTicker())
+                    || !marketStatusService.isExchangeOpen(stock.getTicker())) {
                 continue;
             }
             evaluateAndAlert(stock, priceCache, apexPerformers);
@@ -1,11 +1,10 @@
 package org.tradelite.quant;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,6 +12,7 @@ import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.FeatureToggle;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.RsiService;
 import org.tradelite.service.RsiService.RsiSignal;
@@ -26,6 +26,7 @@ public class RsiTracker {
     private final TelegramGateway telegramClient;
     private final SymbolRegistry symbolRegistry;
     private final FeatureToggleService featureToggleService;
+    private final SymbolFanOut symbolFanOut;
 
     /**
      * Stores the Telegram message ID of the last sent RSI report so it can be deleted before
@@ -33,8 +34,11 @@ public class RsiTracker {
      */
     private Long lastTelegramReportMessageId;
 
-    /** Tracks the previous RSI value per symbol for delta display in reports. */
-    private final Map<String, Double> previousRsiMap = new HashMap<>();
+    /**
+     * Tracks the previous RSI value per symbol for delta display in reports. Written from the
+     * per-symbol fan-out, hence concurrent.
+     */
+    private final Map<String, Double> previousRsiMap = new ConcurrentHashMap<>();
 
     /**
      * Analyzes all symbols from SymbolRegistry, calculates RSI for each, detects
@@ -62,26 +66,26 @@ public class RsiTracker {
     }
 
     private List<SignalWithDelta> analyzeAllSymbols() {
-        List<SignalWithDelta> signals = new ArrayList<>();
-
-        for (StockSymbol stockSymbol : symbolRegistry.getAll()) {
-            String symbolKey = stockSymbol.getName();
-            String displayName = stockSymbol.getDisplayName();
-
-            Optional<RsiSignal> signal = rsiService.analyze(symbolKey, displayName);
-            signal.ifPresent(
-                    s -> {
-                        double previousRsi = previousRsiMap.getOrDefault(symbolKey, 0.0);
-                        double rsiDiff = s.rsi() - previousRsi;
-                        signals.add(new SignalWithDelta(s, previousRsi, rsiDiff));
-                    });
-            // Update previousRsi for all analyzed symbols (not just those with signals)
-            rsiService
-                    .getCurrentRsi(stockSymbol)
-                    .ifPresent(rsi -> previousRsiMap.put(symbolKey, rsi));
-        }
+        return symbolFanOut.map(symbolRegistry.getAll(), this::analyzeSymbol);
+    }
 
-        return signals;
+    private Optional<SignalWithDelta> analyzeSymbol(StockSymbol stockSymbol) {
+        String symbolKey = stockSymbol.getName();
+        String displayName = stockSymbol.getDisplayName();
+
+        Optional<SignalWithDelta> signal =
+                rsiService
+                        .analyze(symbolKey, displayName)
+                        .map(
+                                s -> {
+                                    double previousRsi =
+                                            previousRsiMap.getOrDefault(symbolKey, 0.0);
+                                    return new SignalWithDelta(
+                                            s, previousRsi, s.rsi() - previousRsi);
+                                });
+        // Update previousRsi for all analyzed symbols (not just those with signals)
+        rsiService.getCurrentRsi(stockSymbol).ifPresent(rsi -> previousRsiMap.put(symbolKey, rsi));
+        return signal;
     }
 
     private void deletePreviousTelegramReport() {
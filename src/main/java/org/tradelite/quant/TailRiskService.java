@@ -54,6 +54,7 @@ import org.tradelite.service.model.DailyPrice;
 public class TailRiskService {
 
     private final DailyPriceProvider dailyPriceProvider;
+    private final IndicatorSnapshotService indicatorSnapshotService;
 
     /**
      * Symbols for which the "insufficient price history" WARN log is suppressed.
@@ -78,17 +79,68 @@ public class TailRiskService {
      */
     public Optional<TailRiskAnalysis> analyzeTailRisk(
             String symbol, String displayName, TailRiskWindow window) {
+        Optional<TailRiskAnalysis> materialized = fromSnapshot(symbol, displayName, window);
+        if (materialized.isPresent()) {
+            return materialized;
+        }
+
         List<DailyPrice> dailyPrices =
                 dailyPriceProvider.findDailyClosingPrices(symbol, window.lookbackCalendarDays());
 
+        Optional<TailRiskAnalysis> analysis =
+                analyzeSample(symbol, displayName, window, dailyPrices);
+        if (analysis.isEmpty() && !SUPPRESS_INSUFFICIENT_DATA_WARN.contains(symbol)) {
+            log.warn(
+                    "Insufficient price history for {}: have {} rows, need {}",
+                    symbol,
+                    dailyPrices.size(),
+                    window.minDataPoints());
+        }
+        return analysis;
+    }
+
+    /**
+     * Reads the moments materialized for the canonical {@link TailRiskTracker#SHORT} and {@link
+     * TailRiskTracker#LONG} windows. A live price newer than the snapshot's bar shifts the sample
+     * by a day, so the snapshot is only used while there is none.
+     */
+    private Optional<TailRiskAnalysis> fromSnapshot(
+            String symbol, String displayName, TailRiskWindow window) {
+        boolean shortWindow = window.equals(TailRiskTracker.SHORT);
+        if (!shortWindow && !window.equals(TailRiskTracker.LONG)) {
+            return Optional.empty();
+        }
+        Optional<IndicatorSnapshot> current = indicatorSnapshotService.findCurrent(symbol);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        IndicatorSnapshot snapshot = current.get();
+        double kurtosis = shortWindow ? snapshot.kurtosisShort() : snapshot.kurtosisLong();
+        double skewness = shortWindow ? snapshot.skewnessShort() : snapshot.skewnessLong();
+        if (Double.isNaN(kurtosis)
+                || Double.isNaN(skewness)
+                || dailyPriceProvider
+                        .findIntradayPriceAfter(symbol, snapshot.barDate())
+                        .isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                toAnalysis(symbol, displayName, kurtosis, skewness, window.minDataPoints() - 1));
+    }
+
+    /**
+     * Computes tail risk from already loaded closing prices. Shared by {@link #analyzeTailRisk} and
+     * {@link IndicatorMaterializer}.
+     *
+     * @return Optional containing analysis results, empty if fewer than {@code
+     *     window.minDataPoints()} prices are given
+     */
+    Optional<TailRiskAnalysis> analyzeSample(
+            String symbol,
+            String displayName,
+            TailRiskWindow window,
+            List<DailyPrice> dailyPrices) {
         if (dailyPrices.size() < window.minDataPoints()) {
-            if (!SUPPRESS_INSUFFICIENT_DATA_WARN.contains(symbol)) {
-                log.warn(
-                        "Insufficient price history for {}: have {} rows, need {}",
-                        symbol,
-                        dailyPrices.size(),
-                        window.minDataPoints());
-            }
             return Optional.empty();
         }
 
@@ -102,22 +154,23 @@ public class TailRiskService {
         List<Double> returns = toDailyChangePercents(sample);
 
         double kurtosis = calculateKurtosis(returns);
-        double excessKurtosis = kurtosis - 3.0;
-        TailRiskLevel riskLevel = TailRiskLevel.fromExcessKurtosis(excessKurtosis);
-
         double skewness = calculateSkewness(returns);
-        SkewnessLevel skewnessLevel = SkewnessLevel.fromSkewness(skewness);
 
-        return Optional.of(
-                new TailRiskAnalysis(
-                        symbol,
-                        displayName,
-                        kurtosis,
-                        excessKurtosis,
-                        riskLevel,
-                        skewness,
-                        skewnessLevel,
-                        returns.size()));
+        return Optional.of(toAnalysis(symbol, displayName, kurtosis, skewness, returns.size()));
+    }
+
+    private static TailRiskAnalysis toAnalysis(
+            String symbol, String displayName, double kurtosis, double skewness, int dataPoints) {
+        double excessKurtosis = kurtosis - 3.0;
+        return new TailRiskAnalysis(
+                symbol,
+                displayName,
+                kurtosis,
+                excessKurtosis,
+                TailRiskLevel.fromExcessKurtosis(excessKurtosis),
+                skewness,
+                SkewnessLevel.fromSkewness(skewness),
+                dataPoints);
     }
 
     protected List<Double> toDailyChangePercents(List<DailyPrice> prices) {
@@ -19,11 +19,20 @@ public class VfiService {
     static final double VCOEF = 2.5;
     static final int SIGNAL_LENGTH = 5;
     static final int VOLATILITY_PERIOD = 30;
-    private static final int LOOKBACK_CALENDAR_DAYS = 400;
+    static final int LOOKBACK_CALENDAR_DAYS = 400;
 
     private final OhlcvRepository ohlcvRepository;
+    private final IndicatorSnapshotService indicatorSnapshotService;
 
     public Optional<VfiAnalysis> analyze(String symbol, String displayName) {
+        // VFI only reads OHLCV bars, so a current snapshot needs no intraday adjustment.
+        Optional<IndicatorSnapshot> snapshot = indicatorSnapshotService.findCurrent(symbol);
+        if (snapshot.isPresent() && !Double.isNaN(snapshot.get().vfi())) {
+            return Optional.of(
+                    new VfiAnalysis(
+                            symbol, displayName, snapshot.get().vfi(), snapshot.get().vfiSignal()));
+        }
+
         List<OhlcvRecord> records = ohlcvRepository.findBySymbol(symbol, LOOKBACK_CALENDAR_DAYS);
 
         if (records.size() < VfiAnalysis.MIN_DATA_POINTS) {
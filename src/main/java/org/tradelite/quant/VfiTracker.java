@@ -1,6 +1,5 @@
 package org.tradelite.quant;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -11,6 +10,7 @@ import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.FeatureToggle;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.RelativeStrengthService;
 import org.tradelite.service.RelativeStrengthService.RsResult;
@@ -25,6 +25,7 @@ public class VfiTracker {
     private final TelegramGateway telegramClient;
     private final SymbolRegistry symbolRegistry;
     private final FeatureToggleService featureToggleService;
+    private final SymbolFanOut symbolFanOut;
 
     public void sendDailyReport() {
         if (!featureToggleService.isEnabled(FeatureToggle.VFI_REPORT)) {
@@ -52,16 +53,12 @@ public class VfiTracker {
     }
 
     List<SymbolResult> analyzeAllSymbols() {
-        List<SymbolResult> results = new ArrayList<>();
-
-        for (StockSymbol stock : symbolRegistry.getAll()) {
-            if (SymbolRegistry.BENCHMARK_SYMBOL.equals(stock.getTicker())) {
-                continue;
-            }
-            analyzeSymbol(stock.getTicker(), stock.getCompanyName()).ifPresent(results::add);
-        }
-
-        return results;
+        List<StockSymbol> symbols =
+                symbolRegistry.getAll().stream()
+                        .filter(stock -> !SymbolRegistry.BENCHMARK_SYMBOL.equals(stock.getTicker()))
+                        .toList();
+        return symbolFanOut.map(
+                symbols, stock -> analyzeSymbol(stock.getTicker(), stock.getCompanyName()));
     }
 
     private Optional<SymbolResult> analyzeSymbol(String symbol, String displayName) {
@@ -2,6 +2,7 @@ package org.tradelite.repository;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -10,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.OhlcvSeries;
 import org.tradelite.common.SymbolLifecycleListener;
 
 /**
@@ -43,11 +45,21 @@ public class CachingOhlcvRepository implements OhlcvRepository, SymbolLifecycleL
                 key -> List.copyOf(delegate.findBySymbol(key.symbol(), key.days())));
     }
 
+    /** Not cached: a single indexed lookup, used to check whether derived data is still current. */
+    @Override
+    public Optional<OhlcvRecord> findLatest(String symbol) {
+        return delegate.findLatest(symbol);
+    }
+
     @Override
     public void saveAll(List<OhlcvRecord> records) {
         delegate.saveAll(records);
         Set<String> touched =
-                records.stream().map(OhlcvRecord::symbol).collect(Collectors.toUnmodifiableSet());
+                records instanceof OhlcvSeries series
+                        ? (series.isEmpty() ? Set.of() : Set.of(series.symbol()))
+                        : records.stream()
+                                .map(OhlcvRecord::symbol)
+                                .collect(Collectors.toUnmodifiableSet());
         invalidate(touched);
     }
 
@@ -0,0 +1,41 @@
+package org.tradelite.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.tradelite.quant.IndicatorSnapshot;
+
+/** Repository for the indicators materialized after the nightly OHLCV fetch. */
+public interface IndicatorSnapshotRepository {
+
+    /**
+     * Saves the snapshots, replacing any existing row for the same symbol and bar date.
+     *
+     * @param snapshots The snapshots to persist
+     */
+    void saveAll(List<IndicatorSnapshot> snapshots);
+
+    /**
+     * Finds the snapshot with the latest bar date for a symbol.
+     *
+     * @param symbol The stock ticker symbol
+     * @return Optional containing the snapshot if any exists
+     */
+    Optional<IndicatorSnapshot> findLatest(String symbol);
+
+    /**
+     * Deletes snapshots whose bar date is before {@code cutoff}.
+     *
+     * @param cutoff The oldest bar date to keep
+     * @return Number of rows deleted
+     */
+    int deleteOlderThan(LocalDate cutoff);
+
+    /**
+     * Deletes all rows for the given symbol.
+     *
+     * @param symbol The stock ticker symbol
+     * @return Number of rows deleted
+     */
+    int deleteBySymbol(String symbol);
+}
@@ -0,0 +1,16 @@
+package org.tradelite.repository;
+
+import java.time.Instant;
+
+/**
+ * A running instance's claim on a share of the symbol universe. {@code shardFrom} (inclusive) to
+ * {@code shardTo} (exclusive) is a slot range, see {@code InstanceCoordinator}.
+ */
+public record InstanceLease(
+        String instanceId,
+        Instant startedAt,
+        Instant heartbeatAt,
+        Instant expiresAt,
+        int shardFrom,
+        int shardTo,
+        boolean leader) {}
@@ -0,0 +1,18 @@
+package org.tradelite.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface InstanceLeaseRepository {
+
+    /** Inserts or renews the lease of {@code lease.instanceId()}. */
+    void save(InstanceLease lease);
+
+    /** Leases still valid at {@code now}, oldest instance first. */
+    List<InstanceLease> findLive(Instant now);
+
+    /** Drops the leases of instances that stopped renewing before {@code now}. */
+    int deleteExpired(Instant now);
+
+    void delete(String instanceId);
+}
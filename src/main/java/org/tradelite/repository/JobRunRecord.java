@@ -0,0 +1,17 @@
+package org.tradelite.repository;
+
+import java.time.Instant;
+import org.tradelite.scheduling.JobOutcome;
+import org.tradelite.scheduling.JobTrigger;
+
+public record JobRunRecord(
+        String jobName,
+        JobTrigger trigger,
+        Instant triggeredAt,
+        Instant startedAt,
+        Instant finishedAt,
+        long durationMs,
+        JobOutcome outcome,
+        int symbolsProcessed,
+        int apiCalls,
+        boolean overrun) {}
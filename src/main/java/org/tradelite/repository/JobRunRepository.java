@@ -0,0 +1,17 @@
+package org.tradelite.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface JobRunRepository {
+
+    void save(JobRunRecord jobRun);
+
+    /** All runs triggered at or after {@code since}, oldest first. */
+    List<JobRunRecord> findSince(Instant since);
+
+    /** The {@code limit} most recent runs, newest first, optionally for a single job. */
+    List<JobRunRecord> findRecent(String jobName, int limit);
+
+    int deleteOlderThan(Instant cutoff);
+}
@@ -0,0 +1,18 @@
+package org.tradelite.repository;
+
+public record OhlcvFetchCheckpoint(String symbol, Mode mode, Status status) {
+
+    public enum Mode {
+        BACKFILL,
+        REFRESH
+    }
+
+    public enum Status {
+        COMPLETED,
+        FAILED
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+}
@@ -0,0 +1,27 @@
+package org.tradelite.repository;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+public interface OhlcvFetchCheckpointRepository {
+
+    /** The most recently started run that has not finished yet. */
+    Optional<OhlcvFetchRun> findOpenRun();
+
+    /**
+     * Starts a new run and drops every earlier run together with its checkpoints, unless a run
+     * started after {@code openSince} is still open, as when another instance sharing the database
+     * just started tonight's run. Atomic across processes.
+     *
+     * @return whether this call started the run
+     */
+    boolean startRunUnlessOpen(String runId, Instant startedAt, Instant openSince);
+
+    void finishRun(String runId, Instant finishedAt);
+
+    /** Checkpoints of a run keyed by symbol. */
+    Map<String, OhlcvFetchCheckpoint> findCheckpoints(String runId);
+
+    void saveCheckpoint(String runId, OhlcvFetchCheckpoint checkpoint, Instant updatedAt);
+}
@@ -0,0 +1,5 @@
+package org.tradelite.repository;
+
+import java.time.Instant;
+
+public record OhlcvFetchRun(String runId, Instant startedAt) {}
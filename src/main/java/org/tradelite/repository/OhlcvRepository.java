@@ -1,6 +1,7 @@
 package org.tradelite.repository;
 
 import java.util.List;
+import java.util.Optional;
 import org.tradelite.common.OhlcvRecord;
 
 public interface OhlcvRepository {
@@ -9,5 +10,8 @@ public interface OhlcvRepository {
 
     List<OhlcvRecord> findBySymbol(String symbol, int days);
 
+    /** Returns the bar with the latest date for the symbol, if any. */
+    Optional<OhlcvRecord> findLatest(String symbol);
+
     int deleteBySymbol(String symbol);
 }
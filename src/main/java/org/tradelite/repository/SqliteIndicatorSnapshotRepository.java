@@ -0,0 +1,173 @@
+package org.tradelite.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.tradelite.common.SymbolLifecycleListener;
+import org.tradelite.quant.IndicatorSnapshot;
+
+/**
+ * SQLite implementation of {@link IndicatorSnapshotRepository}. Indicators that are {@code NaN} for
+ * lack of history are stored as {@code NULL} and read back as {@code NaN}.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SqliteIndicatorSnapshotRepository
+        implements IndicatorSnapshotRepository, SymbolLifecycleListener {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAll(List<IndicatorSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        String sql =
+                """
+                INSERT OR REPLACE INTO indicator_snapshot
+                (symbol, bar_date, close, data_points, ema9, ema21, ema50, ema100, ema200,
+                 vfi, vfi_signal, rsi, bollinger_sma, bollinger_upper, bollinger_lower,
+                 bollinger_percent_b, bollinger_bandwidth, bollinger_bandwidth_percentile,
+                 roc10, roc20, kurtosis_short, skewness_short, kurtosis_long, skewness_long,
+                 computed_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(@NonNull PreparedStatement ps, int i)
+                            throws SQLException {
+                        IndicatorSnapshot s = snapshots.get(i);
+                        ps.setString(1, s.symbol());
+                        ps.setString(2, s.barDate().toString());
+                        ps.setDouble(3, s.close());
+                        ps.setInt(4, s.dataPoints());
+                        setIndicator(ps, 5, s.ema9());
+                        setIndicator(ps, 6, s.ema21());
+                        setIndicator(ps, 7, s.ema50());
+                        setIndicator(ps, 8, s.ema100());
+                        setIndicator(ps, 9, s.ema200());
+                        setIndicator(ps, 10, s.vfi());
+                        setIndicator(ps, 11, s.vfiSignal());
+                        setIndicator(ps, 12, s.rsi());
+                        setIndicator(ps, 13, s.bollingerSma());
+                        setIndicator(ps, 14, s.bollingerUpper());
+                        setIndicator(ps, 15, s.bollingerLower());
+                        setIndicator(ps, 16, s.bollingerPercentB());
+                        setIndicator(ps, 17, s.bollingerBandwidth());
+                        setIndicator(ps, 18, s.bollingerBandwidthPercentile());
+                        setIndicator(ps, 19, s.roc10());
+                        setIndicator(ps, 20, s.roc20());
+                        setIndicator(ps, 21, s.kurtosisShort());
+                        setIndicator(ps, 22, s.skewnessShort());
+                        setIndicator(ps, 23, s.kurtosisLong());
+                        setIndicator(ps, 24, s.skewnessLong());
+                        ps.setLong(25, s.computedAt().toEpochMilli());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return snapshots.size();
+                    }
+                });
+        log.debug("Saved {} indicator snapshots", snapshots.size());
+    }
+
+    @Override
+    public Optional<IndicatorSnapshot> findLatest(String symbol) {
+        String sql =
+                """
+                SELECT * FROM indicator_snapshot
+                WHERE symbol = ?
+                ORDER BY bar_date DESC
+                LIMIT 1
+                """;
+
+        List<IndicatorSnapshot> results = jdbcTemplate.query(sql, this::mapRow, symbol);
+        return results.stream().findFirst();
+    }
+
+    @Override
+    public int deleteOlderThan(LocalDate cutoff) {
+        int deleted =
+                jdbcTemplate.update(
+                        "DELETE FROM indicator_snapshot WHERE bar_date < ?", cutoff.toString());
+        if (deleted > 0) {
+            log.info("Deleted {} indicator snapshots before {}", deleted, cutoff);
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteBySymbol(String symbol) {
+        String sql = "DELETE FROM indicator_snapshot WHERE symbol = ?";
+        int deleted = jdbcTemplate.update(sql, symbol);
+        if (deleted > 0) {
+            log.info("Deleted {} indicator snapshot rows for symbol {}", deleted, symbol);
+        }
+        return deleted;
+    }
+
+    @Override
+    public void onSymbolRemoved(String ticker) {
+        deleteBySymbol(ticker);
+    }
+
+    private static void setIndicator(PreparedStatement ps, int index, double value)
+            throws SQLException {
+        if (Double.isNaN(value)) {
+            ps.setNull(index, Types.REAL);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+
+    private static double getIndicator(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? Double.NaN : value;
+    }
+
+    private IndicatorSnapshot mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new IndicatorSnapshot(
+                rs.getString("symbol"),
+                LocalDate.parse(rs.getString("bar_date")),
+                rs.getDouble("close"),
+                rs.getInt("data_points"),
+                getIndicator(rs, "ema9"),
+                getIndicator(rs, "ema21"),
+                getIndicator(rs, "ema50"),
+                getIndicator(rs, "ema100"),
+                getIndicator(rs, "ema200"),
+                getIndicator(rs, "vfi"),
+                getIndicator(rs, "vfi_signal"),
+                getIndicator(rs, "rsi"),
+                getIndicator(rs, "bollinger_sma"),
+                getIndicator(rs, "bollinger_upper"),
+                getIndicator(rs, "bollinger_lower"),
+                getIndicator(rs, "bollinger_percent_b"),
+                getIndicator(rs, "bollinger_bandwidth"),
+                getIndicator(rs, "bollinger_bandwidth_percentile"),
+                getIndicator(rs, "roc10"),
+                getIndicator(rs, "roc20"),
+                getIndicator(rs, "kurtosis_short"),
+                getIndicator(rs, "skewness_short"),
+                getIndicator(rs, "kurtosis_long"),
+                getIndicator(rs, "skewness_long"),
+                Instant.ofEpochMilli(rs.getLong("computed_at")));
+    }
+}
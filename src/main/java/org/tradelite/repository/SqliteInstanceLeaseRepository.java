@@ -0,0 +1,71 @@
+package org.tradelite.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SqliteInstanceLeaseRepository implements InstanceLeaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(InstanceLease lease) {
+        String sql =
+                """
+                INSERT OR REPLACE INTO instance_leases
+                    (instance_id, started_at, heartbeat_at, expires_at, shard_from, shard_to, leader)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        jdbcTemplate.update(
+                sql,
+                lease.instanceId(),
+                lease.startedAt().toEpochMilli(),
+                lease.heartbeatAt().toEpochMilli(),
+                lease.expiresAt().toEpochMilli(),
+                lease.shardFrom(),
+                lease.shardTo(),
+                lease.leader() ? 1 : 0);
+    }
+
+    @Override
+    public List<InstanceLease> findLive(Instant now) {
+        String sql =
+                """
+                SELECT instance_id, started_at, heartbeat_at, expires_at, shard_from, shard_to, leader
+                FROM instance_leases
+                WHERE expires_at > ?
+                ORDER BY started_at, instance_id
+                """;
+
+        return jdbcTemplate.query(sql, this::mapRow, now.toEpochMilli());
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update(
+                "DELETE FROM instance_leases WHERE expires_at <= ?", now.toEpochMilli());
+    }
+
+    @Override
+    public void delete(String instanceId) {
+        jdbcTemplate.update("DELETE FROM instance_leases WHERE instance_id = ?", instanceId);
+    }
+
+    private InstanceLease mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new InstanceLease(
+                rs.getString("instance_id"),
+                Instant.ofEpochMilli(rs.getLong("started_at")),
+                Instant.ofEpochMilli(rs.getLong("heartbeat_at")),
+                Instant.ofEpochMilli(rs.getLong("expires_at")),
+                rs.getInt("shard_from"),
+                rs.getInt("shard_to"),
+                rs.getInt("leader") == 1);
+    }
+}
@@ -0,0 +1,94 @@
+package org.tradelite.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.tradelite.scheduling.JobOutcome;
+import org.tradelite.scheduling.JobTrigger;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SqliteJobRunRepository implements JobRunRepository {
+
+    private static final String COLUMNS =
+            """
+            job_name, trigger, triggered_at, started_at, finished_at, duration_ms, outcome,
+            symbols_processed, api_calls, overrun
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(JobRunRecord jobRun) {
+        String sql = "INSERT INTO job_runs (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        jdbcTemplate.update(
+                sql,
+                jobRun.jobName(),
+                jobRun.trigger().name(),
+                jobRun.triggeredAt().toEpochMilli(),
+                jobRun.startedAt().toEpochMilli(),
+                jobRun.finishedAt().toEpochMilli(),
+                jobRun.durationMs(),
+                jobRun.outcome().name(),
+                jobRun.symbolsProcessed(),
+                jobRun.apiCalls(),
+                jobRun.overrun() ? 1 : 0);
+    }
+
+    @Override
+    public List<JobRunRecord> findSince(Instant since) {
+        String sql =
+                "SELECT "
+                        + COLUMNS
+                        + " FROM job_runs WHERE triggered_at >= ? ORDER BY triggered_at, id";
+
+        return jdbcTemplate.query(sql, this::mapRow, since.toEpochMilli());
+    }
+
+    @Override
+    public List<JobRunRecord> findRecent(String jobName, int limit) {
+        if (jobName == null) {
+            String sql =
+                    "SELECT "
+                            + COLUMNS
+                            + " FROM job_runs ORDER BY triggered_at DESC, id DESC LIMIT ?";
+            return jdbcTemplate.query(sql, this::mapRow, limit);
+        }
+        String sql =
+                "SELECT "
+                        + COLUMNS
+                        + " FROM job_runs WHERE job_name = ? ORDER BY triggered_at DESC, id DESC"
+                        + " LIMIT ?";
+        return jdbcTemplate.query(sql, this::mapRow, jobName, limit);
+    }
+
+    @Override
+    public int deleteOlderThan(Instant cutoff) {
+        int deleted =
+                jdbcTemplate.update(
+                        "DELETE FROM job_runs WHERE triggered_at < ?", cutoff.toEpochMilli());
+        log.debug("Deleted {} job runs older than {}", deleted, cutoff);
+        return deleted;
+    }
+
+    private JobRunRecord mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new JobRunRecord(
+                rs.getString("job_name"),
+                JobTrigger.valueOf(rs.getString("trigger")),
+                Instant.ofEpochMilli(rs.getLong("triggered_at")),
+                Instant.ofEpochMilli(rs.getLong("started_at")),
+                Instant.ofEpochMilli(rs.getLong("finished_at")),
+                rs.getLong("duration_ms"),
+                JobOutcome.valueOf(rs.getString("outcome")),
+                rs.getInt("symbols_processed"),
+                rs.getInt("api_calls"),
+                rs.getInt("overrun") == 1);
+    }
+}
@@ -0,0 +1,110 @@
+package org.tradelite.repository;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SqliteOhlcvFetchCheckpointRepository implements OhlcvFetchCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<OhlcvFetchRun> findOpenRun() {
+        String sql =
+                """
+                SELECT run_id, started_at FROM ohlcv_fetch_runs
+                WHERE finished_at IS NULL
+                ORDER BY started_at DESC
+                LIMIT 1
+                """;
+
+        List<OhlcvFetchRun> runs =
+                jdbcTemplate.query(
+                        sql,
+                        (rs, _) ->
+                                new OhlcvFetchRun(
+                                        rs.getString("run_id"),
+                                        Instant.ofEpochMilli(rs.getLong("started_at"))));
+        return runs.stream().findFirst();
+    }
+
+    @Override
+    public boolean startRunUnlessOpen(String runId, Instant startedAt, Instant openSince) {
+        // A single statement, so two instances racing here can't both insert
+        String sql =
+                """
+                INSERT INTO ohlcv_fetch_runs (run_id, started_at)
+                SELECT ?, ?
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM ohlcv_fetch_runs
+                    WHERE finished_at IS NULL AND started_at > ?
+                )
+                """;
+
+        if (jdbcTemplate.update(sql, runId, startedAt.toEpochMilli(), openSince.toEpochMilli())
+                == 0) {
+            return false;
+        }
+        int dropped =
+                jdbcTemplate.update("DELETE FROM ohlcv_fetch_checkpoints WHERE run_id <> ?", runId);
+        jdbcTemplate.update("DELETE FROM ohlcv_fetch_runs WHERE run_id <> ?", runId);
+        log.debug("Started OHLCV fetch run {} (dropped {} old checkpoints)", runId, dropped);
+        return true;
+    }
+
+    @Override
+    public void finishRun(String runId, Instant finishedAt) {
+        jdbcTemplate.update(
+                "UPDATE ohlcv_fetch_runs SET finished_at = ? WHERE run_id = ?",
+                finishedAt.toEpochMilli(),
+                runId);
+    }
+
+    @Override
+    public Map<String, OhlcvFetchCheckpoint> findCheckpoints(String runId) {
+        String sql =
+                "SELECT symbol, mode, status FROM ohlcv_fetch_checkpoints WHERE run_id = ?"
+                        + " ORDER BY updated_at";
+
+        Map<String, OhlcvFetchCheckpoint> checkpoints = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                sql,
+                rs -> {
+                    OhlcvFetchCheckpoint checkpoint =
+                            new OhlcvFetchCheckpoint(
+                                    rs.getString("symbol"),
+                                    OhlcvFetchCheckpoint.Mode.valueOf(rs.getString("mode")),
+                                    OhlcvFetchCheckpoint.Status.valueOf(rs.getString("status")));
+                    checkpoints.put(checkpoint.symbol(), checkpoint);
+                },
+                runId);
+        return checkpoints;
+    }
+
+    @Override
+    public void saveCheckpoint(String runId, OhlcvFetchCheckpoint checkpoint, Instant updatedAt) {
+        String sql =
+                """
+                INSERT OR REPLACE INTO ohlcv_fetch_checkpoints
+                    (run_id, symbol, mode, status, updated_at)
+                VALUES (?, ?, ?, ?, ?)
+                """;
+
+        jdbcTemplate.update(
+                sql,
+                runId,
+                checkpoint.symbol(),
+                checkpoint.mode().name(),
+                checkpoint.status().name(),
+                updatedAt.toEpochMilli());
+    }
+}
@@ -3,6 +3,7 @@ package org.tradelite.repository;
 import java.sql.PreparedStatement;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
@@ -10,6 +11,7 @@ import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.OhlcvSeries;
 
 /**
  * SQLite-backed implementation of {@link OhlcvRepository}. Note that {@link CachingOhlcvRepository}
@@ -43,6 +45,17 @@ public class SqliteOhlcvRepository implements OhlcvRepository {
                     @Override
                     public void setValues(@NonNull PreparedStatement ps, int i)
                             throws java.sql.SQLException {
+                        // A parsed series binds straight from its columns, no record per row
+                        if (records instanceof OhlcvSeries series) {
+                            ps.setString(1, series.symbol());
+                            ps.setString(2, series.date(i).toString());
+                            ps.setDouble(3, series.open(i));
+                            ps.setDouble(4, series.high(i));
+                            ps.setDouble(5, series.low(i));
+                            ps.setDouble(6, series.close(i));
+                            ps.setLong(7, series.volume(i));
+                            return;
+                        }
                         OhlcvRecord ohlcv = records.get(i);
                         ps.setString(1, ohlcv.symbol());
                         ps.setString(2, ohlcv.date().toString());
@@ -74,6 +87,20 @@ public class SqliteOhlcvRepository implements OhlcvRepository {
         return jdbcTemplate.query(sql, this::mapResultSetToRecord, symbol, "-" + days + " days");
     }
 
+    @Override
+    public Optional<OhlcvRecord> findLatest(String symbol) {
+        String sql =
+                """
+                SELECT symbol, date, open, high, low, close, volume
+                FROM twelvedata_daily_ohlcv
+                WHERE symbol = ?
+                ORDER BY date DESC
+                LIMIT 1
+                """;
+
+        return jdbcTemplate.query(sql, this::mapResultSetToRecord, symbol).stream().findFirst();
+    }
+
     private OhlcvRecord mapResultSetToRecord(java.sql.ResultSet rs, int rowNum)
             throws java.sql.SQLException {
         return new OhlcvRecord(
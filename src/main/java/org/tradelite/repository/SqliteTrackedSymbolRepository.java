@@ -15,11 +15,19 @@ public class SqliteTrackedSymbolRepository implements TrackedSymbolRepository {
 
     @Override
     public List<StockSymbolEntry> findAll() {
-        String sql = "SELECT ticker, display_name FROM tracked_symbols ORDER BY ticker";
+        return findByType(AssetType.STOCK);
+    }
+
+    @Override
+    public List<StockSymbolEntry> findByType(AssetType type) {
+        String sql =
+                "SELECT ticker, display_name FROM tracked_symbols WHERE asset_type = ? ORDER BY"
+                        + " ticker";
         return jdbcTemplate.query(
                 sql,
                 (rs, _) ->
-                        new StockSymbolEntry(rs.getString("ticker"), rs.getString("display_name")));
+                        new StockSymbolEntry(rs.getString("ticker"), rs.getString("display_name")),
+                type.name());
     }
 
     @Override
@@ -6,8 +6,11 @@ import org.tradelite.common.SymbolRegistry.StockSymbolEntry;
 
 public interface TrackedSymbolRepository {
 
+    /** Tracked stocks, ordered by ticker. Coins are read through {@link #findByType}. */
     List<StockSymbolEntry> findAll();
 
+    List<StockSymbolEntry> findByType(AssetType type);
+
     void save(String ticker, String displayName, AssetType type);
 
     boolean deleteByTickerAndType(String ticker, AssetType type);
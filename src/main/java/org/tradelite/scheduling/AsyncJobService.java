@@ -0,0 +1,174 @@
+package org.tradelite.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.tradelite.web.dashboard.DashboardEventPublisher;
+
+/**
+ * Runs manually triggered jobs in the background, so the HTTP request that submitted one returns
+ * straight away with a job id to poll.
+ *
+ * <p>At most one run per job name is active: submitting a job that is still running attaches to the
+ * existing run instead of starting a duplicate. Progress (symbols done out of total, as reported
+ * through {@link JobRunContext}) is published as {@value #PROGRESS_EVENT} dashboard events, at most
+ * once per {@link #PROGRESS_INTERVAL} plus once when the job starts and once when it finishes.
+ * Finished jobs stay queryable for {@link #RETENTION}.
+ */
+@Slf4j
+@Service
+public class AsyncJobService {
+
+    public static final String PROGRESS_EVENT = "job-progress";
+    static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(1);
+    static final Duration RETENTION = Duration.ofHours(1);
+
+    private final DashboardEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Executor executor;
+    private final Map<String, AsyncJob> jobsById = new ConcurrentHashMap<>();
+    private final Map<String, AsyncJob> runningByName = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AsyncJobService(DashboardEventPublisher eventPublisher, Clock clock) {
+        this(eventPublisher, clock, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    AsyncJobService(DashboardEventPublisher eventPublisher, Clock clock, Executor executor) {
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts {@code body} in the background, or attaches to the run of {@code jobName} that is
+     * already in progress.
+     */
+    public Submission submit(String jobName, BooleanSupplier body) {
+        pruneFinished();
+
+        AtomicBoolean started = new AtomicBoolean();
+        AsyncJob job =
+                runningByName.computeIfAbsent(
+                        jobName,
+                        name -> {
+                            started.set(true);
+                            return new AsyncJob(
+                                    UUID.randomUUID().toString(), name, clock.instant());
+                        });
+
+        if (!started.get()) {
+            log.info("Job {} is already running as {}, attaching", jobName, job.id);
+            return new Submission(job.snapshot(), true);
+        }
+
+        jobsById.put(job.id, job);
+        log.info("Submitted job {} as {}", jobName, job.id);
+        publish(job);
+        executor.execute(() -> run(job, body));
+        return new Submission(job.snapshot(), false);
+    }
+
+    public boolean hasRunningJobs() {
+        return !runningByName.isEmpty();
+    }
+
+    public Optional<AsyncJobSnapshot> find(String id) {
+        return Optional.ofNullable(jobsById.get(id)).map(AsyncJob::snapshot);
+    }
+
+    private void run(AsyncJob job, BooleanSupplier body) {
+        job.context = JobRunContext.open(() -> publishProgress(job));
+        boolean succeeded = false;
+        String error = null;
+        try {
+            succeeded = body.getAsBoolean();
+        } catch (RuntimeException e) {
+            log.error("Job {} ({}) failed", job.name, job.id, e);
+            error = e.getMessage();
+        } finally {
+            job.context.close();
+            String result = succeeded ? "ok" : error != null ? error : "check logs";
+            job.finish(
+                    succeeded ? AsyncJobStatus.SUCCEEDED : AsyncJobStatus.FAILED,
+                    result,
+                    clock.instant());
+            runningByName.remove(job.name, job);
+            log.info("Job {} ({}) finished: {}", job.name, job.id, job.status);
+            publish(job);
+        }
+    }
+
+    private void publishProgress(AsyncJob job) {
+        Instant now = clock.instant();
+        synchronized (job) {
+            if (job.lastPublishedAt != null
+                    && now.isBefore(job.lastPublishedAt.plus(PROGRESS_INTERVAL))) {
+                return;
+            }
+            job.lastPublishedAt = now;
+        }
+        publish(job);
+    }
+
+    private void publish(AsyncJob job) {
+        eventPublisher.publish(PROGRESS_EVENT, job.snapshot());
+    }
+
+    private void pruneFinished() {
+        Instant cutoff = clock.instant().minus(RETENTION);
+        jobsById.values()
+                .removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    /** The job that was started or attached to; {@code attached} is true for the latter. */
+    public record Submission(AsyncJobSnapshot job, boolean attached) {}
+
+    private static final class AsyncJob {
+
+        private final String id;
+        private final String name;
+        private final Instant submittedAt;
+        private volatile JobRunContext context;
+        private volatile AsyncJobStatus status = AsyncJobStatus.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile String result;
+        private Instant lastPublishedAt;
+
+        private AsyncJob(String id, String name, Instant submittedAt) {
+            this.id = id;
+            this.name = name;
+            this.submittedAt = submittedAt;
+        }
+
+        private void finish(AsyncJobStatus status, String result, Instant finishedAt) {
+            this.result = result;
+            this.finishedAt = finishedAt;
+            this.status = status;
+        }
+
+        private AsyncJobSnapshot snapshot() {
+            JobRunContext current = context;
+            return new AsyncJobSnapshot(
+                    id,
+                    name,
+                    status,
+                    current == null ? 0 : current.getSymbolsProcessed(),
+                    current == null ? 0 : current.getSymbolsTotal(),
+                    submittedAt,
+                    finishedAt,
+                    result);
+        }
+    }
+}
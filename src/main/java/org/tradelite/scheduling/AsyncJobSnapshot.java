@@ -0,0 +1,17 @@
+package org.tradelite.scheduling;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time view of a submitted job. {@code symbolsTotal} is zero until the job announces how
+ * many symbols it will work through; {@code finishedAt} and {@code result} are null while running.
+ */
+public record AsyncJobSnapshot(
+        String id,
+        String job,
+        AsyncJobStatus status,
+        int symbolsDone,
+        int symbolsTotal,
+        Instant submittedAt,
+        Instant finishedAt,
+        String result) {}
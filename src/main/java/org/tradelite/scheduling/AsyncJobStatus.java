@@ -0,0 +1,7 @@
+package org.tradelite.scheduling;
+
+public enum AsyncJobStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
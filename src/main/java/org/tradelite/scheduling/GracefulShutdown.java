@@ -0,0 +1,132 @@
+package org.tradelite.scheduling;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.stereotype.Component;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.service.ApiRequestMeteringService;
+import org.tradelite.web.dashboard.DashboardEventPublisher;
+
+/**
+ * Shuts the bot down in order, so a redeploy loses neither OHLCV writes nor metering counts:
+ *
+ * <ol>
+ *   <li>stop triggers: the task scheduler stops firing and {@link JobLaneExecutor} drops any
+ *       trigger still arriving;
+ *   <li>drain: wait up to {@code tradebot.scheduling.shutdown-drain-timeout} for running jobs,
+ *       manual ones included, then cancel the stragglers at their next cancellation point;
+ *   <li>flush the API metering counters, which otherwise wait for the next maintenance run;
+ *   <li>end the dashboard event streams. Telegram sends are synchronous inside job runs, so the
+ *       drain already saw them out.
+ * </ol>
+ *
+ * <p>This runs as a lifecycle stop after the web server has stopped taking requests and before any
+ * bean is destroyed; the datasource closes afterwards, once nothing is left to write.
+ */
+@Slf4j
+@Component
+public class GracefulShutdown implements SmartLifecycle {
+
+    /** After the web server's graceful shutdown and stop phases, so no manual run can start. */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    /** How long cancelled jobs get to unwind before shutdown moves on without them. */
+    static final Duration CANCEL_GRACE = Duration.ofSeconds(5);
+
+    private final JobLaneExecutor jobLaneExecutor;
+    private final AsyncJobService asyncJobService;
+    private final ApiRequestMeteringService meteringService;
+    private final DashboardEventPublisher eventPublisher;
+    private final ObjectProvider<TaskScheduler> taskScheduler;
+    private final TradebotSchedulingProperties schedulingProperties;
+    private volatile boolean running;
+
+    public GracefulShutdown(
+            JobLaneExecutor jobLaneExecutor,
+            AsyncJobService asyncJobService,
+            ApiRequestMeteringService meteringService,
+            DashboardEventPublisher eventPublisher,
+            @Qualifier("taskScheduler") ObjectProvider<TaskScheduler> taskScheduler,
+            TradebotSchedulingProperties schedulingProperties) {
+        this.jobLaneExecutor = jobLaneExecutor;
+        this.asyncJobService = asyncJobService;
+        this.meteringService = meteringService;
+        this.eventPublisher = eventPublisher;
+        this.taskScheduler = taskScheduler;
+        this.schedulingProperties = schedulingProperties;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long start = System.nanoTime();
+        log.info("Shutting down: stopping job triggers");
+        stopTriggers();
+
+        Duration drainTimeout = schedulingProperties.getShutdownDrainTimeout();
+        if (!awaitIdle(drainTimeout)) {
+            List<JobRunContext> stragglers = List.copyOf(JobRunContext.running());
+            log.warn(
+                    "Jobs still running after {}, cancelling: {}",
+                    drainTimeout,
+                    stragglers.stream().map(JobRunContext::getJobName).toList());
+            stragglers.forEach(JobRunContext::cancel);
+            if (!awaitIdle(CANCEL_GRACE)) {
+                log.warn(
+                        "Cancelled jobs did not finish within {}, shutting down anyway",
+                        CANCEL_GRACE);
+            }
+        }
+
+        meteringService.flushCounters();
+        eventPublisher.completeAll();
+        log.info("Shutdown pipeline finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void stopTriggers() {
+        jobLaneExecutor.stopAccepting();
+        // Lets the tasks that are executing finish; cancels every future fire.
+        if (taskScheduler.getIfAvailable() instanceof ExecutorConfigurationSupport executor) {
+            executor.initiateShutdown();
+        }
+    }
+
+    private boolean awaitIdle(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!JobRunContext.running().isEmpty() || asyncJobService.hasRunningJobs()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,221 @@
+package org.tradelite.scheduling;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.tradelite.config.TradebotCoordinationProperties;
+import org.tradelite.repository.InstanceLease;
+import org.tradelite.repository.InstanceLeaseRepository;
+
+/**
+ * Splits the symbol universe across tradebot processes sharing one SQLite database and elects one
+ * of them to lead. Each instance renews a lease in {@code instance_leases} on every heartbeat; the
+ * live instances, oldest first, divide {@link #SLOTS} hash slots into contiguous ranges, and the
+ * oldest leads. A symbol belongs to the instance whose range holds its slot, so price polling and
+ * OHLCV fetching skip symbols owned elsewhere, and only the leader runs report jobs and Telegram
+ * polling (see {@link JobLaneExecutor#executeOnLeader}).
+ *
+ * <p>An instance that stops renewing is dropped by the next heartbeat of any survivor, and the
+ * ranges are recomputed without it. An instance that can't renew its own lease stops claiming
+ * anything once that lease would have expired, so a wedged process doesn't keep alerting beside the
+ * instance that took over its symbols. Ownership only changes on heartbeats: for up to one interval
+ * after an instance joins or dies, a symbol may be polled twice or not at all.
+ *
+ * <p>With {@code tradebot.coordination.enabled=false} (the default) the instance owns every symbol
+ * and leads, and the lease table is never touched.
+ */
+@Slf4j
+@Component
+public class InstanceCoordinator {
+
+    /** Hash slots the symbol universe is divided into. */
+    static final int SLOTS = 1024;
+
+    private final InstanceLeaseRepository leaseRepository;
+    private final TradebotCoordinationProperties properties;
+    private final Clock clock;
+    private final String instanceId;
+    private volatile Instant startedAt;
+    private volatile Assignment assignment;
+
+    @Autowired
+    public InstanceCoordinator(
+            InstanceLeaseRepository leaseRepository,
+            TradebotCoordinationProperties properties,
+            Clock clock) {
+        this.leaseRepository = leaseRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.instanceId =
+                properties.getInstanceId().isBlank()
+                        ? UUID.randomUUID().toString()
+                        : properties.getInstanceId();
+        this.startedAt = clock.instant();
+        this.assignment = properties.isEnabled() ? Assignment.NONE : Assignment.ALL;
+    }
+
+    /** A coordinator for an instance running alone: it owns every symbol and leads. */
+    public static InstanceCoordinator standalone() {
+        return new InstanceCoordinator(
+                null, new TradebotCoordinationProperties(), Clock.systemUTC());
+    }
+
+    /** Claims a shard before the first scheduled job fires. */
+    @PostConstruct
+    void join() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // A restart under the same id keeps its place in the order (and its leadership)
+        // as long as the previous lease hasn't expired yet.
+        try {
+            leaseRepository.findLive(clock.instant()).stream()
+                    .filter(lease -> lease.instanceId().equals(instanceId))
+                    .findFirst()
+                    .ifPresent(lease -> startedAt = lease.startedAt());
+        } catch (Exception e) {
+            log.warn("Failed to read instance leases: {}", e.getMessage());
+        }
+        heartbeat();
+    }
+
+    /**
+     * Renews this instance's lease, drops expired ones and recomputes the shards from the instances
+     * still alive.
+     */
+    @Scheduled(
+            fixedDelayString = "${tradebot.coordination.heartbeat-interval:10s}",
+            initialDelayString = "${tradebot.coordination.heartbeat-interval:10s}")
+    public void heartbeat() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(properties.getLeaseTtl());
+        Assignment current = assignment;
+        try {
+            leaseRepository.save(lease(now, expiresAt, current));
+            int dropped = leaseRepository.deleteExpired(now);
+            if (dropped > 0) {
+                log.warn("Dropped {} expired instance lease(s), rebalancing shards", dropped);
+            }
+            Assignment next = assign(leaseRepository.findLive(now), instanceId, expiresAt);
+            leaseRepository.save(lease(now, expiresAt, next));
+            if (!next.sameShard(current)) {
+                log.info(
+                        "Instance {} owns slots [{}, {}) of {} across {} live instance(s){}",
+                        instanceId,
+                        next.shardFrom(),
+                        next.shardTo(),
+                        SLOTS,
+                        next.instances(),
+                        next.leader() ? ", leading" : "");
+            }
+            assignment = next;
+        } catch (Exception e) {
+            log.warn(
+                    "Failed to renew lease of instance {} (shard held until {}): {}",
+                    instanceId,
+                    current.validUntil(),
+                    e.getMessage());
+        }
+    }
+
+    /** Hands this instance's shard to the survivors right away instead of after the lease TTL. */
+    @PreDestroy
+    void leave() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        assignment = Assignment.NONE;
+        try {
+            leaseRepository.delete(instanceId);
+            log.info("Instance {} released its lease", instanceId);
+        } catch (Exception e) {
+            log.warn("Failed to release lease of instance {}: {}", instanceId, e.getMessage());
+        }
+    }
+
+    /** Whether this instance polls and fetches {@code symbol} (a ticker or coin id). */
+    public boolean owns(String symbol) {
+        Assignment current = assignment;
+        int slot = slot(symbol);
+        return current.isValid(clock.instant())
+                && slot >= current.shardFrom()
+                && slot < current.shardTo();
+    }
+
+    /** Whether this instance runs the jobs that must happen once across all instances. */
+    public boolean isLeader() {
+        Assignment current = assignment;
+        return current.leader() && current.isValid(clock.instant());
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    static int slot(String symbol) {
+        return Math.floorMod(symbol.hashCode(), SLOTS);
+    }
+
+    /**
+     * This instance's share given the live leases, oldest first: the {@code i}-th of {@code n}
+     * instances owns slots {@code [i * SLOTS / n, (i + 1) * SLOTS / n)}, and the first leads.
+     */
+    static Assignment assign(List<InstanceLease> live, String instanceId, Instant validUntil) {
+        int index = -1;
+        for (int i = 0; i < live.size(); i++) {
+            if (live.get(i).instanceId().equals(instanceId)) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return Assignment.NONE;
+        }
+        int instances = live.size();
+        return new Assignment(
+                index * SLOTS / instances,
+                (index + 1) * SLOTS / instances,
+                index == 0,
+                instances,
+                validUntil);
+    }
+
+    private InstanceLease lease(Instant now, Instant expiresAt, Assignment shard) {
+        return new InstanceLease(
+                instanceId,
+                startedAt,
+                now,
+                expiresAt,
+                shard.shardFrom(),
+                shard.shardTo(),
+                shard.leader());
+    }
+
+    record Assignment(
+            int shardFrom, int shardTo, boolean leader, int instances, Instant validUntil) {
+
+        static final Assignment ALL = new Assignment(0, SLOTS, true, 1, Instant.MAX);
+        static final Assignment NONE = new Assignment(0, 0, false, 0, Instant.MIN);
+
+        boolean isValid(Instant now) {
+            return now.isBefore(validUntil);
+        }
+
+        boolean sameShard(Assignment other) {
+            return shardFrom == other.shardFrom
+                    && shardTo == other.shardTo
+                    && leader == other.leader
+                    && instances == other.instances;
+        }
+    }
+}
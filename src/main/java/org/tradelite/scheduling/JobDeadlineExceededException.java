@@ -0,0 +1,15 @@
+package org.tradelite.scheduling;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Thrown at a cancellation point once the current run is past its deadline (see {@link
+ * JobRunContext#checkDeadline()}). Unwinds the run like an interrupt would; the ledger records the
+ * run as {@link JobOutcome#CANCELLED} with the symbols processed until then.
+ */
+public class JobDeadlineExceededException extends CancellationException {
+
+    public JobDeadlineExceededException(String message) {
+        super(message);
+    }
+}
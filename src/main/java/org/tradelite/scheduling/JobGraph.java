@@ -0,0 +1,150 @@
+package org.tradelite.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import org.tradelite.ThrowingRunnable;
+
+/**
+ * A job split into named steps whose ordering is derived from the data they exchange. Each node
+ * declares the named inputs it reads and the outputs it produces; a node runs after every node that
+ * produces one of its inputs. Nodes that share no data are independent and may run concurrently
+ * under {@link JobGraphRunner}.
+ *
+ * <p>Graphs are validated on {@link Builder#build()}: node names must be unique, every input must
+ * have a producer and the dependencies must be acyclic.
+ */
+public final class JobGraph {
+
+    /** A single step of a {@link JobGraph}. */
+    public record Node(
+            String name, Set<String> inputs, Set<String> outputs, ThrowingRunnable action) {
+
+        public Node {
+            inputs = Set.copyOf(inputs);
+            outputs = Set.copyOf(outputs);
+        }
+    }
+
+    @Getter private final String name;
+
+    /** Nodes in a topological order that preserves declaration order among independent nodes. */
+    @Getter private final List<Node> nodes;
+
+    private final Map<String, Set<String>> dependencies;
+
+    private JobGraph(String name, List<Node> nodes, Map<String, Set<String>> dependencies) {
+        this.name = name;
+        this.nodes = nodes;
+        this.dependencies = dependencies;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /** Names of the nodes that must finish before {@code nodeName} may start. */
+    public Set<String> dependenciesOf(String nodeName) {
+        Set<String> result = dependencies.get(nodeName);
+        if (result == null) {
+            throw new IllegalArgumentException("Unknown node " + nodeName + " in graph " + name);
+        }
+        return result;
+    }
+
+    public static final class Builder {
+        private final String name;
+        private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder node(
+                String nodeName, Set<String> inputs, Set<String> outputs, ThrowingRunnable action) {
+            if (nodes.putIfAbsent(nodeName, new Node(nodeName, inputs, outputs, action)) != null) {
+                throw new IllegalArgumentException(
+                        "Duplicate node " + nodeName + " in graph " + name);
+            }
+            return this;
+        }
+
+        public JobGraph build() {
+            Map<String, Set<String>> producers = new HashMap<>();
+            for (Node node : nodes.values()) {
+                for (String output : node.outputs()) {
+                    producers.computeIfAbsent(output, _ -> new LinkedHashSet<>()).add(node.name());
+                }
+            }
+
+            Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+            for (Node node : nodes.values()) {
+                Set<String> upstream = new LinkedHashSet<>();
+                for (String input : node.inputs()) {
+                    Set<String> inputProducers = producers.get(input);
+                    if (inputProducers == null) {
+                        throw new IllegalArgumentException(
+                                "Input "
+                                        + input
+                                        + " of node "
+                                        + node.name()
+                                        + " has no producer in graph "
+                                        + name);
+                    }
+                    upstream.addAll(inputProducers);
+                }
+                upstream.remove(node.name());
+                dependencies.put(node.name(), Set.copyOf(upstream));
+            }
+
+            return new JobGraph(name, topologicalOrder(dependencies), Map.copyOf(dependencies));
+        }
+
+        private List<Node> topologicalOrder(Map<String, Set<String>> dependencies) {
+            Map<String, Integer> pending = new LinkedHashMap<>();
+            Map<String, List<String>> dependents = new HashMap<>();
+            for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+                pending.put(entry.getKey(), entry.getValue().size());
+                for (String upstream : entry.getValue()) {
+                    dependents
+                            .computeIfAbsent(upstream, _ -> new ArrayList<>())
+                            .add(entry.getKey());
+                }
+            }
+
+            Deque<String> ready = new ArrayDeque<>();
+            pending.forEach(
+                    (nodeName, count) -> {
+                        if (count == 0) {
+                            ready.add(nodeName);
+                        }
+                    });
+
+            List<Node> ordered = new ArrayList<>(nodes.size());
+            while (!ready.isEmpty()) {
+                String nodeName = ready.poll();
+                ordered.add(nodes.get(nodeName));
+                for (String dependent : dependents.getOrDefault(nodeName, List.of())) {
+                    if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+
+            if (ordered.size() != nodes.size()) {
+                Set<String> cyclic = new LinkedHashSet<>(nodes.keySet());
+                ordered.forEach(node -> cyclic.remove(node.name()));
+                throw new IllegalArgumentException(
+                        "Dependency cycle in graph " + name + " between " + cyclic);
+            }
+            return List.copyOf(ordered);
+        }
+    }
+}
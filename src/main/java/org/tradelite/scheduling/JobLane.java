@@ -0,0 +1,35 @@
+package org.tradelite.scheduling;
+
+import lombok.Getter;
+
+/**
+ * Execution lane for scheduled jobs. Each lane has its own concurrency limit and {@link
+ * OverlapPolicy}, so a long-running job in one lane (e.g. the nightly OHLCV fetch waiting on the
+ * TwelveData budget) can no longer starve jobs in another lane (e.g. the 5-minute price loop).
+ *
+ * <p>The values here are defaults; {@code tradebot.scheduling.lanes.<lane>.*} overrides them.
+ */
+@Getter
+public enum JobLane {
+    /**
+     * Intraday price loops (US polling, stock round, crypto). Freshness matters more than
+     * completeness.
+     */
+    REALTIME(3, OverlapPolicy.COALESCE),
+    /** Hourly signal scans and daily Telegram reports. Every report should eventually go out. */
+    SIGNALS(1, OverlapPolicy.QUEUE),
+    /** Long-running data ingestion (OHLCV fetch, sector performance scrape). */
+    BATCH_INGEST(1, OverlapPolicy.SKIP),
+    /** Housekeeping: cache eviction, counter flushes, newly-added symbol backfill. */
+    MAINTENANCE(1, OverlapPolicy.SKIP),
+    /** Telegram command polling. */
+    TELEGRAM(1, OverlapPolicy.SKIP);
+
+    private final int defaultMaxConcurrent;
+    private final OverlapPolicy defaultPolicy;
+
+    JobLane(int defaultMaxConcurrent, OverlapPolicy defaultPolicy) {
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.defaultPolicy = defaultPolicy;
+    }
+}
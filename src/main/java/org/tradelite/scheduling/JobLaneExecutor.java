@@ -0,0 +1,280 @@
+package org.tradelite.scheduling;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.tradelite.config.TradebotSchedulingProperties;
+
+/**
+ * Admits scheduled job runs into their {@link JobLane}. The body runs on the calling scheduler
+ * thread once the lane has a free slot; the lane's {@link OverlapPolicy} decides what happens when
+ * it doesn't. A job never runs concurrently with itself, regardless of the lane limit.
+ *
+ * <p>Under {@code QUEUE} a trigger that finds the lane busy is parked in the lane's queue and its
+ * scheduler thread is released. Whichever run frees a slot next runs the queued triggers on its own
+ * thread, in trigger order, so a burst of queued jobs never holds more scheduler threads than the
+ * lane has slots.
+ *
+ * <p>Once {@link #stopAccepting()} is called (by {@link GracefulShutdown}) every further trigger is
+ * dropped, so the runs already admitted can drain.
+ */
+@Slf4j
+@Component
+public class JobLaneExecutor {
+
+    private final Map<JobLane, LaneState> lanes = new EnumMap<>(JobLane.class);
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+    private final JobRunLedger jobRunLedger;
+    private final InstanceCoordinator instanceCoordinator;
+    private final Clock clock;
+    private volatile boolean accepting = true;
+
+    public JobLaneExecutor(
+            TradebotSchedulingProperties schedulingProperties,
+            JobRunLedger jobRunLedger,
+            InstanceCoordinator instanceCoordinator,
+            Clock clock) {
+        this.jobRunLedger = jobRunLedger;
+        this.instanceCoordinator = instanceCoordinator;
+        this.clock = clock;
+        for (JobLane lane : JobLane.values()) {
+            lanes.put(
+                    lane,
+                    new LaneState(
+                            schedulingProperties.maxConcurrent(lane),
+                            schedulingProperties.policy(lane)));
+        }
+    }
+
+    /**
+     * Runs {@code body} in {@code lane} under the lane's overlap policy. Every trigger, including
+     * skipped ones, is recorded in the {@link JobRunLedger}.
+     *
+     * @return {@code true} if the body ran, {@code false} if the trigger was skipped, coalesced
+     *     into a waiting trigger or queued to run after the lane's current runs
+     */
+    public boolean execute(JobLane lane, String jobName, Runnable body) {
+        if (!accepting) {
+            log.info("Shutting down, dropping trigger of {}", jobName);
+            return false;
+        }
+        LaneState laneState = lanes.get(lane);
+        JobState jobState = jobState(jobName);
+        Instant triggeredAt = clock.instant();
+
+        if (laneState.policy == OverlapPolicy.QUEUE) {
+            if (!admitOrQueue(lane, laneState, new QueuedRun(jobName, triggeredAt, body))) {
+                return false;
+            }
+        } else if (!admit(lane, laneState, jobName, jobState)) {
+            jobRunLedger.recordSkipped(jobName, triggeredAt);
+            return false;
+        }
+        if (!accepting) {
+            // Waited for a busy lane when shutdown began.
+            release(laneState, jobState);
+            log.info("Shutting down, dropping queued trigger of {}", jobName);
+            return false;
+        }
+        try {
+            jobRunLedger.recordScheduled(jobName, triggeredAt, body);
+            return true;
+        } finally {
+            release(laneState, jobState);
+            runQueued(lane, laneState);
+        }
+    }
+
+    /**
+     * Like {@link #execute}, for jobs that must run once across all instances (reports, Telegram
+     * polling). On an instance that doesn't currently lead, the trigger is dropped without a ledger
+     * row: the leader records the run.
+     */
+    public boolean executeOnLeader(JobLane lane, String jobName, Runnable body) {
+        if (!instanceCoordinator.isLeader()) {
+            log.debug("Leaving {} to the leader instance", jobName);
+            return false;
+        }
+        return execute(lane, jobName, body);
+    }
+
+    /** Drops every trigger from now on, including those waiting for a lane slot. */
+    public void stopAccepting() {
+        accepting = false;
+    }
+
+    public boolean isRunning(String jobName) {
+        JobState jobState = jobs.get(jobName);
+        return jobState != null && jobState.running.availablePermits() == 0;
+    }
+
+    public int getActiveCount(JobLane lane) {
+        LaneState laneState = lanes.get(lane);
+        return laneState.maxConcurrent - laneState.permits.availablePermits();
+    }
+
+    public long getSkippedCount(JobLane lane) {
+        return lanes.get(lane).skipped.get();
+    }
+
+    public OverlapPolicy getPolicy(JobLane lane) {
+        return lanes.get(lane).policy;
+    }
+
+    /**
+     * Takes a slot for {@code run}, or parks it in the lane's queue. Both happen under the queue's
+     * lock, and {@link #runQueued} frees its slot before taking that lock, so a run can't be queued
+     * just after the last slot holder looked for queued work.
+     */
+    private boolean admitOrQueue(JobLane lane, LaneState laneState, QueuedRun run) {
+        synchronized (laneState.queue) {
+            // Earlier queued triggers go first
+            if (laneState.queue.isEmpty() && tryAcquire(laneState, jobState(run.jobName()))) {
+                return true;
+            }
+            laneState.queue.addLast(run);
+        }
+        log.info("Lane {} busy, queueing {}", lane, run.jobName());
+        return false;
+    }
+
+    /** Runs the lane's queued triggers on this thread while a slot is free for them. */
+    private void runQueued(JobLane lane, LaneState laneState) {
+        QueuedRun run;
+        while ((run = nextQueued(laneState)) != null) {
+            JobState jobState = jobState(run.jobName());
+            if (!accepting) {
+                release(laneState, jobState);
+                log.info("Shutting down, dropping queued trigger of {}", run.jobName());
+                continue;
+            }
+            try {
+                jobRunLedger.recordScheduled(run.jobName(), run.triggeredAt(), run.body());
+            } catch (RuntimeException e) {
+                log.error("Queued run of {} in lane {} failed", run.jobName(), lane, e);
+            } finally {
+                release(laneState, jobState);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the oldest queued trigger that can take a slot now, its slot already
+     * held; {@code null} if there is none. A trigger whose job is still running stays queued.
+     */
+    private QueuedRun nextQueued(LaneState laneState) {
+        synchronized (laneState.queue) {
+            Iterator<QueuedRun> queued = laneState.queue.iterator();
+            while (queued.hasNext()) {
+                QueuedRun run = queued.next();
+                if (tryAcquire(laneState, jobState(run.jobName()))) {
+                    queued.remove();
+                    return run;
+                }
+                if (laneState.permits.availablePermits() == 0) {
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+
+    private JobState jobState(String jobName) {
+        return jobs.computeIfAbsent(jobName, _ -> new JobState());
+    }
+
+    private static void release(LaneState laneState, JobState jobState) {
+        laneState.permits.release();
+        jobState.running.release();
+    }
+
+    private boolean admit(JobLane lane, LaneState laneState, String jobName, JobState jobState) {
+        if (tryAcquire(laneState, jobState)) {
+            return true;
+        }
+
+        return switch (laneState.policy) {
+            case SKIP, QUEUE -> skip(lane, laneState, jobName);
+            case COALESCE -> {
+                if (!jobState.waiting.compareAndSet(false, true)) {
+                    yield skip(lane, laneState, jobName);
+                }
+                try {
+                    log.info(
+                            "Lane {} busy, {} will run once the current run finishes",
+                            lane,
+                            jobName);
+                    yield acquire(lane, laneState, jobName, jobState);
+                } finally {
+                    jobState.waiting.set(false);
+                }
+            }
+        };
+    }
+
+    private static boolean tryAcquire(LaneState laneState, JobState jobState) {
+        if (!jobState.running.tryAcquire()) {
+            return false;
+        }
+        if (!laneState.permits.tryAcquire()) {
+            jobState.running.release();
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean acquire(
+            JobLane lane, LaneState laneState, String jobName, JobState jobState) {
+        try {
+            jobState.running.acquire();
+            try {
+                laneState.permits.acquire();
+            } catch (InterruptedException e) {
+                jobState.running.release();
+                throw e;
+            }
+            return true;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for lane {} to run {}", lane, jobName);
+            return false;
+        }
+    }
+
+    private static boolean skip(JobLane lane, LaneState laneState, String jobName) {
+        laneState.skipped.incrementAndGet();
+        log.warn("Lane {} busy, skipping overlapping run of {}", lane, jobName);
+        return false;
+    }
+
+    private static final class LaneState {
+        private final int maxConcurrent;
+        private final OverlapPolicy policy;
+        private final Semaphore permits;
+        private final AtomicLong skipped = new AtomicLong();
+        private final Deque<QueuedRun> queue = new ArrayDeque<>();
+
+        private LaneState(int maxConcurrent, OverlapPolicy policy) {
+            this.maxConcurrent = maxConcurrent;
+            this.policy = policy;
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+    }
+
+    private record QueuedRun(String jobName, Instant triggeredAt, Runnable body) {}
+
+    private static final class JobState {
+        private final Semaphore running = new Semaphore(1, true);
+        private final AtomicBoolean waiting = new AtomicBoolean(false);
+    }
+}
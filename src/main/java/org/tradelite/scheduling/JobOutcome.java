@@ -0,0 +1,18 @@
+package org.tradelite.scheduling;
+
+/** How a job run recorded in the {@link JobRunLedger} ended. */
+public enum JobOutcome {
+    /** Every step completed without an error reaching {@code RootErrorHandler}. */
+    SUCCEEDED,
+    /** At least one step failed, or the body threw. */
+    FAILED,
+    /** The run hit its deadline and stopped early; counters cover the work done until then. */
+    CANCELLED,
+    /** The trigger was dropped by its lane's overlap policy. Counts as a missed fire. */
+    SKIPPED,
+    /**
+     * The trigger was served by another run of the same job, active or just finished, instead of
+     * running again. Not a missed fire.
+     */
+    COALESCED
+}
@@ -0,0 +1,390 @@
+package org.tradelite.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-run counters for the job currently executing on this thread. The {@link JobRunLedger} opens a
+ * context around every run; code deep inside the run reports into it through the static methods
+ * without having the ledger threaded through.
+ *
+ * <p>The context lives in a plain thread local and is not inherited: threads started during a run,
+ * like HTTP client selectors or a WebSocket listener, may outlive it. Code that hands a run's work
+ * to other threads, like {@link SymbolFanOut} and {@link JobGraphRunner}, wraps each task with
+ * {@link #propagate(Callable)} so it reports into the run that submitted it. Outside a run every
+ * method is a no-op.
+ *
+ * <p>Symbol counts also roll up into enclosing contexts, so a progress tracker wrapped around a
+ * ledger run (see {@link AsyncJobService}) sees the symbols the run works through.
+ *
+ * <p>A context may carry a deadline. Cancellation is cooperative: loops, clients and {@code
+ * RootErrorHandler} call {@link #checkDeadline()} at safe points, and blocking waits are bounded by
+ * {@link #boundedByDeadline(Duration)}.
+ *
+ * <p>Contexts opened for a named run also keep heartbeats for the {@link JobWatchdog}: every
+ * progress report, API call and cancellation point refreshes the run's heartbeat and records the
+ * reporting thread, so a run that stops reporting can be traced to the thread it is stuck on.
+ */
+public final class JobRunContext {
+
+    private static final ThreadLocal<JobRunContext> CURRENT = new ThreadLocal<>();
+    private static final Set<JobRunContext> RUNNING = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger symbolsProcessed = new AtomicInteger();
+    private final AtomicInteger symbolsTotal = new AtomicInteger();
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private final AtomicBoolean deadlineExceeded = new AtomicBoolean();
+    private final JobRunContext previous;
+    private final Runnable progressListener;
+    private final Instant deadline;
+    private final Clock clock;
+    private final String jobName;
+    private final Thread owner;
+    private final Instant startedAt;
+    private final Map<Thread, Long> heartbeats = new ConcurrentHashMap<>();
+    private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+    private volatile long lastHeartbeatNanos;
+    private volatile boolean cancelled;
+    private volatile boolean closed;
+
+    private JobRunContext(
+            JobRunContext previous,
+            Runnable progressListener,
+            Instant deadline,
+            Clock clock,
+            String jobName,
+            Instant startedAt) {
+        this.previous = previous;
+        this.progressListener = progressListener;
+        this.deadline = deadline;
+        this.clock = clock;
+        this.jobName = jobName;
+        this.owner = Thread.currentThread();
+        this.startedAt = startedAt;
+        this.lastHeartbeatNanos = System.nanoTime();
+        if (jobName != null) {
+            heartbeats.put(owner, lastHeartbeatNanos);
+        }
+    }
+
+    public static void recordSymbolsProcessed(int count) {
+        for (JobRunContext context = CURRENT.get(); context != null; context = context.previous) {
+            if (!context.closed) {
+                context.symbolsProcessed.addAndGet(count);
+                context.beat();
+                context.progressed();
+            }
+        }
+    }
+
+    /** Announces symbols the run is about to work through, for progress reporting. */
+    public static void recordSymbolsTotal(int count) {
+        for (JobRunContext context = CURRENT.get(); context != null; context = context.previous) {
+            if (!context.closed) {
+                context.symbolsTotal.addAndGet(count);
+                context.beat();
+                context.progressed();
+            }
+        }
+    }
+
+    public static void recordApiCall() {
+        JobRunContext context = CURRENT.get();
+        if (context != null && !context.closed) {
+            context.apiCalls.incrementAndGet();
+        }
+        heartbeat();
+    }
+
+    /**
+     * Tells the {@link JobWatchdog} the current run is still making progress. Progress reports, API
+     * calls and cancellation points already beat; call this from loops that report neither.
+     */
+    public static void heartbeat() {
+        for (JobRunContext context = CURRENT.get(); context != null; context = context.previous) {
+            if (!context.closed) {
+                context.beat();
+            }
+        }
+    }
+
+    /** Marks the current run as failed without aborting it. */
+    public static void markFailed() {
+        JobRunContext context = CURRENT.get();
+        if (context != null && !context.closed) {
+            context.failed.set(true);
+        }
+    }
+
+    /**
+     * Cancellation point: throws once the current run, or a run enclosing it, is past its deadline.
+     * A no-op outside a run or without a deadline.
+     *
+     * @throws JobDeadlineExceededException if the deadline has passed
+     */
+    public static void checkDeadline() {
+        for (JobRunContext context = CURRENT.get(); context != null; context = context.previous) {
+            if (context.closed) {
+                continue;
+            }
+            context.beat();
+            if (context.cancelled) {
+                throw new JobDeadlineExceededException("Cancelled by the job watchdog");
+            }
+            if (context.deadline != null && !context.clock.instant().isBefore(context.deadline)) {
+                throw deadlineExceeded("Deadline " + context.deadline + " passed");
+            }
+        }
+    }
+
+    /**
+     * Caps {@code timeout} at the time left until the current run's deadline, so a blocking call
+     * can't outlive the run. Never returns less than one millisecond.
+     */
+    public static Duration boundedByDeadline(Duration timeout) {
+        Duration bounded = timeout;
+        for (JobRunContext context = CURRENT.get(); context != null; context = context.previous) {
+            if (!context.closed && context.deadline != null) {
+                Duration remaining = Duration.between(context.clock.instant(), context.deadline);
+                if (remaining.compareTo(bounded) < 0) {
+                    bounded = remaining;
+                }
+            }
+        }
+        return bounded.compareTo(Duration.ofMillis(1)) < 0 ? Duration.ofMillis(1) : bounded;
+    }
+
+    /**
+     * Marks every run on this thread's chain that has a deadline as cancelled and returns the
+     * exception to throw. For cancellation points that detect the overrun themselves, e.g. a rate
+     * limit wait that would end past the deadline.
+     */
+    public static JobDeadlineExceededException deadlineExceeded(String message) {
+        for (JobRunContext context = CURRENT.get(); context != null; context = context.previous) {
+            if (!context.closed && context.deadline != null) {
+                context.deadlineExceeded.set(true);
+            }
+        }
+        return new JobDeadlineExceededException(message);
+    }
+
+    /**
+     * Wraps {@code task} to run in the context current on the calling thread, for handing a run's
+     * work to another thread. The worker leaves the context again when the task returns.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        JobRunContext context = CURRENT.get();
+        return context == null ? task : () -> callIn(context, task);
+    }
+
+    /** {@link #propagate(Callable)} for tasks without a result. */
+    public static Runnable propagate(Runnable task) {
+        JobRunContext context = CURRENT.get();
+        return context == null ? task : () -> runIn(context, task);
+    }
+
+    /**
+     * An executor that runs every task on {@code executor} in the context current on the calling
+     * thread, for async stages that are scheduled from whichever thread completes their input.
+     */
+    public static Executor propagating(Executor executor) {
+        JobRunContext context = CURRENT.get();
+        return context == null ? executor : task -> executor.execute(() -> runIn(context, task));
+    }
+
+    private static <T> T callIn(JobRunContext context, Callable<T> task) throws Exception {
+        JobRunContext outer = CURRENT.get();
+        Thread worker = Thread.currentThread();
+        context.enter(worker);
+        CURRENT.set(context);
+        try {
+            return task.call();
+        } finally {
+            restore(outer);
+            context.leave(worker);
+        }
+    }
+
+    private static void runIn(JobRunContext context, Runnable task) {
+        JobRunContext outer = CURRENT.get();
+        Thread worker = Thread.currentThread();
+        context.enter(worker);
+        CURRENT.set(context);
+        try {
+            task.run();
+        } finally {
+            restore(outer);
+            context.leave(worker);
+        }
+    }
+
+    private static void restore(JobRunContext outer) {
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+
+    static JobRunContext open() {
+        return open(null);
+    }
+
+    /** Opens a context whose {@code progressListener} runs after every symbol count change. */
+    static JobRunContext open(Runnable progressListener) {
+        return open(progressListener, null, null);
+    }
+
+    /** Opens a context that is cancelled at {@code deadline} as read from {@code clock}. */
+    static JobRunContext open(Runnable progressListener, Instant deadline, Clock clock) {
+        JobRunContext context =
+                new JobRunContext(CURRENT.get(), progressListener, deadline, clock, null, null);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Opens the context of a run of {@code jobName} that started at {@code startedAt}, cancelled at
+     * {@code deadline} if one is given, and registers it with the {@link JobWatchdog} until it
+     * closes.
+     */
+    static JobRunContext openRun(String jobName, Instant startedAt, Instant deadline, Clock clock) {
+        JobRunContext context =
+                new JobRunContext(CURRENT.get(), null, deadline, clock, jobName, startedAt);
+        CURRENT.set(context);
+        RUNNING.add(context);
+        return context;
+    }
+
+    /** The named runs open right now, in no particular order. */
+    static Collection<JobRunContext> running() {
+        return List.copyOf(RUNNING);
+    }
+
+    /**
+     * Cancels the run from another thread: it is recorded as {@link JobOutcome#CANCELLED}, its next
+     * {@link #checkDeadline()} throws and the threads it owns are interrupted, so interruptible
+     * waits and virtual-thread socket reads unwind too. Those are the thread that opened the run
+     * and workers still inside a {@link #propagate propagated} task; pooled threads that finished
+     * their task are left alone.
+     */
+    void cancel() {
+        cancelled = true;
+        deadlineExceeded.set(true);
+        if (!closed) {
+            owner.interrupt();
+        }
+        workers.forEach(Thread::interrupt);
+    }
+
+    void close() {
+        closed = true;
+        RUNNING.remove(this);
+        heartbeats.clear();
+        workers.clear();
+        restore(previous);
+    }
+
+    int getSymbolsProcessed() {
+        return symbolsProcessed.get();
+    }
+
+    int getSymbolsTotal() {
+        return symbolsTotal.get();
+    }
+
+    int getApiCalls() {
+        return apiCalls.get();
+    }
+
+    boolean isFailed() {
+        return failed.get();
+    }
+
+    boolean isDeadlineExceeded() {
+        return deadlineExceeded.get();
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    String getJobName() {
+        return jobName;
+    }
+
+    Instant getStartedAt() {
+        return startedAt;
+    }
+
+    Instant getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Wall time since the last heartbeat. Measured on {@link System#nanoTime()} rather than the job
+     * clock, so a stalled thread is caught in real time even under a simulated clock.
+     */
+    Duration sinceLastHeartbeat() {
+        return Duration.ofNanos(System.nanoTime() - lastHeartbeatNanos);
+    }
+
+    /**
+     * The thread the run is most likely stuck on: of the live threads that reported into the run,
+     * the one silent for longest. Worker threads win over the thread that opened the run, which is
+     * usually just waiting for them.
+     */
+    Optional<Thread> blockingThread() {
+        Comparator<Map.Entry<Thread, Long>> byOwner =
+                Comparator.comparing(entry -> entry.getKey() == owner);
+        return heartbeats.entrySet().stream()
+                .filter(entry -> entry.getKey().isAlive())
+                .min(byOwner.thenComparing(Map.Entry::getValue))
+                .map(Map.Entry::getKey);
+    }
+
+    /** Registers {@code worker} with this run and every run enclosing it. */
+    private void enter(Thread worker) {
+        for (JobRunContext context = this; context != null; context = context.previous) {
+            if (worker != context.owner) {
+                context.workers.add(worker);
+            }
+        }
+    }
+
+    /** Forgets {@code worker} once its task returns, so it is neither interrupted nor reported. */
+    private void leave(Thread worker) {
+        for (JobRunContext context = this; context != null; context = context.previous) {
+            if (context.workers.remove(worker)) {
+                context.heartbeats.remove(worker);
+            }
+        }
+    }
+
+    private void beat() {
+        if (jobName != null) {
+            long now = System.nanoTime();
+            lastHeartbeatNanos = now;
+            heartbeats.put(Thread.currentThread(), now);
+        }
+    }
+
+    private void progressed() {
+        if (progressListener != null) {
+            progressListener.run();
+        }
+    }
+}
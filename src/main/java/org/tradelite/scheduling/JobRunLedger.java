@@ -0,0 +1,374 @@
+package org.tradelite.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.repository.JobRunRecord;
+import org.tradelite.repository.JobRunRepository;
+
+/**
+ * Persists one {@code job_runs} row per scheduled fire and manual run, and summarises them into
+ * latency percentiles, overruns and missed fires.
+ *
+ * <p>A run overruns when it finishes after its job's next scheduled fire. Ledger writes never fail
+ * the job: persistence errors are logged and the run's own result is returned unchanged.
+ *
+ * <p>Scheduled runs get a deadline: by default the job's next fire after the one that triggered the
+ * run, since a result delivered after the next run started is stale. {@code
+ * tradebot.scheduling.job-deadlines} overrides the budget per job. A run that reaches its deadline
+ * unwinds at the next {@link JobRunContext#checkDeadline() cancellation point} and is recorded as
+ * {@link JobOutcome#CANCELLED}, as is a run the {@link JobWatchdog} cancels.
+ *
+ * <p>Manual and scheduled triggers of a job are coalesced by job name (see {@link
+ * JobTriggerCoalescer}): a trigger arriving while the job runs waits for that run's result, and one
+ * arriving within {@code tradebot.scheduling.coalesce-window} of a successful run involving a
+ * manual trigger gets that run's result. Coalesced scheduled triggers are recorded as {@link
+ * JobOutcome#COALESCED}; coalesced manual triggers leave no row.
+ */
+@Slf4j
+@Service
+public class JobRunLedger {
+
+    static final Duration DIGEST_WINDOW = Duration.ofDays(7);
+    private static final int MAX_EXPECTED_FIRES = 100_000;
+
+    private final JobRunRepository repository;
+    private final JobScheduleCatalog scheduleCatalog;
+    private final TelegramGateway telegramClient;
+    private final TradebotSchedulingProperties schedulingProperties;
+    private final Clock clock;
+    private final JobTriggerCoalescer coalescer;
+
+    public JobRunLedger(
+            JobRunRepository repository,
+            JobScheduleCatalog scheduleCatalog,
+            TelegramGateway telegramClient,
+            TradebotSchedulingProperties schedulingProperties,
+            Clock clock) {
+        this.repository = repository;
+        this.scheduleCatalog = scheduleCatalog;
+        this.telegramClient = telegramClient;
+        this.schedulingProperties = schedulingProperties;
+        this.clock = clock;
+        this.coalescer = new JobTriggerCoalescer(schedulingProperties::getCoalesceWindow);
+    }
+
+    /** Runs a scheduled job body that was triggered at {@code triggeredAt} and records it. */
+    public void recordScheduled(String jobName, Instant triggeredAt, Runnable body) {
+        record(
+                jobName,
+                jobName,
+                JobTrigger.SCHEDULED,
+                triggeredAt,
+                deadline(jobName, triggeredAt),
+                () -> {
+                    body.run();
+                    return true;
+                });
+    }
+
+    /** Records a scheduled trigger that its lane dropped. */
+    public void recordSkipped(String jobName, Instant triggeredAt) {
+        save(
+                new JobRunRecord(
+                        jobName,
+                        JobTrigger.SCHEDULED,
+                        triggeredAt,
+                        triggeredAt,
+                        triggeredAt,
+                        0,
+                        JobOutcome.SKIPPED,
+                        0,
+                        0,
+                        false));
+    }
+
+    /**
+     * Runs a manual job body and records it under the scheduled job's name, so manual and scheduled
+     * runs share latency statistics.
+     *
+     * @return whether the body reported success and the run was recorded as {@link
+     *     JobOutcome#SUCCEEDED}, or that of the run this trigger was coalesced into
+     */
+    public boolean recordManual(String jobName, BooleanSupplier body) {
+        return recordManual(jobName, jobName, body);
+    }
+
+    /**
+     * Like {@link #recordManual(String, BooleanSupplier)}, but coalesces only with triggers of the
+     * same {@code coalesceKey}. For manual runs that do a different amount of work than the
+     * scheduled job they are recorded under, which must neither serve nor be served by its runs.
+     */
+    public boolean recordManual(String jobName, String coalesceKey, BooleanSupplier body) {
+        return record(jobName, coalesceKey, JobTrigger.MANUAL, clock.instant(), null, body);
+    }
+
+    public List<JobRunRecord> findRecent(String jobName, int limit) {
+        return repository.findRecent(jobName, limit);
+    }
+
+    /** Per-job statistics for runs triggered within the last {@code window}, by job name. */
+    public List<JobRunStats> summarize(Duration window) {
+        Map<String, List<JobRunRecord>> byJob = new LinkedHashMap<>();
+        for (JobRunRecord jobRun : repository.findSince(clock.instant().minus(window))) {
+            byJob.computeIfAbsent(jobRun.jobName(), _ -> new ArrayList<>()).add(jobRun);
+        }
+        return byJob.entrySet().stream()
+                .map(entry -> summarizeJob(entry.getKey(), entry.getValue()))
+                .sorted((a, b) -> a.jobName().compareTo(b.jobName()))
+                .toList();
+    }
+
+    public void pruneOldRuns() {
+        Instant cutoff =
+                clock.instant()
+                        .minus(Duration.ofDays(schedulingProperties.getJobRunRetentionDays()));
+        int deleted = repository.deleteOlderThan(cutoff);
+        if (deleted > 0) {
+            log.info("Pruned {} job runs older than {}", deleted, cutoff);
+        }
+    }
+
+    /** Sends the last week's job statistics to Telegram. Skips the send when nothing ran. */
+    public void sendWeeklyDigest() {
+        List<JobRunStats> stats = summarize(DIGEST_WINDOW);
+        if (stats.isEmpty()) {
+            log.info("No job runs recorded in the last week, skipping digest");
+            return;
+        }
+
+        StringBuilder message = new StringBuilder("*Weekly Job Digest*\n");
+        for (JobRunStats jobStats : stats) {
+            message.append(
+                    String.format(
+                            "%n🔹 *%s*: %,d runs, p50 %s / p95 %s / p99 %s",
+                            jobStats.jobName(),
+                            jobStats.runs(),
+                            formatDuration(jobStats.p50Ms()),
+                            formatDuration(jobStats.p95Ms()),
+                            formatDuration(jobStats.p99Ms())));
+            if (jobStats.overruns() > 0) {
+                message.append(String.format(", ⚠️ %d overruns", jobStats.overruns()));
+            }
+            if (jobStats.missedFires() > 0) {
+                message.append(String.format(", ⚠️ %d missed", jobStats.missedFires()));
+            }
+            if (jobStats.failures() > 0) {
+                message.append(String.format(", ❌ %d failed", jobStats.failures()));
+            }
+        }
+
+        telegramClient.sendMessage(message.toString());
+        log.info("Weekly job digest sent for {} jobs", stats.size());
+    }
+
+    /**
+     * The instant a scheduled run of {@code jobName} triggered at {@code triggeredAt} must finish
+     * by, or {@code null} for no deadline.
+     */
+    Instant deadline(String jobName, Instant triggeredAt) {
+        Duration budget = schedulingProperties.getJobDeadlines().get(jobName);
+        if (budget != null) {
+            return budget.isZero() ? null : triggeredAt.plus(budget);
+        }
+        return scheduleCatalog
+                .find(jobName)
+                .map(schedule -> schedule.nextFireAfter(triggeredAt))
+                .orElse(null);
+    }
+
+    private boolean record(
+            String jobName,
+            String coalesceKey,
+            JobTrigger trigger,
+            Instant triggeredAt,
+            Instant deadline,
+            BooleanSupplier body) {
+        JobTriggerCoalescer.Result result =
+                coalescer.run(
+                        coalesceKey,
+                        trigger,
+                        triggeredAt,
+                        () -> execute(jobName, trigger, triggeredAt, deadline, body));
+        if (result.source() != JobTriggerCoalescer.Source.RAN && trigger == JobTrigger.SCHEDULED) {
+            save(
+                    new JobRunRecord(
+                            jobName,
+                            trigger,
+                            triggeredAt,
+                            triggeredAt,
+                            triggeredAt,
+                            0,
+                            JobOutcome.COALESCED,
+                            0,
+                            0,
+                            false));
+        }
+        return result.succeeded();
+    }
+
+    private JobTriggerCoalescer.Completion execute(
+            String jobName,
+            JobTrigger trigger,
+            Instant triggeredAt,
+            Instant deadline,
+            BooleanSupplier body) {
+        Instant startedAt = clock.instant();
+        JobRunContext context = JobRunContext.openRun(jobName, startedAt, deadline, clock);
+        boolean succeeded = false;
+        Instant finishedAt;
+        JobOutcome outcome;
+        try {
+            succeeded = body.getAsBoolean();
+        } catch (JobDeadlineExceededException e) {
+            log.warn("Job {} stopped at its deadline: {}", jobName, e.getMessage());
+        } finally {
+            context.close();
+            if (context.isCancelled()) {
+                // The watchdog interrupted this thread; don't leak that into the lane's next job.
+                Thread.interrupted();
+            }
+            finishedAt = clock.instant();
+            outcome = outcome(succeeded, context);
+            boolean overrun = isOverrun(jobName, startedAt, finishedAt);
+            if (overrun) {
+                log.warn(
+                        "Job {} overran its schedule: started {}, finished {}",
+                        jobName,
+                        startedAt,
+                        finishedAt);
+            }
+            save(
+                    new JobRunRecord(
+                            jobName,
+                            trigger,
+                            triggeredAt,
+                            startedAt,
+                            finishedAt,
+                            Duration.between(startedAt, finishedAt).toMillis(),
+                            outcome,
+                            context.getSymbolsProcessed(),
+                            context.getApiCalls(),
+                            overrun));
+        }
+        return new JobTriggerCoalescer.Completion(
+                succeeded && outcome == JobOutcome.SUCCEEDED, finishedAt);
+    }
+
+    private static JobOutcome outcome(boolean succeeded, JobRunContext context) {
+        if (context.isDeadlineExceeded()) {
+            return JobOutcome.CANCELLED;
+        }
+        return succeeded && !context.isFailed() ? JobOutcome.SUCCEEDED : JobOutcome.FAILED;
+    }
+
+    private boolean isOverrun(String jobName, Instant startedAt, Instant finishedAt) {
+        return scheduleCatalog
+                .find(jobName)
+                .map(schedule -> schedule.nextFireAfter(startedAt))
+                .map(finishedAt::isAfter)
+                .orElse(false);
+    }
+
+    private void save(JobRunRecord jobRun) {
+        try {
+            repository.save(jobRun);
+        } catch (Exception e) {
+            log.warn("Failed to record run of {} in job ledger", jobRun.jobName(), e);
+        }
+    }
+
+    private JobRunStats summarizeJob(String jobName, List<JobRunRecord> jobRuns) {
+        List<Long> durations = new ArrayList<>();
+        int failures = 0;
+        int overruns = 0;
+        int skipped = 0;
+        long symbols = 0;
+        long apiCalls = 0;
+        Instant firstScheduled = null;
+        Instant lastScheduled = null;
+        int scheduledTriggers = 0;
+
+        for (JobRunRecord jobRun : jobRuns) {
+            if (jobRun.trigger() == JobTrigger.SCHEDULED) {
+                scheduledTriggers++;
+                if (firstScheduled == null) {
+                    firstScheduled = jobRun.triggeredAt();
+                }
+                lastScheduled = jobRun.triggeredAt();
+            }
+            if (jobRun.outcome() == JobOutcome.SKIPPED) {
+                skipped++;
+                continue;
+            }
+            if (jobRun.outcome() == JobOutcome.COALESCED) {
+                continue;
+            }
+            durations.add(jobRun.durationMs());
+            if (jobRun.outcome() == JobOutcome.FAILED || jobRun.outcome() == JobOutcome.CANCELLED) {
+                failures++;
+            }
+            if (jobRun.overrun()) {
+                overruns++;
+            }
+            symbols += jobRun.symbolsProcessed();
+            apiCalls += jobRun.apiCalls();
+        }
+
+        int unrecorded = 0;
+        if (firstScheduled != null) {
+            Instant from = firstScheduled;
+            // One second of slack absorbs scheduler jitter on the last trigger.
+            Instant to = lastScheduled.plusSeconds(1);
+            int expected =
+                    scheduleCatalog
+                            .find(jobName)
+                            .map(schedule -> schedule.expectedFires(from, to, MAX_EXPECTED_FIRES))
+                            .orElse(scheduledTriggers);
+            unrecorded = Math.max(0, expected - scheduledTriggers);
+        }
+
+        durations.sort(null);
+        return new JobRunStats(
+                jobName,
+                durations.size(),
+                failures,
+                overruns,
+                skipped + unrecorded,
+                percentile(durations, 50),
+                percentile(durations, 95),
+                percentile(durations, 99),
+                durations.isEmpty() ? 0 : durations.getLast(),
+                symbols,
+                apiCalls);
+    }
+
+    /** Nearest-rank percentile of an ascending list; {@code 0} for an empty list. */
+    static long percentile(List<Long> sortedDurations, int percentile) {
+        if (sortedDurations.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedDurations.size());
+        return sortedDurations.get(Math.max(0, rank - 1));
+    }
+
+    static String formatDuration(long millis) {
+        Duration duration = Duration.ofMillis(millis);
+        if (duration.toMinutes() > 0) {
+            return String.format("%dm%02ds", duration.toMinutes(), duration.toSecondsPart());
+        }
+        if (duration.getSeconds() > 0) {
+            return String.format("%.1fs", millis / 1000.0);
+        }
+        return millis + "ms";
+    }
+}
@@ -0,0 +1,20 @@
+package org.tradelite.scheduling;
+
+/**
+ * Ledger summary for one job over a window. Latency percentiles cover runs that actually executed
+ * (scheduled and manual); {@code failures} includes runs cancelled at their deadline; {@code
+ * missedFires} counts skipped triggers plus expected fires with no recorded trigger at all, e.g.
+ * while the bot was down.
+ */
+public record JobRunStats(
+        String jobName,
+        int runs,
+        int failures,
+        int overruns,
+        int missedFires,
+        long p50Ms,
+        long p95Ms,
+        long p99Ms,
+        long maxMs,
+        long symbolsProcessed,
+        long apiCalls) {}
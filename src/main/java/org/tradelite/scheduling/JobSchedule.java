@@ -0,0 +1,51 @@
+package org.tradelite.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.springframework.scheduling.support.CronExpression;
+
+/**
+ * The trigger declared by a job's {@code @Scheduled} annotation: either a cron expression in a zone
+ * or a fixed rate.
+ */
+public record JobSchedule(String jobName, CronExpression cron, ZoneId zone, Duration fixedRate) {
+
+    public static JobSchedule cron(String jobName, String expression, ZoneId zone) {
+        return new JobSchedule(jobName, CronExpression.parse(expression), zone, null);
+    }
+
+    public static JobSchedule fixedRate(String jobName, Duration rate) {
+        return new JobSchedule(jobName, null, null, rate);
+    }
+
+    /** The first fire strictly after {@code instant}, or {@code null} if the cron never fires. */
+    public Instant nextFireAfter(Instant instant) {
+        if (cron == null) {
+            return instant.plus(fixedRate);
+        }
+        var next = cron.next(instant.atZone(zone));
+        return next == null ? null : next.toInstant();
+    }
+
+    /**
+     * Number of fires expected in {@code [from, to]}, where {@code from} is itself a fire time.
+     * Iteration is capped at {@code limit} so a misconfigured window cannot spin.
+     */
+    public int expectedFires(Instant from, Instant to, int limit) {
+        if (to.isBefore(from)) {
+            return 0;
+        }
+        if (cron == null) {
+            long fires = Duration.between(from, to).toMillis() / fixedRate.toMillis() + 1;
+            return (int) Math.min(fires, limit);
+        }
+        int fires = 1;
+        Instant next = nextFireAfter(from);
+        while (next != null && !next.isAfter(to) && fires < limit) {
+            fires++;
+            next = nextFireAfter(next);
+        }
+        return fires;
+    }
+}
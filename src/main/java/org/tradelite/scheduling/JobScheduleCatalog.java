@@ -0,0 +1,70 @@
+package org.tradelite.scheduling;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimeZone;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.tradelite.Scheduler;
+
+/**
+ * Reads the {@code @Scheduled} triggers declared on {@link Scheduler}. Scheduled jobs are named
+ * after their method, so the ledger can look up the expected cadence of a run by job name.
+ */
+@Slf4j
+@Component
+public class JobScheduleCatalog {
+
+    private final Map<String, JobSchedule> schedules;
+
+    public JobScheduleCatalog() {
+        this(Scheduler.class);
+    }
+
+    JobScheduleCatalog(Class<?> schedulerClass) {
+        Map<String, JobSchedule> found = new HashMap<>();
+        for (Method method : schedulerClass.getDeclaredMethods()) {
+            Scheduled scheduled = method.getAnnotation(Scheduled.class);
+            if (scheduled == null) {
+                continue;
+            }
+            toSchedule(method.getName(), scheduled)
+                    .ifPresent(schedule -> found.put(schedule.jobName(), schedule));
+        }
+        this.schedules = Map.copyOf(found);
+    }
+
+    public Optional<JobSchedule> find(String jobName) {
+        return Optional.ofNullable(schedules.get(jobName));
+    }
+
+    /** Every scheduled job, ordered by name. */
+    public List<JobSchedule> all() {
+        return schedules.values().stream()
+                .sorted(Comparator.comparing(JobSchedule::jobName))
+                .toList();
+    }
+
+    private static Optional<JobSchedule> toSchedule(String jobName, Scheduled scheduled) {
+        if (!scheduled.cron().isEmpty()) {
+            ZoneId zone =
+                    scheduled.zone().isEmpty()
+                            ? TimeZone.getDefault().toZoneId()
+                            : ZoneId.of(scheduled.zone());
+            return Optional.of(JobSchedule.cron(jobName, scheduled.cron(), zone));
+        }
+        if (scheduled.fixedRate() > 0) {
+            Duration rate = Duration.of(scheduled.fixedRate(), scheduled.timeUnit().toChronoUnit());
+            return Optional.of(JobSchedule.fixedRate(jobName, rate));
+        }
+        log.debug("No cadence derivable for scheduled job {}", jobName);
+        return Optional.empty();
+    }
+}
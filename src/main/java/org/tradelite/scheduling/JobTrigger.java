@@ -0,0 +1,9 @@
+package org.tradelite.scheduling;
+
+/** What started a job run recorded in the {@link JobRunLedger}. */
+public enum JobTrigger {
+    /** A {@code @Scheduled} fire admitted through {@link JobLaneExecutor}. */
+    SCHEDULED,
+    /** A {@code Scheduler.manual*} call, e.g. from the dev job endpoints. */
+    MANUAL
+}
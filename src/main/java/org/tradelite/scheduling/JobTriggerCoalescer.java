@@ -0,0 +1,123 @@
+package org.tradelite.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collapses concurrent and back-to-back triggers of the same job into one run, keyed by job name. A
+ * trigger arriving while a run is active waits for that run and gets its result. A trigger arriving
+ * within the coalesce window after a successful run gets that run's result without running again.
+ *
+ * <p>Reuse only applies when a manual trigger is involved: a scheduled trigger never reuses the
+ * previous scheduled run, since the schedule itself decides how fresh a scheduled job must be.
+ * Failed runs are never reused.
+ */
+@Slf4j
+final class JobTriggerCoalescer {
+
+    private final Map<String, Run> runs = new ConcurrentHashMap<>();
+    private final Supplier<Duration> window;
+
+    JobTriggerCoalescer(Supplier<Duration> window) {
+        this.window = window;
+    }
+
+    /** How a trigger was served. */
+    enum Source {
+        /** The trigger started its own run. */
+        RAN,
+        /** The trigger waited for a run that was already active. */
+        ATTACHED,
+        /** The trigger got the result of a run that had just finished. */
+        REUSED
+    }
+
+    record Result(boolean succeeded, Source source) {}
+
+    /** What a run reports back: its result and when it finished. */
+    record Completion(boolean succeeded, Instant finishedAt) {}
+
+    /**
+     * Runs {@code body} for a trigger of {@code jobName} that arrived at {@code now}, or hands the
+     * trigger the result of an active or recent run. Exceptions thrown by {@code body} propagate to
+     * this trigger only; attached triggers see a failed result.
+     */
+    Result run(String jobName, JobTrigger trigger, Instant now, Supplier<Completion> body) {
+        Run candidate = new Run(trigger);
+        Run run =
+                runs.compute(
+                        jobName,
+                        (_, existing) ->
+                                existing != null
+                                                && (!existing.result.isDone()
+                                                        || isReusable(existing, trigger, now))
+                                        ? existing
+                                        : candidate);
+
+        if (run != candidate) {
+            return join(jobName, trigger, run);
+        }
+
+        Completion completion = null;
+        try {
+            completion = body.get();
+            return new Result(completion.succeeded(), Source.RAN);
+        } finally {
+            if (completion != null) {
+                run.finishedAt = completion.finishedAt();
+            }
+            run.result.complete(completion != null && completion.succeeded());
+        }
+    }
+
+    private boolean isReusable(Run existing, JobTrigger trigger, Instant now) {
+        if (trigger == JobTrigger.SCHEDULED && existing.trigger == JobTrigger.SCHEDULED) {
+            return false;
+        }
+        Duration reuseWindow = window.get();
+        return !reuseWindow.isZero()
+                && Boolean.TRUE.equals(existing.result.getNow(false))
+                && !now.isAfter(existing.finishedAt.plus(reuseWindow));
+    }
+
+    private static Result join(String jobName, JobTrigger trigger, Run run) {
+        if (run.result.isDone()) {
+            log.info(
+                    "{} trigger of {} answered by the run that finished at {}",
+                    trigger,
+                    jobName,
+                    run.finishedAt);
+            return new Result(run.result.join(), Source.REUSED);
+        }
+        log.info(
+                "{} trigger of {} attached to the {} run in progress",
+                trigger,
+                jobName,
+                run.trigger);
+        try {
+            return new Result(run.result.get(), Source.ATTACHED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for the active run of {}", jobName);
+            return new Result(false, Source.ATTACHED);
+        } catch (ExecutionException e) {
+            return new Result(false, Source.ATTACHED);
+        }
+    }
+
+    private static final class Run {
+        private final JobTrigger trigger;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        private volatile Instant finishedAt;
+
+        private Run(JobTrigger trigger) {
+            this.trigger = trigger;
+        }
+    }
+}
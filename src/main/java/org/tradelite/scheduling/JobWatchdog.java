@@ -0,0 +1,190 @@
+package org.tradelite.scheduling;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.config.TradebotWatchdogProperties;
+
+/**
+ * Finds job runs that are stuck and captures why. Runs report heartbeats into their {@link
+ * JobRunContext}; a run is stuck once it has been silent for {@code heartbeat-timeout}, or has run
+ * longer than its expected duration: the per-job {@code expected-durations} entry, else its
+ * deadline plus {@code deadline-grace}. The latter catches runs blocked somewhere cooperative
+ * cancellation can't reach, such as a socket read without a timeout.
+ *
+ * <p>Each stuck run is reported once: a thread dump (virtual threads included) and a short JFR
+ * recording go to {@code dump-directory}, and a Telegram alert names the job and the frame its
+ * blocking thread is parked in. With {@code interrupt=true} the run is also cancelled and its
+ * threads interrupted.
+ */
+@Slf4j
+@Component
+public class JobWatchdog {
+
+    private static final String APPLICATION_PACKAGE = "org.tradelite.";
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final TradebotWatchdogProperties properties;
+    private final TelegramGateway telegramClient;
+    private final Clock clock;
+    private final Set<JobRunContext> reported = ConcurrentHashMap.newKeySet();
+
+    public JobWatchdog(
+            TradebotWatchdogProperties properties, TelegramGateway telegramClient, Clock clock) {
+        this.properties = properties;
+        this.telegramClient = telegramClient;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${tradebot.watchdog.check-interval:30s}",
+            initialDelayString = "${tradebot.watchdog.check-interval:30s}")
+    public void check() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Collection<JobRunContext> running = JobRunContext.running();
+        reported.retainAll(running);
+        Instant now = clock.instant();
+        for (JobRunContext run : running) {
+            Optional<String> reason = stallReason(run, now);
+            if (reason.isPresent() && reported.add(run)) {
+                handleStall(run, reason.get(), now);
+            }
+        }
+    }
+
+    /** Why {@code run} counts as stuck at {@code now}, or empty while it looks healthy. */
+    Optional<String> stallReason(JobRunContext run, Instant now) {
+        Duration running = Duration.between(run.getStartedAt(), now);
+        Duration expected = properties.getExpectedDurations().get(run.getJobName());
+        if (expected != null && running.compareTo(expected) > 0) {
+            return Optional.of(
+                    String.format(
+                            "Running for %s, expected %s",
+                            JobRunLedger.formatDuration(running.toMillis()),
+                            JobRunLedger.formatDuration(expected.toMillis())));
+        }
+        if (expected == null
+                && run.getDeadline() != null
+                && now.isAfter(run.getDeadline().plus(properties.getDeadlineGrace()))) {
+            return Optional.of(
+                    String.format(
+                            "Still running %s past its deadline",
+                            JobRunLedger.formatDuration(
+                                    Duration.between(run.getDeadline(), now).toMillis())));
+        }
+        Duration timeout = properties.getHeartbeatTimeout();
+        Duration silent = run.sinceLastHeartbeat();
+        if (!timeout.isZero() && silent.compareTo(timeout) > 0) {
+            return Optional.of(
+                    String.format(
+                            "No heartbeat for %s", JobRunLedger.formatDuration(silent.toMillis())));
+        }
+        return Optional.empty();
+    }
+
+    private void handleStall(JobRunContext run, String reason, Instant now) {
+        String jobName = run.getJobName();
+        StackTraceElement[] stack =
+                run.blockingThread().map(Thread::getStackTrace).orElse(new StackTraceElement[0]);
+        log.warn("Job {} is stuck: {}. Blocked at {}", jobName, reason, describeFrame(stack));
+
+        Path directory = Path.of(properties.getDumpDirectory());
+        String baseName = jobName + "-" + FILE_TIMESTAMP.format(now);
+        Optional<Path> threadDump = dumpThreads(directory, baseName);
+        Optional<Path> recording = startRecording(directory, baseName);
+
+        if (properties.isInterrupt()) {
+            run.cancel();
+            log.warn("Cancelled stuck job {} and interrupted its threads", jobName);
+        }
+
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("⏳ *Stuck job: %s*%n%s", jobName, reason));
+        message.append(String.format("%nBlocked at `%s`", describeFrame(stack)));
+        threadDump.ifPresent(path -> message.append(String.format("%nThread dump: `%s`", path)));
+        recording.ifPresent(path -> message.append(String.format("%nJFR recording: `%s`", path)));
+        if (properties.isInterrupt()) {
+            message.append("\nThe run was cancelled and its threads interrupted.");
+        }
+        telegramClient.sendMessage(message.toString());
+    }
+
+    /**
+     * The innermost frame of {@code stack}, followed by the innermost application frame below it
+     * when the blocking call sits in library code.
+     */
+    static String describeFrame(StackTraceElement[] stack) {
+        if (stack.length == 0) {
+            return "unknown";
+        }
+        String top = stack[0].toString();
+        if (stack[0].getClassName().startsWith(APPLICATION_PACKAGE)) {
+            return top;
+        }
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith(APPLICATION_PACKAGE)) {
+                return top + " via " + frame;
+            }
+        }
+        return top;
+    }
+
+    private static Optional<Path> dumpThreads(Path directory, String baseName) {
+        Path file = directory.resolve(baseName + "-threads.txt").toAbsolutePath();
+        try {
+            Files.createDirectories(directory);
+            ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                    .dumpThreads(
+                            file.toString(), HotSpotDiagnosticMXBean.ThreadDumpFormat.TEXT_PLAIN);
+            return Optional.of(file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write thread dump to {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts a JFR recording that stops and writes itself to disk after {@code jfr-duration}, so
+     * the check loop isn't held up while it runs.
+     */
+    private Optional<Path> startRecording(Path directory, String baseName) {
+        Duration duration = properties.getJfrDuration();
+        if (duration.isZero()) {
+            return Optional.empty();
+        }
+        Path file = directory.resolve(baseName + ".jfr").toAbsolutePath();
+        try {
+            Files.createDirectories(directory);
+            Recording recording = new Recording(Configuration.getConfiguration("profile"));
+            recording.setName("watchdog-" + baseName);
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.setDuration(duration);
+            recording.start();
+            return Optional.of(file);
+        } catch (Exception e) {
+            log.warn("Failed to start JFR recording to {}", file, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.tradelite.scheduling;
+
+/**
+ * What a {@link JobLane} does with a trigger that arrives while the lane has no free slot or the
+ * same job is still running from its previous trigger.
+ */
+public enum OverlapPolicy {
+    /** Drop the trigger. The next regular fire picks the work up again. */
+    SKIP,
+    /**
+     * Park the trigger in the lane's queue, without holding its thread, and run it once a slot
+     * frees up. Every trigger eventually runs, in trigger order.
+     */
+    QUEUE,
+    /**
+     * Keep at most one waiting trigger per job. Further triggers collapse into the one already
+     * waiting, so a slow run is followed by exactly one catch-up run instead of a backlog.
+     */
+    COALESCE
+}
@@ -0,0 +1,128 @@
+package org.tradelite.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.tradelite.config.TradebotSchedulingProperties;
+
+/**
+ * Runs a per-symbol task across a symbol list on virtual threads, with at most {@link
+ * #getParallelism()} tasks in flight. Results come back in input order, so reports built from them
+ * read the same as the sequential loops they replace.
+ *
+ * <p>A task that throws fails the whole fan-out, just like an exception escaping the original
+ * {@code for} loop: outstanding tasks are cancelled and the first failure (in input order) is
+ * rethrown. The run's deadline is checked before every symbol, so a fan-out past its deadline stops
+ * with a {@link JobDeadlineExceededException} after the symbols already in flight.
+ *
+ * <p>Most tasks read their history from SQLite, whose Hikari pool holds a single connection. The
+ * repositories borrow it per statement and no task runs inside a transaction, so a task never holds
+ * the connection while waiting for another. The reads therefore queue up in the pool one statement
+ * at a time, parked virtual threads don't hold a carrier, and what runs in parallel is the
+ * indicator math between them. Raising the parallelism beyond the pool doesn't speed up the reads.
+ */
+@Component
+public class SymbolFanOut {
+
+    @Getter private final int parallelism;
+
+    @Autowired
+    public SymbolFanOut(TradebotSchedulingProperties schedulingProperties) {
+        this(schedulingProperties.getFanOutParallelism());
+    }
+
+    public SymbolFanOut(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Applies {@code task} to every input and returns the present results in input order.
+     *
+     * @throws CancellationException if the calling thread is interrupted while waiting
+     */
+    public <T, R> List<R> map(
+            Collection<? extends T> inputs, Function<? super T, Optional<R>> task) {
+        List<T> items = List.copyOf(inputs);
+        JobRunContext.recordSymbolsTotal(items.size());
+        if (parallelism == 1 || items.size() <= 1) {
+            List<R> results = new ArrayList<>();
+            for (T item : items) {
+                JobRunContext.checkDeadline();
+                try {
+                    task.apply(item).ifPresent(results::add);
+                } finally {
+                    JobRunContext.recordSymbolsProcessed(1);
+                }
+            }
+            return results;
+        }
+
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Optional<R>>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(
+                        executor.submit(
+                                JobRunContext.propagate(
+                                        () -> {
+                                            permits.acquire();
+                                            try {
+                                                JobRunContext.checkDeadline();
+                                            } catch (JobDeadlineExceededException e) {
+                                                permits.release();
+                                                throw e;
+                                            }
+                                            try {
+                                                return task.apply(item);
+                                            } finally {
+                                                permits.release();
+                                                JobRunContext.recordSymbolsProcessed(1);
+                                            }
+                                        })));
+            }
+            return collect(futures, executor);
+        }
+    }
+
+    private static <R> List<R> collect(
+            List<Future<Optional<R>>> futures, ExecutorService executor) {
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<Optional<R>> future : futures) {
+                future.get().ifPresent(results::add);
+            }
+            return results;
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            CancellationException cancelled =
+                    new CancellationException("Interrupted during per-symbol fan-out");
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+}
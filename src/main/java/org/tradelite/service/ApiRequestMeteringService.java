@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.repository.ApiMeteringRecord;
 import org.tradelite.repository.ApiMeteringRepository;
+import org.tradelite.scheduling.JobRunContext;
 
 @Slf4j
 @Service
@@ -45,21 +46,25 @@ public class ApiRequestMeteringService {
 
     public void incrementFinnhubRequests() {
         int newCount = counters.get(FINNHUB).incrementAndGet();
+        JobRunContext.recordApiCall();
         log.info("Finnhub API request count for {}: {}", getCurrentMonth(), newCount);
     }
 
     public void incrementCoingeckoRequests() {
         int newCount = counters.get(COINGECKO).incrementAndGet();
+        JobRunContext.recordApiCall();
         log.info("CoinGecko API request count for {}: {}", getCurrentMonth(), newCount);
     }
 
     public void incrementTwelveDataRequests() {
         int newCount = counters.get(TWELVEDATA).incrementAndGet();
+        JobRunContext.recordApiCall();
         log.info("TwelveData API request count for {}: {}", getCurrentMonth(), newCount);
     }
 
     public void incrementYahooRequests() {
         int newCount = counters.get(YAHOO).incrementAndGet();
+        JobRunContext.recordApiCall();
         log.info("Yahoo Finance API request count for {}: {}", getCurrentMonth(), newCount);
     }
 
@@ -40,18 +40,25 @@ public class DailyPriceProvider {
         return priceQuoteRepository.findDailyClosingPrices(symbol, days);
     }
 
-    private void appendLatestIntradayPrice(String symbol, List<DailyPrice> prices) {
+    /**
+     * Returns the latest live price if it belongs to a trading day after {@code lastBarDate}, i.e.
+     * the price {@link #findDailyClosingPrices} would append to OHLCV history ending on that date.
+     */
+    public Optional<DailyPrice> findIntradayPriceAfter(String symbol, LocalDate lastBarDate) {
         Optional<PricedAt> latestEntry = livePriceCache.getEntry(symbol);
         if (latestEntry.isEmpty()) {
             log.debug("No live price for {}, using OHLCV data only", symbol);
-            return;
+            return Optional.empty();
         }
         PricedAt entry = latestEntry.get();
         LocalDate quoteDate = entry.updatedAt().atZone(NY_ZONE).toLocalDate();
-        LocalDate lastOhlcvDate = prices.getLast().getDate();
-
-        if (quoteDate.isAfter(lastOhlcvDate)) {
-            prices.add(new DailyPrice(quoteDate, entry.price()));
+        if (!quoteDate.isAfter(lastBarDate)) {
+            return Optional.empty();
         }
+        return Optional.of(new DailyPrice(quoteDate, entry.price()));
+    }
+
+    private void appendLatestIntradayPrice(String symbol, List<DailyPrice> prices) {
+        findIntradayPriceAfter(symbol, prices.getLast().getDate()).ifPresent(prices::add);
     }
 }
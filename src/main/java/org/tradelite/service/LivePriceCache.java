@@ -1,14 +1,19 @@
 package org.tradelite.service;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -16,11 +21,61 @@ import org.springframework.stereotype.Service;
 public class LivePriceCache {
 
     private static final Duration TTL = Duration.ofHours(24);
+    static final int HISTORY_SIZE = 12;
 
     private final Map<String, PricedAt> cache = new ConcurrentHashMap<>();
+    private final Map<String, Deque<Double>> history = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public LivePriceCache() {
+        this(Clock.systemUTC());
+    }
+
+    @Autowired
+    public LivePriceCache(Clock clock) {
+        this.clock = clock;
+    }
 
     public void put(String symbol, double price) {
-        cache.put(symbol, new PricedAt(price, Instant.now()));
+        putLatest(symbol, price);
+        addToHistory(symbol, price);
+    }
+
+    /**
+     * Updates the latest price without adding it to the recent-range history, for sources that
+     * deliver far more often than the polled quotes the history is sized for (e.g. streamed
+     * trades). {@link #sampleHistory} adds their price once per cycle instead.
+     */
+    public void putLatest(String symbol, double price) {
+        cache.put(symbol, new PricedAt(price, clock.instant()));
+    }
+
+    /** Adds the latest price of {@code symbol} to its history if it moved since the last sample. */
+    public void sampleHistory(String symbol) {
+        PricedAt entry = cache.get(symbol);
+        if (entry == null) {
+            return;
+        }
+        Deque<Double> prices = history.computeIfAbsent(symbol, _ -> new ArrayDeque<>());
+        synchronized (prices) {
+            if (prices.isEmpty() || prices.getLast() != entry.price()) {
+                append(prices, entry.price());
+            }
+        }
+    }
+
+    private void addToHistory(String symbol, double price) {
+        Deque<Double> prices = history.computeIfAbsent(symbol, _ -> new ArrayDeque<>());
+        synchronized (prices) {
+            append(prices, price);
+        }
+    }
+
+    private static void append(Deque<Double> prices, double price) {
+        prices.addLast(price);
+        if (prices.size() > HISTORY_SIZE) {
+            prices.removeFirst();
+        }
     }
 
     public Double get(String symbol) {
@@ -32,6 +87,30 @@ public class LivePriceCache {
         return Optional.ofNullable(cache.get(symbol));
     }
 
+    /**
+     * High-low range of the last {@value #HISTORY_SIZE} cached prices as a percentage of the latest
+     * one. Only price changes are cached, so this measures how far the symbol has been moving
+     * recently, not how often. Empty until at least two prices were seen.
+     */
+    public OptionalDouble getRecentRangePercent(String symbol) {
+        Deque<Double> prices = history.get(symbol);
+        if (prices == null) {
+            return OptionalDouble.empty();
+        }
+        synchronized (prices) {
+            if (prices.size() < 2 || prices.getLast() <= 0) {
+                return OptionalDouble.empty();
+            }
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (double price : prices) {
+                min = Math.min(min, price);
+                max = Math.max(max, price);
+            }
+            return OptionalDouble.of((max - min) / prices.getLast() * 100);
+        }
+    }
+
     public Map<String, Double> getAll() {
         return cache.entrySet().stream()
                 .collect(
@@ -39,7 +118,7 @@ public class LivePriceCache {
     }
 
     public void evictStale() {
-        evictStale(Instant.now(), TTL);
+        evictStale(clock.instant(), TTL);
     }
 
     void evictStale(Instant now, Duration ttl) {
@@ -47,6 +126,7 @@ public class LivePriceCache {
         cache.forEach(
                 (symbol, entry) -> {
                     if (now.isAfter(entry.updatedAt().plus(ttl)) && cache.remove(symbol, entry)) {
+                        history.remove(symbol);
                         evicted.add(symbol);
                     }
                 });
@@ -1,7 +1,9 @@
 package org.tradelite.service;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.MonthDay;
@@ -10,10 +12,12 @@ import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -22,6 +26,7 @@ import org.tradelite.client.finnhub.FinnhubClient;
 import org.tradelite.client.finnhub.dto.MarketHolidayResponse;
 import org.tradelite.client.finnhub.dto.MarketHolidayResponse.MarketHoliday;
 import org.tradelite.common.Exchange;
+import org.tradelite.service.SessionTable.Session;
 
 @Slf4j
 @Service
@@ -46,8 +51,15 @@ public class MarketStatusService {
     /** Forward window covered by Enrico fetches at startup; renews on every redeploy. */
     private static final int HOLIDAY_FETCH_WINDOW_DAYS = 365;
 
+    /**
+     * Days compiled into each {@link SessionTable}, starting the day before the instant that
+     * triggered the compile. Queries outside the window recompile around the queried instant.
+     */
+    static final int SESSION_TABLE_DAYS = 365;
+
     private final FinnhubClient finnhubClient;
     private final EnricoClient enricoClient;
+    private final Clock clock;
 
     /** NYSE holidays (Finnhub). Carries early-close metadata via {@link MarketHoliday}. */
     private final AtomicReference<Map<LocalDate, MarketHoliday>> holidayCache =
@@ -62,9 +74,16 @@ public class MarketStatusService {
     /** Per-exchange loaded flags so one flaky country code doesn't block the others. */
     private final Map<Exchange, AtomicBoolean> internationalLoaded;
 
-    public MarketStatusService(FinnhubClient finnhubClient, EnricoClient enricoClient) {
+    /** Compiled sessions, dropped whenever the holiday caches they were built from change. */
+    private volatile SessionTable nyseSessions;
+
+    private final Map<Exchange, SessionTable> exchangeSessions = new EnumMap<>(Exchange.class);
+
+    public MarketStatusService(
+            FinnhubClient finnhubClient, EnricoClient enricoClient, Clock clock) {
         this.finnhubClient = finnhubClient;
         this.enricoClient = enricoClient;
+        this.clock = clock;
         EnumMap<Exchange, AtomicBoolean> loadedMap = new EnumMap<>(Exchange.class);
         for (Exchange e : Exchange.values()) {
             loadedMap.put(e, new AtomicBoolean(false));
@@ -110,6 +129,7 @@ public class MarketStatusService {
         }
         holidayCache.set(Collections.unmodifiableMap(newCache));
         loaded = true;
+        invalidateNyseSessions();
         log.info("Loaded {} market holidays from Finnhub", newCache.size());
     }
 
@@ -120,7 +140,7 @@ public class MarketStatusService {
     }
 
     private void fetchAndCacheInternationalHolidays(Exchange exchange) {
-        LocalDate from = LocalDate.now(exchange.getZoneId());
+        LocalDate from = LocalDate.now(clock.withZone(exchange.getZoneId()));
         LocalDate to = from.plusDays(HOLIDAY_FETCH_WINDOW_DAYS);
         Map<LocalDate, String> holidays = enricoClient.getHolidaysForRange(exchange, from, to);
         if (holidays.isEmpty()) {
@@ -134,36 +154,116 @@ public class MarketStatusService {
         next.put(exchange, holidays);
         internationalHolidayCache.set(Collections.unmodifiableMap(next));
         internationalLoaded.get(exchange).set(true);
+        invalidateExchangeSessions(exchange);
     }
 
     public boolean isMarketOpen(ZonedDateTime dateTime) {
-        if (dateTime == null) {
-            dateTime = ZonedDateTime.now(NY_ZONE);
-        }
-        ZonedDateTime nyTime = dateTime.withZoneSameInstant(NY_ZONE);
+        Instant instant = dateTime == null ? clock.instant() : dateTime.toInstant();
+        return nyseSessions(instant).isOpen(instant);
+    }
 
-        if (!isWeekday(nyTime.getDayOfWeek())) {
-            return false;
-        }
+    /** The next NYSE open strictly after {@code instant}, within {@link #SESSION_TABLE_DAYS}. */
+    public Optional<Instant> nextMarketOpen(Instant instant) {
+        return nyseSessions(instant).nextOpen(instant);
+    }
+
+    /** The next NYSE close strictly after {@code instant}, within {@link #SESSION_TABLE_DAYS}. */
+    public Optional<Instant> nextMarketClose(Instant instant) {
+        return nyseSessions(instant).nextClose(instant);
+    }
+
+    public Optional<Instant> nextOpen(Exchange exchange, Instant instant) {
+        return exchangeSessions(exchange, instant).nextOpen(instant);
+    }
 
-        LocalDate today = nyTime.toLocalDate();
-        LocalTime time = nyTime.toLocalTime();
+    public Optional<Instant> nextClose(Exchange exchange, Instant instant) {
+        return exchangeSessions(exchange, instant).nextClose(instant);
+    }
 
+    /**
+     * The earliest next open across NYSE and the international exchanges if all of them are closed
+     * at {@code dateTime} (now if {@code null}); empty while any of them is trading.
+     */
+    public Optional<Instant> nextOpenIfAllClosed(ZonedDateTime dateTime) {
+        Instant instant = dateTime == null ? clock.instant() : dateTime.toInstant();
+        SessionTable nyse = nyseSessions(instant);
+        if (nyse.isOpen(instant)) {
+            return Optional.empty();
+        }
+        Optional<Instant> earliest = nyse.nextOpen(instant);
+        for (Exchange exchange : Exchange.values()) {
+            SessionTable sessions = exchangeSessions(exchange, instant);
+            if (sessions.isOpen(instant)) {
+                return Optional.empty();
+            }
+            Optional<Instant> next = sessions.nextOpen(instant);
+            if (next.isPresent() && (earliest.isEmpty() || next.get().isBefore(earliest.get()))) {
+                earliest = next;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * NYSE sessions: regular hours, none on full-day holidays, and shortened hours on early-close
+     * days. Falls back to regular weekday hours while the Finnhub calendar isn't loaded.
+     */
+    private List<Session> nyseSessionsOn(LocalDate date) {
+        if (!isWeekday(date.getDayOfWeek())) {
+            return List.of();
+        }
         if (loaded) {
-            MarketHoliday holiday = holidayCache.get().get(today);
+            MarketHoliday holiday = holidayCache.get().get(date);
             if (holiday != null) {
                 String tradingHour = holiday.getTradingHour();
                 if (tradingHour == null || tradingHour.isEmpty()) {
-                    return false; // fully closed
+                    return List.of(); // fully closed
                 }
                 // Early close: tradingHour = "09:30-13:00"
-                LocalTime earlyClose = parseCloseTime(tradingHour);
-                return !time.isBefore(MARKET_OPEN) && time.isBefore(earlyClose);
+                return List.of(new Session(MARKET_OPEN, parseCloseTime(tradingHour)));
+            }
+        }
+        return List.of(new Session(MARKET_OPEN, MARKET_CLOSE));
+    }
+
+    private SessionTable nyseSessions(Instant instant) {
+        SessionTable sessions = nyseSessions;
+        if (sessions != null && sessions.covers(instant)) {
+            return sessions;
+        }
+        synchronized (this) {
+            if (nyseSessions == null || !nyseSessions.covers(instant)) {
+                nyseSessions = compile(NY_ZONE, instant, this::nyseSessionsOn);
             }
+            return nyseSessions;
         }
+    }
+
+    private synchronized SessionTable exchangeSessions(Exchange exchange, Instant instant) {
+        SessionTable sessions = exchangeSessions.get(exchange);
+        if (sessions == null || !sessions.covers(instant)) {
+            sessions =
+                    compile(
+                            exchange.getZoneId(),
+                            instant,
+                            date -> exchangeSessionsOn(exchange, date));
+            exchangeSessions.put(exchange, sessions);
+        }
+        return sessions;
+    }
+
+    private static SessionTable compile(
+            ZoneId zone, Instant instant, Function<LocalDate, List<Session>> sessionsOn) {
+        LocalDate from = LocalDate.ofInstant(instant, zone).minusDays(1);
+        return SessionTable.compile(zone, from, SESSION_TABLE_DAYS, sessionsOn);
+    }
 
-        // Normal hours (or fallback if cache not loaded, no holiday match)
-        return !time.isBefore(MARKET_OPEN) && time.isBefore(MARKET_CLOSE);
+    private synchronized void invalidateNyseSessions() {
+        nyseSessions = null;
+    }
+
+    private synchronized void invalidateExchangeSessions(Exchange exchange) {
+        exchangeSessions.remove(exchange);
     }
 
     private static boolean isWeekday(DayOfWeek dayOfWeek) {
@@ -179,11 +279,16 @@ public class MarketStatusService {
         return MARKET_CLOSE;
     }
 
+    /** Today's date in New York, which names the NYSE session that is open or next to open. */
+    public LocalDate currentSessionDate() {
+        return LocalDate.now(clock.withZone(NY_ZONE));
+    }
+
     public Optional<MarketHoliday> getTodayHoliday() {
         if (!loaded) {
             return Optional.empty();
         }
-        LocalDate today = LocalDate.now(NY_ZONE);
+        LocalDate today = currentSessionDate();
         return Optional.ofNullable(holidayCache.get().get(today));
     }
 
@@ -195,7 +300,7 @@ public class MarketStatusService {
     public Map<Exchange, String> getTodayInternationalHolidays() {
         EnumMap<Exchange, String> result = new EnumMap<>(Exchange.class);
         for (Exchange exchange : Exchange.values()) {
-            LocalDate today = LocalDate.now(exchange.getZoneId());
+            LocalDate today = LocalDate.now(clock.withZone(exchange.getZoneId()));
             String name = lookupHolidayName(exchange, today);
             if (name != null) {
                 result.put(exchange, name);
@@ -214,36 +319,34 @@ public class MarketStatusService {
                     "No exchange mapping found for symbol: {} — skipping price evaluation", symbol);
             return false;
         }
-        return isOpen(exchange.get(), ZonedDateTime.now(exchange.get().getZoneId()));
+        return isOpen(
+                exchange.get(), ZonedDateTime.now(clock.withZone(exchange.get().getZoneId())));
     }
 
-    /** Holiday-aware open check. Combines weekday + holiday + per-exchange time-window logic. */
+    /** Holiday-aware open check against the exchange's compiled {@link SessionTable}. */
     boolean isOpen(Exchange exchange, ZonedDateTime now) {
-        if (!isWeekday(now.getDayOfWeek())) {
-            return false;
-        }
-        if (isHoliday(exchange, now.toLocalDate())) {
-            return false;
-        }
-        LocalTime time = now.toLocalTime();
-        return switch (exchange) {
-            case XETRA -> !time.isBefore(XETRA_OPEN) && time.isBefore(XETRA_CLOSE);
-            case KRX -> !time.isBefore(KRX_OPEN) && time.isBefore(KRX_CLOSE);
-            case JPX -> isJpxTradingTime(time);
-            case STO -> !time.isBefore(STO_OPEN) && time.isBefore(STO_CLOSE);
-            case PAR -> !time.isBefore(PAR_OPEN) && time.isBefore(PAR_CLOSE);
-        };
+        Instant instant = now.toInstant();
+        return exchangeSessions(exchange, instant).isOpen(instant);
     }
 
     /**
-     * JPX has a 11:30-12:30 JST lunch break; check both sessions explicitly so the contract returns
-     * true only when the exchange is actually trading.
+     * Sessions of an international exchange on {@code date}: none on weekends and holidays, and two
+     * on JPX days, which break for lunch 11:30-12:30 JST.
      */
-    private static boolean isJpxTradingTime(LocalTime time) {
-        boolean morning = !time.isBefore(JPX_MORNING_OPEN) && time.isBefore(JPX_MORNING_CLOSE);
-        boolean afternoon =
-                !time.isBefore(JPX_AFTERNOON_OPEN) && time.isBefore(JPX_AFTERNOON_CLOSE);
-        return morning || afternoon;
+    private List<Session> exchangeSessionsOn(Exchange exchange, LocalDate date) {
+        if (!isWeekday(date.getDayOfWeek()) || isHoliday(exchange, date)) {
+            return List.of();
+        }
+        return switch (exchange) {
+            case XETRA -> List.of(new Session(XETRA_OPEN, XETRA_CLOSE));
+            case KRX -> List.of(new Session(KRX_OPEN, KRX_CLOSE));
+            case JPX ->
+                    List.of(
+                            new Session(JPX_MORNING_OPEN, JPX_MORNING_CLOSE),
+                            new Session(JPX_AFTERNOON_OPEN, JPX_AFTERNOON_CLOSE));
+            case STO -> List.of(new Session(STO_OPEN, STO_CLOSE));
+            case PAR -> List.of(new Session(PAR_OPEN, PAR_CLOSE));
+        };
     }
 
     boolean isHoliday(Exchange exchange, LocalDate date) {
@@ -26,16 +26,16 @@ import org.tradelite.service.model.MomentumRocData;
 public class MomentumRocService {
 
     /** Short-term ROC period (10 trading days) */
-    private static final int ROC_SHORT_PERIOD = 10;
+    public static final int ROC_SHORT_PERIOD = 10;
 
     /** Long-term ROC period (20 trading days) */
-    private static final int ROC_LONG_PERIOD = 20;
+    public static final int ROC_LONG_PERIOD = 20;
 
     /** Number of calendar days to fetch for ROC calculation (with buffer for weekends/holidays) */
-    private static final int ROC_LOOKBACK_DAYS = 35;
+    public static final int ROC_LOOKBACK_DAYS = 35;
 
     /** Minimum data points required for reliable ROC calculation */
-    private static final int MIN_DATA_POINTS = 21;
+    public static final int MIN_DATA_POINTS = 21;
 
     /**
      * Dead zone around zero to filter noise. ROC values within ±ROC_DEAD_ZONE are treated as "at
@@ -10,6 +10,7 @@ import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
 import org.tradelite.repository.NewlyAddedSymbolRepository;
 import org.tradelite.repository.NewlyAddedSymbolRepository.NewlyAddedSymbol;
+import org.tradelite.scheduling.InstanceCoordinator;
 
 @Slf4j
 @Service
@@ -22,6 +23,7 @@ public class OhlcvBackfillService {
     private final NewlyAddedSymbolRepository newlyAddedSymbolRepository;
     private final OhlcvFetcher ohlcvFetcher;
     private final SymbolRegistry symbolRegistry;
+    private final InstanceCoordinator instanceCoordinator;
 
     public void backfillNewlyAddedSymbols() throws InterruptedException {
         List<NewlyAddedSymbol> pending = newlyAddedSymbolRepository.findOldest(BACKFILL_BATCH_SIZE);
@@ -43,7 +45,12 @@ public class OhlcvBackfillService {
                 newlyAddedSymbolRepository.deleteAll(removed);
             }
 
-            List<String> toBackfill = tickers.stream().filter(trackedTickers::contains).toList();
+            // Symbols owned by another instance stay queued for that instance
+            List<String> toBackfill =
+                    tickers.stream()
+                            .filter(trackedTickers::contains)
+                            .filter(instanceCoordinator::owns)
+                            .toList();
 
             if (!toBackfill.isEmpty()) {
                 List<String> succeeded = ohlcvFetcher.backfillSymbols(toBackfill);
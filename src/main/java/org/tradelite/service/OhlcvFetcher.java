@@ -1,19 +1,36 @@
 package org.tradelite.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import lombok.Setter;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.client.twelvedata.TwelveDataBatch;
 import org.tradelite.client.twelvedata.TwelveDataClient;
-import org.tradelite.client.yahoo.YahooFetchException;
 import org.tradelite.client.yahoo.YahooFinanceClient;
 import org.tradelite.common.OhlcvRecord;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.repository.OhlcvFetchCheckpoint;
+import org.tradelite.repository.OhlcvFetchCheckpointRepository;
+import org.tradelite.repository.OhlcvFetchRun;
 import org.tradelite.repository.OhlcvRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.JobRunContext;
 
 @SuppressWarnings("SameParameterValue")
 @Slf4j
@@ -24,10 +41,12 @@ public class OhlcvFetcher {
     static final int MIN_RECORDS_FOR_BACKFILL = 136;
     static final int BACKFILL_OUTPUT_SIZE = 400;
     static final int REFRESH_OUTPUT_SIZE = 5;
-    static final long DEFAULT_REQUEST_DELAY_MS = 9000;
-    static final long DEFAULT_YAHOO_REQUEST_DELAY_MS = 3000;
-    static final long RATE_LIMIT_WAIT_MS = 61_000;
-    static final int MAX_RETRIES = 1;
+
+    /**
+     * An unfinished run older than this is abandoned instead of resumed, so the next day's fetch
+     * always refreshes every symbol.
+     */
+    static final Duration RESUME_WINDOW = Duration.ofHours(12);
 
     private final TwelveDataClient twelveDataClient;
     private final YahooFinanceClient yahooFinanceClient;
@@ -35,9 +54,9 @@ public class OhlcvFetcher {
     private final SymbolRegistry symbolRegistry;
     private final TelegramGateway telegramGateway;
     private final StockSplitDetector stockSplitDetector;
-    @Setter private long requestDelayMs = DEFAULT_REQUEST_DELAY_MS;
-    @Setter private long yahooRequestDelayMs = DEFAULT_YAHOO_REQUEST_DELAY_MS;
-    @Setter private long rateLimitWaitMs = RATE_LIMIT_WAIT_MS;
+    private final OhlcvFetchCheckpointRepository checkpointRepository;
+    private final InstanceCoordinator instanceCoordinator;
+    private final Clock clock;
 
     @Autowired
     public OhlcvFetcher(
@@ -46,13 +65,19 @@ public class OhlcvFetcher {
             OhlcvRepository ohlcvRepository,
             SymbolRegistry symbolRegistry,
             TelegramGateway telegramGateway,
-            StockSplitDetector stockSplitDetector) {
+            StockSplitDetector stockSplitDetector,
+            OhlcvFetchCheckpointRepository checkpointRepository,
+            InstanceCoordinator instanceCoordinator,
+            Clock clock) {
         this.twelveDataClient = twelveDataClient;
         this.yahooFinanceClient = yahooFinanceClient;
         this.ohlcvRepository = ohlcvRepository;
         this.symbolRegistry = symbolRegistry;
         this.telegramGateway = telegramGateway;
         this.stockSplitDetector = stockSplitDetector;
+        this.checkpointRepository = checkpointRepository;
+        this.instanceCoordinator = instanceCoordinator;
+        this.clock = clock;
     }
 
     public void fetchAndBackfillOhlcv() throws InterruptedException {
@@ -65,147 +90,433 @@ public class OhlcvFetcher {
                         .map(StockSymbol::getTicker)
                         .filter(t -> !symbolRegistry.isInternationalSymbol(t))
                         .toList();
-        List<String> domesticSymbols =
-                maxSymbols < allSymbols.size() ? allSymbols.subList(0, maxSymbols) : allSymbols;
+        List<String> ownedSymbols = allSymbols.stream().filter(instanceCoordinator::owns).toList();
+        boolean limited = maxSymbols < ownedSymbols.size();
+        List<String> domesticSymbols = limited ? ownedSymbols.subList(0, maxSymbols) : ownedSymbols;
 
-        List<String> internationalSymbols =
+        List<String> allInternationalSymbols =
                 symbolRegistry.getInternationalStocks().stream()
                         .map(StockSymbol::getTicker)
                         .toList();
+        List<String> internationalSymbols =
+                allInternationalSymbols.stream().filter(instanceCoordinator::owns).toList();
+        // Fetched by other instances into the same run, which stays open until they finish too
+        List<String> otherInstancesSymbols =
+                Stream.concat(allSymbols.stream(), allInternationalSymbols.stream())
+                        .filter(ticker -> !instanceCoordinator.owns(ticker))
+                        .toList();
+
+        // A limited pass covers only part of the symbols, so it must neither skip the ones the
+        // nightly run already completed nor close that run on their behalf
+        FetchRun run = limited ? FetchRun.UNTRACKED : openRun();
+        JobRunContext.recordSymbolsTotal(
+                (int)
+                        Stream.concat(domesticSymbols.stream(), internationalSymbols.stream())
+                                .filter(ticker -> !run.isCompleted(ticker))
+                                .count());
 
         log.info(
-                "Starting OHLCV fetch for {} domestic + {} international symbols",
+                "Starting OHLCV fetch for {} domestic + {} international symbols (run {})",
                 domesticSymbols.size(),
-                internationalSymbols.size());
+                internationalSymbols.size(),
+                run.isTracked() ? run.runId() : "untracked");
 
-        // Pass 1: Domestic symbols via Twelve Data
+        // Twelve Data (domestic) and Yahoo (international) have independent budgets, so the two
+        // passes run side by side, each paced by its own provider bucket. A pass that throws
+        // doesn't keep the other's failures out of the alert; it is rethrown once both settled.
         List<String> failedSymbols = new ArrayList<>();
-        int succeeded = fetchDomesticSymbols(domesticSymbols, failedSymbols);
+        List<String> abortedPasses = new ArrayList<>();
+        RuntimeException passFailure = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<String>> internationalPass =
+                    executor.submit(
+                            JobRunContext.propagate(
+                                    () -> fetchInternationalSymbols(run, internationalSymbols)));
+            try {
+                failedSymbols.addAll(fetchDomesticSymbols(run, domesticSymbols));
+            } catch (RuntimeException e) {
+                // Stop the Yahoo pass instead of waiting for it in close()
+                executor.shutdownNow();
+                passFailure = e;
+                recordAbortedPass(abortedPasses, "Domestic", e);
+            }
+            try {
+                failedSymbols.addAll(awaitPass(internationalPass, executor));
+            } catch (RuntimeException e) {
+                if (passFailure == null) {
+                    passFailure = e;
+                    recordAbortedPass(abortedPasses, "International", e);
+                } else {
+                    passFailure.addSuppressed(e);
+                }
+            }
+        }
 
-        log.info(
-                "Domestic OHLCV fetch complete: {} succeeded, {} failed{}",
-                succeeded,
-                failedSymbols.size(),
-                failedSymbols.isEmpty() ? "" : " " + failedSymbols);
+        int total = domesticSymbols.size() + internationalSymbols.size();
+        if (!failedSymbols.isEmpty() || !abortedPasses.isEmpty()) {
+            StringBuilder alert =
+                    new StringBuilder(
+                            String.format(
+                                    "*OHLCV Fetch Alert*%n%d/%d failed %s",
+                                    failedSymbols.size(), total, failedSymbols));
+            abortedPasses.forEach(aborted -> alert.append(System.lineSeparator()).append(aborted));
+            telegramGateway.sendMessage(alert.toString());
+        }
+        if (passFailure != null) {
+            throw passFailure;
+        }
 
-        if (!failedSymbols.isEmpty()) {
-            telegramGateway.sendMessage(
-                    String.format(
-                            "*OHLCV Fetch Alert*%n%d/%d failed %s",
-                            failedSymbols.size(), domesticSymbols.size(), failedSymbols));
+        if (!run.isTracked()) {
+            log.info("Limited OHLCV fetch of {} symbols done, no run checkpointed", total);
+        } else if (failedSymbols.isEmpty() && completedElsewhere(run, otherInstancesSymbols)) {
+            checkpointRepository.finishRun(run.runId(), clock.instant());
+        } else if (failedSymbols.isEmpty()) {
+            log.info(
+                    "OHLCV fetch run {} left open: other instances are still fetching their"
+                            + " symbols",
+                    run.runId());
+        } else {
+            log.info(
+                    "OHLCV fetch run {} left open: the next trigger retries only the {} failed"
+                            + " symbols",
+                    run.runId(),
+                    failedSymbols.size());
+        }
+    }
+
+    /**
+     * Resumes the open run when it started within {@link #RESUME_WINDOW}, so a restart or manual
+     * re-trigger skips every symbol already completed. Otherwise starts a fresh run, or joins the
+     * one another instance started in the meantime.
+     */
+    private FetchRun openRun() {
+        Instant now = clock.instant();
+        Instant openSince = now.minus(RESUME_WINDOW);
+        Optional<FetchRun> resumed = resumeRun(openSince);
+        if (resumed.isPresent()) {
+            return resumed.get();
+        }
+
+        String runId = UUID.randomUUID().toString();
+        if (checkpointRepository.startRunUnlessOpen(runId, now, openSince)) {
+            return new FetchRun(runId, Map.of());
         }
+        return resumeRun(openSince)
+                .orElseThrow(
+                        () -> new IllegalStateException("Concurrently started OHLCV run vanished"));
+    }
+
+    private Optional<FetchRun> resumeRun(Instant openSince) {
+        Optional<OhlcvFetchRun> openRun =
+                checkpointRepository.findOpenRun().filter(r -> r.startedAt().isAfter(openSince));
 
-        // Pass 2: International symbols via Yahoo Finance
-        if (!internationalSymbols.isEmpty()) {
-            int intlSucceeded = fetchInternationalSymbols(internationalSymbols);
+        if (openRun.isPresent()) {
+            String runId = openRun.get().runId();
+            Map<String, OhlcvFetchCheckpoint> checkpoints =
+                    checkpointRepository.findCheckpoints(runId);
+            long completed =
+                    checkpoints.values().stream().filter(OhlcvFetchCheckpoint::isCompleted).count();
             log.info(
-                    "International OHLCV fetch complete: {}/{} succeeded",
-                    intlSucceeded,
-                    internationalSymbols.size());
+                    "Resuming OHLCV fetch run {} started at {}: {} completed, {} failed",
+                    runId,
+                    openRun.get().startedAt(),
+                    completed,
+                    checkpoints.size() - completed);
+            return Optional.of(new FetchRun(runId, checkpoints));
         }
+        return Optional.empty();
     }
 
-    private int fetchDomesticSymbols(List<String> symbols, List<String> failedSymbols)
-            throws InterruptedException {
+    /** Whether every symbol another instance fetches is completed in {@code run}. */
+    private boolean completedElsewhere(FetchRun run, List<String> otherInstancesSymbols) {
+        if (otherInstancesSymbols.isEmpty()) {
+            return true;
+        }
+        Map<String, OhlcvFetchCheckpoint> checkpoints =
+                checkpointRepository.findCheckpoints(run.runId());
+        return otherInstancesSymbols.stream()
+                .allMatch(
+                        ticker ->
+                                checkpoints.containsKey(ticker)
+                                        && checkpoints.get(ticker).isCompleted());
+    }
+
+    /**
+     * Fetches the Twelve Data symbols in order and returns the tickers that failed. Symbols that
+     * only need a refresh are collected into multi-symbol requests of up to {@link
+     * TwelveDataClient#maxBatchSize()}; backfills ask for far more rows and go one by one.
+     */
+    private List<String> fetchDomesticSymbols(FetchRun run, List<String> symbols) {
+        List<String> failedSymbols = new ArrayList<>();
         int succeeded = 0;
+        int batchSize = twelveDataClient.maxBatchSize();
+        Map<String, SymbolPlan> refreshBatch = new LinkedHashMap<>();
 
         for (int i = 0; i < symbols.size(); i++) {
-            if (i > 0) {
-                //noinspection BusyWait
-                Thread.sleep(requestDelayMs);
-            }
-
             String ticker = symbols.get(i);
-            List<OhlcvRecord> existingRecords =
-                    ohlcvRepository.findBySymbol(ticker, LOOKBACK_CALENDAR_DAYS);
-            boolean needsBackfill = existingRecords.size() < MIN_RECORDS_FOR_BACKFILL;
-            int outputSize = needsBackfill ? BACKFILL_OUTPUT_SIZE : REFRESH_OUTPUT_SIZE;
-            String mode = needsBackfill ? "backfill" : "refresh";
-
-            log.info("Fetching OHLCV for {} ({}/{}, {})", ticker, i + 1, symbols.size(), mode);
-
-            int attempt = 0;
-            while (true) {
-                try {
-                    List<OhlcvRecord> records =
-                            twelveDataClient.fetchDailyOhlcv(ticker, outputSize);
-
-                    if (!needsBackfill && !records.isEmpty() && !existingRecords.isEmpty()) {
-                        try {
-                            checkForStockSplit(ticker, existingRecords, records);
-                        } catch (Exception e) {
-                            log.warn("Split detection failed for {}: {}", ticker, e.getMessage());
-                        }
-                    }
-
-                    ohlcvRepository.saveAll(records);
-                    succeeded++;
-                    break;
-                } catch (Exception e) {
-                    if (isRateLimitError(e) && attempt < MAX_RETRIES) {
-                        attempt++;
-                        log.warn(
-                                "Rate limit hit for {}, waiting {}ms before retry",
-                                ticker,
-                                rateLimitWaitMs);
-                        //noinspection BusyWait
-                        Thread.sleep(rateLimitWaitMs);
-                    } else {
-                        log.error("Failed to fetch OHLCV for {}: {}", ticker, e.getMessage());
-                        failedSymbols.add(ticker);
-                        break;
-                    }
+            if (run.isCompleted(ticker)) {
+                succeeded++;
+                continue;
+            }
+            JobRunContext.checkDeadline();
+            SymbolPlan plan = planSymbol(run, ticker);
+
+            if (!plan.needsBackfill() && batchSize > 1) {
+                refreshBatch.put(ticker, plan);
+                if (refreshBatch.size() >= batchSize) {
+                    succeeded += fetchRefreshBatch(run, refreshBatch, failedSymbols);
+                    refreshBatch.clear();
                 }
+                continue;
             }
+
+            log.info(
+                    "Fetching OHLCV for {} ({}/{}, {})",
+                    ticker,
+                    i + 1,
+                    symbols.size(),
+                    plan.label());
+            JobRunContext.recordSymbolsProcessed(1);
+
+            // Rate limiting (pacing, back-off and the single retry after a 429) lives in
+            // TwelveDataClient, so any exception here is final for this run.
+            try {
+                List<OhlcvRecord> records =
+                        twelveDataClient.fetchDailyOhlcv(ticker, plan.outputSize());
+                store(run, ticker, plan, records);
+                succeeded++;
+            } catch (CancellationException e) {
+                // Left uncheckpointed so the next run resumes from this symbol.
+                throw e;
+            } catch (Exception e) {
+                log.error("Failed to fetch OHLCV for {}: {}", ticker, e.getMessage());
+                checkpoint(run, ticker, plan, OhlcvFetchCheckpoint.Status.FAILED);
+                failedSymbols.add(ticker);
+            }
+        }
+        if (!refreshBatch.isEmpty()) {
+            JobRunContext.checkDeadline();
+            succeeded += fetchRefreshBatch(run, refreshBatch, failedSymbols);
         }
 
-        return succeeded;
+        log.info(
+                "Domestic OHLCV fetch complete: {} succeeded, {} failed{}",
+                succeeded,
+                failedSymbols.size(),
+                failedSymbols.isEmpty() ? "" : " " + failedSymbols);
+        return failedSymbols;
     }
 
-    private int fetchInternationalSymbols(List<String> symbols) throws InterruptedException {
+    /** Fetches the Yahoo Finance symbols in order and returns the tickers that failed. */
+    private List<String> fetchInternationalSymbols(FetchRun run, List<String> symbols) {
+        List<String> failedSymbols = new ArrayList<>();
         int succeeded = 0;
 
         for (int i = 0; i < symbols.size(); i++) {
-            if (i > 0) {
-                //noinspection BusyWait
-                Thread.sleep(yahooRequestDelayMs);
-            }
-
             String ticker = symbols.get(i);
-            List<OhlcvRecord> existingRecords =
-                    ohlcvRepository.findBySymbol(ticker, LOOKBACK_CALENDAR_DAYS);
-            boolean needsBackfill = existingRecords.size() < MIN_RECORDS_FOR_BACKFILL;
-            int days = needsBackfill ? BACKFILL_OUTPUT_SIZE : REFRESH_OUTPUT_SIZE;
-            String mode = needsBackfill ? "backfill" : "refresh";
+            if (run.isCompleted(ticker)) {
+                succeeded++;
+                continue;
+            }
+            JobRunContext.checkDeadline();
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("International OHLCV pass stopped");
+            }
+            SymbolPlan plan = planSymbol(run, ticker);
 
             log.info(
                     "Fetching international OHLCV for {} ({}/{}, {})",
                     ticker,
                     i + 1,
                     symbols.size(),
-                    mode);
+                    plan.label());
+            JobRunContext.recordSymbolsProcessed(1);
 
             try {
-                List<OhlcvRecord> records = yahooFinanceClient.fetchDailyOhlcv(ticker, days);
-
-                if (!needsBackfill && !records.isEmpty() && !existingRecords.isEmpty()) {
-                    try {
-                        checkForStockSplit(ticker, existingRecords, records);
-                    } catch (Exception e) {
-                        log.warn("Split detection failed for {}: {}", ticker, e.getMessage());
-                    }
-                }
-
-                ohlcvRepository.saveAll(records);
+                List<OhlcvRecord> records =
+                        yahooFinanceClient.fetchDailyOhlcv(ticker, plan.outputSize());
+                store(run, ticker, plan, records);
                 succeeded++;
-            } catch (YahooFetchException e) {
+            } catch (CancellationException e) {
+                // Left uncheckpointed so the next run resumes from this symbol.
+                throw e;
+            } catch (RuntimeException e) {
                 log.error("Yahoo fetch failed for {}: {}", ticker, e.getMessage());
+                checkpoint(run, ticker, plan, OhlcvFetchCheckpoint.Status.FAILED);
+                failedSymbols.add(ticker);
+            }
+        }
+
+        if (!symbols.isEmpty()) {
+            log.info(
+                    "International OHLCV fetch complete: {}/{} succeeded",
+                    succeeded,
+                    symbols.size());
+        }
+        return failedSymbols;
+    }
+
+    /**
+     * Alert line for a pass that threw. None for a cancelled pass: the run stays open and the next
+     * trigger resumes it.
+     */
+    private static void recordAbortedPass(
+            List<String> abortedPasses, String pass, RuntimeException e) {
+        if (!(e instanceof CancellationException)) {
+            abortedPasses.add(pass + " pass aborted: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for a pass running beside the caller's own. An interrupt stops the pass too, and a pass
+     * that threw rethrows its cause here, as if the passes still ran one after the other.
+     */
+    private static <T> T awaitPass(Future<T> pass, ExecutorService executor)
+            throws InterruptedException {
+        try {
+            return pass.get();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
         }
+    }
 
+    /**
+     * Refreshes {@code batch} with one Twelve Data request and returns how many symbols succeeded.
+     * A symbol the API rejects fails on its own; a failed request fails the whole batch.
+     */
+    private int fetchRefreshBatch(
+            FetchRun run, Map<String, SymbolPlan> batch, List<String> failedSymbols) {
+        List<String> tickers = List.copyOf(batch.keySet());
+        log.info(
+                "Fetching OHLCV for {} symbols in one request (refresh): {}",
+                tickers.size(),
+                tickers);
+        JobRunContext.recordSymbolsProcessed(tickers.size());
+
+        TwelveDataBatch result;
+        try {
+            result = twelveDataClient.fetchDailyOhlcvBatch(tickers, REFRESH_OUTPUT_SIZE);
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to fetch OHLCV for {}: {}", tickers, e.getMessage());
+            batch.forEach(
+                    (ticker, plan) ->
+                            checkpoint(run, ticker, plan, OhlcvFetchCheckpoint.Status.FAILED));
+            failedSymbols.addAll(tickers);
+            return 0;
+        }
+
+        int succeeded = 0;
+        for (Map.Entry<String, SymbolPlan> entry : batch.entrySet()) {
+            String ticker = entry.getKey();
+            SymbolPlan plan = entry.getValue();
+            List<OhlcvRecord> records = result.records().get(ticker);
+            try {
+                if (records == null) {
+                    throw new IllegalStateException(
+                            result.failures().getOrDefault(ticker, "no data returned"));
+                }
+                store(run, ticker, plan, records);
+                succeeded++;
+            } catch (Exception e) {
+                log.error("Failed to fetch OHLCV for {}: {}", ticker, e.getMessage());
+                checkpoint(run, ticker, plan, OhlcvFetchCheckpoint.Status.FAILED);
+                failedSymbols.add(ticker);
+            }
+        }
         return succeeded;
     }
 
+    /** Checks a refresh for a split, then saves {@code records} and checkpoints the symbol. */
+    private void store(FetchRun run, String ticker, SymbolPlan plan, List<OhlcvRecord> records) {
+        if (!plan.needsBackfill() && !records.isEmpty() && !plan.existing().isEmpty()) {
+            try {
+                checkForStockSplit(ticker, plan.existing(), records);
+            } catch (Exception e) {
+                log.warn("Split detection failed for {}: {}", ticker, e.getMessage());
+            }
+        }
+
+        ohlcvRepository.saveAll(records);
+        checkpoint(run, ticker, plan, OhlcvFetchCheckpoint.Status.COMPLETED);
+    }
+
+    /**
+     * Decides backfill vs refresh. A symbol that already failed a backfill in this run keeps that
+     * mode without re-reading its history; refreshes still need the stored rows for split
+     * detection.
+     */
+    private SymbolPlan planSymbol(FetchRun run, String ticker) {
+        OhlcvFetchCheckpoint previous = run.checkpoints().get(ticker);
+        if (previous != null && previous.mode() == OhlcvFetchCheckpoint.Mode.BACKFILL) {
+            return new SymbolPlan(OhlcvFetchCheckpoint.Mode.BACKFILL, List.of());
+        }
+        List<OhlcvRecord> existingRecords =
+                ohlcvRepository.findBySymbol(ticker, LOOKBACK_CALENDAR_DAYS);
+        boolean needsBackfill = existingRecords.size() < MIN_RECORDS_FOR_BACKFILL;
+        return new SymbolPlan(
+                needsBackfill
+                        ? OhlcvFetchCheckpoint.Mode.BACKFILL
+                        : OhlcvFetchCheckpoint.Mode.REFRESH,
+                existingRecords);
+    }
+
+    private void checkpoint(
+            FetchRun run, String ticker, SymbolPlan plan, OhlcvFetchCheckpoint.Status status) {
+        if (!run.isTracked()) {
+            return;
+        }
+        try {
+            checkpointRepository.saveCheckpoint(
+                    run.runId(),
+                    new OhlcvFetchCheckpoint(ticker, plan.mode(), status),
+                    clock.instant());
+        } catch (Exception e) {
+            // Losing a checkpoint only costs a redundant fetch after a restart
+            log.warn("Failed to checkpoint OHLCV fetch for {}: {}", ticker, e.getMessage());
+        }
+    }
+
+    private record FetchRun(String runId, Map<String, OhlcvFetchCheckpoint> checkpoints) {
+
+        /** A pass outside the checkpointed runs: it resumes nothing and records nothing. */
+        static final FetchRun UNTRACKED = new FetchRun(null, Map.of());
+
+        boolean isTracked() {
+            return runId != null;
+        }
+
+        boolean isCompleted(String ticker) {
+            OhlcvFetchCheckpoint checkpoint = checkpoints.get(ticker);
+            return checkpoint != null && checkpoint.isCompleted();
+        }
+    }
+
+    private record SymbolPlan(OhlcvFetchCheckpoint.Mode mode, List<OhlcvRecord> existing) {
+
+        boolean needsBackfill() {
+            return mode == OhlcvFetchCheckpoint.Mode.BACKFILL;
+        }
+
+        int outputSize() {
+            return needsBackfill() ? BACKFILL_OUTPUT_SIZE : REFRESH_OUTPUT_SIZE;
+        }
+
+        String label() {
+            return mode.name().toLowerCase();
+        }
+    }
+
     /**
      * Fetches a full backfill (400 records) for a single symbol and saves to the repository. Used
      * by the /data reset command after deleting existing data.
@@ -246,26 +557,20 @@ public class OhlcvFetcher {
                 domestic.size(),
                 international.size());
 
-        for (int i = 0; i < domestic.size(); i++) {
-            if (i > 0) {
-                //noinspection BusyWait
-                Thread.sleep(requestDelayMs);
-            }
-            String ticker = domestic.get(i);
-            if (fetchSingleDomestic(ticker)) {
-                succeeded.add(ticker);
-            }
-        }
-
-        for (int i = 0; i < international.size(); i++) {
-            if (i > 0) {
-                //noinspection BusyWait
-                Thread.sleep(yahooRequestDelayMs);
-            }
-            String ticker = international.get(i);
-            if (fetchSingleInternational(ticker)) {
-                succeeded.add(ticker);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<String>> internationalPass =
+                    executor.submit(
+                            JobRunContext.propagate(
+                                    () ->
+                                            international.stream()
+                                                    .filter(this::fetchSingleInternational)
+                                                    .toList()));
+            for (String ticker : domestic) {
+                if (fetchSingleDomestic(ticker)) {
+                    succeeded.add(ticker);
+                }
             }
+            succeeded.addAll(awaitPass(internationalPass, executor));
         }
 
         log.info(
@@ -275,33 +580,19 @@ public class OhlcvFetcher {
         return succeeded;
     }
 
-    private boolean fetchSingleDomestic(String ticker) throws InterruptedException {
+    private boolean fetchSingleDomestic(String ticker) {
         List<OhlcvRecord> existingRecords =
                 ohlcvRepository.findBySymbol(ticker, LOOKBACK_CALENDAR_DAYS);
         boolean needsBackfill = existingRecords.size() < MIN_RECORDS_FOR_BACKFILL;
         int outputSize = needsBackfill ? BACKFILL_OUTPUT_SIZE : REFRESH_OUTPUT_SIZE;
 
-        int attempt = 0;
-        while (true) {
-            try {
-                List<OhlcvRecord> records = twelveDataClient.fetchDailyOhlcv(ticker, outputSize);
-                ohlcvRepository.saveAll(records);
-                return true;
-            } catch (Exception e) {
-                if (isRateLimitError(e) && attempt < MAX_RETRIES) {
-                    attempt++;
-                    log.warn(
-                            "Rate limit hit for {}, waiting {}ms before retry",
-                            ticker,
-                            rateLimitWaitMs);
-                    //noinspection BusyWait
-                    Thread.sleep(rateLimitWaitMs);
-                } else {
-                    log.error(
-                            "Failed to backfill newly added symbol {}: {}", ticker, e.getMessage());
-                    return false;
-                }
-            }
+        try {
+            List<OhlcvRecord> records = twelveDataClient.fetchDailyOhlcv(ticker, outputSize);
+            ohlcvRepository.saveAll(records);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to backfill newly added symbol {}: {}", ticker, e.getMessage());
+            return false;
         }
     }
 
@@ -321,14 +612,6 @@ public class OhlcvFetcher {
         }
     }
 
-    static boolean isRateLimitError(Exception e) {
-        String message = e.getMessage();
-        if (message == null) {
-            return false;
-        }
-        return message.contains("You have run out of API credits");
-    }
-
     private void checkForStockSplit(
             String ticker, List<OhlcvRecord> existingRecords, List<OhlcvRecord> fetchedRecords) {
         double lastStoredClose = existingRecords.getLast().close();
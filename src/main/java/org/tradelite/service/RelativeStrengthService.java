@@ -2,6 +2,7 @@ package org.tradelite.service;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -70,7 +71,7 @@ public class RelativeStrengthService {
             DailyPriceProvider dailyPriceProvider) {
         this.rsCrossoverStateRepository = rsCrossoverStateRepository;
         this.dailyPriceProvider = dailyPriceProvider;
-        this.rsHistory = new HashMap<>(rsCrossoverStateRepository.findAll());
+        this.rsHistory = new ConcurrentHashMap<>(rsCrossoverStateRepository.findAll());
     }
 
     /**
@@ -108,9 +109,21 @@ public class RelativeStrengthService {
             spyPriceMap.put(price.getDate(), price.getPrice());
         }
 
-        // Get or create RS data for this symbol
-        RelativeStrengthData rsData = rsHistory.getOrDefault(symbol, new RelativeStrengthData());
+        // Get or create RS data for this symbol. Trackers fan symbols out concurrently, so the
+        // per-symbol state is mutated under its own lock.
+        RelativeStrengthData rsData =
+                rsHistory.computeIfAbsent(symbol, _ -> new RelativeStrengthData());
+        synchronized (rsData) {
+            return updateRelativeStrength(symbol, displayName, rsData, stockPrices, spyPriceMap);
+        }
+    }
 
+    private Optional<RelativeStrengthSignal> updateRelativeStrength(
+            String symbol,
+            String displayName,
+            RelativeStrengthData rsData,
+            List<DailyPrice> stockPrices,
+            Map<LocalDate, Double> spyPriceMap) {
         // Calculate RS for each date where we have both stock and SPY prices
         for (DailyPrice stockPrice : stockPrices) {
             Double spyPrice = spyPriceMap.get(stockPrice.getDate());
@@ -120,8 +133,6 @@ public class RelativeStrengthService {
             }
         }
 
-        rsHistory.put(symbol, rsData);
-
         // Check if we have enough data for EMA calculation
         List<Double> rsValues = rsData.getRsValues();
         if (rsValues.size() < MIN_HISTORY_SIZE) {
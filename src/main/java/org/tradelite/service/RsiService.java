@@ -12,8 +12,8 @@ import org.tradelite.service.model.DailyPrice;
 @RequiredArgsConstructor
 public class RsiService {
 
-    static final int RSI_PERIOD = 14;
-    static final int RSI_LOOKBACK_DAYS = 300;
+    public static final int RSI_PERIOD = 14;
+    public static final int RSI_LOOKBACK_DAYS = 300;
 
     private final DailyPriceProvider dailyPriceProvider;
 
@@ -67,7 +67,7 @@ public class RsiService {
         }
     }
 
-    double calculateRsi(List<Double> prices) {
+    public double calculateRsi(List<Double> prices) {
         if (prices.size() < RSI_PERIOD + 1) {
             return 50; // Not enough data
         }
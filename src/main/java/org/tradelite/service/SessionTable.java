@@ -0,0 +1,98 @@
+package org.tradelite.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Trading sessions of one venue, compiled for a range of days into a sorted array of open and close
+ * instants. Market-hours questions become a binary search instead of re-evaluating weekday, holiday
+ * and time-window rules on every call.
+ */
+final class SessionTable {
+
+    /** One trading session in the venue's local time; {@code close} is exclusive. */
+    record Session(LocalTime open, LocalTime close) {}
+
+    /** Epoch millis, opens at even indices and the matching closes at odd indices. */
+    private final long[] bounds;
+
+    private final Instant coveredFrom;
+    private final Instant coveredUntil;
+
+    private SessionTable(long[] bounds, Instant coveredFrom, Instant coveredUntil) {
+        this.bounds = bounds;
+        this.coveredFrom = coveredFrom;
+        this.coveredUntil = coveredUntil;
+    }
+
+    /** Compiles the sessions of {@code days} consecutive days starting at {@code from}. */
+    static SessionTable compile(
+            ZoneId zone, LocalDate from, int days, Function<LocalDate, List<Session>> sessionsOn) {
+        long[] bounds = new long[16];
+        int size = 0;
+        for (int day = 0; day < days; day++) {
+            LocalDate date = from.plusDays(day);
+            for (Session session : sessionsOn.apply(date)) {
+                if (size + 2 > bounds.length) {
+                    bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                }
+                bounds[size++] =
+                        date.atTime(session.open()).atZone(zone).toInstant().toEpochMilli();
+                bounds[size++] =
+                        date.atTime(session.close()).atZone(zone).toInstant().toEpochMilli();
+            }
+        }
+        return new SessionTable(
+                Arrays.copyOf(bounds, size),
+                from.atStartOfDay(zone).toInstant(),
+                from.plusDays(days).atStartOfDay(zone).toInstant());
+    }
+
+    boolean covers(Instant instant) {
+        return !instant.isBefore(coveredFrom) && instant.isBefore(coveredUntil);
+    }
+
+    boolean isOpen(Instant instant) {
+        return boundsUpTo(instant) % 2 == 1;
+    }
+
+    /** The first session open strictly after {@code instant}, if the table still has one. */
+    Optional<Instant> nextOpen(Instant instant) {
+        int index = boundsUpTo(instant);
+        return boundAt(index % 2 == 0 ? index : index + 1);
+    }
+
+    /** The first session close strictly after {@code instant}, if the table still has one. */
+    Optional<Instant> nextClose(Instant instant) {
+        int index = boundsUpTo(instant);
+        return boundAt(index % 2 == 1 ? index : index + 1);
+    }
+
+    /** Number of bounds at or before {@code instant}, i.e. the index of the first later bound. */
+    private int boundsUpTo(Instant instant) {
+        long millis = instant.toEpochMilli();
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid] <= millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Optional<Instant> boundAt(int index) {
+        return index < bounds.length
+                ? Optional.of(Instant.ofEpochMilli(bounds[index]))
+                : Optional.empty();
+    }
+}
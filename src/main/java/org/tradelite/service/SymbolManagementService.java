@@ -1,6 +1,7 @@
 package org.tradelite.service;
 
 import java.util.List;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,7 @@ import org.tradelite.client.yahoo.YahooFetchException;
 import org.tradelite.client.yahoo.YahooFinanceClient;
 import org.tradelite.common.AssetType;
 import org.tradelite.common.CoinId;
+import org.tradelite.common.CoinRegistry;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolLifecycleListener;
 import org.tradelite.common.SymbolRegistry;
@@ -34,6 +36,7 @@ public class SymbolManagementService {
     private final YahooFinanceClient yahooFinanceClient;
     private final NewlyAddedSymbolRepository newlyAddedSymbolRepository;
     private final List<SymbolLifecycleListener> lifecycleListeners;
+    private final CoinRegistry coinRegistry;
 
     /**
      * Result of an add-symbol operation.
@@ -123,6 +126,54 @@ public class SymbolManagementService {
         return true;
     }
 
+    /**
+     * Starts pricing a CoinGecko coin in the crypto loop, once CoinGecko is confirmed to price it.
+     *
+     * @param id CoinGecko coin id, e.g. {@code "chainlink"}
+     * @param displayName human-readable name
+     * @return AddResult indicating success or failure reason
+     */
+    public AddResult addCoin(String id, String displayName) {
+        String coinId = id.toLowerCase(Locale.ROOT);
+        if (coinRegistry.fromString(coinId).isPresent()) {
+            return new AddResult(false, "Coin " + coinId + " is already tracked.");
+        }
+        if (!isValidCoin(coinId)) {
+            return new AddResult(
+                    false,
+                    "Invalid coin: " + coinId + ". Could not fetch price data from CoinGecko.");
+        }
+        if (!coinRegistry.addCoin(coinId, displayName)) {
+            return new AddResult(false, "Failed to add coin: " + coinId);
+        }
+        return new AddResult(true, "Added " + displayName + " (" + coinId + ").");
+    }
+
+    /**
+     * Stops pricing a coin added through {@link #addCoin} and drops its target prices.
+     *
+     * @return true if removed, false if unknown or built in
+     */
+    public boolean removeCoin(String id) {
+        String coinId = id.toLowerCase(Locale.ROOT);
+        boolean removed = coinRegistry.removeCoin(coinId);
+        if (removed) {
+            targetPriceProvider.removeSymbolFromTargetPrices(coinId, AssetType.COIN);
+        }
+        return removed;
+    }
+
+    private boolean isValidCoin(String coinId) {
+        try {
+            CoinGeckoPriceResponse.CoinData coinData =
+                    coinGeckoClient.getCoinPrices(List.of(coinId)).get(coinId);
+            return coinData != null && coinData.getUsd() != null && coinData.getUsd() > 0;
+        } catch (Exception e) {
+            log.info("CoinGecko validation failed for coin {}: {}", coinId, e.getMessage());
+            return false;
+        }
+    }
+
     public boolean isValidTicker(String ticker, String displayName) {
         if (symbolRegistry.isInternationalSymbol(ticker)) {
             return isValidInternationalTicker(ticker);
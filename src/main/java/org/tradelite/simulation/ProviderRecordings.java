@@ -0,0 +1,109 @@
+package org.tradelite.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk store of provider responses for simulation runs, one JSON file per distinct request under
+ * {@code <dir>/<host>/}. Requests are keyed by method, host, path and query with API keys removed,
+ * so recordings made with one key replay under another and never contain a secret.
+ */
+@Slf4j
+public class ProviderRecordings {
+
+    /** Query parameters that carry provider API keys. */
+    static final Set<String> SECRET_PARAMETERS = Set.of("token", "apikey", "api_key");
+
+    private final Path dir;
+    private final ObjectMapper objectMapper;
+
+    public ProviderRecordings(Path dir, ObjectMapper objectMapper) {
+        this.dir = dir;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<Recording> find(String method, URI uri) {
+        Path file = fileFor(method, uri);
+        if (!Files.exists(file)) {
+            log.warn("No recording for {} {}", method, key(method, uri));
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), Recording.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable recording " + file, e);
+        }
+    }
+
+    public void save(String method, URI uri, int status, String contentType, byte[] body) {
+        Path file = fileFor(method, uri);
+        Recording recording =
+                new Recording(
+                        key(method, uri),
+                        status,
+                        contentType,
+                        new String(body, StandardCharsets.UTF_8));
+        try {
+            Files.createDirectories(file.getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), recording);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write recording " + file, e);
+        }
+        log.debug("Recorded {} -> {}", recording.request(), file);
+    }
+
+    /** Method, host, path and query of the request, with API key parameters removed. */
+    static String key(String method, URI uri) {
+        String query =
+                uri.getRawQuery() == null
+                        ? ""
+                        : Arrays.stream(uri.getRawQuery().split("&"))
+                                .filter(
+                                        parameter ->
+                                                !SECRET_PARAMETERS.contains(
+                                                        parameter.split("=", 2)[0]))
+                                .sorted()
+                                .collect(Collectors.joining("&"));
+        return method
+                + " "
+                + uri.getHost()
+                + uri.getRawPath()
+                + (query.isEmpty() ? "" : "?" + query);
+    }
+
+    private Path fileFor(String method, URI uri) {
+        return dir.resolve(uri.getHost()).resolve(hash(key(method, uri)) + ".json");
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    /** A stored response. {@code request} is the redacted request key, kept for readability. */
+    public record Recording(String request, int status, String contentType, String body) {
+
+        public byte[] bodyBytes() {
+            return body.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
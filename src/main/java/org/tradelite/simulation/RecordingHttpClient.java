@@ -0,0 +1,202 @@
+package org.tradelite.simulation;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import org.tradelite.client.http.HttpCompression;
+import org.tradelite.config.TradebotSimulationProperties.Mode;
+
+/**
+ * {@link HttpClient} side of the provider recordings, for the Yahoo Finance client: records live
+ * responses or replays stored ones. Configuration accessors delegate to the wrapped client.
+ */
+public class RecordingHttpClient extends HttpClient {
+
+    private final HttpClient delegate;
+    private final ProviderRecordings recordings;
+    private final Mode mode;
+
+    public RecordingHttpClient(HttpClient delegate, ProviderRecordings recordings, Mode mode) {
+        this.delegate = delegate;
+        this.recordings = recordings;
+        this.mode = mode;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(
+            HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        if (mode == Mode.REPLAY) {
+            return recordings
+                    .find(request.method(), request.uri())
+                    .map(
+                            recording ->
+                                    respond(
+                                            request,
+                                            recording.status(),
+                                            recording.contentType(),
+                                            recording.bodyBytes(),
+                                            responseBodyHandler))
+                    .orElseGet(() -> respond(request, 404, null, new byte[0], responseBodyHandler));
+        }
+
+        HttpResponse<byte[]> live = delegate.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        String contentType = live.headers().firstValue("Content-Type").orElse(null);
+        // Recordings store the decoded body, so they replay without a Content-Encoding header
+        byte[] body =
+                HttpCompression.decode(
+                        live.headers().firstValue("Content-Encoding").orElse(null), live.body());
+        recordings.save(request.method(), request.uri(), live.statusCode(), contentType, body);
+        return respond(request, live.statusCode(), contentType, body, responseBodyHandler);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+        try {
+            return CompletableFuture.completedFuture(send(request, responseBodyHandler));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> responseBodyHandler,
+            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        return sendAsync(request, responseBodyHandler);
+    }
+
+    /** Feeds {@code body} through the caller's body handler, as the real client would. */
+    private static <T> HttpResponse<T> respond(
+            HttpRequest request,
+            int status,
+            String contentType,
+            byte[] body,
+            HttpResponse.BodyHandler<T> handler) {
+        HttpHeaders headers =
+                HttpHeaders.of(
+                        contentType == null
+                                ? Map.of()
+                                : Map.of("Content-Type", List.of(contentType)),
+                        (_, _) -> true);
+        HttpResponse.BodySubscriber<T> subscriber =
+                handler.apply(new ResponseInfo(status, headers));
+        subscriber.onSubscribe(
+                new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        // Everything is pushed below in one go
+                    }
+
+                    @Override
+                    public void cancel() {
+                        // Nothing in flight to cancel
+                    }
+                });
+        subscriber.onNext(List.of(ByteBuffer.wrap(body)));
+        subscriber.onComplete();
+        T converted = subscriber.getBody().toCompletableFuture().join();
+        return new RecordedResponse<>(request, status, headers, converted);
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+
+    private record ResponseInfo(int statusCode, HttpHeaders headers)
+            implements HttpResponse.ResponseInfo {
+
+        @Override
+        public Version version() {
+            return Version.HTTP_1_1;
+        }
+    }
+
+    private record RecordedResponse<T>(
+            HttpRequest request, int statusCode, HttpHeaders headers, T body)
+            implements HttpResponse<T> {
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public Version version() {
+            return Version.HTTP_1_1;
+        }
+    }
+}
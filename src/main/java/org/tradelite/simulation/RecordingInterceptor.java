@@ -0,0 +1,96 @@
+package org.tradelite.simulation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.tradelite.config.TradebotSimulationProperties.Mode;
+
+/**
+ * {@link org.springframework.web.client.RestTemplate} side of the provider recordings: records live
+ * responses or replays stored ones. A request without a recording is answered with 404, so the
+ * client fails the way it would against an unavailable provider.
+ */
+public class RecordingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final ProviderRecordings recordings;
+    private final Mode mode;
+
+    public RecordingInterceptor(ProviderRecordings recordings, Mode mode) {
+        this.recordings = recordings;
+        this.mode = mode;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String method = request.getMethod().name();
+        if (mode == Mode.REPLAY) {
+            return recordings
+                    .find(method, request.getURI())
+                    .map(
+                            recording ->
+                                    new RecordedResponse(
+                                            recording.status(),
+                                            recording.contentType(),
+                                            recording.bodyBytes()))
+                    .orElseGet(() -> new RecordedResponse(404, null, new byte[0]));
+        }
+
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            byte[] responseBody = response.getBody().readAllBytes();
+            MediaType contentType = response.getHeaders().getContentType();
+            String type = contentType == null ? null : contentType.toString();
+            int status = response.getStatusCode().value();
+            recordings.save(method, request.getURI(), status, type, responseBody);
+            return new RecordedResponse(status, type, responseBody);
+        }
+    }
+
+    private static final class RecordedResponse implements ClientHttpResponse {
+
+        private final int status;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final byte[] body;
+
+        private RecordedResponse(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.body = body;
+            if (contentType != null) {
+                headers.setContentType(MediaType.parseMediaType(contentType));
+            }
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(status);
+        }
+
+        @Override
+        public String getStatusText() {
+            return "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            // Nothing to release: the body is in memory
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.tradelite.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.function.LongSupplier;
+
+/**
+ * Clock for simulation runs. Simulated time passes at wall-clock speed while jobs run, so the job
+ * ledger still measures real run times and overlaps, and {@link #advanceTo(Instant)} skips the idle
+ * stretches between scheduled fires. Copies made by {@link #withZone(ZoneId)} share the timeline.
+ */
+public class SimulationClock extends Clock {
+
+    private final Timeline timeline;
+    private final ZoneId zone;
+
+    public SimulationClock(Instant start) {
+        this(new Timeline(start, System::nanoTime), ZoneOffset.UTC);
+    }
+
+    SimulationClock(Instant start, LongSupplier nanoTime) {
+        this(new Timeline(start, nanoTime), ZoneOffset.UTC);
+    }
+
+    private SimulationClock(Timeline timeline, ZoneId zone) {
+        this.timeline = timeline;
+        this.zone = zone;
+    }
+
+    /** Jumps forward to {@code target}. Never moves backwards. */
+    public void advanceTo(Instant target) {
+        timeline.advanceTo(target);
+    }
+
+    @Override
+    public Instant instant() {
+        return timeline.now();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new SimulationClock(timeline, zone);
+    }
+
+    private static final class Timeline {
+
+        private final LongSupplier nanoTime;
+        private Instant base;
+        private long baseNanos;
+
+        private Timeline(Instant start, LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            this.base = start;
+            this.baseNanos = nanoTime.getAsLong();
+        }
+
+        private synchronized Instant now() {
+            return base.plusNanos(nanoTime.getAsLong() - baseNanos);
+        }
+
+        private synchronized void advanceTo(Instant target) {
+            long nowNanos = nanoTime.getAsLong();
+            Instant now = base.plusNanos(nowNanos - baseNanos);
+            if (target.isAfter(now)) {
+                base = target;
+                baseNanos = nowNanos;
+            }
+        }
+    }
+}
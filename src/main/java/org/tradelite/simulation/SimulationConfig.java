@@ -0,0 +1,98 @@
+package org.tradelite.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.web.client.RestTemplate;
+import org.tradelite.client.http.HttpTransportMetrics;
+import org.tradelite.client.http.ProviderRequestFactory;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
+import org.tradelite.config.TradebotHttpProperties;
+import org.tradelite.config.TradebotRateLimitProperties;
+import org.tradelite.config.TradebotSimulationProperties;
+
+/**
+ * Wiring for {@code --spring.profiles.active=dev,simulation}: a {@link SimulationClock} replaces
+ * the system clock everywhere and provider traffic goes through {@link ProviderRecordings}.
+ * Requires the dev profile, so alerts land in the local Telegram sink and runs in the dev database.
+ */
+@Configuration
+@Profile("simulation")
+public class SimulationConfig {
+
+    /** Effectively unpaced: recorded responses cost no provider budget. */
+    static final int REPLAY_REQUESTS_PER_MINUTE = 1_000_000;
+
+    private final TradebotSimulationProperties properties;
+
+    public SimulationConfig(TradebotSimulationProperties properties, Environment environment) {
+        if (!environment.matchesProfiles("dev")) {
+            throw new IllegalStateException(
+                    "The simulation profile must be combined with the dev profile");
+        }
+        this.properties = properties;
+    }
+
+    @Bean
+    @Primary
+    public SimulationClock simulationClock() {
+        return new SimulationClock(
+                properties.getStart() != null
+                        ? properties.getStart()
+                        : Clock.systemUTC().instant());
+    }
+
+    @Bean
+    public ProviderRecordings providerRecordings(ObjectMapper objectMapper) {
+        return new ProviderRecordings(properties.getRecordingsDir(), objectMapper);
+    }
+
+    /** The provider {@code RestTemplate} of {@code BeanConfig}, with recording on top. */
+    @Bean
+    @Primary
+    public RestTemplate recordingRestTemplate(
+            @Qualifier("providerHttpClient") HttpClient providerHttpClient,
+            TradebotHttpProperties httpProperties,
+            HttpTransportMetrics transportMetrics,
+            ProviderRecordings providerRecordings) {
+        RestTemplate restTemplate =
+                new RestTemplate(
+                        new ProviderRequestFactory(
+                                providerHttpClient, httpProperties, transportMetrics));
+        restTemplate.setInterceptors(
+                List.of(new RecordingInterceptor(providerRecordings, properties.getMode())));
+        return restTemplate;
+    }
+
+    @Bean
+    @Primary
+    public HttpClient recordingYahooHttpClient(
+            @Qualifier("providerHttpClient") HttpClient providerHttpClient,
+            ProviderRecordings providerRecordings) {
+        return new RecordingHttpClient(
+                providerHttpClient, providerRecordings, properties.getMode());
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(
+            name = "tradebot.simulation.mode",
+            havingValue = "REPLAY",
+            matchIfMissing = true)
+    public RateLimiterRegistry replayRateLimiterRegistry(SimulationClock simulationClock) {
+        TradebotRateLimitProperties unpaced = new TradebotRateLimitProperties();
+        for (ApiProvider provider : ApiProvider.values()) {
+            unpaced.getRequestsPerMinute().put(provider, REPLAY_REQUESTS_PER_MINUTE);
+        }
+        return new RateLimiterRegistry(unpaced, simulationClock);
+    }
+}
@@ -0,0 +1,15 @@
+package org.tradelite.simulation;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/** Outcome of one replay: the simulated window, how many triggers fired and the real time taken. */
+public record SimulationReport(Instant start, Instant end, int triggers, Duration wallTime) {
+
+    /**
+     * Simulated time per unit of real time, e.g. {@code 480} for a day replayed in three minutes.
+     */
+    public long compression() {
+        return Duration.between(start, end).toMillis() / Math.max(1, wallTime.toMillis());
+    }
+}
@@ -0,0 +1,213 @@
+package org.tradelite.simulation;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.tradelite.Scheduler;
+import org.tradelite.config.SchedulingConfig;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.config.TradebotSimulationProperties;
+import org.tradelite.scheduling.JobLane;
+import org.tradelite.scheduling.JobLaneExecutor;
+import org.tradelite.scheduling.JobRunLedger;
+import org.tradelite.scheduling.JobRunStats;
+import org.tradelite.scheduling.JobSchedule;
+import org.tradelite.scheduling.JobScheduleCatalog;
+
+/**
+ * Replays the {@link Scheduler} triggers over a simulated window on startup. Fires are dispatched
+ * to platform threads, as many as the production task scheduler has (see {@link SchedulingConfig}),
+ * so jobs overlap and contend for lanes and the connection pool as they would in production; work a
+ * job fans out still runs on virtual threads, as it does there. While jobs run, simulated time
+ * passes at wall-clock speed; once they are all idle the {@link SimulationClock} jumps straight to
+ * the next fire.
+ *
+ * <p>Runs only when {@code tradebot.simulation.start} is set. Results go to the job ledger like any
+ * other run and are summarized in the log when the replay ends.
+ */
+@Slf4j
+@Component
+@Profile("simulation")
+public class SimulationRunner implements ApplicationRunner {
+
+    static final Duration BUSY_POLL = Duration.ofMillis(10);
+
+    private final TradebotSimulationProperties properties;
+    private final TradebotSchedulingProperties schedulingProperties;
+    private final SimulationClock clock;
+    private final JobScheduleCatalog jobScheduleCatalog;
+    private final Scheduler scheduler;
+    private final JobRunLedger jobRunLedger;
+    private final JobLaneExecutor jobLaneExecutor;
+
+    @Autowired
+    public SimulationRunner(
+            TradebotSimulationProperties properties,
+            TradebotSchedulingProperties schedulingProperties,
+            SimulationClock clock,
+            JobScheduleCatalog jobScheduleCatalog,
+            Scheduler scheduler,
+            JobRunLedger jobRunLedger,
+            JobLaneExecutor jobLaneExecutor) {
+        this.properties = properties;
+        this.schedulingProperties = schedulingProperties;
+        this.clock = clock;
+        this.jobScheduleCatalog = jobScheduleCatalog;
+        this.scheduler = scheduler;
+        this.jobRunLedger = jobRunLedger;
+        this.jobLaneExecutor = jobLaneExecutor;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        Instant start = properties.getStart();
+        if (start == null) {
+            log.info("Simulation profile active without tradebot.simulation.start, not replaying");
+            return;
+        }
+        Instant end = start.plus(properties.getLength());
+        log.info("{} simulation from {} to {}", properties.getMode(), start, end);
+
+        List<JobSchedule> schedules = jobScheduleCatalog.all();
+        SimulationReport report;
+        try (ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        SchedulingConfig.poolSize(schedulingProperties),
+                        Thread.ofPlatform().name("simulation-", 0).factory())) {
+            report = replay(schedules, schedulerTriggers(schedules), start, end, executor);
+        }
+
+        log.info(
+                "Simulated {} in {} ({}x), {} triggers",
+                Duration.between(report.start(), report.end()),
+                report.wallTime(),
+                report.compression(),
+                report.triggers());
+        for (JobRunStats stats : jobRunLedger.summarize(Duration.between(start, end))) {
+            log.info(
+                    "{}: runs={} failures={} overruns={} missed={} p95={}ms max={}ms apiCalls={}",
+                    stats.jobName(),
+                    stats.runs(),
+                    stats.failures(),
+                    stats.overruns(),
+                    stats.missedFires(),
+                    stats.p95Ms(),
+                    stats.maxMs(),
+                    stats.apiCalls());
+        }
+        for (JobLane lane : JobLane.values()) {
+            log.info("Lane {} skipped {} triggers", lane, jobLaneExecutor.getSkippedCount(lane));
+        }
+    }
+
+    /**
+     * Fires every schedule in {@code [start, end]} on {@code executor} in time order and waits for
+     * the dispatched runs to finish. Schedules without a trigger are ignored.
+     */
+    SimulationReport replay(
+            List<JobSchedule> schedules,
+            Map<String, Runnable> triggers,
+            Instant start,
+            Instant end,
+            ExecutorService executor)
+            throws InterruptedException {
+        long startedAt = System.nanoTime();
+        PriorityQueue<Fire> fires = new PriorityQueue<>(Comparator.comparing(Fire::at));
+        for (JobSchedule schedule : schedules) {
+            if (!triggers.containsKey(schedule.jobName())) {
+                continue;
+            }
+            // Fixed-rate jobs fire on startup (initialDelay = 0); crons on their first match
+            Instant first =
+                    schedule.cron() == null ? start : schedule.nextFireAfter(start.minusMillis(1));
+            schedule(fires, schedule, first, end);
+        }
+
+        int dispatched = 0;
+        List<Future<?>> inFlight = new ArrayList<>();
+        while (!fires.isEmpty()) {
+            Fire fire = fires.poll();
+            awaitFire(fire.at(), inFlight);
+            inFlight.removeIf(Future::isDone);
+            inFlight.add(executor.submit(trigger(fire.schedule().jobName(), triggers)));
+            dispatched++;
+            schedule(fires, fire.schedule(), fire.schedule().nextFireAfter(fire.at()), end);
+        }
+        awaitAll(inFlight);
+        clock.advanceTo(end);
+        return new SimulationReport(
+                start, end, dispatched, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private static void schedule(
+            PriorityQueue<Fire> fires, JobSchedule schedule, Instant at, Instant end) {
+        if (at != null && !at.isAfter(end)) {
+            fires.add(new Fire(at, schedule));
+        }
+    }
+
+    /** Lets simulated time reach {@code at}, skipping ahead as soon as no job is running. */
+    private void awaitFire(Instant at, List<Future<?>> inFlight) throws InterruptedException {
+        while (clock.instant().isBefore(at)) {
+            if (inFlight.stream().allMatch(Future::isDone)) {
+                clock.advanceTo(at);
+                return;
+            }
+            Thread.sleep(BUSY_POLL);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> inFlight) throws InterruptedException {
+        for (Future<?> run : inFlight) {
+            try {
+                run.get();
+            } catch (ExecutionException e) {
+                // Triggers log their own failures
+            }
+        }
+    }
+
+    private static Runnable trigger(String jobName, Map<String, Runnable> triggers) {
+        Runnable trigger = triggers.get(jobName);
+        return () -> {
+            try {
+                trigger.run();
+            } catch (RuntimeException e) {
+                log.warn("Simulated trigger of {} failed", jobName, e);
+            }
+        };
+    }
+
+    private Map<String, Runnable> schedulerTriggers(List<JobSchedule> schedules) {
+        Map<String, Runnable> triggers = new LinkedHashMap<>();
+        for (JobSchedule schedule : schedules) {
+            Method method = ReflectionUtils.findMethod(scheduler.getClass(), schedule.jobName());
+            if (method == null) {
+                log.warn("No scheduler method for {}, not simulated", schedule.jobName());
+                continue;
+            }
+            ReflectionUtils.makeAccessible(method);
+            triggers.put(schedule.jobName(), () -> ReflectionUtils.invokeMethod(method, scheduler));
+        }
+        return triggers;
+    }
+
+    private record Fire(Instant at, JobSchedule schedule) {}
+}
@@ -39,6 +39,12 @@ public class DashboardEventPublisher {
                 });
     }
 
+    /** Ends every open event stream, so dashboards reconnect to the next instance at once. */
+    public void completeAll() {
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
     @Scheduled(fixedRate = 30_000, scheduler = "dashboardHeartbeatScheduler")
     void heartbeat() {
         if (emitters.isEmpty()) return;
@@ -0,0 +1,25 @@
+package org.tradelite.web.dashboard;
+
+import java.util.Map;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.tradelite.client.http.HttpTransportMetrics;
+import org.tradelite.client.http.HttpTransportMetrics.HostStats;
+
+@RestController
+@RequestMapping("/api/v1/http-transport")
+public class HttpTransportController {
+
+    private final HttpTransportMetrics transportMetrics;
+
+    public HttpTransportController(HttpTransportMetrics transportMetrics) {
+        this.transportMetrics = transportMetrics;
+    }
+
+    /** Per-host requests, connections opened and requests served on a reused connection. */
+    @GetMapping
+    public Map<String, HostStats> stats() {
+        return transportMetrics.getStats();
+    }
+}
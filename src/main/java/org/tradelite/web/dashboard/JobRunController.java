@@ -0,0 +1,41 @@
+package org.tradelite.web.dashboard;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.tradelite.repository.JobRunRecord;
+import org.tradelite.scheduling.JobRunLedger;
+import org.tradelite.scheduling.JobRunStats;
+
+@RestController
+@RequestMapping("/api/v1/job-runs")
+@Validated
+public class JobRunController {
+
+    static final int MAX_LIMIT = 500;
+    static final int MAX_DAYS = 90;
+
+    private final JobRunLedger jobRunLedger;
+
+    public JobRunController(JobRunLedger jobRunLedger) {
+        this.jobRunLedger = jobRunLedger;
+    }
+
+    /** Most recent runs, newest first, optionally filtered to one job. */
+    @GetMapping
+    public List<JobRunRecord> recentRuns(
+            @RequestParam(required = false) String job,
+            @RequestParam(defaultValue = "50") int limit) {
+        return jobRunLedger.findRecent(job, Math.clamp(limit, 1, MAX_LIMIT));
+    }
+
+    /** Per-job latency percentiles, overruns and missed fires over the last {@code days}. */
+    @GetMapping("/stats")
+    public List<JobRunStats> stats(@RequestParam(defaultValue = "7") int days) {
+        return jobRunLedger.summarize(Duration.ofDays(Math.clamp(days, 1, MAX_DAYS)));
+    }
+}
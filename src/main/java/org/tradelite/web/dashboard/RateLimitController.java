@@ -0,0 +1,26 @@
+package org.tradelite.web.dashboard;
+
+import java.util.Map;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
+import org.tradelite.client.ratelimit.RateLimiterRegistry.RateLimiterStats;
+
+@RestController
+@RequestMapping("/api/v1/rate-limits")
+public class RateLimitController {
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+
+    public RateLimitController(RateLimiterRegistry rateLimiterRegistry) {
+        this.rateLimiterRegistry = rateLimiterRegistry;
+    }
+
+    /** Per-provider budget, remaining burst tokens and accumulated wait time since startup. */
+    @GetMapping
+    public Map<ApiProvider, RateLimiterStats> stats() {
+        return rateLimiterRegistry.getStats();
+    }
+}
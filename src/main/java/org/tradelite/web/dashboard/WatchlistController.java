@@ -93,6 +93,22 @@ public class WatchlistController {
         return removed ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
     }
 
+    @PostMapping("/coins")
+    public ResponseEntity<String> addCoin(@Valid @RequestBody AddSymbolRequest request) {
+        SymbolManagementService.AddResult result =
+                symbolManagementService.addCoin(request.ticker(), request.displayName());
+        if (!result.success()) {
+            return ResponseEntity.badRequest().body(result.message());
+        }
+        return ResponseEntity.ok(result.message());
+    }
+
+    @DeleteMapping("/coins/{id}")
+    public ResponseEntity<Void> removeCoin(@PathVariable String id) {
+        boolean removed = symbolManagementService.removeCoin(id);
+        return removed ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
     @PostMapping("/targets")
     public ResponseEntity<String> setTarget(@Valid @RequestBody SetTargetRequest request) {
         var symbol = symbolRegistry.fromString(request.ticker().toUpperCase());
@@ -161,3 +161,96 @@ CREATE TABLE IF NOT EXISTS apex_performers (
     symbol TEXT PRIMARY KEY,
     last_updated TEXT NOT NULL
 );
+
+-- job_runs: Ledger of every scheduled and manual job run (see JobRunLedger).
+-- Timestamps are epoch millis. SKIPPED rows are triggers dropped by a busy job lane.
+-- Pruned to the retention window by periodicMaintenance.
+CREATE TABLE IF NOT EXISTS job_runs (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    job_name TEXT NOT NULL,
+    trigger TEXT NOT NULL,
+    triggered_at INTEGER NOT NULL,
+    started_at INTEGER NOT NULL,
+    finished_at INTEGER NOT NULL,
+    duration_ms INTEGER NOT NULL,
+    outcome TEXT NOT NULL,
+    symbols_processed INTEGER NOT NULL DEFAULT 0,
+    api_calls INTEGER NOT NULL DEFAULT 0,
+    overrun INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_runs_triggered_at
+    ON job_runs(triggered_at);
+
+CREATE INDEX IF NOT EXISTS idx_job_runs_job_name_triggered_at
+    ON job_runs(job_name, triggered_at);
+
+-- ohlcv_fetch_runs: One row per OhlcvFetcher.fetchAndBackfillOhlcv pass (see OhlcvFetcher).
+-- finished_at stays NULL while any symbol is outstanding or failed, so a restart or manual
+-- re-trigger resumes the run instead of starting from the first symbol. Timestamps are epoch millis.
+CREATE TABLE IF NOT EXISTS ohlcv_fetch_runs (
+    run_id TEXT PRIMARY KEY,
+    started_at INTEGER NOT NULL,
+    finished_at INTEGER
+);
+
+-- ohlcv_fetch_checkpoints: Per-symbol progress of an OHLCV fetch run. mode is BACKFILL or
+-- REFRESH as decided on the first attempt; status is COMPLETED or FAILED. Only the latest run
+-- is kept: starting a new run drops the checkpoints of earlier ones.
+CREATE TABLE IF NOT EXISTS ohlcv_fetch_checkpoints (
+    run_id TEXT NOT NULL,
+    symbol TEXT NOT NULL,
+    mode TEXT NOT NULL,
+    status TEXT NOT NULL,
+    updated_at INTEGER NOT NULL,
+    PRIMARY KEY (run_id, symbol)
+);
+
+-- instance_leases: One row per running tradebot process sharing this database (see
+-- InstanceCoordinator). Each instance renews its lease on every heartbeat; a lease past
+-- expires_at belongs to a dead instance and is dropped by the next heartbeat of any survivor.
+-- shard_from/shard_to is the half-open slot range the instance owns, leader marks the instance
+-- that runs report jobs and Telegram polling. Timestamps are epoch millis.
+CREATE TABLE IF NOT EXISTS instance_leases (
+    instance_id TEXT PRIMARY KEY,
+    started_at INTEGER NOT NULL,
+    heartbeat_at INTEGER NOT NULL,
+    expires_at INTEGER NOT NULL,
+    shard_from INTEGER NOT NULL DEFAULT 0,
+    shard_to INTEGER NOT NULL DEFAULT 0,
+    leader INTEGER NOT NULL DEFAULT 0
+);
+
+-- indicator_snapshot: Indicators materialized per symbol after the nightly OHLCV fetch (see
+-- IndicatorMaterializer), so the morning reports read one row instead of replaying 400 days of
+-- history. bar_date is the last OHLCV bar the values were computed from and close its closing
+-- price; a snapshot whose bar no longer matches the latest OHLCV row is stale and ignored.
+-- Indicators without enough history are NULL. computed_at is epoch millis.
+CREATE TABLE IF NOT EXISTS indicator_snapshot (
+    symbol TEXT NOT NULL,
+    bar_date TEXT NOT NULL,
+    close REAL NOT NULL,
+    data_points INTEGER NOT NULL,
+    ema9 REAL,
+    ema21 REAL,
+    ema50 REAL,
+    ema100 REAL,
+    ema200 REAL,
+    vfi REAL,
+    vfi_signal REAL,
+    rsi REAL,
+    bollinger_sma REAL,
+    bollinger_upper REAL,
+    bollinger_lower REAL,
+    bollinger_percent_b REAL,
+    bollinger_bandwidth REAL,
+    bollinger_bandwidth_percentile REAL,
+    roc10 REAL,
+    roc20 REAL,
+    kurtosis_short REAL,
+    skewness_short REAL,
+    kurtosis_long REAL,
+    skewness_long REAL,
+    computed_at INTEGER NOT NULL,
+    PRIMARY KEY (symbol, bar_date)
+);
@@ -4,11 +4,18 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,41 +24,95 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.tradelite.scheduling.AsyncJobService;
+import org.tradelite.scheduling.AsyncJobSnapshot;
+import org.tradelite.scheduling.AsyncJobStatus;
 
 @SuppressWarnings("DataFlowIssue")
 @ExtendWith(MockitoExtension.class)
 class DevJobControllerTest {
 
+    private static final String JOB_ID = "job-1";
+    private static final Instant NOW = Instant.parse("2026-04-14T09:00:00Z");
+
     @Mock private Scheduler scheduler;
     @Mock private DevDataSeeder devDataSeeder;
     @Mock private RootErrorHandler rootErrorHandler;
+    @Mock private AsyncJobService asyncJobService;
 
     private DevJobController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new DevJobController(scheduler, devDataSeeder, rootErrorHandler);
+        controller =
+                new DevJobController(scheduler, devDataSeeder, rootErrorHandler, asyncJobService);
+        // Run submitted jobs inline, so each test sees the finished job
+        lenient()
+                .when(asyncJobService.submit(anyString(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            String job = invocation.getArgument(0);
+                            BooleanSupplier body = invocation.getArgument(1);
+                            return new AsyncJobService.Submission(
+                                    finished(job, body.getAsBoolean()), false);
+                        });
+    }
+
+    @Test
+    void ohlcvFetch_jobAlreadyRunning_attachesToIt() {
+        AsyncJobSnapshot running =
+                new AsyncJobSnapshot(
+                        JOB_ID, "ohlcv-fetch", AsyncJobStatus.RUNNING, 40, 300, NOW, null, null);
+        doReturn(new AsyncJobService.Submission(running, true))
+                .when(asyncJobService)
+                .submit(anyString(), any());
+
+        ResponseEntity<Map<String, Object>> response = controller.ohlcvFetch();
+
+        verify(scheduler, never()).manualOhlcvFetch();
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("running"));
+        assertThat(response.getBody().get("jobId"), is(JOB_ID));
+        assertThat(response.getBody().get("attached"), is(true));
+    }
+
+    @Test
+    void job_known_returnsSnapshot() {
+        AsyncJobSnapshot snapshot = finished("ohlcv-fetch", true);
+        when(asyncJobService.find(JOB_ID)).thenReturn(Optional.of(snapshot));
+
+        ResponseEntity<AsyncJobSnapshot> response = controller.job(JOB_ID);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is(snapshot));
+    }
+
+    @Test
+    void job_unknown_returnsNotFound() {
+        when(asyncJobService.find("missing")).thenReturn(Optional.empty());
+
+        assertThat(controller.job("missing").getStatusCode(), is(HttpStatus.NOT_FOUND));
     }
 
     @Test
     void stockMonitoring_callsManualStockJob() {
         when(scheduler.manualStockMarketMonitoring()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.stockMonitoring();
+        ResponseEntity<Map<String, Object>> response = controller.stockMonitoring();
 
         verify(scheduler, times(1)).manualStockMarketMonitoring();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
-        assertThat(response.getBody().get("status"), is("ok"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("succeeded"));
     }
 
     @Test
     void hourlySignals_callsManualHourlyJob() {
         when(scheduler.manualHourlySignalMonitoring()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.hourlySignals();
+        ResponseEntity<Map<String, Object>> response = controller.hourlySignals();
 
         verify(scheduler, times(1)).manualHourlySignalMonitoring();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("hourly-signals"));
     }
 
@@ -59,10 +120,10 @@ class DevJobControllerTest {
     void cryptoMonitoring_callsJob() {
         when(scheduler.manualCryptoMarketMonitoring()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.cryptoMonitoring();
+        ResponseEntity<Map<String, Object>> response = controller.cryptoMonitoring();
 
         verify(scheduler, times(1)).manualCryptoMarketMonitoring();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("crypto-monitoring"));
     }
 
@@ -70,10 +131,10 @@ class DevJobControllerTest {
     void rsMonitoring_callsJob() {
         when(scheduler.manualRelativeStrengthMonitoring()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.rsMonitoring();
+        ResponseEntity<Map<String, Object>> response = controller.rsMonitoring();
 
         verify(scheduler, times(1)).manualRelativeStrengthMonitoring();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("rs-monitoring"));
     }
 
@@ -81,10 +142,10 @@ class DevJobControllerTest {
     void insiderReport_callsJob() {
         when(scheduler.manualWeeklyInsiderTradingReport()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.insiderReport();
+        ResponseEntity<Map<String, Object>> response = controller.insiderReport();
 
         verify(scheduler, times(1)).manualWeeklyInsiderTradingReport();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("insider-report"));
     }
 
@@ -92,10 +153,10 @@ class DevJobControllerTest {
     void sectorRotation_callsJob() {
         when(scheduler.manualDailySectorRotationTracking()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.sectorRotation();
+        ResponseEntity<Map<String, Object>> response = controller.sectorRotation();
 
         verify(scheduler, times(1)).manualDailySectorRotationTracking();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("sector-rotation"));
     }
 
@@ -103,10 +164,10 @@ class DevJobControllerTest {
     void sectorRelativeStrengthSummary_callsJob() {
         when(scheduler.manualDailySectorRelativeStrengthReport()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.sectorRelativeStrengthSummary();
+        ResponseEntity<Map<String, Object>> response = controller.sectorRelativeStrengthSummary();
 
         verify(scheduler, times(1)).manualDailySectorRelativeStrengthReport();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("sector-rs-summary"));
     }
 
@@ -114,10 +175,10 @@ class DevJobControllerTest {
     void tailRisk_callsJob() {
         when(scheduler.manualDailyTailRiskMonitoring()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.tailRisk();
+        ResponseEntity<Map<String, Object>> response = controller.tailRisk();
 
         verify(scheduler, times(1)).manualDailyTailRiskMonitoring();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("tail-risk"));
     }
 
@@ -125,10 +186,10 @@ class DevJobControllerTest {
     void monthlyApiUsage_callsJob() {
         when(scheduler.manualMonthlyApiUsageReport()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.monthlyApiUsage();
+        ResponseEntity<Map<String, Object>> response = controller.monthlyApiUsage();
 
         verify(scheduler, times(1)).manualMonthlyApiUsageReport();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("monthly-api-usage"));
     }
 
@@ -142,45 +203,45 @@ class DevJobControllerTest {
                             return true;
                         });
 
-        ResponseEntity<Map<String, String>> response = controller.seedAnalytics();
+        ResponseEntity<Map<String, Object>> response = controller.seedAnalytics();
 
         verify(devDataSeeder, times(1)).reseed();
         verify(rootErrorHandler, times(1)).runWithStatus(any());
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("seed-analytics"));
     }
 
     @Test
-    void stockMonitoring_returnsServerErrorWhenManualJobFails() {
+    void stockMonitoring_reportsFailedJob() {
         when(scheduler.manualStockMarketMonitoring()).thenReturn(false);
 
-        ResponseEntity<Map<String, String>> response = controller.stockMonitoring();
+        ResponseEntity<Map<String, Object>> response = controller.stockMonitoring();
 
-        assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
-        assertThat(response.getBody().get("status"), is("error"));
-        assertThat(response.getBody().get("message"), is("check logs"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("failed"));
+        assertThat(response.getBody().get("jobId"), is(JOB_ID));
     }
 
     @Test
     void ohlcvFetch_callsManualOhlcvJob() {
         when(scheduler.manualOhlcvFetch()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.ohlcvFetch();
+        ResponseEntity<Map<String, Object>> response = controller.ohlcvFetch();
 
         verify(scheduler, times(1)).manualOhlcvFetch();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
-        assertThat(response.getBody().get("status"), is("ok"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("succeeded"));
         assertThat(response.getBody().get("job"), is("ohlcv-fetch"));
     }
 
     @Test
-    void ohlcvFetch_returnsServerErrorWhenJobFails() {
+    void ohlcvFetch_reportsFailedJob() {
         when(scheduler.manualOhlcvFetch()).thenReturn(false);
 
-        ResponseEntity<Map<String, String>> response = controller.ohlcvFetch();
+        ResponseEntity<Map<String, Object>> response = controller.ohlcvFetch();
 
-        assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
-        assertThat(response.getBody().get("status"), is("error"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("failed"));
         assertThat(response.getBody().get("job"), is("ohlcv-fetch"));
     }
 
@@ -188,22 +249,22 @@ class DevJobControllerTest {
     void vfiReport_callsManualVfiJob() {
         when(scheduler.manualVfiReport()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.vfiReport();
+        ResponseEntity<Map<String, Object>> response = controller.vfiReport();
 
         verify(scheduler, times(1)).manualVfiReport();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
-        assertThat(response.getBody().get("status"), is("ok"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("succeeded"));
         assertThat(response.getBody().get("job"), is("vfi-report"));
     }
 
     @Test
-    void vfiReport_returnsServerErrorWhenJobFails() {
+    void vfiReport_reportsFailedJob() {
         when(scheduler.manualVfiReport()).thenReturn(false);
 
-        ResponseEntity<Map<String, String>> response = controller.vfiReport();
+        ResponseEntity<Map<String, Object>> response = controller.vfiReport();
 
-        assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
-        assertThat(response.getBody().get("status"), is("error"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("failed"));
         assertThat(response.getBody().get("job"), is("vfi-report"));
     }
 
@@ -211,22 +272,22 @@ class DevJobControllerTest {
     void pullbackBuyAlert_callsManualJob() {
         when(scheduler.manualPullbackBuyAlert()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.pullbackBuyAlert();
+        ResponseEntity<Map<String, Object>> response = controller.pullbackBuyAlert();
 
         verify(scheduler, times(1)).manualPullbackBuyAlert();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
-        assertThat(response.getBody().get("status"), is("ok"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("succeeded"));
         assertThat(response.getBody().get("job"), is("pullback-buy-alert"));
     }
 
     @Test
-    void pullbackBuyAlert_returnsServerErrorWhenJobFails() {
+    void pullbackBuyAlert_reportsFailedJob() {
         when(scheduler.manualPullbackBuyAlert()).thenReturn(false);
 
-        ResponseEntity<Map<String, String>> response = controller.pullbackBuyAlert();
+        ResponseEntity<Map<String, Object>> response = controller.pullbackBuyAlert();
 
-        assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
-        assertThat(response.getBody().get("status"), is("error"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("failed"));
         assertThat(response.getBody().get("job"), is("pullback-buy-alert"));
     }
 
@@ -234,22 +295,22 @@ class DevJobControllerTest {
     void earningsCalendar_callsManualJob() {
         when(scheduler.manualEarningsCalendarCheck()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.earningsCalendar();
+        ResponseEntity<Map<String, Object>> response = controller.earningsCalendar();
 
         verify(scheduler, times(1)).manualEarningsCalendarCheck();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
-        assertThat(response.getBody().get("status"), is("ok"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("succeeded"));
         assertThat(response.getBody().get("job"), is("earnings-calendar"));
     }
 
     @Test
-    void earningsCalendar_returnsServerErrorWhenJobFails() {
+    void earningsCalendar_reportsFailedJob() {
         when(scheduler.manualEarningsCalendarCheck()).thenReturn(false);
 
-        ResponseEntity<Map<String, String>> response = controller.earningsCalendar();
+        ResponseEntity<Map<String, Object>> response = controller.earningsCalendar();
 
-        assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
-        assertThat(response.getBody().get("status"), is("error"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("failed"));
         assertThat(response.getBody().get("job"), is("earnings-calendar"));
     }
 
@@ -257,22 +318,22 @@ class DevJobControllerTest {
     void treasury_callsManualJob() {
         when(scheduler.manualTreasuryReport()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.treasury();
+        ResponseEntity<Map<String, Object>> response = controller.treasury();
 
         verify(scheduler, times(1)).manualTreasuryReport();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
-        assertThat(response.getBody().get("status"), is("ok"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("succeeded"));
         assertThat(response.getBody().get("job"), is("treasury"));
     }
 
     @Test
-    void treasury_returnsServerErrorWhenJobFails() {
+    void treasury_reportsFailedJob() {
         when(scheduler.manualTreasuryReport()).thenReturn(false);
 
-        ResponseEntity<Map<String, String>> response = controller.treasury();
+        ResponseEntity<Map<String, Object>> response = controller.treasury();
 
-        assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
-        assertThat(response.getBody().get("status"), is("error"));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(response.getBody().get("status"), is("failed"));
         assertThat(response.getBody().get("job"), is("treasury"));
     }
 
@@ -280,10 +341,10 @@ class DevJobControllerTest {
     void emaReport_callsJob() {
         when(scheduler.manualEmaReport()).thenReturn(true);
 
-        ResponseEntity<Map<String, String>> response = controller.emaReport();
+        ResponseEntity<Map<String, Object>> response = controller.emaReport();
 
         verify(scheduler, times(1)).manualEmaReport();
-        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getStatusCode(), is(HttpStatus.ACCEPTED));
         assertThat(response.getBody().get("job"), is("ema-report"));
     }
 
@@ -359,4 +420,16 @@ class DevJobControllerTest {
         assertThat(results.get("crypto-monitoring"), is("error"));
         assertThat(results.get("stock-monitoring"), is("ok"));
     }
+
+    private static AsyncJobSnapshot finished(String job, boolean succeeded) {
+        return new AsyncJobSnapshot(
+                JOB_ID,
+                job,
+                succeeded ? AsyncJobStatus.SUCCEEDED : AsyncJobStatus.FAILED,
+                0,
+                0,
+                NOW,
+                NOW,
+                succeeded ? "ok" : "check logs");
+    }
 }
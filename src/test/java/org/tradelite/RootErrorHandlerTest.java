@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.slf4j.LoggerFactory;
+import org.tradelite.scheduling.JobDeadlineExceededException;
 
 // Tests share the RootErrorHandler logger via ListAppender; serialize within this class
 // so concurrent tests do not leak log events into each other's appenders.
@@ -93,6 +94,24 @@ class RootErrorHandlerTest {
         assertThat(logAppender.list).isEmpty();
     }
 
+    @Test
+    void runWithStatus_jobDeadlineExceeded_stopsWithoutError() {
+        boolean success =
+                rootErrorHandler.runWithStatus(
+                        () -> {
+                            throw new JobDeadlineExceededException("Deadline passed");
+                        });
+
+        assertFalse(success);
+        assertThat(logAppender.list)
+                .singleElement()
+                .satisfies(
+                        event -> {
+                            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                            assertThat(event.getFormattedMessage()).contains("Deadline passed");
+                        });
+    }
+
     @Test
     void run_delegatesToStatusPath() {
         rootErrorHandler.run(
@@ -1,24 +1,32 @@
 package org.tradelite;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.client.telegram.TelegramMessageProcessor;
 import org.tradelite.common.TargetPriceProvider;
+import org.tradelite.config.TradebotSchedulingProperties;
 import org.tradelite.core.AccumulationDetectionTracker;
 import org.tradelite.core.CoinGeckoPriceEvaluator;
 import org.tradelite.core.EarningsCalendarTracker;
@@ -32,10 +40,21 @@ import org.tradelite.core.SectorRotationTracker;
 import org.tradelite.core.YahooPriceEvaluator;
 import org.tradelite.quant.BollingerBandTracker;
 import org.tradelite.quant.EmaTracker;
+import org.tradelite.quant.IndicatorMaterializer;
 import org.tradelite.quant.PullbackBuyTracker;
 import org.tradelite.quant.RsiTracker;
 import org.tradelite.quant.TailRiskTracker;
 import org.tradelite.quant.VfiTracker;
+import org.tradelite.repository.JobRunRecord;
+import org.tradelite.repository.JobRunRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.JobGraph;
+import org.tradelite.scheduling.JobGraphRunner;
+import org.tradelite.scheduling.JobLaneExecutor;
+import org.tradelite.scheduling.JobOutcome;
+import org.tradelite.scheduling.JobRunLedger;
+import org.tradelite.scheduling.JobScheduleCatalog;
+import org.tradelite.scheduling.JobTrigger;
 import org.tradelite.service.ApiRequestMeteringService;
 import org.tradelite.service.LivePriceCache;
 import org.tradelite.service.MarketStatusService;
@@ -73,10 +92,23 @@ class SchedulerTest {
     @Mock private MarketHolidayNotifier marketHolidayNotifier;
     @Mock private org.tradelite.core.TreasuryTracker treasuryTracker;
 
+    @Mock private JobRunRepository jobRunRepository;
+    @Mock private InstanceCoordinator instanceCoordinator;
+    @Mock private IndicatorMaterializer indicatorMaterializer;
+
+    private JobRunLedger jobRunLedger;
     private Scheduler scheduler;
 
     @BeforeEach
     void setUp() {
+        lenient().when(instanceCoordinator.isLeader()).thenReturn(true);
+        jobRunLedger =
+                new JobRunLedger(
+                        jobRunRepository,
+                        new JobScheduleCatalog(),
+                        telegramClient,
+                        new TradebotSchedulingProperties(),
+                        Clock.systemUTC());
         scheduler =
                 new Scheduler(
                         finnhubPriceEvaluator,
@@ -105,7 +137,16 @@ class SchedulerTest {
                         ohlcvBackfillService,
                         livePriceCache,
                         marketHolidayNotifier,
-                        treasuryTracker);
+                        treasuryTracker,
+                        new JobLaneExecutor(
+                                new TradebotSchedulingProperties(),
+                                jobRunLedger,
+                                instanceCoordinator,
+                                Clock.systemUTC()),
+                        new JobGraphRunner(rootErrorHandler),
+                        jobRunLedger,
+                        instanceCoordinator,
+                        indicatorMaterializer);
     }
 
     @Test
@@ -117,20 +158,20 @@ class SchedulerTest {
 
         scheduler.stockMarketMonitoring();
 
-        // Called 6 times: finnhubPriceEvaluator, pullbackBuyTracker.analyzeDomestic,
-        // sectorRelativeStrengthTracker, sectorMomentumRocTracker, yahooPriceEvaluator,
-        // pullbackBuyTracker.analyzeInternational
-        verify(rootErrorHandler, times(6)).run(any(ThrowingRunnable.class));
+        // Called 5 times: pullbackBuyTracker.analyzeDomestic, sectorRelativeStrengthTracker,
+        // sectorMomentumRocTracker, yahooPriceEvaluator, pullbackBuyTracker.analyzeInternational
+        verify(rootErrorHandler, times(5)).runWithStatus(any(ThrowingRunnable.class));
 
         ArgumentCaptor<ThrowingRunnable> captor = ArgumentCaptor.forClass(ThrowingRunnable.class);
-        verify(rootErrorHandler, times(6)).run(captor.capture());
+        verify(rootErrorHandler, times(5)).runWithStatus(captor.capture());
 
         // Execute all captured runnables
         for (ThrowingRunnable runnable : captor.getAllValues()) {
             runnable.run();
         }
 
-        verify(finnhubPriceEvaluator, times(1)).evaluatePrice();
+        // US quotes come from domesticPricePolling
+        verify(finnhubPriceEvaluator, never()).evaluatePrice();
         verify(yahooPriceEvaluator, times(1)).evaluatePrice();
         verify(pullbackBuyTracker, times(1)).analyzeDomestic();
         verify(pullbackBuyTracker, times(1)).analyzeInternational();
@@ -140,6 +181,40 @@ class SchedulerTest {
         verify(coinGeckoPriceEvaluator, times(0)).evaluatePrice();
     }
 
+    @Test
+    void stockMarketMonitoring_notLeader_leavesSectorScansToLeader() {
+        when(instanceCoordinator.isLeader()).thenReturn(false);
+        scheduler.marketDateTime =
+                ZonedDateTime.of(2026, 3, 30, 11, 0, 0, 0, ZoneId.of("America/New_York"));
+        when(marketStatusService.isMarketOpen(scheduler.marketDateTime)).thenReturn(true);
+
+        List<String> nodes =
+                scheduler.stockMarketMonitoringGraph().getNodes().stream()
+                        .map(JobGraph.Node::name)
+                        .toList();
+
+        assertEquals(
+                List.of(
+                        "pullbackBuyTracker::analyzeDomestic",
+                        "yahooPriceEvaluator::evaluatePrice",
+                        "pullbackBuyTracker::analyzeInternational"),
+                nodes);
+    }
+
+    @Test
+    void stockMarketMonitoring_allMarketsClosed_skipsGraph() {
+        scheduler.marketDateTime =
+                ZonedDateTime.of(2026, 3, 28, 11, 0, 0, 0, ZoneId.of("America/New_York"));
+        when(marketStatusService.nextOpenIfAllClosed(scheduler.marketDateTime))
+                .thenReturn(Optional.of(Instant.parse("2026-03-29T23:00:00Z")));
+
+        scheduler.stockMarketMonitoring();
+        scheduler.stockMarketMonitoring();
+
+        verify(rootErrorHandler, never()).runWithStatus(any(ThrowingRunnable.class));
+        verify(marketStatusService, never()).isMarketOpen(any());
+    }
+
     @Test
     void stockMarketMonitoring_marketClosed_shouldNotRun() throws Exception {
         // Saturday 11:00 AM NY time = market closed (weekend)
@@ -151,11 +226,58 @@ class SchedulerTest {
 
         // Yahoo evaluator + analyzeInternational still run (both handle their own per-symbol
         // exchange-hours gating)
-        verify(rootErrorHandler, times(2)).run(any(ThrowingRunnable.class));
+        verify(rootErrorHandler, times(2)).runWithStatus(any(ThrowingRunnable.class));
         verify(finnhubPriceEvaluator, never()).evaluatePrice();
         verify(coinGeckoPriceEvaluator, never()).evaluatePrice();
     }
 
+    @Test
+    void stockMarketMonitoringGraph_marketOpen_onlyInternationalPullbackWaitsForYahoo() {
+        scheduler.marketDateTime =
+                ZonedDateTime.of(2026, 3, 30, 11, 0, 0, 0, ZoneId.of("America/New_York"));
+        when(marketStatusService.isMarketOpen(scheduler.marketDateTime)).thenReturn(true);
+
+        JobGraph graph = scheduler.stockMarketMonitoringGraph();
+
+        assertEquals(5, graph.getNodes().size());
+        assertEquals(
+                Set.of("yahooPriceEvaluator::evaluatePrice"),
+                graph.dependenciesOf("pullbackBuyTracker::analyzeInternational"));
+        assertEquals(Set.of(), graph.dependenciesOf("pullbackBuyTracker::analyzeDomestic"));
+        assertEquals(Set.of(), graph.dependenciesOf("yahooPriceEvaluator::evaluatePrice"));
+        assertEquals(
+                Set.of(),
+                graph.dependenciesOf("sectorRelativeStrengthTracker::analyzeAndSendAlerts"));
+        assertEquals(
+                Set.of(), graph.dependenciesOf("sectorMomentumRocTracker::analyzeAndSendAlerts"));
+    }
+
+    @Test
+    void domesticPricePolling_marketOpen_runsFinnhubEvaluator() throws Exception {
+        scheduler.marketDateTime =
+                ZonedDateTime.of(2026, 3, 30, 11, 0, 0, 0, ZoneId.of("America/New_York"));
+        when(marketStatusService.isMarketOpen(scheduler.marketDateTime)).thenReturn(true);
+
+        scheduler.domesticPricePolling();
+
+        ArgumentCaptor<ThrowingRunnable> captor = ArgumentCaptor.forClass(ThrowingRunnable.class);
+        verify(rootErrorHandler).run(captor.capture());
+        captor.getValue().run();
+        verify(finnhubPriceEvaluator).evaluatePrice();
+    }
+
+    @Test
+    void domesticPricePolling_marketClosed_doesNothing() throws Exception {
+        scheduler.marketDateTime =
+                ZonedDateTime.of(2026, 3, 28, 11, 0, 0, 0, ZoneId.of("America/New_York"));
+        when(marketStatusService.isMarketOpen(scheduler.marketDateTime)).thenReturn(false);
+
+        scheduler.domesticPricePolling();
+
+        verify(rootErrorHandler, never()).run(any(ThrowingRunnable.class));
+        verify(finnhubPriceEvaluator, never()).evaluatePrice();
+    }
+
     @Test
     void hourlySignalMonitoring_marketOpen_shouldRun() throws Exception {
         // Monday 11:00 AM NY time = market open
@@ -214,10 +336,10 @@ class SchedulerTest {
     void periodicMaintenance_shouldRunCleanupFlushAndEvict() throws Exception {
         scheduler.periodicMaintenance();
 
-        verify(rootErrorHandler, times(5)).run(argThat(Objects::nonNull));
+        verify(rootErrorHandler, times(6)).run(argThat(Objects::nonNull));
 
         ArgumentCaptor<ThrowingRunnable> captor = ArgumentCaptor.forClass(ThrowingRunnable.class);
-        verify(rootErrorHandler, times(5)).run(captor.capture());
+        verify(rootErrorHandler, times(6)).run(captor.capture());
 
         for (ThrowingRunnable runnable : captor.getAllValues()) {
             runnable.run();
@@ -229,6 +351,49 @@ class SchedulerTest {
         verify(ohlcvBackfillService, times(1)).backfillNewlyAddedSymbols();
         verify(ohlcvBackfillService, times(1)).cleanupExpiredSymbols();
         verify(livePriceCache, times(1)).evictStale();
+        verify(jobRunRepository, times(1)).deleteOlderThan(any());
+    }
+
+    @Test
+    void weeklyJobRunDigest_sendsDigestFromLedger() throws Exception {
+        when(jobRunRepository.findSince(any()))
+                .thenReturn(
+                        List.of(
+                                new JobRunRecord(
+                                        "stockMarketMonitoring",
+                                        JobTrigger.SCHEDULED,
+                                        Instant.now(),
+                                        Instant.now(),
+                                        Instant.now(),
+                                        1000,
+                                        JobOutcome.SUCCEEDED,
+                                        0,
+                                        0,
+                                        false)));
+
+        scheduler.weeklyJobRunDigest();
+
+        ArgumentCaptor<ThrowingRunnable> captor = ArgumentCaptor.forClass(ThrowingRunnable.class);
+        verify(rootErrorHandler, times(1)).run(captor.capture());
+        captor.getValue().run();
+
+        verify(telegramClient)
+                .sendMessage(argThat(message -> message.contains("Weekly Job Digest")));
+    }
+
+    @Test
+    void manualRun_isRecordedUnderScheduledJobName() {
+        when(rootErrorHandler.runWithStatus(any())).thenReturn(true);
+
+        scheduler.manualEmaReport();
+
+        verify(jobRunRepository)
+                .save(
+                        argThat(
+                                jobRun ->
+                                        jobRun.jobName().equals("dailyEmaReport")
+                                                && jobRun.trigger() == JobTrigger.MANUAL
+                                                && jobRun.outcome() == JobOutcome.SUCCEEDED));
     }
 
     @Test
@@ -245,6 +410,17 @@ class SchedulerTest {
         verify(telegramMessageProcessor, times(1)).processUpdates(anyList());
     }
 
+    @Test
+    void pollTelegramUpdates_notLeader_skipsWithoutLedgerRow() {
+        when(instanceCoordinator.isLeader()).thenReturn(false);
+
+        scheduler.pollTelegramChatUpdates();
+        scheduler.dailyEmaReport();
+
+        verify(rootErrorHandler, never()).run(any(ThrowingRunnable.class));
+        verify(jobRunRepository, never()).save(any());
+    }
+
     @Test
     void pollTelegramUpdates_whenGetChatUpdatesFails_exceptionStaysInsideHandler() {
         when(telegramClient.getChatUpdates())
@@ -338,6 +514,34 @@ class SchedulerTest {
         verify(sectorMomentumRocTracker, times(1)).analyzeAndSendAlerts();
     }
 
+    @Test
+    void manualStockMarketMonitoring_afterIdleScheduledRound_runsItsOwnBody() throws Exception {
+        scheduler.marketDateTime =
+                ZonedDateTime.of(2026, 3, 28, 11, 0, 0, 0, ZoneId.of("America/New_York"));
+        when(marketStatusService.nextOpenIfAllClosed(scheduler.marketDateTime))
+                .thenReturn(Optional.of(Instant.parse("2026-03-29T23:00:00Z")));
+        stubRunWithStatus(true);
+
+        scheduler.stockMarketMonitoring();
+        boolean success = scheduler.manualStockMarketMonitoring();
+
+        assertTrue(success);
+        verify(finnhubPriceEvaluator).evaluatePrice();
+        verify(pullbackBuyTracker).analyzeDomestic();
+    }
+
+    @Test
+    void manualCryptoMarketMonitoring_afterScheduledRound_runsAgain() throws Exception {
+        stubRunWithStatus(true);
+
+        scheduler.cryptoMarketMonitoring();
+        boolean success = scheduler.manualCryptoMarketMonitoring();
+
+        assertTrue(success);
+        verify(rootErrorHandler).run(any(ThrowingRunnable.class));
+        verify(coinGeckoPriceEvaluator).evaluatePrice();
+    }
+
     @Test
     void manualHourlySignalMonitoring_shouldRunRegardlessOfMarketHours() throws Exception {
         when(rootErrorHandler.runWithStatus(any())).thenReturn(true);
@@ -463,16 +667,18 @@ class SchedulerTest {
     }
 
     @Test
-    void dailyOhlcvFetch_shouldDelegateToFetcher() throws Exception {
+    void dailyOhlcvFetch_shouldDelegateToFetcherThenMaterializeIndicators() throws Exception {
         scheduler.dailyOhlcvFetch();
 
-        verify(rootErrorHandler, times(1)).run(any(ThrowingRunnable.class));
-
         ArgumentCaptor<ThrowingRunnable> captor = ArgumentCaptor.forClass(ThrowingRunnable.class);
-        verify(rootErrorHandler, times(1)).run(captor.capture());
-        captor.getValue().run();
+        verify(rootErrorHandler, times(2)).run(captor.capture());
+        for (ThrowingRunnable runnable : captor.getAllValues()) {
+            runnable.run();
+        }
 
-        verify(ohlcvFetcher, times(1)).fetchAndBackfillOhlcv();
+        InOrder inOrder = inOrder(ohlcvFetcher, indicatorMaterializer);
+        inOrder.verify(ohlcvFetcher).fetchAndBackfillOhlcv();
+        inOrder.verify(indicatorMaterializer).materializeAll();
     }
 
     @Test
@@ -482,8 +688,9 @@ class SchedulerTest {
         boolean success = scheduler.manualOhlcvFetch();
 
         assertTrue(success);
-        verify(rootErrorHandler).runWithStatus(any(ThrowingRunnable.class));
+        verify(rootErrorHandler, times(2)).runWithStatus(any(ThrowingRunnable.class));
         verify(ohlcvFetcher).fetchAndBackfillOhlcv();
+        verify(indicatorMaterializer).materializeAll();
     }
 
     @Test
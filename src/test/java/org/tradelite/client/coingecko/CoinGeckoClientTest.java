@@ -7,6 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +22,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.tradelite.client.coingecko.dto.CoinGeckoPriceResponse;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.common.CoinId;
 import org.tradelite.config.TradebotApiProperties;
 import org.tradelite.service.ApiRequestMeteringService;
@@ -28,6 +33,7 @@ class CoinGeckoClientTest {
 
     @Mock private RestTemplate restTemplate;
     @Mock private ApiRequestMeteringService meteringService;
+    @Mock private RateLimiterRegistry rateLimiterRegistry;
 
     private TradebotApiProperties properties;
     private CoinGeckoClient coinGeckoClient;
@@ -36,7 +42,8 @@ class CoinGeckoClientTest {
     void setUp() {
         properties = new TradebotApiProperties();
         properties.setCoingeckoKey("test-key");
-        coinGeckoClient = new CoinGeckoClient(restTemplate, meteringService, properties);
+        coinGeckoClient =
+                new CoinGeckoClient(restTemplate, meteringService, properties, rateLimiterRegistry);
     }
 
     @Test
@@ -122,4 +129,33 @@ class CoinGeckoClientTest {
         assertThat(exception.getMessage(), is("COINGECKO key not configured"));
         verifyNoInteractions(restTemplate);
     }
+
+    @Test
+    void getCoinPrices_manyCoins_oneRequestWithAllIds() {
+        CoinGeckoPriceResponse body = new CoinGeckoPriceResponse();
+        body.setCoinData("bitcoin", new CoinGeckoPriceResponse.CoinData());
+        body.setCoinData("chainlink", new CoinGeckoPriceResponse.CoinData());
+        when(restTemplate.exchange(
+                        eq(
+                                "https://api.coingecko.com/api/v3/simple/price?ids=bitcoin,chainlink,notacoin"
+                                        + "&vs_currencies=usd&include_24hr_change=true"),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(CoinGeckoPriceResponse.class)))
+                .thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+
+        Map<String, CoinGeckoPriceResponse.CoinData> prices =
+                coinGeckoClient.getCoinPrices(List.of("bitcoin", "chainlink", "notacoin"));
+
+        assertThat(prices.keySet(), is(Set.of("bitcoin", "chainlink")));
+        verify(meteringService, times(1)).incrementCoingeckoRequests();
+        verify(rateLimiterRegistry, times(1)).acquire(ApiProvider.COINGECKO);
+    }
+
+    @Test
+    void getCoinPrices_noIds_makesNoRequest() {
+        assertThat(coinGeckoClient.getCoinPrices(List.of()).isEmpty(), is(true));
+
+        verifyNoInteractions(restTemplate, meteringService);
+    }
 }
@@ -8,22 +8,44 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.tradelite.client.finnhub.dto.InsiderTransactionResponse;
 import org.tradelite.client.finnhub.dto.PriceQuoteResponse;
+import org.tradelite.client.http.HttpTransportMetrics;
+import org.tradelite.client.http.ProviderHttpTransport;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.config.TradebotApiProperties;
+import org.tradelite.config.TradebotHttpProperties;
 import org.tradelite.service.ApiRequestMeteringService;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +53,8 @@ class FinnhubClientTest {
 
     @Mock private RestTemplate restTemplate;
     @Mock private ApiRequestMeteringService meteringService;
+    @Mock private RateLimiterRegistry rateLimiterRegistry;
+    @Mock private HttpClient httpClient;
 
     private TradebotApiProperties properties;
     private FinnhubClient finnhubClient;
@@ -39,7 +63,17 @@ class FinnhubClientTest {
     void setUp() {
         properties = new TradebotApiProperties();
         properties.setFinnhubKey("test-key");
-        finnhubClient = new FinnhubClient(restTemplate, meteringService, properties);
+        finnhubClient =
+                new FinnhubClient(
+                        restTemplate,
+                        new ProviderHttpTransport(
+                                httpClient,
+                                new TradebotHttpProperties(),
+                                new HttpTransportMetrics()),
+                        new ObjectMapper(),
+                        meteringService,
+                        properties,
+                        rateLimiterRegistry);
     }
 
     @Test
@@ -62,6 +96,118 @@ class FinnhubClientTest {
         assertThat(result.getStockSymbol(), notNullValue());
     }
 
+    @Test
+    void getPriceQuote_acquiresFinnhubBudgetBeforeRequest() {
+        PriceQuoteResponse response = new PriceQuoteResponse();
+        response.setCurrentPrice(300.0);
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(PriceQuoteResponse.class)))
+                .thenReturn(ResponseEntity.ok(response));
+
+        finnhubClient.getPriceQuote(new StockSymbol("META", "Meta Platforms"));
+
+        var inOrder = inOrder(rateLimiterRegistry, restTemplate);
+        inOrder.verify(rateLimiterRegistry).acquire(ApiProvider.FINNHUB);
+        inOrder.verify(restTemplate)
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(PriceQuoteResponse.class));
+    }
+
+    @Test
+    void getPriceQuote_cancelledWhileWaitingForBudget_skipsRequest() {
+        doThrow(new CancellationException("interrupted"))
+                .when(rateLimiterRegistry)
+                .acquire(ApiProvider.FINNHUB);
+        StockSymbol ticker = new StockSymbol("META", "Meta Platforms");
+
+        assertThrows(CancellationException.class, () -> finnhubClient.getPriceQuote(ticker));
+
+        verifyNoInteractions(restTemplate, meteringService);
+    }
+
+    @Test
+    void getPriceQuote_rateLimitHeaders_syncLimiter() {
+        PriceQuoteResponse quote = new PriceQuoteResponse();
+        quote.setCurrentPrice(300.0);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(FinnhubClient.RATE_LIMIT_REMAINING, "12");
+        headers.set(FinnhubClient.RATE_LIMIT_RESET, "1776117660");
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(PriceQuoteResponse.class)))
+                .thenReturn(ResponseEntity.ok().headers(headers).body(quote));
+
+        finnhubClient.getPriceQuote(new StockSymbol("META", "Meta Platforms"));
+
+        verify(rateLimiterRegistry)
+                .onResponse(ApiProvider.FINNHUB, 12, Instant.ofEpochSecond(1776117660));
+    }
+
+    @Test
+    void getPriceQuote_tooManyRequests_pausesLimiterAndRetriesOnce() {
+        PriceQuoteResponse quote = new PriceQuoteResponse();
+        quote.setCurrentPrice(300.0);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(PriceQuoteResponse.class)))
+                .thenThrow(
+                        HttpClientErrorException.create(
+                                HttpStatus.TOO_MANY_REQUESTS,
+                                "Too Many Requests",
+                                headers,
+                                new byte[0],
+                                null))
+                .thenReturn(ResponseEntity.ok(quote));
+
+        PriceQuoteResponse result =
+                finnhubClient.getPriceQuote(new StockSymbol("META", "Meta Platforms"));
+
+        assertThat(result.getCurrentPrice(), is(300.0));
+        verify(rateLimiterRegistry).onRateLimited(ApiProvider.FINNHUB, Duration.ofSeconds(7), null);
+        verify(rateLimiterRegistry, times(2)).acquire(ApiProvider.FINNHUB);
+        verify(meteringService, times(2)).incrementFinnhubRequests();
+    }
+
+    @Test
+    void getPriceQuote_tooManyRequestsTwice_throws() {
+        StockSymbol ticker = new StockSymbol("META", "Meta Platforms");
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(PriceQuoteResponse.class)))
+                .thenThrow(
+                        HttpClientErrorException.create(
+                                HttpStatus.TOO_MANY_REQUESTS,
+                                "Too Many Requests",
+                                new HttpHeaders(),
+                                new byte[0],
+                                null));
+
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class,
+                () -> finnhubClient.getPriceQuote(ticker));
+
+        verify(restTemplate, times(2))
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(PriceQuoteResponse.class));
+    }
+
     @Test
     void getPriceQuote_no2xxResponse_throws() {
         StockSymbol ticker = new StockSymbol("META", "Meta Platforms");
@@ -98,6 +244,61 @@ class FinnhubClientTest {
         assertThat(exception.getMessage(), is("Error fetching price quote"));
     }
 
+    @Test
+    void getPriceQuoteAsync_ok_parsesQuoteAndSyncsLimiter() throws Exception {
+        stubAsyncResponse(
+                200, "{\"c\":300.0,\"dp\":1.5}", Map.of(FinnhubClient.RATE_LIMIT_REMAINING, "42"));
+        StockSymbol ticker = new StockSymbol("META", "Meta Platforms");
+
+        PriceQuoteResponse result = finnhubClient.getPriceQuoteAsync(ticker).get();
+
+        assertThat(result.getCurrentPrice(), is(300.0));
+        assertThat(result.getChangePercent(), is(1.5));
+        assertThat(result.getStockSymbol(), is(ticker));
+        verify(rateLimiterRegistry).acquire(ApiProvider.FINNHUB);
+        verify(meteringService).incrementFinnhubRequests();
+        verify(rateLimiterRegistry).onResponse(ApiProvider.FINNHUB, 42, null);
+    }
+
+    @Test
+    void getPriceQuoteAsync_tooManyRequests_pausesLimiterAndFails() {
+        stubAsyncResponse(429, "", Map.of("Retry-After", "7"));
+        StockSymbol ticker = new StockSymbol("META", "Meta Platforms");
+
+        ExecutionException exception =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> finnhubClient.getPriceQuoteAsync(ticker).get());
+
+        assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+        verify(rateLimiterRegistry).onRateLimited(ApiProvider.FINNHUB, Duration.ofSeconds(7), null);
+    }
+
+    @Test
+    void getPriceQuoteAsync_no2xxResponse_fails() {
+        stubAsyncResponse(503, "", Map.of());
+        StockSymbol ticker = new StockSymbol("META", "Meta Platforms");
+
+        ExecutionException exception =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> finnhubClient.getPriceQuoteAsync(ticker).get());
+
+        assertThat(
+                exception.getCause().getMessage(), is("Failed to fetch price quote for META: 503"));
+    }
+
+    @Test
+    void getPriceQuoteAsync_missingKey_failsWithoutRequest() {
+        properties.setFinnhubKey("");
+        StockSymbol ticker = new StockSymbol("AAPL", "Apple");
+
+        CompletableFuture<PriceQuoteResponse> future = finnhubClient.getPriceQuoteAsync(ticker);
+
+        assertThat(future.isCompletedExceptionally(), is(true));
+        verifyNoInteractions(httpClient, rateLimiterRegistry, meteringService);
+    }
+
     @Test
     void getPriceQuote_missingKey_throws() {
         StockSymbol ticker = new StockSymbol("AAPL", "Apple");
@@ -302,4 +503,19 @@ class FinnhubClientTest {
         assertThat(result, is(instanceOf(IllegalStateException.class)));
         assertThat(((IllegalStateException) result).getMessage(), is("checked"));
     }
+
+    @SuppressWarnings("unchecked")
+    private void stubAsyncResponse(int status, String body, Map<String, String> headers) {
+        HttpResponse<InputStream> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(response.body())
+                .thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        Map<String, List<String>> headerValues = new HashMap<>();
+        headers.forEach((name, value) -> headerValues.put(name, List.of(value)));
+        when(response.headers())
+                .thenReturn(java.net.http.HttpHeaders.of(headerValues, (_, _) -> true));
+        doReturn(CompletableFuture.completedFuture(response))
+                .when(httpClient)
+                .sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
 }
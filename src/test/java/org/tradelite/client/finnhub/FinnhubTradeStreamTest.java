@@ -0,0 +1,166 @@
+package org.tradelite.client.finnhub;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tradelite.config.TradebotApiProperties;
+import org.tradelite.config.TradebotStreamingProperties;
+
+class FinnhubTradeStreamTest {
+
+    private LocalWebSocketServer server;
+    private TradebotStreamingProperties properties;
+    private FinnhubTradeStream stream;
+    private final BlockingQueue<FinnhubTradeStream.Trade> trades = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new LocalWebSocketServer();
+        properties = new TradebotStreamingProperties();
+        properties.setEnabled(true);
+        properties.setUrl(server.url());
+        properties.setReconnectDelay(Duration.ofMillis(50));
+        TradebotApiProperties apiProperties = new TradebotApiProperties();
+        apiProperties.setFinnhubKey("test-key");
+        stream =
+                new FinnhubTradeStream(
+                        HttpClient.newHttpClient(),
+                        new ObjectMapper(),
+                        apiProperties,
+                        properties,
+                        Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        stream.stop();
+        server.close();
+    }
+
+    @Test
+    void start_connectsWithTokenAndSubscribesEverySymbol() throws Exception {
+        stream.subscribe(List.of("AAPL", "MSFT"));
+        stream.start(trades::add);
+
+        assertThat(server.nextRequestLine(5), containsString("token=test-key"));
+        assertThat(
+                nextMessages(2),
+                is(
+                        Set.of(
+                                "{\"type\":\"subscribe\",\"symbol\":\"AAPL\"}",
+                                "{\"type\":\"subscribe\",\"symbol\":\"MSFT\"}")));
+        assertThat(stream.isConnected(), is(true));
+    }
+
+    @Test
+    void tradeMessages_reachListenerAndMarkSymbolsFresh() throws Exception {
+        connect("AAPL", "MSFT");
+
+        server.broadcast("{\"type\":\"ping\"}");
+        server.broadcast(
+                "{\"type\":\"trade\",\"data\":["
+                        + "{\"s\":\"AAPL\",\"p\":187.5,\"t\":1700000000000,\"v\":10},"
+                        + "{\"s\":\"MSFT\",\"p\":410.25,\"t\":1700000000001,\"v\":5}]}");
+
+        FinnhubTradeStream.Trade first = trades.poll(5, TimeUnit.SECONDS);
+        FinnhubTradeStream.Trade second = trades.poll(5, TimeUnit.SECONDS);
+        assertThat(first, is(new FinnhubTradeStream.Trade("AAPL", 187.5, 10, 1700000000000L)));
+        assertThat(second, is(new FinnhubTradeStream.Trade("MSFT", 410.25, 5, 1700000000001L)));
+        assertThat(stream.isFresh("AAPL"), is(true));
+        assertThat(stream.isFresh("NVDA"), is(false));
+    }
+
+    @Test
+    void subscribe_sendsOnlyTheDifference() throws Exception {
+        connect("AAPL", "MSFT");
+
+        stream.subscribe(List.of("MSFT", "NVDA"));
+
+        assertThat(
+                nextMessages(2),
+                is(
+                        Set.of(
+                                "{\"type\":\"unsubscribe\",\"symbol\":\"AAPL\"}",
+                                "{\"type\":\"subscribe\",\"symbol\":\"NVDA\"}")));
+        assertThat(server.nextMessage(0), is(nullValue()));
+    }
+
+    @Test
+    void droppedConnection_reconnectsAndResubscribes() throws Exception {
+        connect("AAPL");
+
+        server.dropConnections();
+
+        assertThat(server.nextMessage(5), is("{\"type\":\"subscribe\",\"symbol\":\"AAPL\"}"));
+        assertThat(server.connections(), is(2));
+        assertThat(stream.isConnected(), is(true));
+    }
+
+    @Test
+    void droppedConnection_nothingIsFreshUntilReconnected() throws Exception {
+        properties.setReconnectDelay(Duration.ofMinutes(1));
+        connect("AAPL");
+        server.broadcast("{\"type\":\"trade\",\"data\":[{\"s\":\"AAPL\",\"p\":187.5}]}");
+        trades.poll(5, TimeUnit.SECONDS);
+        assertThat(stream.isFresh("AAPL"), is(true));
+
+        server.dropConnections();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stream.isConnected() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(stream.isFresh("AAPL"), is(false));
+    }
+
+    @Test
+    void reconnectDelay_doublesUpToTheMaximum() {
+        properties.setReconnectDelay(Duration.ofSeconds(1));
+        properties.setMaxReconnectDelay(Duration.ofSeconds(30));
+
+        assertThat(stream.reconnectDelay(0), is(Duration.ofSeconds(1)));
+        assertThat(stream.reconnectDelay(3), is(Duration.ofSeconds(8)));
+        assertThat(stream.reconnectDelay(10), is(Duration.ofSeconds(30)));
+        assertThat(stream.reconnectDelay(100), is(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void onMessage_ignoresUnreadableAndInvalidTrades() {
+        stream.start(trades::add);
+
+        stream.onMessage("not json");
+        stream.onMessage("{\"type\":\"trade\",\"data\":[{\"s\":\"AAPL\",\"p\":0}]}");
+        stream.onMessage("{\"type\":\"error\",\"msg\":\"Invalid symbol\"}");
+
+        assertThat(trades.isEmpty(), is(true));
+    }
+
+    private void connect(String... symbols) throws Exception {
+        stream.subscribe(List.of(symbols));
+        stream.start(trades::add);
+        nextMessages(symbols.length);
+    }
+
+    private Set<String> nextMessages(int count) throws InterruptedException {
+        Set<String> messages = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(server.nextMessage(5));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,209 @@
+package org.tradelite.client.finnhub;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal WebSocket server on a loopback port, standing in for Finnhub's stream in tests: accepts
+ * the upgrade handshake, records text frames from clients and pushes text frames to them. Enough of
+ * RFC 6455 for single-frame text messages, ping and close.
+ */
+class LocalWebSocketServer implements AutoCloseable {
+
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private final ServerSocket serverSocket;
+    private final List<Socket> clients = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> requestLines = new LinkedBlockingQueue<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    LocalWebSocketServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofVirtual().start(this::acceptLoop);
+    }
+
+    String url() {
+        return "ws://127.0.0.1:" + serverSocket.getLocalPort() + "/";
+    }
+
+    int connections() {
+        return connections.get();
+    }
+
+    /** The next text message a client sent, or {@code null} after {@code seconds}. */
+    String nextMessage(long seconds) throws InterruptedException {
+        return received.poll(seconds, TimeUnit.SECONDS);
+    }
+
+    /** Request line of the next handshake, e.g. {@code GET /?token=key HTTP/1.1}. */
+    String nextRequestLine(long seconds) throws InterruptedException {
+        return requestLines.poll(seconds, TimeUnit.SECONDS);
+    }
+
+    /** Sends {@code message} to every connected client. */
+    void broadcast(String message) throws IOException {
+        for (Socket client : clients) {
+            writeFrame(client.getOutputStream(), 0x1, message.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /** Drops every connection without a close handshake, as a network failure would. */
+    void dropConnections() throws IOException {
+        for (Socket client : clients) {
+            client.close();
+        }
+        clients.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        dropConnections();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                Thread.ofVirtual().start(() -> serve(client));
+            } catch (IOException _) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client) {
+            InputStream in = client.getInputStream();
+            OutputStream out = client.getOutputStream();
+            handshake(in, out);
+            clients.add(client);
+            connections.incrementAndGet();
+            DataInputStream frames = new DataInputStream(in);
+            while (true) {
+                int first = frames.readUnsignedByte();
+                int opcode = first & 0x0F;
+                byte[] payload = readPayload(frames);
+                switch (opcode) {
+                    case 0x1 -> received.add(new String(payload, StandardCharsets.UTF_8));
+                    case 0x8 -> {
+                        writeFrame(out, 0x8, payload);
+                        return;
+                    }
+                    case 0x9 -> writeFrame(out, 0xA, payload);
+                    default -> {
+                        // continuation and pong frames aren't needed here
+                    }
+                }
+            }
+        } catch (IOException _) {
+            // client went away or the connection was dropped on purpose
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private void handshake(InputStream in, OutputStream out) throws IOException {
+        String key = null;
+        String line = readLine(in);
+        requestLines.add(line);
+        while (!(line = readLine(in)).isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).equalsIgnoreCase("Sec-WebSocket-Key")) {
+                key = line.substring(colon + 1).trim();
+            }
+        }
+        String response =
+                "HTTP/1.1 101 Switching Protocols\r\n"
+                        + "Upgrade: websocket\r\n"
+                        + "Connection: Upgrade\r\n"
+                        + "Sec-WebSocket-Accept: "
+                        + acceptKey(key)
+                        + "\r\n\r\n";
+        out.write(response.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new IOException("connection closed during handshake");
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+
+    private static String acceptKey(String key) {
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-1")
+                            .digest((key + ACCEPT_GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Client frames are always masked. */
+    private static byte[] readPayload(DataInputStream in) throws IOException {
+        int second = in.readUnsignedByte();
+        long length = second & 0x7F;
+        if (length == 126) {
+            length = in.readUnsignedShort();
+        } else if (length == 127) {
+            length = in.readLong();
+        }
+        byte[] mask = new byte[4];
+        if ((second & 0x80) != 0) {
+            in.readFully(mask);
+        }
+        byte[] payload = new byte[(int) length];
+        in.readFully(payload);
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] ^= mask[i % 4];
+        }
+        return payload;
+    }
+
+    /** Server frames go out unmasked and unfragmented. */
+    private static synchronized void writeFrame(OutputStream out, int opcode, byte[] payload)
+            throws IOException {
+        out.write(0x80 | opcode);
+        if (payload.length < 126) {
+            out.write(payload.length);
+        } else if (payload.length <= 0xFFFF) {
+            out.write(126);
+            out.write(payload.length >>> 8);
+            out.write(payload.length & 0xFF);
+        } else {
+            out.write(127);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) ((long) payload.length >>> shift) & 0xFF);
+            }
+        }
+        out.write(payload);
+        out.flush();
+    }
+}
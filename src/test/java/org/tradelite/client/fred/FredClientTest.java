@@ -19,12 +19,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import org.tradelite.client.fred.dto.FredObservationDto;
 import org.tradelite.client.fred.dto.FredObservationsResponseDto;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.config.TradebotApiProperties;
 
 @ExtendWith(MockitoExtension.class)
 class FredClientTest {
 
     @Mock private RestTemplate restTemplate;
+    @Mock private RateLimiterRegistry rateLimiterRegistry;
 
     private FredClient client;
 
@@ -32,7 +34,7 @@ class FredClientTest {
     void setUp() {
         TradebotApiProperties props = new TradebotApiProperties();
         props.setFredKey("test-fred-key");
-        client = new FredClient(restTemplate, props);
+        client = new FredClient(restTemplate, props, rateLimiterRegistry);
     }
 
     @Test
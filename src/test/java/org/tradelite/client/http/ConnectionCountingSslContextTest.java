@@ -0,0 +1,40 @@
+package org.tradelite.client.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import org.junit.jupiter.api.Test;
+
+class ConnectionCountingSslContextTest {
+
+    @Test
+    void createSSLEngine_countsOneConnectionPerEngine() throws Exception {
+        HttpTransportMetrics metrics = new HttpTransportMetrics();
+        SSLContext context = new ConnectionCountingSslContext(SSLContext.getDefault(), metrics);
+        metrics.recordRequest("finnhub.io");
+        metrics.recordRequest("finnhub.io");
+        metrics.recordRequest("finnhub.io");
+
+        SSLEngine engine = context.createSSLEngine("finnhub.io", 443);
+
+        assertNotNull(engine);
+        assertEquals("finnhub.io", engine.getPeerHost());
+        HttpTransportMetrics.HostStats stats = metrics.getStats().get("finnhub.io");
+        assertEquals(3, stats.requests());
+        assertEquals(1, stats.connectionsOpened());
+        assertEquals(2, stats.reusedRequests());
+    }
+
+    @Test
+    void parameters_comeFromTheDelegate() throws Exception {
+        SSLContext delegate = SSLContext.getDefault();
+        SSLContext context = new ConnectionCountingSslContext(delegate, new HttpTransportMetrics());
+
+        assertEquals(delegate.getProtocol(), context.getProtocol());
+        assertEquals(
+                delegate.getDefaultSSLParameters().getProtocols().length,
+                context.getDefaultSSLParameters().getProtocols().length);
+    }
+}
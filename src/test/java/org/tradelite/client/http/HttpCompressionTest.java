@@ -0,0 +1,72 @@
+package org.tradelite.client.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+class HttpCompressionTest {
+
+    private static final byte[] BODY = "{\"chart\":{}}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void decode_gzip_returnsPlainBody() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(BODY);
+        }
+
+        assertArrayEquals(BODY, HttpCompression.decode("gzip", bytes.toByteArray()));
+    }
+
+    @Test
+    void decode_deflate_returnsPlainBody() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(BODY);
+        }
+
+        assertArrayEquals(BODY, HttpCompression.decode("Deflate", bytes.toByteArray()));
+    }
+
+    @Test
+    void decode_noOrUnknownEncoding_returnsBodyAsIs() throws IOException {
+        assertSame(BODY, HttpCompression.decode(null, BODY));
+        assertSame(BODY, HttpCompression.decode("identity", BODY));
+    }
+
+    @Test
+    void decoding_gzip_decodesAsTheStreamIsRead() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(BODY);
+        }
+
+        try (InputStream decoded =
+                HttpCompression.decoding("gzip", new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertArrayEquals(BODY, decoded.readAllBytes());
+        }
+    }
+
+    @Test
+    void decoding_emptyGzipBody_readsAsEmpty() throws IOException {
+        try (InputStream decoded =
+                HttpCompression.decoding("gzip", new ByteArrayInputStream(new byte[0]))) {
+            assertEquals(-1, decoded.read());
+        }
+    }
+
+    @Test
+    void decode_corruptGzip_throws() {
+        assertThrows(IOException.class, () -> HttpCompression.decode("gzip", BODY));
+    }
+}
@@ -0,0 +1,130 @@
+package org.tradelite.client.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.config.TradebotHttpProperties;
+
+class ProviderRequestFactoryTest {
+
+    private static final String BODY = "{\"c\":185.2}";
+
+    private final TradebotHttpProperties properties = new TradebotHttpProperties();
+    private final HttpTransportMetrics metrics = new HttpTransportMetrics();
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    private HttpServer server;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(
+                "/quote",
+                exchange -> {
+                    acceptEncoding.set(acceptEncoding(exchange));
+                    byte[] body = gzip(BODY);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                });
+        server.start();
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    @Test
+    void restTemplate_gzippedResponse_isRequestedAndDecoded() {
+        RestTemplate restTemplate =
+                new RestTemplate(new ProviderRequestFactory(httpClient, properties, metrics));
+
+        String body = restTemplate.getForObject(url(), String.class);
+
+        assertEquals(BODY, body);
+        assertEquals("gzip,deflate", acceptEncoding.get());
+    }
+
+    @Test
+    void restTemplate_countsRequestsPerHost() {
+        RestTemplate restTemplate =
+                new RestTemplate(new ProviderRequestFactory(httpClient, properties, metrics));
+
+        restTemplate.getForObject(url(), String.class);
+        restTemplate.getForObject(url(), String.class);
+
+        assertEquals(2, metrics.getStats().get("127.0.0.1").requests());
+    }
+
+    @Test
+    void restTemplate_compressionDisabled_sendsNoAcceptEncoding() {
+        properties.setCompression(false);
+        server.removeContext("/quote");
+        server.createContext(
+                "/quote",
+                exchange -> {
+                    acceptEncoding.set(acceptEncoding(exchange));
+                    byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                });
+        RestTemplate restTemplate =
+                new RestTemplate(new ProviderRequestFactory(httpClient, properties, metrics));
+
+        assertEquals(BODY, restTemplate.getForObject(url(), String.class));
+        assertEquals(null, acceptEncoding.get());
+    }
+
+    @Test
+    void readTimeout_isPickedPerProviderHost() {
+        properties.getReadTimeouts().put(ApiProvider.COINGECKO, Duration.ofSeconds(5));
+        ProviderRequestFactory factory =
+                new ProviderRequestFactory(httpClient, properties, metrics);
+
+        assertEquals(Duration.ofSeconds(30), factory.readTimeout("api.twelvedata.com"));
+        assertEquals(Duration.ofSeconds(5), factory.readTimeout("api.coingecko.com"));
+        assertEquals(Duration.ofSeconds(20), factory.readTimeout("api.stlouisfed.org"));
+        assertEquals(Duration.ofSeconds(20), factory.readTimeout("api.telegram.org"));
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/quote";
+    }
+
+    private static String acceptEncoding(HttpExchange exchange) {
+        List<String> values = exchange.getRequestHeaders().get("Accept-Encoding");
+        return values == null ? null : String.join(",", values).replace(" ", "");
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
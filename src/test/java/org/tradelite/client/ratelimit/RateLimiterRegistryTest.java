@@ -0,0 +1,179 @@
+package org.tradelite.client.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.tradelite.client.ratelimit.RateLimiterRegistry.RateLimiterStats;
+import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.config.TradebotRateLimitProperties;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.repository.JobRunRepository;
+import org.tradelite.scheduling.JobDeadlineExceededException;
+import org.tradelite.scheduling.JobRunLedger;
+import org.tradelite.scheduling.JobScheduleCatalog;
+
+class RateLimiterRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-13T22:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void constructor_defaults_useProviderBudgets() {
+        RateLimiterRegistry registry =
+                new RateLimiterRegistry(new TradebotRateLimitProperties(), CLOCK);
+
+        Map<ApiProvider, RateLimiterStats> stats = registry.getStats();
+
+        assertEquals(ApiProvider.values().length, stats.size());
+        assertEquals(60, stats.get(ApiProvider.FINNHUB).requestsPerMinute());
+        assertEquals(8, stats.get(ApiProvider.TWELVEDATA).requestsPerMinute());
+        assertEquals(8, stats.get(ApiProvider.TWELVEDATA).availableTokens());
+    }
+
+    @Test
+    void constructor_override_replacesDefaultAndClampsToOne() {
+        TradebotRateLimitProperties properties = new TradebotRateLimitProperties();
+        properties.getRequestsPerMinute().put(ApiProvider.TWELVEDATA, 55);
+        properties.getRequestsPerMinute().put(ApiProvider.YAHOO, 0);
+
+        Map<ApiProvider, RateLimiterStats> stats =
+                new RateLimiterRegistry(properties, CLOCK).getStats();
+
+        assertEquals(55, stats.get(ApiProvider.TWELVEDATA).requestsPerMinute());
+        assertEquals(1, stats.get(ApiProvider.YAHOO).requestsPerMinute());
+        assertEquals(60, stats.get(ApiProvider.FINNHUB).requestsPerMinute());
+    }
+
+    @Test
+    void acquire_drawsFromProviderBucketOnly() {
+        RateLimiterRegistry registry =
+                new RateLimiterRegistry(new TradebotRateLimitProperties(), CLOCK);
+
+        registry.acquire(ApiProvider.COINGECKO);
+        registry.acquire(ApiProvider.COINGECKO);
+
+        Map<ApiProvider, RateLimiterStats> stats = registry.getStats();
+        assertEquals(2, stats.get(ApiProvider.COINGECKO).acquisitions());
+        assertEquals(28, stats.get(ApiProvider.COINGECKO).availableTokens());
+        assertEquals(0, stats.get(ApiProvider.FINNHUB).acquisitions());
+    }
+
+    @Test
+    void acquirePermits_spendsThatManyTokensAndCapacityReportsBucketSize() {
+        RateLimiterRegistry registry =
+                new RateLimiterRegistry(new TradebotRateLimitProperties(), CLOCK);
+
+        registry.acquire(ApiProvider.TWELVEDATA, 5);
+
+        RateLimiterStats stats = registry.getStats().get(ApiProvider.TWELVEDATA);
+        assertEquals(5, stats.acquisitions());
+        assertEquals(3, stats.availableTokens());
+        assertEquals(8, registry.capacity(ApiProvider.TWELVEDATA));
+    }
+
+    @Test
+    void acquire_interruptedWhileWaiting_throwsCancellationAndKeepsFlag() {
+        TokenBucket exhausted =
+                new TokenBucket(
+                        1,
+                        Duration.ofMinutes(1),
+                        () -> 0L,
+                        _ -> {
+                            throw new InterruptedException();
+                        });
+        RateLimiterRegistry registry =
+                new RateLimiterRegistry(Map.of(ApiProvider.FRED, exhausted), CLOCK);
+        registry.acquire(ApiProvider.FRED);
+
+        try {
+            assertThrows(CancellationException.class, () -> registry.acquire(ApiProvider.FRED));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void acquire_budgetFreesAfterJobDeadline_throwsWithoutWaiting() {
+        List<Long> sleeps = new ArrayList<>();
+        TokenBucket exhausted = new TokenBucket(1, Duration.ofMinutes(1), () -> 0L, sleeps::add);
+        RateLimiterRegistry registry =
+                new RateLimiterRegistry(Map.of(ApiProvider.TWELVEDATA, exhausted), CLOCK);
+        registry.acquire(ApiProvider.TWELVEDATA);
+        TradebotSchedulingProperties schedulingProperties = new TradebotSchedulingProperties();
+        schedulingProperties.getJobDeadlines().put("dailyOhlcvFetch", Duration.ofSeconds(10));
+        JobRunLedger ledger =
+                new JobRunLedger(
+                        mock(JobRunRepository.class),
+                        new JobScheduleCatalog(),
+                        mock(TelegramGateway.class),
+                        schedulingProperties,
+                        CLOCK);
+        List<RuntimeException> thrown = new ArrayList<>();
+
+        ledger.recordScheduled(
+                "dailyOhlcvFetch",
+                NOW,
+                () -> {
+                    try {
+                        registry.acquire(ApiProvider.TWELVEDATA);
+                    } catch (JobDeadlineExceededException e) {
+                        thrown.add(e);
+                        throw e;
+                    }
+                });
+
+        assertEquals(1, thrown.size());
+        assertEquals(List.of(), sleeps);
+        assertEquals(1, registry.getStats().get(ApiProvider.TWELVEDATA).acquisitions());
+    }
+
+    @Test
+    void onResponse_lowRemaining_withholdsLocalTokens() {
+        RateLimiterRegistry registry =
+                new RateLimiterRegistry(new TradebotRateLimitProperties(), CLOCK);
+
+        registry.onResponse(ApiProvider.FINNHUB, 5, NOW.plusSeconds(30));
+
+        assertEquals(5, registry.getStats().get(ApiProvider.FINNHUB).availableTokens());
+    }
+
+    @Test
+    void onRateLimited_pausesProviderAndCountsRejection() {
+        RateLimiterRegistry registry =
+                new RateLimiterRegistry(new TradebotRateLimitProperties(), CLOCK);
+
+        registry.onRateLimited(ApiProvider.TWELVEDATA, Duration.ofSeconds(20), null);
+
+        RateLimiterStats stats = registry.getStats().get(ApiProvider.TWELVEDATA);
+        assertEquals(0, stats.availableTokens());
+        assertEquals(1, stats.rateLimitedResponses());
+        assertEquals(0, registry.getStats().get(ApiProvider.FINNHUB).rateLimitedResponses());
+    }
+
+    @Test
+    void onRateLimited_bogusRetryAfter_isCappedAtMaxBackoff() {
+        AtomicLong nanos = new AtomicLong();
+        List<Long> sleeps = new ArrayList<>();
+        TokenBucket bucket = new TokenBucket(8, Duration.ofMinutes(1), nanos::get, sleeps::add);
+        RateLimiterRegistry registry =
+                new RateLimiterRegistry(Map.of(ApiProvider.TWELVEDATA, bucket), CLOCK);
+
+        registry.onRateLimited(ApiProvider.TWELVEDATA, Duration.ofDays(1), null);
+        registry.acquire(ApiProvider.TWELVEDATA);
+
+        assertEquals(List.of(RateLimiterRegistry.MAX_BACKOFF.toNanos()), sleeps);
+    }
+}
@@ -0,0 +1,208 @@
+package org.tradelite.client.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private AtomicLong now;
+    private List<Long> sleeps;
+    private TokenBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000 * SECOND);
+        sleeps = new ArrayList<>();
+        bucket = newBucket(3);
+    }
+
+    @Test
+    void acquire_fullBucket_allowsBurstUpToCapacityWithoutWaiting() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.acquire());
+        }
+
+        assertEquals(List.of(), sleeps);
+        assertEquals(0, bucket.availableTokens());
+        assertEquals(3, bucket.getAcquisitions());
+        assertEquals(0, bucket.getThrottled());
+    }
+
+    @Test
+    void acquire_emptyBucket_waitsUntilOldestTokenReturns() throws Exception {
+        bucket.acquire();
+        now.addAndGet(10 * SECOND);
+        bucket.acquire();
+        bucket.acquire();
+        now.addAndGet(5 * SECOND);
+
+        long waited = bucket.acquire();
+
+        assertEquals(45 * SECOND, waited);
+        assertEquals(List.of(45 * SECOND), sleeps);
+        assertEquals(1, bucket.getThrottled());
+        assertEquals(45 * SECOND, bucket.getTotalWaitNanos());
+        assertEquals(45 * SECOND, bucket.getMaxWaitNanos());
+    }
+
+    @Test
+    void acquirePermits_waitsForTheLastMissingTokenAndSpendsAllAtOnce() throws Exception {
+        bucket.acquire();
+        now.addAndGet(10 * SECOND);
+        bucket.acquire();
+        now.addAndGet(5 * SECOND);
+
+        // One token is free; the other two come back 45s and 55s from now
+        long waited = bucket.acquire(3, Long.MAX_VALUE);
+
+        assertEquals(55 * SECOND, waited);
+        assertEquals(List.of(55 * SECOND), sleeps);
+        assertEquals(5, bucket.getAcquisitions());
+        now.addAndGet(55 * SECOND);
+        assertEquals(0, bucket.availableTokens());
+        now.addAndGet(60 * SECOND);
+        assertEquals(3, bucket.availableTokens());
+    }
+
+    @Test
+    void acquirePermits_fullBucket_takesThemWithoutWaiting() throws Exception {
+        assertEquals(0, bucket.acquire(2, Long.MAX_VALUE));
+
+        assertEquals(1, bucket.availableTokens());
+        assertEquals(List.of(), sleeps);
+    }
+
+    @Test
+    void acquirePermits_moreThanCapacity_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> bucket.acquire(4, Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> bucket.acquire(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void acquire_waitBeyondLimit_refusesWithoutReserving() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            bucket.acquire();
+        }
+        now.addAndGet(20 * SECOND);
+
+        assertEquals(-1, bucket.acquire(30 * SECOND));
+        assertEquals(List.of(), sleeps);
+        assertEquals(3, bucket.getAcquisitions());
+
+        assertEquals(40 * SECOND, bucket.acquire(40 * SECOND));
+        assertEquals(List.of(40 * SECOND), sleeps);
+    }
+
+    @Test
+    void acquire_queuedWaiters_neverExceedCapacityPerWindow() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            bucket.acquire();
+        }
+
+        // Sleeper does not advance the clock, so each reservation stacks behind the previous one
+        bucket.acquire();
+        bucket.acquire();
+        bucket.acquire();
+        bucket.acquire();
+
+        assertEquals(List.of(60 * SECOND, 60 * SECOND, 60 * SECOND, 120 * SECOND), sleeps);
+        assertEquals(120 * SECOND, bucket.getMaxWaitNanos());
+    }
+
+    @Test
+    void availableTokens_refillsOneWindowAfterSpend() throws Exception {
+        bucket.acquire();
+        now.addAndGet(30 * SECOND);
+        bucket.acquire();
+
+        now.addAndGet(30 * SECOND);
+        assertEquals(2, bucket.availableTokens());
+
+        now.addAndGet(30 * SECOND);
+        assertEquals(3, bucket.availableTokens());
+    }
+
+    @Test
+    void sync_fewerRemainingThanLocal_withholdsSurplusUntilReset() throws Exception {
+        bucket.sync(1, 20 * SECOND);
+
+        assertEquals(1, bucket.availableTokens());
+        bucket.acquire();
+        long waited = bucket.acquire();
+
+        assertEquals(20 * SECOND, waited);
+    }
+
+    @Test
+    void sync_earlyServerReset_refundsSpentTokensAtReset() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            bucket.acquire();
+        }
+        now.addAndGet(10 * SECOND);
+
+        // Provider's window resets 5s from now instead of 50s from now
+        bucket.sync(0, 5 * SECOND);
+        long waited = bucket.acquire();
+
+        assertEquals(5 * SECOND, waited);
+    }
+
+    @Test
+    void sync_zeroRemaining_pausesEvenWithFreeTokens() throws Exception {
+        bucket.sync(0, 30 * SECOND);
+
+        assertEquals(0, bucket.availableTokens());
+        assertEquals(30 * SECOND, bucket.acquire());
+
+        now.addAndGet(30 * SECOND);
+        assertEquals(2, bucket.availableTokens());
+    }
+
+    @Test
+    void sync_keepsSlotsAlreadyReservedByWaiters() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            bucket.acquire();
+        }
+
+        bucket.sync(3, 5 * SECOND);
+        now.addAndGet(5 * SECOND);
+
+        assertEquals(2, bucket.availableTokens());
+    }
+
+    @Test
+    void acquire_interruptedWhileWaiting_propagates() throws Exception {
+        TokenBucket interrupting =
+                new TokenBucket(
+                        1,
+                        Duration.ofMinutes(1),
+                        now::get,
+                        _ -> {
+                            throw new InterruptedException();
+                        });
+        interrupting.acquire();
+
+        assertThrows(InterruptedException.class, interrupting::acquire);
+        assertEquals(1, interrupting.getAcquisitions());
+    }
+
+    @Test
+    void constructor_nonPositiveCapacity_rejected() {
+        Duration window = Duration.ofMinutes(1);
+
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, window));
+    }
+
+    private TokenBucket newBucket(int capacity) {
+        return new TokenBucket(capacity, Duration.ofMinutes(1), now::get, sleeps::add);
+    }
+}
@@ -11,29 +11,47 @@ import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimitExceededException;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.OhlcvSeries;
 import org.tradelite.config.TradebotApiProperties;
 import org.tradelite.service.ApiRequestMeteringService;
 
 @ExtendWith(MockitoExtension.class)
 class TwelveDataClientTest {
 
+    private static final Clock CLOCK =
+            Clock.fixed(Instant.parse("2026-04-13T22:00:17Z"), ZoneOffset.UTC);
+    private static final Instant NEXT_MINUTE = Instant.parse("2026-04-13T22:01:00Z");
+
     @Mock private RestTemplate restTemplate;
     @Mock private ApiRequestMeteringService meteringService;
+    @Mock private RateLimiterRegistry rateLimiterRegistry;
     @Mock private TradebotApiProperties apiProperties;
 
     private TwelveDataClient client;
@@ -43,16 +61,21 @@ class TwelveDataClientTest {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         lenient().when(apiProperties.getTwelvedataKey()).thenReturn("test-api-key");
-        client = new TwelveDataClient(restTemplate, objectMapper, meteringService, apiProperties);
+        client =
+                new TwelveDataClient(
+                        restTemplate,
+                        objectMapper,
+                        meteringService,
+                        apiProperties,
+                        rateLimiterRegistry,
+                        CLOCK);
     }
 
     @Test
     void fetchDailyOhlcv_successfulResponse_returnsRecords() {
         String json = buildValidResponse();
 
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(ResponseEntity.ok(json));
+        whenFetched(anyString()).thenAnswer(respond(json));
 
         List<OhlcvRecord> records = client.fetchDailyOhlcv("XLK", 5);
 
@@ -73,27 +96,75 @@ class TwelveDataClientTest {
     }
 
     @Test
-    void fetchDailyOhlcv_http429_throwsException() {
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+    void fetchDailyOhlcv_http429Twice_backsOffRetriesOnceThenThrows() {
+        whenFetched(anyString())
                 .thenThrow(
                         HttpClientErrorException.create(
                                 HttpStatus.TOO_MANY_REQUESTS,
                                 "Too Many Requests",
-                                new org.springframework.http.HttpHeaders(),
+                                new HttpHeaders(),
                                 new byte[0],
                                 null));
 
         assertThrows(HttpClientErrorException.class, () -> client.fetchDailyOhlcv("XLK", 5));
 
-        verify(meteringService).incrementTwelveDataRequests();
+        verify(meteringService, times(2)).incrementTwelveDataRequests();
+        verify(rateLimiterRegistry, times(2))
+                .onRateLimited(ApiProvider.TWELVEDATA, null, NEXT_MINUTE);
+    }
+
+    @Test
+    void fetchDailyOhlcv_creditsExhaustedInBody_pausesUntilNextMinuteAndRetries() {
+        String exhausted =
+                """
+                {"code":429,"message":"You have run out of API credits for the current minute. 9 API credits were used, with the current limit being 8.","status":"error"}
+                """;
+        whenFetched(anyString())
+                .thenAnswer(respond(exhausted))
+                .thenAnswer(respond(buildValidResponse()));
+
+        List<OhlcvRecord> records = client.fetchDailyOhlcv("XLK", 5);
+
+        assertThat(records, hasSize(2));
+        var inOrder = inOrder(rateLimiterRegistry);
+        inOrder.verify(rateLimiterRegistry).acquire(ApiProvider.TWELVEDATA, 1);
+        inOrder.verify(rateLimiterRegistry)
+                .onRateLimited(ApiProvider.TWELVEDATA, null, NEXT_MINUTE);
+        inOrder.verify(rateLimiterRegistry).acquire(ApiProvider.TWELVEDATA, 1);
+    }
+
+    @Test
+    void fetchDailyOhlcv_creditsExhaustedTwice_throwsRateLimitExceeded() {
+        String exhausted =
+                """
+                {"code":429,"message":"You have run out of API credits for the current minute.","status":"error"}
+                """;
+        whenFetched(anyString()).thenAnswer(respond(exhausted));
+
+        RateLimitExceededException ex =
+                assertThrows(
+                        RateLimitExceededException.class, () -> client.fetchDailyOhlcv("IREN", 5));
+
+        assertThat(ex.getProvider(), is(ApiProvider.TWELVEDATA));
+        assertThat(ex.getMessage(), containsString("IREN"));
+        verify(meteringService, times(2)).incrementTwelveDataRequests();
+    }
+
+    @Test
+    void fetchDailyOhlcv_creditsLeftHeader_syncsLimiterToMinuteReset() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(TwelveDataClient.API_CREDITS_LEFT, "3");
+        whenFetched(anyString()).thenAnswer(respond(headers, buildValidResponse()));
+
+        client.fetchDailyOhlcv("XLK", 5);
+
+        verify(rateLimiterRegistry).onResponse(ApiProvider.TWELVEDATA, 3, NEXT_MINUTE);
+        verify(rateLimiterRegistry, never()).onRateLimited(any(), any(), any());
     }
 
     @Test
     void fetchDailyOhlcv_networkError_throwsException() {
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenThrow(new RestClientException("Connection refused"));
+        whenFetched(anyString()).thenThrow(new RestClientException("Connection refused"));
 
         assertThrows(RestClientException.class, () -> client.fetchDailyOhlcv("XLK", 5));
 
@@ -107,9 +178,7 @@ class TwelveDataClientTest {
                 {"status":"error","code":400,"message":"**symbol** not found: INVALID. Please specify it correctly according to API Documentation."}
                 """;
 
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(ResponseEntity.ok(errorJson));
+        whenFetched(anyString()).thenAnswer(respond(errorJson));
 
         IllegalStateException ex =
                 assertThrows(
@@ -120,10 +189,15 @@ class TwelveDataClientTest {
     }
 
     @Test
-    void fetchDailyOhlcv_nullBody_throwsException() {
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(ResponseEntity.ok(null));
+    void fetchDailyOhlcv_emptyBody_throwsException() {
+        whenFetched(anyString()).thenAnswer(respond(""));
+
+        assertThrows(IllegalStateException.class, () -> client.fetchDailyOhlcv("XLK", 5));
+    }
+
+    @Test
+    void fetchDailyOhlcv_truncatedBody_throwsIllegalStateNotIoError() {
+        whenFetched(anyString()).thenAnswer(respond("{\"status\":\"ok\",\"values\":[{\"datetime\""));
 
         assertThrows(IllegalStateException.class, () -> client.fetchDailyOhlcv("XLK", 5));
     }
@@ -141,9 +215,7 @@ class TwelveDataClientTest {
                 }
                 """;
 
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(ResponseEntity.ok(json));
+        whenFetched(anyString()).thenAnswer(respond(json));
 
         List<OhlcvRecord> records = client.fetchDailyOhlcv("XLK", 5);
 
@@ -158,9 +230,7 @@ class TwelveDataClientTest {
                 {"status":"ok","values":[]}
                 """;
 
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(ResponseEntity.ok(json));
+        whenFetched(anyString()).thenAnswer(respond(json));
 
         List<OhlcvRecord> records = client.fetchDailyOhlcv("XLK", 5);
 
@@ -171,16 +241,181 @@ class TwelveDataClientTest {
     void fetchDailyOhlcv_incrementsMeter() {
         String json = buildValidResponse();
 
-        when(restTemplate.exchange(
-                        anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(ResponseEntity.ok(json));
+        whenFetched(anyString()).thenAnswer(respond(json));
 
         client.fetchDailyOhlcv("XLK", 5);
 
         verify(meteringService, times(1)).incrementTwelveDataRequests();
     }
 
-    private String buildValidResponse() {
+    @Test
+    void fetchDailyOhlcvBatch_multiSymbolResponse_splitsRecordsPerSymbol() {
+        when(rateLimiterRegistry.capacity(ApiProvider.TWELVEDATA)).thenReturn(8);
+        String json =
+                """
+                {
+                    "XLK":{"meta":{"symbol":"XLK"},"values":[
+                        {"datetime":"2026-04-10","open":"218.50","high":"220.00","low":"217.00","close":"219.50","volume":"5000000"}
+                    ],"status":"ok"},
+                    "SPY":{"meta":{"symbol":"SPY"},"values":[
+                        {"datetime":"2026-04-10","open":"510.00","high":"512.00","low":"508.00","close":"511.00","volume":"70000000"},
+                        {"datetime":"2026-04-09","open":"505.00","high":"509.00","low":"504.00","close":"508.50","volume":"65000000"}
+                    ],"status":"ok"}
+                }
+                """;
+        whenFetched(
+                        eq(
+                                "https://api.twelvedata.com/time_series?symbol=XLK,SPY&interval=1day"
+                                        + "&outputsize=5&apikey=test-api-key"))
+                .thenAnswer(respond(json));
+
+        TwelveDataBatch batch = client.fetchDailyOhlcvBatch(List.of("XLK", "SPY"), 5);
+
+        assertThat(batch.failures(), is(anEmptyMap()));
+        assertThat(batch.records().get("XLK"), hasSize(1));
+        assertThat(batch.records().get("XLK").getFirst().close(), is(closeTo(219.50, 0.01)));
+        assertThat(batch.records().get("SPY"), hasSize(2));
+        assertThat(batch.records().get("SPY").getFirst().symbol(), is("SPY"));
+        verify(rateLimiterRegistry).acquire(ApiProvider.TWELVEDATA, 2);
+        verify(meteringService, times(1)).incrementTwelveDataRequests();
+    }
+
+    @Test
+    void fetchDailyOhlcvBatch_symbolErrorOrMissing_isolatedToThatSymbol() {
+        when(rateLimiterRegistry.capacity(ApiProvider.TWELVEDATA)).thenReturn(8);
+        String json =
+                """
+                {
+                    "XLK":{"values":[
+                        {"datetime":"2026-04-10","open":"218.50","high":"220.00","low":"217.00","close":"219.50","volume":"5000000"}
+                    ],"status":"ok"},
+                    "XYZ":{"code":400,"message":"**symbol** not found: XYZ","status":"error"}
+                }
+                """;
+        whenFetched(anyString()).thenAnswer(respond(json));
+
+        TwelveDataBatch batch = client.fetchDailyOhlcvBatch(List.of("XLK", "XYZ", "QQQ"), 5);
+
+        assertThat(batch.records().keySet(), is(Set.of("XLK")));
+        assertThat(batch.failures().get("XYZ"), containsString("symbol** not found"));
+        assertThat(batch.failures().get("QQQ"), containsString("missing QQQ"));
+    }
+
+    @Test
+    void fetchDailyOhlcvBatch_singleSymbol_parsesUnkeyedResponse() {
+        when(rateLimiterRegistry.capacity(ApiProvider.TWELVEDATA)).thenReturn(8);
+        whenFetched(anyString()).thenAnswer(respond(buildValidResponse()));
+
+        TwelveDataBatch batch = client.fetchDailyOhlcvBatch(List.of("XLK"), 5);
+
+        assertThat(batch.records().get("XLK"), hasSize(2));
+        assertThat(batch.failures(), is(anEmptyMap()));
+    }
+
+    @Test
+    void fetchDailyOhlcvBatch_creditsExhausted_backsOffAndRetriesWholeBatch() {
+        when(rateLimiterRegistry.capacity(ApiProvider.TWELVEDATA)).thenReturn(8);
+        String exhausted =
+                """
+                {"code":429,"message":"You have run out of API credits for the current minute.","status":"error"}
+                """;
+        String ok =
+                """
+                {"XLK":{"values":[],"status":"ok"},"SPY":{"values":[],"status":"ok"}}
+                """;
+        whenFetched(anyString())
+                .thenAnswer(respond(exhausted))
+                .thenAnswer(respond(ok));
+
+        TwelveDataBatch batch = client.fetchDailyOhlcvBatch(List.of("XLK", "SPY"), 5);
+
+        assertThat(batch.records().keySet(), containsInAnyOrder("XLK", "SPY"));
+        verify(rateLimiterRegistry).onRateLimited(ApiProvider.TWELVEDATA, null, NEXT_MINUTE);
+        verify(rateLimiterRegistry, times(2)).acquire(ApiProvider.TWELVEDATA, 2);
+    }
+
+    @Test
+    void fetchDailyOhlcvBatch_largerThanBucket_isRejected() {
+        when(rateLimiterRegistry.capacity(ApiProvider.TWELVEDATA)).thenReturn(2);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> client.fetchDailyOhlcvBatch(List.of("XLK", "SPY", "QQQ"), 5));
+
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void maxBatchSize_boundedByBucketCapacityAndApiLimit() {
+        when(rateLimiterRegistry.capacity(ApiProvider.TWELVEDATA)).thenReturn(8, 800);
+
+        assertThat(client.maxBatchSize(), is(8));
+        assertThat(client.maxBatchSize(), is(TwelveDataClient.MAX_BATCH_SYMBOLS));
+    }
+
+    @Test
+    void fetchDailyOhlcv_moreBarsThanRequested_growsSeriesColumns() {
+        whenFetched(anyString()).thenAnswer(respond(buildValidResponse()));
+
+        List<OhlcvRecord> records = client.fetchDailyOhlcv("XLK", 1);
+
+        assertThat(records, is(instanceOf(OhlcvSeries.class)));
+        assertThat(records, hasSize(2));
+        assertThat(records.get(1).date(), is(LocalDate.of(2026, 4, 9)));
+        assertThat(records.get(1).volume(), is(4500000L));
+    }
+
+    @Test
+    void fetchDailyOhlcvBatch_malformedNumber_failsOnlyThatSymbol() {
+        when(rateLimiterRegistry.capacity(ApiProvider.TWELVEDATA)).thenReturn(8);
+        String json =
+                """
+                {
+                    "XLK":{"values":[
+                        {"datetime":"2026-04-10","open":"n/a","high":"220.00","low":"217.00","close":"219.50","volume":"5000000"},
+                        {"datetime":"2026-04-09","open":"215.00","high":"218.00","low":"214.00","close":"217.50","volume":"4500000"}
+                    ],"status":"ok"},
+                    "SPY":{"values":[
+                        {"datetime":"2026-04-10","open":"510.00","high":"512.00","low":"508.00","close":"511.00","volume":"70000000"}
+                    ],"status":"ok"}
+                }
+                """;
+        whenFetched(anyString()).thenAnswer(respond(json));
+
+        TwelveDataBatch batch = client.fetchDailyOhlcvBatch(List.of("XLK", "SPY"), 5);
+
+        assertThat(batch.records().keySet(), is(Set.of("SPY")));
+        assertThat(batch.records().get("SPY").getFirst().close(), is(closeTo(511.00, 0.01)));
+        assertThat(batch.failures().keySet(), is(Set.of("XLK")));
+    }
+
+    /** Stubs the streaming fetch of {@code url}; answer it with {@link #respond}. */
+    private OngoingStubbing<Object> whenFetched(String url) {
+        return when(
+                restTemplate.execute(
+                        url,
+                        eq(HttpMethod.GET),
+                        any(RequestCallback.class),
+                        any(ResponseExtractor.class)));
+    }
+
+    private static Answer<Object> respond(String json) {
+        return respond(new HttpHeaders(), json);
+    }
+
+    /** Runs the client's extractor on a 200 carrying {@code json} and {@code headers}. */
+    private static Answer<Object> respond(HttpHeaders headers, String json) {
+        return invocation -> {
+            MockClientHttpResponse response =
+                    new MockClientHttpResponse(
+                            json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+            response.getHeaders().putAll(headers);
+            ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(response);
+        };
+    }
+
+        private String buildValidResponse() {
         return """
                 {
                     "meta":{"symbol":"XLK","interval":"1day","currency":"USD","exchange_timezone":"America/New_York","type":"ETF"},
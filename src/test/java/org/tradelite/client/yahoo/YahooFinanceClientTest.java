@@ -8,39 +8,68 @@ import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.tradelite.client.http.HttpTransportMetrics;
+import org.tradelite.client.http.ProviderHttpTransport;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
 import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.OhlcvSeries;
+import org.tradelite.config.TradebotHttpProperties;
 import org.tradelite.service.ApiRequestMeteringService;
 
 @ExtendWith(MockitoExtension.class)
 class YahooFinanceClientTest {
 
     @Mock private ApiRequestMeteringService meteringService;
+    @Mock private RateLimiterRegistry rateLimiterRegistry;
 
+    private ObjectMapper objectMapper;
+    private ProviderHttpTransport transport;
     private YahooFinanceClient client;
 
     @BeforeEach
     void setUp() {
-        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         HttpClient httpClient =
                 HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
-        client = new YahooFinanceClient(objectMapper, meteringService, httpClient);
+        transport =
+                new ProviderHttpTransport(
+                        httpClient, new TradebotHttpProperties(), new HttpTransportMetrics());
+        client =
+                new YahooFinanceClient(
+                        objectMapper, meteringService, transport, rateLimiterRegistry);
     }
 
     @Test
     void parseResponse_successfulResponse_returnsRecords() {
         String json = buildValidGermanResponse();
 
-        List<OhlcvRecord> records = client.parseResponse("RHM.DE", json);
+        List<OhlcvRecord> records = client.parseResponse("RHM.DE", stream(json));
 
         assertThat(records, hasSize(2));
         assertThat(records.getFirst().symbol(), is("RHM.DE"));
@@ -59,7 +88,7 @@ class YahooFinanceClientTest {
     void parseResponse_koreanStock_returnsRecords() {
         String json = buildValidKoreanResponse();
 
-        List<OhlcvRecord> records = client.parseResponse("005930.KS", json);
+        List<OhlcvRecord> records = client.parseResponse("005930.KS", stream(json));
 
         assertThat(records, hasSize(2));
         assertThat(records.getFirst().symbol(), is("005930.KS"));
@@ -91,7 +120,7 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        List<OhlcvRecord> records = client.parseResponse("RHM.DE", json);
+        List<OhlcvRecord> records = client.parseResponse("RHM.DE", stream(json));
 
         assertThat(records, hasSize(1));
         assertThat(records.getFirst().close(), is(closeTo(1441.6, 0.1)));
@@ -121,7 +150,7 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        List<OhlcvRecord> records = client.parseResponse("RHM.DE", json);
+        List<OhlcvRecord> records = client.parseResponse("RHM.DE", stream(json));
         assertThat(records, is(empty()));
     }
 
@@ -149,7 +178,7 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        List<OhlcvRecord> records = client.parseResponse("RHM.DE", json);
+        List<OhlcvRecord> records = client.parseResponse("RHM.DE", stream(json));
         assertThat(records, is(empty()));
     }
 
@@ -177,7 +206,7 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        List<OhlcvRecord> records = client.parseResponse("RHM.DE", json);
+        List<OhlcvRecord> records = client.parseResponse("RHM.DE", stream(json));
         assertThat(records, is(empty()));
     }
 
@@ -204,7 +233,7 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        assertThrows(YahooFetchException.class, () -> client.parseResponse("RHM.DE", json));
+        assertThrows(YahooFetchException.class, () -> client.parseResponse("RHM.DE", stream(json)));
     }
 
     @Test
@@ -225,7 +254,7 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        assertThrows(YahooFetchException.class, () -> client.parseResponse("RHM.DE", json));
+        assertThrows(YahooFetchException.class, () -> client.parseResponse("RHM.DE", stream(json)));
     }
 
     @Test
@@ -242,7 +271,8 @@ class YahooFinanceClientTest {
 
         YahooFetchException ex =
                 assertThrows(
-                        YahooFetchException.class, () -> client.parseResponse("INVALID.XX", json));
+                        YahooFetchException.class,
+                        () -> client.parseResponse("INVALID.XX", stream(json)));
 
         assertThat(ex.getMessage(), containsString("INVALID.XX"));
         assertThat(ex.getMessage(), containsString("API error"));
@@ -260,7 +290,52 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        assertThrows(YahooFetchException.class, () -> client.parseResponse("RHM.DE", json));
+        assertThrows(YahooFetchException.class, () -> client.parseResponse("RHM.DE", stream(json)));
+    }
+
+    @Test
+    void parseResponse_columnsInAnyOrderPastExpectedBars_joinsRowsIntoSeries() {
+        String json =
+                """
+                {
+                    "chart": {
+                        "error": null,
+                        "result": [{
+                            "timestamp": [1778050800, 1777964400],
+                            "indicators": {
+                                "adjclose": [{"adjclose": [1441.6, 1430.0]}],
+                                "quote": [{
+                                    "volume": [297188, 344493],
+                                    "close": [1441.6, 1430.0],
+                                    "low": [1398.6, 1389.6],
+                                    "high": [1456.2, 1450.0],
+                                    "open": [1447.0, 1420.0]
+                                }]
+                            },
+                            "meta": {"currency": "EUR", "exchangeTimezoneName": "Europe/Berlin"}
+                        }, {
+                            "timestamp": [1],
+                            "indicators": {"quote": [{"open": [1.0]}]}
+                        }]
+                    }
+                }
+                """;
+
+        List<OhlcvRecord> records = client.parseResponse("RHM.DE", stream(json), 1);
+
+        assertThat(records, is(instanceOf(OhlcvSeries.class)));
+        assertThat(records, hasSize(2));
+        assertThat(records.getFirst().date(), is(LocalDate.of(2026, 5, 6)));
+        assertThat(records.getFirst().open(), is(closeTo(1447.0, 0.01)));
+        assertThat(records.get(1).date(), is(LocalDate.of(2026, 5, 5)));
+        assertThat(records.get(1).volume(), is(344493L));
+    }
+
+    @Test
+    void expectedBars_followsRequestedRange() {
+        assertThat(YahooFinanceClient.expectedBars(5), is(5));
+        assertThat(YahooFinanceClient.expectedBars(30), is(23));
+        assertThat(YahooFinanceClient.expectedBars(400), is(YahooFinanceClient.CHART_BARS));
     }
 
     @Test
@@ -268,7 +343,9 @@ class YahooFinanceClientTest {
         String json = "not valid json{{{";
 
         YahooFetchException ex =
-                assertThrows(YahooFetchException.class, () -> client.parseResponse("RHM.DE", json));
+                assertThrows(
+                        YahooFetchException.class,
+                        () -> client.parseResponse("RHM.DE", stream(json)));
 
         assertThat(ex.getMessage(), containsString("JSON parse error"));
     }
@@ -300,14 +377,17 @@ class YahooFinanceClientTest {
     }
 
     @Test
-    void executeRequest_realYahooCall_returnsValidJson() {
+    void executeRequest_realYahooCall_returnsValidJson() throws IOException {
         // Integration test: covers the HttpClient success path against live Yahoo. If Yahoo ever
         // started TLS-fingerprinting Java HTTP clients, this test would fail with an SSL exception
         // — providing fast disproof rather than waiting for the next deploy to surface the issue.
-        String json =
+        String json;
+        try (InputStream body =
                 client.executeRequest(
                         "SAP",
-                        "https://query1.finance.yahoo.com/v8/finance/chart/SAP?interval=1d&range=5d");
+                        "https://query1.finance.yahoo.com/v8/finance/chart/SAP?interval=1d&range=5d")) {
+            json = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
 
         assertThat(json, containsString("\"chart\""));
         assertThat(json, containsString("\"result\""));
@@ -359,7 +439,7 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        YahooPriceQuote quote = client.parseQuoteFromMeta("RHM.DE", json);
+        YahooPriceQuote quote = client.parseQuoteFromMeta("RHM.DE", stream(json));
 
         assertThat(quote.symbol(), is("RHM.DE"));
         assertThat(quote.currentPrice(), is(closeTo(150.5, 0.01)));
@@ -391,7 +471,7 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        YahooPriceQuote quote = client.parseQuoteFromMeta("RHM.DE", json);
+        YahooPriceQuote quote = client.parseQuoteFromMeta("RHM.DE", stream(json));
 
         assertThat(quote.changePercent(), is(closeTo(0.0, 0.001)));
     }
@@ -418,7 +498,8 @@ class YahooFinanceClientTest {
 
         YahooFetchException ex =
                 assertThrows(
-                        YahooFetchException.class, () -> client.parseQuoteFromMeta("RHM.DE", json));
+                        YahooFetchException.class,
+                        () -> client.parseQuoteFromMeta("RHM.DE", stream(json)));
 
         assertThat(ex.getMessage(), containsString("invalid regularMarketPrice"));
     }
@@ -438,7 +519,7 @@ class YahooFinanceClientTest {
         YahooFetchException ex =
                 assertThrows(
                         YahooFetchException.class,
-                        () -> client.parseQuoteFromMeta("INVALID", json));
+                        () -> client.parseQuoteFromMeta("INVALID", stream(json)));
 
         assertThat(ex.getMessage(), containsString("API error"));
     }
@@ -455,7 +536,8 @@ class YahooFinanceClientTest {
                 }
                 """;
 
-        assertThrows(YahooFetchException.class, () -> client.parseQuoteFromMeta("RHM.DE", json));
+        assertThrows(
+                YahooFetchException.class, () -> client.parseQuoteFromMeta("RHM.DE", stream(json)));
     }
 
     @Test
@@ -463,11 +545,151 @@ class YahooFinanceClientTest {
         YahooFetchException ex =
                 assertThrows(
                         YahooFetchException.class,
-                        () -> client.parseQuoteFromMeta("RHM.DE", "not json"));
+                        () -> client.parseQuoteFromMeta("RHM.DE", stream("not json")));
 
         assertThat(ex.getMessage(), containsString("JSON parse error"));
     }
 
+    @Test
+    void parseQuotes_multiSymbolResponse_returnsQuotePerSymbol() {
+        String json =
+                """
+                {"quoteResponse":{"result":[
+                    {"symbol":"RHM.DE","regularMarketPrice":1200.0,"regularMarketPreviousClose":1180.0,
+                     "regularMarketOpen":1190.0,"regularMarketDayHigh":1220.0,"regularMarketDayLow":1170.0,
+                     "regularMarketChangePercent":1.6949,"regularMarketTime":1776157200},
+                    {"symbol":"005930.KS","regularMarketPrice":71000.0,"regularMarketPreviousClose":70000.0,
+                     "regularMarketTime":1776150000}
+                ],"error":null}}
+                """;
+
+        Map<String, YahooPriceQuote> quotes =
+                client.parseQuotes(List.of("RHM.DE", "005930.KS"), stream(json));
+
+        YahooPriceQuote rhm = quotes.get("RHM.DE");
+        assertThat(rhm.currentPrice(), is(1200.0));
+        assertThat(rhm.previousClose(), is(1180.0));
+        assertThat(rhm.dailyHigh(), is(1220.0));
+        assertThat(rhm.changePercent(), is(closeTo(1.69, 0.01)));
+        assertThat(rhm.timestamp(), is(1776157200L));
+        // Without a reported change percent it is derived from the previous close
+        assertThat(quotes.get("005930.KS").changePercent(), is(closeTo(1.43, 0.01)));
+    }
+
+    @Test
+    void parseQuotes_missingOrUnpricedSymbol_leftOutForFallback() {
+        String json =
+                """
+                {"quoteResponse":{"result":[
+                    {"symbol":"RHM.DE","regularMarketPrice":1200.0,"regularMarketPreviousClose":1180.0},
+                    {"symbol":"ENR.DE","regularMarketPrice":0},
+                    {"symbol":"UNASKED.DE","regularMarketPrice":10.0}
+                ],"error":null}}
+                """;
+
+        Map<String, YahooPriceQuote> quotes =
+                client.parseQuotes(List.of("RHM.DE", "ENR.DE", "SAP.DE"), stream(json));
+
+        assertThat(quotes.keySet(), is(Set.of("RHM.DE")));
+    }
+
+    @Test
+    void parseQuotes_apiError_throwsYahooFetchException() {
+        String json =
+                """
+                {"quoteResponse":{"result":null,"error":{"code":"Bad Request","description":"Missing symbols"}}}
+                """;
+
+        YahooFetchException ex =
+                assertThrows(
+                        YahooFetchException.class,
+                        () -> client.parseQuotes(List.of("RHM.DE", "SAP.DE"), stream(json)));
+
+        assertThat(ex.getMessage(), containsString("Missing symbols"));
+    }
+
+    @Test
+    void fetchCurrentPrices_oneRequestForTheWholeBatch() throws Exception {
+        String json =
+                """
+                {"quoteResponse":{"result":[
+                    {"symbol":"RHM.DE","regularMarketPrice":1200.0,"regularMarketPreviousClose":1180.0},
+                    {"symbol":"SAP.DE","regularMarketPrice":210.0,"regularMarketPreviousClose":205.0}
+                ],"error":null}}
+                """;
+        AtomicInteger handshakes = new AtomicInteger();
+        AtomicInteger quotes = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(
+                "/cookie",
+                exchange -> {
+                    // Yahoo answers 404 here but still sets the session cookie.
+                    String cookie = "A3=d=session" + handshakes.incrementAndGet();
+                    exchange.getResponseHeaders().add("Set-Cookie", cookie + "; Path=/; Secure");
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                });
+        server.createContext(
+                "/crumb",
+                exchange -> {
+                    String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+                    respond(exchange, 200, "A3=d=session2".equals(cookie) ? "crumb/2" : "crumb/1");
+                });
+        server.createContext(
+                "/quote",
+                exchange -> {
+                    String query = exchange.getRequestURI().getRawQuery();
+                    String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+                    boolean current =
+                            query.equals("symbols=RHM.DE,SAP.DE&crumb=crumb%2F2")
+                                    && "A3=d=session2".equals(cookie);
+                    // The first session is rejected once, as after Yahoo expires a crumb.
+                    quotes.incrementAndGet();
+                    respond(exchange, current ? 200 : 401, current ? json : "Unauthorized");
+                });
+        server.start();
+        try {
+            String base = "http://127.0.0.1:" + server.getAddress().getPort();
+            YahooFinanceClient localClient =
+                    new YahooFinanceClient(
+                            objectMapper,
+                            meteringService,
+                            transport,
+                            rateLimiterRegistry,
+                            base + "/quote?symbols=",
+                            base + "/cookie",
+                            base + "/crumb");
+
+            Map<String, YahooPriceQuote> first =
+                    localClient.fetchCurrentPrices(List.of("RHM.DE", "SAP.DE"));
+            Map<String, YahooPriceQuote> second =
+                    localClient.fetchCurrentPrices(List.of("RHM.DE", "SAP.DE"));
+
+            assertThat(first.keySet(), is(Set.of("RHM.DE", "SAP.DE")));
+            assertThat(second.get("SAP.DE").currentPrice(), is(210.0));
+            // Two handshakes for the rejected crumb, then one quote request per batch.
+            assertThat(handshakes.get(), is(2));
+            assertThat(quotes.get(), is(3));
+            verify(rateLimiterRegistry, times(7)).acquire(ApiProvider.YAHOO);
+            verify(meteringService, times(7)).incrementYahooRequests();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void fetchCurrentPrices_emptyOrOversized_makesNoRequest() {
+        List<String> oversized =
+                IntStream.rangeClosed(0, YahooFinanceClient.MAX_QUOTE_BATCH)
+                        .mapToObj(i -> "S" + i + ".DE")
+                        .toList();
+
+        assertThat(client.fetchCurrentPrices(List.of()), is(anEmptyMap()));
+        assertThrows(IllegalArgumentException.class, () -> client.fetchCurrentPrices(oversized));
+
+        verifyNoInteractions(meteringService);
+    }
+
     @Test
     void fetchCurrentPrice_incrementsMeter() {
         assertThrows(YahooFetchException.class, () -> client.fetchCurrentPrice("INVALID.XX"));
@@ -475,6 +697,74 @@ class YahooFinanceClientTest {
         verify(meteringService, times(1)).incrementYahooRequests();
     }
 
+    @Test
+    void fetchCurrentPriceAsync_incrementsMeterAndFailsWithYahooFetchException() {
+        ExecutionException ex =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> client.fetchCurrentPriceAsync("INVALID.XX").get());
+
+        assertThat(ex.getCause(), is(instanceOf(YahooFetchException.class)));
+        verify(rateLimiterRegistry).acquire(ApiProvider.YAHOO);
+        verify(meteringService, times(1)).incrementYahooRequests();
+    }
+
+    @Test
+    void executeRequestAsync_invalidUrl_failsWithYahooFetchException() {
+        ExecutionException ex =
+                assertThrows(
+                        ExecutionException.class,
+                        () ->
+                                client.executeRequestAsync(
+                                                "TEST.XX", "https://localhost:1/nonexistent")
+                                        .get());
+
+        assertThat(ex.getCause(), is(instanceOf(YahooFetchException.class)));
+        assertThat(ex.getCause().getMessage(), containsString("ConnectException"));
+    }
+
+    @Test
+    void executeRequestAsync_gzippedResponse_returnsDecodedBody() throws Exception {
+        String json = buildValidGermanResponse();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(
+                "/chart",
+                exchange -> {
+                    ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+                    try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+                        out.write(json.getBytes(StandardCharsets.UTF_8));
+                    }
+                    exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                    exchange.sendResponseHeaders(200, gzipped.size());
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        gzipped.writeTo(out);
+                    }
+                });
+        server.start();
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/chart";
+
+            InputStream body = client.executeRequestAsync("RHM.DE", url).get();
+
+            assertThat(client.parseResponse("RHM.DE", body), hasSize(2));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
     private String buildValidGermanResponse() {
         return """
                 {
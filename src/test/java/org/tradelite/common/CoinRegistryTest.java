@@ -0,0 +1,87 @@
+package org.tradelite.common;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tradelite.common.SymbolRegistry.StockSymbolEntry;
+import org.tradelite.repository.TrackedSymbolRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CoinRegistryTest {
+
+    @Mock private TrackedSymbolRepository trackedSymbolRepository;
+
+    private CoinRegistry coinRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(trackedSymbolRepository.findByType(AssetType.COIN))
+                .thenReturn(
+                        List.of(
+                                new StockSymbolEntry("chainlink", "Chainlink"),
+                                // A tracked row for a built-in coin doesn't duplicate it
+                                new StockSymbolEntry("bitcoin", "Bitcoin")));
+        coinRegistry = new CoinRegistry(trackedSymbolRepository);
+    }
+
+    @Test
+    void getAll_builtInCoinsThenTrackedOnes() {
+        List<CoinSymbol> coins = coinRegistry.getAll();
+
+        assertThat(coins.size(), is(CoinId.getAll().size() + 1));
+        assertThat(coins.getFirst(), is(CoinSymbol.of(CoinId.BITCOIN)));
+        assertThat(coins.getLast(), is(new CoinSymbol("chainlink", "Chainlink")));
+    }
+
+    @Test
+    void fromString_ignoresCase() {
+        assertThat(coinRegistry.fromString("ChainLink").orElseThrow().id(), is("chainlink"));
+        assertTrue(coinRegistry.fromString("notacoin").isEmpty());
+        assertTrue(coinRegistry.fromString(null).isEmpty());
+    }
+
+    @Test
+    void addCoin_newCoin_savesLowercaseAndReloads() {
+        when(trackedSymbolRepository.findByType(AssetType.COIN))
+                .thenReturn(List.of(new StockSymbolEntry("render-token", "Render")));
+
+        assertTrue(coinRegistry.addCoin("Render-Token", "Render"));
+
+        verify(trackedSymbolRepository).save("render-token", "Render", AssetType.COIN);
+        assertTrue(coinRegistry.fromString("render-token").isPresent());
+    }
+
+    @Test
+    void addCoin_knownCoin_returnsFalse() {
+        assertFalse(coinRegistry.addCoin("bitcoin", "Bitcoin"));
+        assertFalse(coinRegistry.addCoin("chainlink", "Chainlink"));
+
+        verify(trackedSymbolRepository, never()).save(anyString(), anyString(), any());
+    }
+
+    @Test
+    void removeCoin_trackedCoin_deletesAndReloads() {
+        when(trackedSymbolRepository.deleteByTickerAndType("chainlink", AssetType.COIN))
+                .thenReturn(true);
+        when(trackedSymbolRepository.findByType(AssetType.COIN)).thenReturn(List.of());
+
+        assertTrue(coinRegistry.removeCoin("chainlink"));
+
+        assertTrue(coinRegistry.fromString("chainlink").isEmpty());
+    }
+
+    @Test
+    void removeCoin_builtInCoin_isRefused() {
+        assertFalse(coinRegistry.removeCoin("bitcoin"));
+
+        verify(trackedSymbolRepository, never()).deleteByTickerAndType(anyString(), any());
+    }
+}
@@ -0,0 +1,60 @@
+package org.tradelite.common;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OhlcvSeriesTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 4, 10);
+
+    @Test
+    void append_beyondExpectedBars_growsAndKeepsOrder() {
+        OhlcvSeries series = new OhlcvSeries("AAPL", 1);
+
+        for (int i = 0; i < 5; i++) {
+            series.append(DAY.plusDays(i).toEpochDay(), 10 + i, 11 + i, 9 + i, 10.5 + i, 100L * i);
+        }
+
+        assertThat(series.size(), is(5));
+        assertThat(series.date(4), is(DAY.plusDays(4)));
+        assertThat(series.close(4), is(14.5));
+        assertThat(series.volume(3), is(300L));
+    }
+
+    @Test
+    void get_buildsRecordFromColumns() {
+        OhlcvSeries series = new OhlcvSeries("AAPL", 2);
+        series.append(DAY.toEpochDay(), 170.0, 174.0, 169.5, 173.25, 1_000_000L);
+
+        assertThat(
+                series.get(0),
+                is(new OhlcvRecord("AAPL", DAY, 170.0, 174.0, 169.5, 173.25, 1_000_000L)));
+        assertThat(
+                series,
+                is(List.of(new OhlcvRecord("AAPL", DAY, 170.0, 174.0, 169.5, 173.25, 1_000_000L))));
+        assertThat(series.symbol(), is("AAPL"));
+    }
+
+    @Test
+    void accessors_outsideAppendedBars_throw() {
+        OhlcvSeries series = new OhlcvSeries("AAPL", 10);
+
+        assertThat(series, is(empty()));
+        assertThrows(IndexOutOfBoundsException.class, () -> series.close(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> series.get(0));
+    }
+
+    @Test
+    void series_isUnmodifiable() {
+        OhlcvSeries series = new OhlcvSeries("AAPL", 1);
+        OhlcvRecord ohlcvRecord = new OhlcvRecord("AAPL", DAY, 1, 1, 1, 1, 1);
+
+        assertThrows(UnsupportedOperationException.class, () -> series.add(ohlcvRecord));
+    }
+}
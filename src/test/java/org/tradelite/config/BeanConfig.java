@@ -1,10 +1,17 @@
 package org.tradelite.config;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.client.RestTemplate;
+import org.tradelite.client.http.ConnectionCountingSslContext;
+import org.tradelite.client.http.HttpTransportMetrics;
+import org.tradelite.client.http.ProviderRequestFactory;
 
 class BeanConfigTest {
 
@@ -12,8 +19,23 @@ class BeanConfigTest {
 
     @Test
     void restTemplateBean_shouldNotBeNull() {
-        RestTemplate restTemplate = beanConfig.restTemplate();
+        HttpTransportMetrics metrics = new HttpTransportMetrics();
+        TradebotHttpProperties properties = new TradebotHttpProperties();
+        RestTemplate restTemplate =
+                beanConfig.restTemplate(
+                        beanConfig.providerHttpClient(properties, metrics), properties, metrics);
         assertNotNull(restTemplate);
+        assertInstanceOf(ProviderRequestFactory.class, restTemplate.getRequestFactory());
+    }
+
+    @Test
+    void providerHttpClient_prefersHttp2AndCountsTlsConnections() {
+        HttpTransportMetrics metrics = new HttpTransportMetrics();
+        HttpClient client = beanConfig.providerHttpClient(new TradebotHttpProperties(), metrics);
+
+        assertEquals(HttpClient.Version.HTTP_2, client.version());
+        assertEquals(Duration.ofSeconds(10), client.connectTimeout().orElseThrow());
+        assertInstanceOf(ConnectionCountingSslContext.class, client.sslContext());
     }
 
     @Test
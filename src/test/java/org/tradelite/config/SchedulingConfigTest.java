@@ -0,0 +1,85 @@
+package org.tradelite.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.tradelite.scheduling.JobLane;
+import org.tradelite.scheduling.OverlapPolicy;
+
+class SchedulingConfigTest {
+
+    @Test
+    void poolSize_defaults_coversEveryLanePermitAndWaiter() {
+        TradebotSchedulingProperties properties = new TradebotSchedulingProperties();
+
+        // 2 (holiday retries, heartbeat) + sum(maxConcurrent + 1): REALTIME 4, others 2 each
+        assertEquals(14, SchedulingConfig.poolSize(properties));
+    }
+
+    @Test
+    void poolSize_laneOverride_growsPool() {
+        TradebotSchedulingProperties properties = new TradebotSchedulingProperties();
+        TradebotSchedulingProperties.LaneSettings settings =
+                new TradebotSchedulingProperties.LaneSettings();
+        settings.setMaxConcurrent(3);
+        properties.getLanes().put(JobLane.SIGNALS, settings);
+
+        assertEquals(16, SchedulingConfig.poolSize(properties));
+    }
+
+    @Test
+    void taskScheduler_usesComputedPoolSize() {
+        TaskScheduler scheduler =
+                new SchedulingConfig().taskScheduler(new TradebotSchedulingProperties());
+
+        ThreadPoolTaskScheduler pool = assertInstanceOf(ThreadPoolTaskScheduler.class, scheduler);
+        assertEquals(14, pool.getPoolSize());
+    }
+
+    @Test
+    void taskScheduler_shutdown_letsRunningJobsFinish() throws Exception {
+        ThreadPoolTaskScheduler pool =
+                (ThreadPoolTaskScheduler)
+                        new SchedulingConfig().taskScheduler(new TradebotSchedulingProperties());
+        pool.initialize();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        pool.execute(
+                () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                });
+        started.await();
+
+        pool.initiateShutdown();
+
+        assertTrue(pool.getScheduledExecutor().awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(interrupted.get());
+    }
+
+    @Test
+    void properties_missingOrInvalidOverride_fallsBackToLaneDefaults() {
+        TradebotSchedulingProperties properties = new TradebotSchedulingProperties();
+        TradebotSchedulingProperties.LaneSettings settings =
+                new TradebotSchedulingProperties.LaneSettings();
+        settings.setMaxConcurrent(0);
+        properties.getLanes().put(JobLane.TELEGRAM, settings);
+
+        assertEquals(1, properties.maxConcurrent(JobLane.TELEGRAM));
+        assertEquals(OverlapPolicy.SKIP, properties.policy(JobLane.TELEGRAM));
+        assertEquals(3, properties.maxConcurrent(JobLane.REALTIME));
+        assertEquals(OverlapPolicy.COALESCE, properties.policy(JobLane.REALTIME));
+    }
+}
@@ -27,6 +27,7 @@ import org.tradelite.quant.TrendDirection;
 import org.tradelite.quant.VfiAnalysis;
 import org.tradelite.quant.VfiService;
 import org.tradelite.repository.AccumulationStreakRepository;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.RelativeStrengthService;
 import org.tradelite.service.RsTrendResult;
@@ -60,7 +61,8 @@ class AccumulationDetectionTrackerTest {
                         telegramClient,
                         symbolRegistry,
                         featureToggleService,
-                        accumulationStreakRepository);
+                        accumulationStreakRepository,
+                        new SymbolFanOut(4));
         lenient()
                 .when(featureToggleService.isEnabled(FeatureToggle.ACCUMULATION_DETECTION))
                 .thenReturn(true);
@@ -6,7 +6,9 @@ import static org.hamcrest.Matchers.aMapWithSize;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,9 +17,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.tradelite.client.coingecko.CoinGeckoClient;
 import org.tradelite.client.coingecko.dto.CoinGeckoPriceResponse;
 import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.common.AssetType;
 import org.tradelite.common.CoinId;
+import org.tradelite.common.CoinRegistry;
+import org.tradelite.common.CoinSymbol;
+import org.tradelite.common.SymbolRegistry.StockSymbolEntry;
 import org.tradelite.common.TargetPrice;
 import org.tradelite.common.TargetPriceProvider;
+import org.tradelite.repository.TrackedSymbolRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
 import org.tradelite.web.dashboard.DashboardEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,9 +35,12 @@ class CoinGeckoPriceEvaluatorTest {
     @Mock private TargetPriceProvider targetPriceProvider;
     @Mock private TelegramGateway telegramClient;
     @Mock private DashboardEventPublisher dashboardEventPublisher;
+    @Mock private TrackedSymbolRepository trackedSymbolRepository;
 
     private CoinGeckoPriceEvaluator coinGeckoPriceEvaluator;
 
+    private static final CoinSymbol BITCOIN = CoinSymbol.of(CoinId.BITCOIN);
+
     @BeforeEach
     void setUp() {
         coinGeckoPriceEvaluator =
@@ -38,32 +49,39 @@ class CoinGeckoPriceEvaluatorTest {
                                 coinGeckoClient,
                                 targetPriceProvider,
                                 telegramClient,
-                                dashboardEventPublisher));
+                                dashboardEventPublisher,
+                                InstanceCoordinator.standalone(),
+                                new CoinRegistry(trackedSymbolRepository)));
+    }
+
+    private static List<String> builtInIds() {
+        return CoinId.getAll().stream().map(CoinId::getId).toList();
+    }
+
+    private static CoinGeckoPriceResponse.CoinData price(Double usd) {
+        CoinGeckoPriceResponse.CoinData coinData = new CoinGeckoPriceResponse.CoinData();
+        coinData.setUsd(usd);
+        return coinData;
     }
 
     @Test
     void evaluatePrice_priceDidNotChange() throws InterruptedException {
         double lastPrice = Math.random();
 
-        for (CoinId coinId : CoinId.getAll()) {
-            coinGeckoPriceEvaluator.lastPriceCache.put(coinId, lastPrice);
-        }
-
+        Map<String, CoinGeckoPriceResponse.CoinData> prices = new HashMap<>();
         List<TargetPrice> targetPrices = new ArrayList<>();
-        for (CoinId coinId : CoinId.getAll()) {
-            targetPrices.add(new TargetPrice(coinId.getName(), lastPrice - 1000, lastPrice + 1000));
+        for (String id : builtInIds()) {
+            coinGeckoPriceEvaluator.lastPriceCache.put(id, lastPrice);
+            prices.put(id, price(lastPrice));
+            targetPrices.add(new TargetPrice(id, lastPrice - 1000, lastPrice + 1000));
         }
         when(targetPriceProvider.getCoinTargetPrices()).thenReturn(targetPrices);
-
-        CoinGeckoPriceResponse.CoinData coinData = new CoinGeckoPriceResponse.CoinData();
-        coinData.setUsd(lastPrice);
-
-        when(coinGeckoClient.getCoinPriceData(any())).thenReturn(coinData);
+        when(coinGeckoClient.getCoinPrices(builtInIds())).thenReturn(prices);
 
         int coinDataSize = coinGeckoPriceEvaluator.evaluatePrice();
 
         verify(targetPriceProvider, times(1)).getCoinTargetPrices();
-        verify(coinGeckoClient, times(CoinId.getAll().size())).getCoinPriceData(any());
+        verify(coinGeckoClient, times(1)).getCoinPrices(any());
 
         assertThat(coinGeckoPriceEvaluator.lastPriceCache, aMapWithSize(CoinId.getAll().size()));
         assertThat(coinDataSize, is(0));
@@ -71,28 +89,43 @@ class CoinGeckoPriceEvaluatorTest {
 
     @Test
     void evaluatePrice_happyPath() throws InterruptedException {
-        for (CoinId coinId : CoinId.getAll()) {
-            coinGeckoPriceEvaluator.lastPriceCache.put(coinId, null);
-        }
-        coinGeckoPriceEvaluator.lastPriceCache.remove(CoinId.BITCOIN);
-
         List<TargetPrice> targetPrices = new ArrayList<>();
         targetPrices.add(new TargetPrice(CoinId.BITCOIN.getName(), 1000, 2000));
 
         when(targetPriceProvider.getCoinTargetPrices()).thenReturn(targetPrices);
-
-        CoinGeckoPriceResponse.CoinData coinData = new CoinGeckoPriceResponse.CoinData();
-        coinData.setUsd(1500.0);
-        coinData.setCoinId(CoinId.BITCOIN);
-
-        when(coinGeckoClient.getCoinPriceData(CoinId.BITCOIN)).thenReturn(coinData);
+        when(coinGeckoClient.getCoinPrices(builtInIds()))
+                .thenReturn(Map.of("bitcoin", price(1500.0)));
 
         int coinDataSize = coinGeckoPriceEvaluator.evaluatePrice();
 
         assertThat(coinDataSize, is(1));
-        verify(coinGeckoClient, times(1)).getCoinPriceData(CoinId.BITCOIN);
-        verify(coinGeckoPriceEvaluator, times(1))
-                .comparePrices(coinData.getCoinId(), coinData.getUsd(), 1000.0, 2000.0);
+        verify(coinGeckoClient, times(1)).getCoinPrices(any());
+        verify(coinGeckoPriceEvaluator, times(1)).comparePrices(BITCOIN, 1500.0, 1000.0, 2000.0);
+    }
+
+    @Test
+    void evaluatePrice_trackedCoins_pricedInTheSameRequest() throws InterruptedException {
+        when(trackedSymbolRepository.findByType(AssetType.COIN))
+                .thenReturn(List.of(new StockSymbolEntry("chainlink", "Chainlink")));
+        CoinGeckoPriceEvaluator evaluator =
+                new CoinGeckoPriceEvaluator(
+                        coinGeckoClient,
+                        targetPriceProvider,
+                        telegramClient,
+                        dashboardEventPublisher,
+                        InstanceCoordinator.standalone(),
+                        new CoinRegistry(trackedSymbolRepository));
+        List<String> ids = new ArrayList<>(builtInIds());
+        ids.add("chainlink");
+        when(coinGeckoClient.getCoinPrices(ids))
+                .thenReturn(Map.of("bitcoin", price(95000.0), "chainlink", price(18.5)));
+        when(targetPriceProvider.getCoinTargetPrices()).thenReturn(List.of());
+
+        int coinDataSize = evaluator.evaluatePrice();
+
+        assertThat(coinDataSize, is(2));
+        assertThat(evaluator.lastPriceCache.get("chainlink"), is(18.5));
+        verify(coinGeckoClient, times(1)).getCoinPrices(any());
     }
 
     @Test
@@ -143,7 +176,7 @@ class CoinGeckoPriceEvaluatorTest {
 
     @Test
     void evaluatePrice_nullCoinData() throws InterruptedException {
-        when(coinGeckoClient.getCoinPriceData(any())).thenReturn(null);
+        when(coinGeckoClient.getCoinPrices(any())).thenReturn(Map.of());
 
         int coinDataSize = coinGeckoPriceEvaluator.evaluatePrice();
 
@@ -169,46 +202,35 @@ class CoinGeckoPriceEvaluatorTest {
 
     @Test
     void evaluatePrice_lastPriceNotNull() throws InterruptedException {
-        coinGeckoPriceEvaluator.lastPriceCache.put(CoinId.BITCOIN, 1500.0);
+        coinGeckoPriceEvaluator.lastPriceCache.put("bitcoin", 1500.0);
 
         List<TargetPrice> targetPrices = new ArrayList<>();
         targetPrices.add(new TargetPrice(CoinId.BITCOIN.getName(), 1000, 2000));
 
         when(targetPriceProvider.getCoinTargetPrices()).thenReturn(targetPrices);
-
-        CoinGeckoPriceResponse.CoinData coinData = new CoinGeckoPriceResponse.CoinData();
-        coinData.setUsd(1500.00001);
-        coinData.setCoinId(CoinId.BITCOIN);
-
-        when(coinGeckoClient.getCoinPriceData(CoinId.BITCOIN)).thenReturn(coinData);
+        when(coinGeckoClient.getCoinPrices(any())).thenReturn(Map.of("bitcoin", price(1500.00001)));
 
         int coinDataSize = coinGeckoPriceEvaluator.evaluatePrice();
 
         assertThat(coinDataSize, is(0));
-        verify(coinGeckoClient, times(CoinId.getAll().size())).getCoinPriceData(any());
+        verify(coinGeckoClient, times(1)).getCoinPrices(any());
     }
 
     @Test
     void evaluatePrice_lastPriceNull() throws InterruptedException {
-        coinGeckoPriceEvaluator.lastPriceCache.put(CoinId.BITCOIN, null);
+        coinGeckoPriceEvaluator.lastPriceCache.put("bitcoin", null);
 
         List<TargetPrice> targetPrices = new ArrayList<>();
         targetPrices.add(new TargetPrice(CoinId.BITCOIN.getName(), 1000, 2000));
 
         when(targetPriceProvider.getCoinTargetPrices()).thenReturn(targetPrices);
-
-        CoinGeckoPriceResponse.CoinData coinData = new CoinGeckoPriceResponse.CoinData();
-        coinData.setUsd(1500.0);
-        coinData.setCoinId(CoinId.BITCOIN);
-
-        when(coinGeckoClient.getCoinPriceData(CoinId.BITCOIN)).thenReturn(coinData);
+        when(coinGeckoClient.getCoinPrices(any())).thenReturn(Map.of("bitcoin", price(1500.0)));
 
         int coinDataSize = coinGeckoPriceEvaluator.evaluatePrice();
 
         assertThat(coinDataSize, is(1));
-        verify(coinGeckoClient, times(1)).getCoinPriceData(CoinId.BITCOIN);
-        verify(coinGeckoPriceEvaluator, times(1))
-                .comparePrices(coinData.getCoinId(), coinData.getUsd(), 1000, 2000);
+        verify(coinGeckoClient, times(1)).getCoinPrices(any());
+        verify(coinGeckoPriceEvaluator, times(1)).comparePrices(BITCOIN, 1500.0, 1000, 2000);
     }
 
     @Test
@@ -226,15 +248,11 @@ class CoinGeckoPriceEvaluatorTest {
 
     @Test
     void evaluatePrice_shouldSkipWhenUsdIsNull() throws InterruptedException {
-        CoinGeckoPriceResponse.CoinData coinData = new CoinGeckoPriceResponse.CoinData();
-        coinData.setUsd(null);
-        coinData.setCoinId(CoinId.BITCOIN);
-
-        when(coinGeckoClient.getCoinPriceData(any())).thenReturn(coinData);
+        when(coinGeckoClient.getCoinPrices(any())).thenReturn(Map.of("bitcoin", price(null)));
 
         int coinDataSize = coinGeckoPriceEvaluator.evaluatePrice();
 
         assertThat(coinDataSize, is(0));
-        assertThat(coinGeckoPriceEvaluator.lastPriceCache.containsKey(CoinId.BITCOIN), is(false));
+        assertThat(coinGeckoPriceEvaluator.lastPriceCache.containsKey("bitcoin"), is(false));
     }
 }
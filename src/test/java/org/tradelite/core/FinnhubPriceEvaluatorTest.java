@@ -1,24 +1,41 @@
 package org.tradelite.core;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.tradelite.client.finnhub.FinnhubClient;
+import org.tradelite.client.finnhub.FinnhubTradeStream;
 import org.tradelite.client.finnhub.dto.PriceQuoteResponse;
 import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.FeatureToggle;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.TargetPrice;
 import org.tradelite.common.TargetPriceProvider;
+import org.tradelite.config.TradebotHttpProperties;
+import org.tradelite.config.TradebotPollingProperties;
 import org.tradelite.repository.PriceQuoteRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.LivePriceCache;
 import org.tradelite.service.MarketStatusService;
@@ -27,6 +44,8 @@ import org.tradelite.web.dashboard.DashboardEventPublisher;
 @ExtendWith(MockitoExtension.class)
 class FinnhubPriceEvaluatorTest {
 
+    private static final LocalDate SESSION = LocalDate.of(2026, 4, 13);
+
     @Mock private FinnhubClient finnhubClient;
     @Mock private TargetPriceProvider targetPriceProvider;
     @Mock private TelegramGateway telegramClient;
@@ -35,24 +54,285 @@ class FinnhubPriceEvaluatorTest {
     @Mock private FeatureToggleService featureToggleService;
     @Mock private MarketStatusService marketStatusService;
     @Mock private DashboardEventPublisher dashboardEventPublisher;
+    @Mock private FinnhubTradeStream tradeStream;
 
     private LivePriceCache livePriceCache;
+    private SymbolPollingPlanner pollingPlanner;
     private FinnhubPriceEvaluator finnhubPriceEvaluator;
 
     @BeforeEach
     void setUp() {
+        lenient().when(marketStatusService.currentSessionDate()).thenReturn(SESSION);
+        lenient().when(marketStatusService.isMarketOpen(null)).thenReturn(true);
         livePriceCache = new LivePriceCache();
-        finnhubPriceEvaluator =
-                new FinnhubPriceEvaluator(
-                        finnhubClient,
-                        targetPriceProvider,
-                        telegramClient,
-                        symbolRegistry,
-                        priceQuoteRepository,
-                        featureToggleService,
-                        marketStatusService,
-                        livePriceCache,
-                        dashboardEventPublisher);
+        pollingPlanner =
+                new SymbolPollingPlanner(
+                        livePriceCache, new TradebotPollingProperties(), Clock.systemUTC());
+        finnhubPriceEvaluator = evaluator(pollingPlanner);
+    }
+
+    private FinnhubPriceEvaluator evaluator(SymbolPollingPlanner planner) {
+        return new FinnhubPriceEvaluator(
+                finnhubClient,
+                targetPriceProvider,
+                telegramClient,
+                symbolRegistry,
+                priceQuoteRepository,
+                featureToggleService,
+                marketStatusService,
+                livePriceCache,
+                dashboardEventPublisher,
+                planner,
+                InstanceCoordinator.standalone(),
+                new TradebotHttpProperties(),
+                tradeStream);
+    }
+
+    private static PriceQuoteResponse quote(
+            StockSymbol symbol, double price, double previousClose) {
+        PriceQuoteResponse quote = new PriceQuoteResponse();
+        quote.setStockSymbol(symbol);
+        quote.setCurrentPrice(price);
+        quote.setPreviousClose(previousClose);
+        quote.setChangePercent((price - previousClose) / previousClose * 100);
+        return quote;
+    }
+
+    @Test
+    void evaluatePrice_streamingEnabled_pollsOnlySymbolsTheStreamDoesNotCover()
+            throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        StockSymbol goog = new StockSymbol("GOOG", "Google");
+        SymbolPollingPlanner planner = mock(SymbolPollingPlanner.class);
+        when(planner.selectDue(any())).thenAnswer(returnsFirstArg());
+        when(tradeStream.isEnabled()).thenReturn(true);
+        when(tradeStream.isFresh("AVGO")).thenReturn(true);
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo, goog));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(completedFuture(quote(avgo, 101, 100)));
+        when(finnhubClient.getPriceQuoteAsync(goog))
+                .thenReturn(completedFuture(quote(goog, 150, 149)));
+        FinnhubPriceEvaluator evaluator = evaluator(planner);
+
+        evaluator.evaluatePrice();
+        evaluator.evaluatePrice();
+
+        // First cycle: AVGO is streamed but has no previous close yet, so it is polled once
+        verify(planner).selectDue(List.of(avgo, goog));
+        verify(planner).selectDue(List.of(goog));
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(avgo);
+        verify(tradeStream, times(2)).subscribe(List.of("AVGO", "GOOG"));
+        verify(tradeStream, times(2)).start(any());
+    }
+
+    @Test
+    void evaluatePrice_streamingDisabled_neverTouchesTheStream() throws InterruptedException {
+        when(symbolRegistry.getAll()).thenReturn(List.of());
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+
+        finnhubPriceEvaluator.evaluatePrice();
+
+        verify(tradeStream).isEnabled();
+        verifyNoMoreInteractions(tradeStream);
+    }
+
+    @Test
+    void onTrade_crossingSellTarget_alertsImmediately() throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        when(tradeStream.isEnabled()).thenReturn(true);
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo));
+        when(symbolRegistry.fromString("AVGO")).thenReturn(java.util.Optional.of(avgo));
+        when(targetPriceProvider.getStockTargetPrices())
+                .thenReturn(List.of(new TargetPrice("AVGO", 150.0, 160.0)));
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(completedFuture(quote(avgo, 155, 154)));
+        finnhubPriceEvaluator.evaluatePrice();
+        verify(telegramClient, never()).sendMessage(any());
+
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 161.0, 10, 0));
+
+        assertThat(livePriceCache.get("AVGO"), is(161.0));
+        verify(telegramClient).sendMessage(contains("Potential sell opportunity for Broadcom"));
+        verify(targetPriceProvider).addIgnoredSymbol(avgo, IgnoreReason.SELL_ALERT);
+    }
+
+    @Test
+    void onTrade_largeMoveFromPreviousClose_sendsHighChangeAlert() throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        when(tradeStream.isEnabled()).thenReturn(true);
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo));
+        when(symbolRegistry.fromString("AVGO")).thenReturn(java.util.Optional.of(avgo));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(completedFuture(quote(avgo, 101, 100)));
+        finnhubPriceEvaluator.evaluatePrice();
+
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 107.0, 10, 0));
+
+        verify(telegramClient).sendMessage(contains("Broadcom (AVGO): 7.00%"));
+        verify(targetPriceProvider).addIgnoredSymbol(avgo, IgnoreReason.CHANGE_PERCENT_ALERT, 5);
+    }
+
+    @Test
+    void onTrade_concurrentWithPolledQuote_sendsOneHighChangeAlert() throws Exception {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        SymbolPollingPlanner planner = mock(SymbolPollingPlanner.class);
+        when(planner.selectDue(any())).thenAnswer(returnsFirstArg());
+        FinnhubPriceEvaluator evaluator = evaluator(planner);
+        when(tradeStream.isEnabled()).thenReturn(true);
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo));
+        when(symbolRegistry.fromString("AVGO")).thenReturn(java.util.Optional.of(avgo));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(completedFuture(quote(avgo, 101, 100)))
+                .thenReturn(completedFuture(quote(avgo, 107, 100)));
+        evaluator.evaluatePrice();
+
+        // The first ignore-list check waits for the second one, so unsynchronized handlers
+        // would both see the threshold as not alerted yet
+        AtomicBoolean alerted = new AtomicBoolean();
+        CountDownLatch bothChecking = new CountDownLatch(2);
+        when(targetPriceProvider.isSymbolIgnored(avgo, IgnoreReason.CHANGE_PERCENT_ALERT, 5))
+                .thenAnswer(
+                        _ -> {
+                            bothChecking.countDown();
+                            bothChecking.await(500, TimeUnit.MILLISECONDS);
+                            return alerted.get();
+                        });
+        doAnswer(_ -> alerted.getAndSet(true))
+                .when(targetPriceProvider)
+                .addIgnoredSymbol(avgo, IgnoreReason.CHANGE_PERCENT_ALERT, 5);
+
+        CompletableFuture<Void> trade =
+                CompletableFuture.runAsync(
+                        () ->
+                                evaluator.onTrade(
+                                        new FinnhubTradeStream.Trade("AVGO", 107.5, 10, 0)));
+        evaluator.evaluatePrice();
+        trade.get(5, TimeUnit.SECONDS);
+
+        verify(telegramClient, times(1)).sendMessage(contains("Broadcom (AVGO)"));
+    }
+
+    @Test
+    void onTrade_updatesLatestPriceButNotRecentRange() throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        when(tradeStream.isEnabled()).thenReturn(true);
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(completedFuture(quote(avgo, 155, 154)));
+        finnhubPriceEvaluator.evaluatePrice();
+
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 170.0, 10, 0));
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 140.0, 10, 0));
+
+        assertThat(livePriceCache.get("AVGO"), is(140.0));
+        assertThat(livePriceCache.getRecentRangePercent("AVGO").isEmpty(), is(true));
+    }
+
+    @Test
+    void evaluatePrice_streamedSymbol_samplesRecentRangeOncePerCycle() throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        when(tradeStream.isEnabled()).thenReturn(true);
+        when(tradeStream.isFresh("AVGO")).thenReturn(true);
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(completedFuture(quote(avgo, 100, 99)));
+        finnhubPriceEvaluator.evaluatePrice();
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 125.0, 10, 0));
+
+        finnhubPriceEvaluator.evaluatePrice();
+
+        assertThat(livePriceCache.getRecentRangePercent("AVGO").getAsDouble(), is(20.0));
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(avgo);
+    }
+
+    @Test
+    void evaluatePrice_streamedSymbolWithPriceCollection_savesOneSampledQuotePerCycle()
+            throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        when(featureToggleService.isEnabled(FeatureToggle.FINNHUB_PRICE_COLLECTION))
+                .thenReturn(true);
+        when(tradeStream.isEnabled()).thenReturn(true);
+        when(tradeStream.isFresh("AVGO")).thenReturn(true);
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+        PriceQuoteResponse polled = quote(avgo, 100, 98);
+        polled.setDailyOpen(99);
+        polled.setDailyHigh(101);
+        polled.setDailyLow(97);
+        when(finnhubClient.getPriceQuoteAsync(avgo)).thenReturn(completedFuture(polled));
+        finnhubPriceEvaluator.evaluatePrice();
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 103.0, 10, 0));
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 102.9, 10, 0));
+
+        finnhubPriceEvaluator.evaluatePrice();
+        finnhubPriceEvaluator.evaluatePrice();
+
+        ArgumentCaptor<PriceQuoteResponse> saved =
+                ArgumentCaptor.forClass(PriceQuoteResponse.class);
+        verify(priceQuoteRepository, times(2)).save(saved.capture());
+        PriceQuoteResponse sampled = saved.getAllValues().get(1);
+        assertThat(sampled.getStockSymbol(), is(avgo));
+        assertThat(sampled.getCurrentPrice(), is(102.9));
+        assertThat(sampled.getDailyOpen(), is(99.0));
+        assertThat(sampled.getDailyHigh(), is(102.9));
+        assertThat(sampled.getDailyLow(), is(97.0));
+        assertThat(sampled.getPreviousClose(), is(98.0));
+        assertThat(sampled.getChangePercent(), closeTo(5.0, 0.001));
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(avgo);
+    }
+
+    @Test
+    void evaluatePrice_newSession_pollsStreamedSymbolBeforeUsingItsClose()
+            throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        SymbolPollingPlanner planner = mock(SymbolPollingPlanner.class);
+        when(planner.selectDue(any())).thenAnswer(returnsFirstArg());
+        FinnhubPriceEvaluator evaluator = evaluator(planner);
+        when(tradeStream.isEnabled()).thenReturn(true);
+        when(tradeStream.isFresh("AVGO")).thenReturn(true);
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo));
+        when(symbolRegistry.fromString("AVGO")).thenReturn(java.util.Optional.of(avgo));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(completedFuture(quote(avgo, 101, 100)))
+                .thenReturn(completedFuture(quote(avgo, 106, 105)));
+        evaluator.evaluatePrice();
+
+        // Next morning: yesterday's cached close (100) must not be today's base
+        when(marketStatusService.currentSessionDate()).thenReturn(SESSION.plusDays(1));
+        evaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 107.0, 10, 0));
+        verify(telegramClient, never()).sendMessage(any());
+
+        evaluator.evaluatePrice();
+        evaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 112.5, 10, 0));
+
+        verify(finnhubClient, times(2)).getPriceQuoteAsync(avgo);
+        verify(telegramClient).sendMessage(contains("Broadcom (AVGO): 7.14%"));
+    }
+
+    @Test
+    void onTrade_outsideSession_isIgnored() {
+        when(marketStatusService.isMarketOpen(null)).thenReturn(false);
+        livePriceCache.put("AVGO", 155.0);
+
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 170.0, 10, 0));
+
+        assertThat(livePriceCache.get("AVGO"), is(155.0));
+        verifyNoInteractions(symbolRegistry, telegramClient);
+    }
+
+    @Test
+    void onTrade_unchangedPrice_isNotEvaluatedAgain() {
+        livePriceCache.put("AVGO", 155.0);
+
+        finnhubPriceEvaluator.onTrade(new FinnhubTradeStream.Trade("AVGO", 155.0, 10, 0));
+
+        verifyNoInteractions(symbolRegistry, telegramClient);
     }
 
     @Test
@@ -71,13 +351,14 @@ class FinnhubPriceEvaluatorTest {
         priceQuoteResponse.setStockSymbol(avgo);
         priceQuoteResponse.setCurrentPrice(155.0);
         priceQuoteResponse.setChangePercent(3.0);
-        when(finnhubClient.getPriceQuote(any(StockSymbol.class))).thenReturn(priceQuoteResponse);
+        when(finnhubClient.getPriceQuoteAsync(any(StockSymbol.class)))
+                .thenReturn(completedFuture(priceQuoteResponse));
 
         finnhubPriceEvaluator.evaluatePrice();
 
         verify(symbolRegistry, times(1)).getAll();
-        verify(finnhubClient, times(1)).getPriceQuote(avgo);
-        verify(finnhubClient, times(1)).getPriceQuote(goog);
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(avgo);
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(goog);
         verify(telegramClient, never()).sendMessage(any());
         verify(targetPriceProvider, never()).addIgnoredSymbol(any(), any());
     }
@@ -185,6 +466,23 @@ class FinnhubPriceEvaluatorTest {
                 .addIgnoredSymbol(any(StockSymbol.class), any(IgnoreReason.class), anyInt());
     }
 
+    @Test
+    void evaluatePrice_secondRunWithinCadence_skipsQuotes() throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo));
+
+        PriceQuoteResponse priceQuoteResponse = new PriceQuoteResponse();
+        priceQuoteResponse.setStockSymbol(avgo);
+        priceQuoteResponse.setCurrentPrice(155.0);
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(completedFuture(priceQuoteResponse));
+
+        finnhubPriceEvaluator.evaluatePrice();
+        finnhubPriceEvaluator.evaluatePrice();
+
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(avgo);
+    }
+
     @Test
     void evaluatePrice_priceDidNotChange() throws InterruptedException {
         double lastPrice = 150.0;
@@ -201,12 +499,13 @@ class FinnhubPriceEvaluatorTest {
         priceQuoteResponse.setCurrentPrice(lastPrice);
         priceQuoteResponse.setStockSymbol(testSymbol);
 
-        when(finnhubClient.getPriceQuote(any())).thenReturn(priceQuoteResponse);
+        when(finnhubClient.getPriceQuoteAsync(any()))
+                .thenReturn(completedFuture(priceQuoteResponse));
 
         int finDataSize = finnhubPriceEvaluator.evaluatePrice();
 
         verify(symbolRegistry, times(1)).getAll();
-        verify(finnhubClient, times(1)).getPriceQuote(any());
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(any());
 
         assertThat(livePriceCache.getAll(), aMapWithSize(1));
         assertThat(finDataSize, is(0));
@@ -229,15 +528,41 @@ class FinnhubPriceEvaluatorTest {
         priceQuoteResponse.setStockSymbol(goog);
         priceQuoteResponse.setCurrentPrice(155.0);
         priceQuoteResponse.setChangePercent(3.0);
-        when(finnhubClient.getPriceQuote(any(StockSymbol.class))).thenReturn(priceQuoteResponse);
+        when(finnhubClient.getPriceQuoteAsync(any(StockSymbol.class)))
+                .thenReturn(completedFuture(priceQuoteResponse));
 
         finnhubPriceEvaluator.evaluatePrice();
 
         verify(symbolRegistry, times(1)).getAll();
-        verify(finnhubClient, times(1)).getPriceQuote(goog);
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(goog);
         verify(telegramClient, never()).sendMessage(anyString());
     }
 
+    @Test
+    void evaluatePrice_failedQuote_isRetriedAndOthersStillEvaluated() throws InterruptedException {
+        StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
+        StockSymbol goog = new StockSymbol("GOOG", "Google");
+        when(symbolRegistry.getAll()).thenReturn(List.of(avgo, goog));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+
+        when(finnhubClient.getPriceQuoteAsync(avgo))
+                .thenReturn(failedFuture(new IllegalStateException("HTTP 503")));
+        PriceQuoteResponse priceQuoteResponse = new PriceQuoteResponse();
+        priceQuoteResponse.setStockSymbol(goog);
+        priceQuoteResponse.setCurrentPrice(155.0);
+        priceQuoteResponse.setChangePercent(3.0);
+        when(finnhubClient.getPriceQuoteAsync(goog))
+                .thenReturn(completedFuture(priceQuoteResponse));
+
+        int updated = finnhubPriceEvaluator.evaluatePrice();
+
+        assertThat(updated, is(1));
+        assertThat(livePriceCache.get("GOOG"), is(155.0));
+        assertThat(livePriceCache.get("AVGO"), is(nullValue()));
+        // Rescheduled for a retry instead of being polled again right away
+        assertThat(pollingPlanner.selectDue(List.of(avgo)), is(empty()));
+    }
+
     @Test
     void evaluatePrice_nullPriceQuote() throws InterruptedException {
         StockSymbol avgo = new StockSymbol("AVGO", "Broadcom");
@@ -249,19 +574,20 @@ class FinnhubPriceEvaluatorTest {
         when(targetPriceProvider.getStockTargetPrices()).thenReturn(targetPrices);
         when(symbolRegistry.fromString("GOOG")).thenReturn(java.util.Optional.of(goog));
 
-        when(finnhubClient.getPriceQuote(avgo)).thenReturn(null);
+        when(finnhubClient.getPriceQuoteAsync(avgo)).thenReturn(completedFuture(null));
 
         PriceQuoteResponse priceQuoteResponse = new PriceQuoteResponse();
         priceQuoteResponse.setStockSymbol(goog);
         priceQuoteResponse.setCurrentPrice(155.0);
         priceQuoteResponse.setChangePercent(3.0);
-        when(finnhubClient.getPriceQuote(goog)).thenReturn(priceQuoteResponse);
+        when(finnhubClient.getPriceQuoteAsync(goog))
+                .thenReturn(completedFuture(priceQuoteResponse));
 
         int finDataSize = finnhubPriceEvaluator.evaluatePrice();
 
         verify(symbolRegistry, times(1)).getAll();
-        verify(finnhubClient, times(1)).getPriceQuote(avgo);
-        verify(finnhubClient, times(1)).getPriceQuote(goog);
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(avgo);
+        verify(finnhubClient, times(1)).getPriceQuoteAsync(goog);
         assertThat(finDataSize, is(1));
     }
 
@@ -312,7 +638,8 @@ class FinnhubPriceEvaluatorTest {
         priceQuoteResponse.setStockSymbol(testSymbol);
         priceQuoteResponse.setCurrentPrice(175.0);
         priceQuoteResponse.setChangePercent(1.5);
-        when(finnhubClient.getPriceQuote(testSymbol)).thenReturn(priceQuoteResponse);
+        when(finnhubClient.getPriceQuoteAsync(testSymbol))
+                .thenReturn(completedFuture(priceQuoteResponse));
 
         finnhubPriceEvaluator.evaluatePrice();
 
@@ -333,7 +660,8 @@ class FinnhubPriceEvaluatorTest {
         priceQuoteResponse.setStockSymbol(testSymbol);
         priceQuoteResponse.setCurrentPrice(175.0);
         priceQuoteResponse.setChangePercent(1.5);
-        when(finnhubClient.getPriceQuote(testSymbol)).thenReturn(priceQuoteResponse);
+        when(finnhubClient.getPriceQuoteAsync(testSymbol))
+                .thenReturn(completedFuture(priceQuoteResponse));
 
         finnhubPriceEvaluator.evaluatePrice();
 
@@ -352,7 +680,8 @@ class FinnhubPriceEvaluatorTest {
         PriceQuoteResponse priceQuoteResponse = new PriceQuoteResponse();
         priceQuoteResponse.setStockSymbol(testSymbol);
         priceQuoteResponse.setCurrentPrice(175.0);
-        when(finnhubClient.getPriceQuote(testSymbol)).thenReturn(priceQuoteResponse);
+        when(finnhubClient.getPriceQuoteAsync(testSymbol))
+                .thenReturn(completedFuture(priceQuoteResponse));
 
         finnhubPriceEvaluator.evaluatePrice();
 
@@ -374,13 +703,13 @@ class FinnhubPriceEvaluatorTest {
         aaplQuote.setStockSymbol(aapl);
         aaplQuote.setCurrentPrice(175.0);
         aaplQuote.setChangePercent(1.5);
-        when(finnhubClient.getPriceQuote(aapl)).thenReturn(aaplQuote);
+        when(finnhubClient.getPriceQuoteAsync(aapl)).thenReturn(completedFuture(aaplQuote));
 
         PriceQuoteResponse tsmQuote = new PriceQuoteResponse();
         tsmQuote.setStockSymbol(tsm);
         tsmQuote.setCurrentPrice(403.0);
         tsmQuote.setChangePercent(2.0);
-        when(finnhubClient.getPriceQuote(tsm)).thenReturn(tsmQuote);
+        when(finnhubClient.getPriceQuoteAsync(tsm)).thenReturn(completedFuture(tsmQuote));
 
         finnhubPriceEvaluator.evaluatePrice();
 
@@ -398,7 +727,7 @@ class FinnhubPriceEvaluatorTest {
         PriceQuoteResponse aaplQuote = new PriceQuoteResponse();
         aaplQuote.setCurrentPrice(175.0);
         aaplQuote.setStockSymbol(domestic);
-        when(finnhubClient.getPriceQuote(domestic)).thenReturn(aaplQuote);
+        when(finnhubClient.getPriceQuoteAsync(domestic)).thenReturn(completedFuture(aaplQuote));
 
         // Target prices include both domestic and international symbols
         when(targetPriceProvider.getStockTargetPrices())
@@ -429,13 +758,13 @@ class FinnhubPriceEvaluatorTest {
         PriceQuoteResponse aaplQuote = new PriceQuoteResponse();
         aaplQuote.setCurrentPrice(175.0);
         aaplQuote.setStockSymbol(domestic);
-        when(finnhubClient.getPriceQuote(domestic)).thenReturn(aaplQuote);
+        when(finnhubClient.getPriceQuoteAsync(domestic)).thenReturn(completedFuture(aaplQuote));
 
         lenient().when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
 
         finnhubPriceEvaluator.evaluatePrice();
 
-        verify(finnhubClient).getPriceQuote(domestic);
-        verify(finnhubClient, never()).getPriceQuote(international);
+        verify(finnhubClient).getPriceQuoteAsync(domestic);
+        verify(finnhubClient, never()).getPriceQuoteAsync(international);
     }
 }
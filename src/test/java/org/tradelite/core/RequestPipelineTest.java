@@ -0,0 +1,87 @@
+package org.tradelite.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+
+class RequestPipelineTest {
+
+    @Test
+    void run_keepsUpToMaxInFlightOpenAndHandsResultsBackInOrder() throws Exception {
+        Map<String, CompletableFuture<Integer>> requests = new ConcurrentHashMap<>();
+        List<String> started = new ArrayList<>();
+        List<String> handled = new ArrayList<>();
+
+        RequestPipeline.<String, Integer>run(
+                List.of("A", "B", "C", "D"),
+                2,
+                item -> {
+                    started.add(item);
+                    CompletableFuture<Integer> request = new CompletableFuture<>();
+                    requests.put(item, request);
+                    if (item.equals("B")) {
+                        // Completes the first two only once both are in flight
+                        requests.get("A").complete(1);
+                        request.complete(2);
+                    } else if (!item.equals("A")) {
+                        request.complete(item.charAt(0) - 'A' + 1);
+                    }
+                    return request;
+                },
+                (item, result, failure) -> {
+                    assertNull(failure);
+                    assertEquals(item.charAt(0) - 'A' + 1, result);
+                    handled.add(item + ":" + started.size());
+                });
+
+        // A and B are both in flight before A is handled; C waits for A's slot, D for B's
+        assertEquals(List.of("A", "B", "C", "D"), started);
+        assertEquals(List.of("A:2", "B:3", "C:4", "D:4"), handled);
+    }
+
+    @Test
+    void run_failedRequest_isHandedToHandlerWithItsCause() throws Exception {
+        IllegalStateException cause = new IllegalStateException("HTTP 503");
+        List<Throwable> failures = new ArrayList<>();
+
+        RequestPipeline.<String, Integer>run(
+                List.of("A"),
+                4,
+                _ -> CompletableFuture.failedFuture(cause),
+                (_, result, failure) -> {
+                    assertNull(result);
+                    failures.add(failure);
+                });
+
+        assertEquals(List.of(cause), failures);
+    }
+
+    @Test
+    void run_requestThrows_cancelsRequestsStillInFlight() {
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        RequestPipeline.<String, Integer>run(
+                                List.of("A", "B"),
+                                4,
+                                item -> {
+                                    if (item.equals("B")) {
+                                        throw new IllegalStateException("deadline");
+                                    }
+                                    return first;
+                                },
+                                (_, _, _) -> {}));
+
+        assertTrue(first.isCancelled());
+    }
+}
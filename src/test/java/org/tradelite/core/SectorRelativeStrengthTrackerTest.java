@@ -20,6 +20,7 @@ import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
 import org.tradelite.repository.ApexPerformerRepository;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.RelativeStrengthService;
 import org.tradelite.service.RelativeStrengthService.RsResult;
 
@@ -46,7 +47,8 @@ class SectorRelativeStrengthTrackerTest {
                         telegramClient,
                         streakPersistence,
                         symbolRegistry,
-                        apexPerformerRepository);
+                        apexPerformerRepository,
+                        new SymbolFanOut(4));
 
         Map<String, String> etfs = new LinkedHashMap<>(SymbolRegistry.BROAD_SECTOR_ETFS);
         etfs.putAll(SymbolRegistry.THEMATIC_ETFS);
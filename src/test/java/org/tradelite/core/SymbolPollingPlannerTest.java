@@ -0,0 +1,170 @@
+package org.tradelite.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tradelite.common.StockSymbol;
+import org.tradelite.common.TargetPrice;
+import org.tradelite.config.TradebotPollingProperties;
+import org.tradelite.service.LivePriceCache;
+
+class SymbolPollingPlannerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-30T15:00:00Z");
+
+    private final StockSymbol aapl = new StockSymbol("AAPL", "Apple");
+    private final StockSymbol msft = new StockSymbol("MSFT", "Microsoft");
+    private final StockSymbol nvda = new StockSymbol("NVDA", "Nvidia");
+    private final StockSymbol xlk = new StockSymbol("XLK", "Technology Select Sector SPDR");
+
+    private Clock clock;
+    private LivePriceCache livePriceCache;
+    private TradebotPollingProperties properties;
+    private SymbolPollingPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        livePriceCache = new LivePriceCache();
+        properties = new TradebotPollingProperties();
+        planner = new SymbolPollingPlanner(livePriceCache, properties, clock);
+    }
+
+    @Test
+    void cadenceFor_nearTarget_pollsEveryMinute() {
+        livePriceCache.put("AAPL", 100.0);
+
+        assertEquals(
+                Duration.ofMinutes(1), planner.cadenceFor("AAPL", new TargetPrice("AAPL", 99, 0)));
+    }
+
+    @Test
+    void cadenceFor_distanceTiers() {
+        livePriceCache.put("AAPL", 100.0);
+
+        assertEquals(
+                Duration.ofMinutes(2), planner.cadenceFor("AAPL", new TargetPrice("AAPL", 0, 103)));
+        assertEquals(
+                Duration.ofMinutes(5), planner.cadenceFor("AAPL", new TargetPrice("AAPL", 95, 0)));
+        assertEquals(
+                Duration.ofMinutes(10),
+                planner.cadenceFor("AAPL", new TargetPrice("AAPL", 91, 200)));
+        assertEquals(
+                Duration.ofMinutes(15),
+                planner.cadenceFor("AAPL", new TargetPrice("AAPL", 50, 200)));
+    }
+
+    @Test
+    void cadenceFor_noTarget_usesMaxCadence() {
+        livePriceCache.put("AAPL", 100.0);
+        properties.setMaxCadence(Duration.ofMinutes(20));
+
+        assertEquals(Duration.ofMinutes(20), planner.cadenceFor("AAPL", null));
+    }
+
+    @Test
+    void cadenceFor_volatileSymbol_isTreatedAsCloserToTarget() {
+        livePriceCache.put("AAPL", 100.0);
+        livePriceCache.put("AAPL", 96.0);
+        livePriceCache.put("AAPL", 100.0);
+        TargetPrice target = new TargetPrice("AAPL", 92, 0);
+
+        // 8% away, but it has been swinging 4% recently: 4% left to travel
+        assertEquals(Duration.ofMinutes(5), planner.cadenceFor("AAPL", target));
+    }
+
+    @Test
+    void cadenceFor_broadSectorEtf_cappedAtFiveMinutes() {
+        livePriceCache.put("XLK", 200.0);
+
+        assertEquals(
+                SymbolPollingPlanner.BROAD_SECTOR_ETF_MAX_CADENCE, planner.cadenceFor("XLK", null));
+    }
+
+    @Test
+    void cadenceFor_unknownPrice_retriesAtOldCycle() {
+        assertEquals(SymbolPollingPlanner.FAILED_POLL_RETRY, planner.cadenceFor("AAPL", null));
+    }
+
+    @Test
+    void selectDue_neverPolled_allDue() {
+        assertEquals(List.of(aapl, msft, nvda), planner.selectDue(List.of(aapl, msft, nvda)));
+    }
+
+    @Test
+    void selectDue_scheduledSymbols_waitForTheirCadence() {
+        livePriceCache.put("AAPL", 100.0);
+        livePriceCache.put("MSFT", 100.0);
+        planner.schedule("AAPL", new TargetPrice("AAPL", 99.5, 0));
+        planner.schedule("MSFT", null);
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(1)));
+        assertEquals(List.of(nvda, aapl), planner.selectDue(List.of(aapl, msft, nvda)));
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(15)));
+        assertEquals(List.of(nvda, aapl, msft), planner.selectDue(List.of(aapl, msft, nvda)));
+    }
+
+    @Test
+    void selectDue_overBudget_takesMostOverdueFirst() {
+        properties.setMaxPollsPerCycle(2);
+        livePriceCache.put("AAPL", 100.0);
+        livePriceCache.put("MSFT", 100.0);
+        livePriceCache.put("NVDA", 100.0);
+        planner.schedule("MSFT", null);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(5)));
+        planner.schedule("AAPL", null);
+        planner.schedule("NVDA", null);
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(1)));
+
+        assertEquals(List.of(msft, aapl), planner.selectDue(List.of(aapl, msft, nvda)));
+    }
+
+    @Test
+    void schedule_quoteArrivesAfterCycleStart_dueAgainAtNextTrigger() {
+        livePriceCache.put("AAPL", 100.0);
+        livePriceCache.put("XLK", 100.0);
+        planner.selectDue(List.of(aapl, xlk));
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(800));
+        planner.schedule("AAPL", new TargetPrice("AAPL", 99.5, 0));
+        planner.schedule("XLK", null);
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(1)));
+        assertEquals(List.of(aapl), planner.selectDue(List.of(aapl, xlk)));
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(5)));
+        assertEquals(List.of(aapl, xlk), planner.selectDue(List.of(aapl, xlk)));
+    }
+
+    @Test
+    void scheduleRetry_quoteFailsAfterCycleStart_retriedAfterFixedCycle() {
+        planner.selectDue(List.of(aapl));
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(3));
+        planner.scheduleRetry("AAPL");
+
+        when(clock.instant()).thenReturn(NOW.plus(SymbolPollingPlanner.FAILED_POLL_RETRY));
+        assertEquals(List.of(aapl), planner.selectDue(List.of(aapl)));
+    }
+
+    @Test
+    void scheduleRetry_failedPoll_backsOff() {
+        planner.scheduleRetry("AAPL");
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(4)));
+        assertEquals(List.of(), planner.selectDue(List.of(aapl)));
+
+        when(clock.instant()).thenReturn(NOW.plus(SymbolPollingPlanner.FAILED_POLL_RETRY));
+        assertEquals(List.of(aapl), planner.selectDue(List.of(aapl)));
+    }
+}
@@ -1,11 +1,14 @@
 package org.tradelite.core;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +24,9 @@ import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
 import org.tradelite.common.TargetPrice;
 import org.tradelite.common.TargetPriceProvider;
+import org.tradelite.config.TradebotHttpProperties;
 import org.tradelite.repository.PriceQuoteRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.LivePriceCache;
 import org.tradelite.service.MarketStatusService;
@@ -58,7 +63,9 @@ class YahooPriceEvaluatorTest {
                         featureToggleService,
                         marketStatusService,
                         livePriceCache,
-                        dashboardEventPublisher);
+                        dashboardEventPublisher,
+                        InstanceCoordinator.standalone(),
+                        new TradebotHttpProperties());
         lenient()
                 .when(featureToggleService.isEnabled(FeatureToggle.YAHOO_INTRADAY_PRICE_FETCH))
                 .thenReturn(true);
@@ -72,7 +79,7 @@ class YahooPriceEvaluatorTest {
         int updated = evaluator.evaluatePrice();
 
         assertThat(updated, is(0));
-        verify(yahooFinanceClient, never()).fetchCurrentPrice(anyString());
+        verify(yahooFinanceClient, never()).fetchCurrentPriceAsync(anyString());
         verify(symbolRegistry, never()).getInternationalStocks();
     }
 
@@ -80,10 +87,12 @@ class YahooPriceEvaluatorTest {
     void evaluatePrice_populatesCache() throws InterruptedException {
         when(symbolRegistry.getInternationalStocks()).thenReturn(List.of(RHM));
         when(marketStatusService.isExchangeOpen("RHM.DE")).thenReturn(true);
-        when(yahooFinanceClient.fetchCurrentPrice("RHM.DE"))
+        when(yahooFinanceClient.fetchCurrentPriceAsync("RHM.DE"))
                 .thenReturn(
-                        new YahooPriceQuote(
-                                "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69, 0));
+                        completedFuture(
+                                new YahooPriceQuote(
+                                        "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69,
+                                        0)));
         when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
 
         int updated = evaluator.evaluatePrice();
@@ -102,7 +111,7 @@ class YahooPriceEvaluatorTest {
 
         assertThat(updated, is(0));
         assertThat(livePriceCache.get("RHM.DE"), is(nullValue()));
-        verify(yahooFinanceClient, never()).fetchCurrentPrice(anyString());
+        verify(yahooFinanceClient, never()).fetchCurrentPriceAsync(anyString());
     }
 
     @Test
@@ -110,10 +119,12 @@ class YahooPriceEvaluatorTest {
         livePriceCache.put("RHM.DE", 1200.0);
         when(symbolRegistry.getInternationalStocks()).thenReturn(List.of(RHM));
         when(marketStatusService.isExchangeOpen("RHM.DE")).thenReturn(true);
-        when(yahooFinanceClient.fetchCurrentPrice("RHM.DE"))
+        when(yahooFinanceClient.fetchCurrentPriceAsync("RHM.DE"))
                 .thenReturn(
-                        new YahooPriceQuote(
-                                "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69, 0));
+                        completedFuture(
+                                new YahooPriceQuote(
+                                        "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69,
+                                        0)));
         when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
 
         int updated = evaluator.evaluatePrice();
@@ -126,19 +137,20 @@ class YahooPriceEvaluatorTest {
         when(symbolRegistry.getInternationalStocks()).thenReturn(List.of(RHM, SAMSUNG));
         when(marketStatusService.isExchangeOpen("RHM.DE")).thenReturn(true);
         when(marketStatusService.isExchangeOpen("005930.KS")).thenReturn(true);
-        when(yahooFinanceClient.fetchCurrentPrice("RHM.DE"))
-                .thenThrow(new YahooFetchException("RHM.DE", "timeout"));
-        when(yahooFinanceClient.fetchCurrentPrice("005930.KS"))
+        when(yahooFinanceClient.fetchCurrentPriceAsync("RHM.DE"))
+                .thenReturn(failedFuture(new YahooFetchException("RHM.DE", "timeout")));
+        when(yahooFinanceClient.fetchCurrentPriceAsync("005930.KS"))
                 .thenReturn(
-                        new YahooPriceQuote(
-                                "005930.KS",
-                                285000.0,
-                                280000.0,
-                                282000.0,
-                                290000.0,
-                                278000.0,
-                                1.78,
-                                0));
+                        completedFuture(
+                                new YahooPriceQuote(
+                                        "005930.KS",
+                                        285000.0,
+                                        280000.0,
+                                        282000.0,
+                                        290000.0,
+                                        278000.0,
+                                        1.78,
+                                        0)));
         when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
 
         int updated = evaluator.evaluatePrice();
@@ -152,10 +164,12 @@ class YahooPriceEvaluatorTest {
     void evaluatePrice_persistsWhenFeatureEnabled() throws InterruptedException {
         when(symbolRegistry.getInternationalStocks()).thenReturn(List.of(RHM));
         when(marketStatusService.isExchangeOpen("RHM.DE")).thenReturn(true);
-        when(yahooFinanceClient.fetchCurrentPrice("RHM.DE"))
+        when(yahooFinanceClient.fetchCurrentPriceAsync("RHM.DE"))
                 .thenReturn(
-                        new YahooPriceQuote(
-                                "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69, 0));
+                        completedFuture(
+                                new YahooPriceQuote(
+                                        "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69,
+                                        0)));
         when(featureToggleService.isEnabled(FeatureToggle.FINNHUB_PRICE_COLLECTION))
                 .thenReturn(true);
         when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
@@ -180,6 +194,85 @@ class YahooPriceEvaluatorTest {
         verify(telegramClient, times(1)).sendMessage(contains("Rheinmetall"));
     }
 
+    @Test
+    void evaluatePrice_batchQuotesEveryOpenSymbol_skipsSingleRequests()
+            throws InterruptedException {
+        StockSymbol sap = new StockSymbol("SAP.DE", "SAP SE");
+        when(symbolRegistry.getInternationalStocks()).thenReturn(List.of(RHM, SAMSUNG, sap));
+        when(marketStatusService.isExchangeOpen("RHM.DE")).thenReturn(true);
+        when(marketStatusService.isExchangeOpen("005930.KS")).thenReturn(false);
+        when(marketStatusService.isExchangeOpen("SAP.DE")).thenReturn(true);
+        when(yahooFinanceClient.fetchCurrentPrices(List.of("RHM.DE", "SAP.DE")))
+                .thenReturn(
+                        Map.of(
+                                "RHM.DE",
+                                new YahooPriceQuote(
+                                        "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69, 0),
+                                "SAP.DE",
+                                new YahooPriceQuote(
+                                        "SAP.DE", 250.0, 248.0, 249.0, 251.0, 247.0, 0.81, 0)));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+
+        int updated = evaluator.evaluatePrice();
+
+        assertThat(updated, is(2));
+        assertThat(livePriceCache.get("RHM.DE"), is(1200.0));
+        assertThat(livePriceCache.get("SAP.DE"), is(250.0));
+        verify(yahooFinanceClient, never()).fetchCurrentPriceAsync(anyString());
+    }
+
+    @Test
+    void evaluatePrice_symbolMissingFromBatch_fetchedOnItsOwn() throws InterruptedException {
+        when(symbolRegistry.getInternationalStocks()).thenReturn(List.of(RHM, SAMSUNG));
+        when(marketStatusService.isExchangeOpen(anyString())).thenReturn(true);
+        when(yahooFinanceClient.fetchCurrentPrices(List.of("RHM.DE", "005930.KS")))
+                .thenReturn(
+                        Map.of(
+                                "RHM.DE",
+                                new YahooPriceQuote(
+                                        "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69,
+                                        0)));
+        when(yahooFinanceClient.fetchCurrentPriceAsync("005930.KS"))
+                .thenReturn(
+                        completedFuture(
+                                new YahooPriceQuote(
+                                        "005930.KS",
+                                        71000.0,
+                                        70000.0,
+                                        70500.0,
+                                        71500.0,
+                                        70200.0,
+                                        1.43,
+                                        0)));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+
+        int updated = evaluator.evaluatePrice();
+
+        assertThat(updated, is(2));
+        assertThat(livePriceCache.get("005930.KS"), is(71000.0));
+        verify(yahooFinanceClient, never()).fetchCurrentPriceAsync("RHM.DE");
+    }
+
+    @Test
+    void evaluatePrice_batchRequestFails_fallsBackToSingleRequests() throws InterruptedException {
+        when(symbolRegistry.getInternationalStocks()).thenReturn(List.of(RHM));
+        when(marketStatusService.isExchangeOpen("RHM.DE")).thenReturn(true);
+        when(yahooFinanceClient.fetchCurrentPrices(List.of("RHM.DE")))
+                .thenThrow(new YahooFetchException("RHM.DE", "HTTP 401"));
+        when(yahooFinanceClient.fetchCurrentPriceAsync("RHM.DE"))
+                .thenReturn(
+                        completedFuture(
+                                new YahooPriceQuote(
+                                        "RHM.DE", 1200.0, 1180.0, 1190.0, 1220.0, 1170.0, 1.69,
+                                        0)));
+        when(targetPriceProvider.getStockTargetPrices()).thenReturn(List.of());
+
+        int updated = evaluator.evaluatePrice();
+
+        assertThat(updated, is(1));
+        assertThat(livePriceCache.get("RHM.DE"), is(1200.0));
+    }
+
     @Test
     void evaluateHighPriceChange_sendsAlertAbove5Percent() {
         YahooPriceQuote quote =
@@ -19,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.scheduling.SymbolFanOut;
 
 @SuppressWarnings("SameParameterValue")
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +33,9 @@ class BollingerBandTrackerTest {
 
     @BeforeEach
     void setUp() {
-        tracker = new BollingerBandTracker(bollingerBandService, telegramClient, symbolRegistry);
+        tracker =
+                new BollingerBandTracker(
+                        bollingerBandService, telegramClient, symbolRegistry, new SymbolFanOut(4));
         // Default: no tracked stocks (tests that need stocks will override)
         lenient().when(symbolRegistry.getStocks()).thenReturn(List.of());
         // Default: return all ETFs via getAllEtfs()
@@ -1,9 +1,19 @@
 package org.tradelite.quant;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -20,19 +30,28 @@ import org.tradelite.service.model.DailyPrice;
 @ExtendWith(MockitoExtension.class)
 class EmaServiceTest {
 
+    private static final Instant NOW = Instant.parse("2026-04-20T14:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2026, 4, 20);
+    private static final int LOOKBACK_DAYS = EmaService.lookbackDays(TODAY);
+
     @Mock private DailyPriceProvider dailyPriceProvider;
+    @Mock private IndicatorSnapshotService indicatorSnapshotService;
 
     private EmaService service;
 
     @BeforeEach
     void setUp() {
-        service = new EmaService(dailyPriceProvider);
+        service =
+                new EmaService(
+                        dailyPriceProvider,
+                        indicatorSnapshotService,
+                        Clock.fixed(NOW, ZoneOffset.UTC));
     }
 
     @Test
     void analyze_returnsEmptyWhenInsufficientData() {
         List<DailyPrice> prices = generateDailyPrices(5, 150.0);
-        when(dailyPriceProvider.findDailyClosingPrices("AAPL", EmaService.LOOKBACK_CALENDAR_DAYS))
+        when(dailyPriceProvider.findDailyClosingPrices("AAPL", LOOKBACK_DAYS))
                 .thenReturn(prices);
 
         Optional<EmaAnalysis> result = service.analyze("AAPL", "Apple");
@@ -43,7 +62,7 @@ class EmaServiceTest {
     @Test
     void analyze_returnsAnalysisWithFullData() {
         List<DailyPrice> prices = generateDailyPrices(250, 150.0);
-        when(dailyPriceProvider.findDailyClosingPrices("AAPL", EmaService.LOOKBACK_CALENDAR_DAYS))
+        when(dailyPriceProvider.findDailyClosingPrices("AAPL", LOOKBACK_DAYS))
                 .thenReturn(prices);
 
         Optional<EmaAnalysis> result = service.analyze("AAPL", "Apple");
@@ -64,7 +83,7 @@ class EmaServiceTest {
     @Test
     void analyze_partialEmas_53DataPoints() {
         List<DailyPrice> prices = generateDailyPrices(53, 150.0);
-        when(dailyPriceProvider.findDailyClosingPrices("AAPL", EmaService.LOOKBACK_CALENDAR_DAYS))
+        when(dailyPriceProvider.findDailyClosingPrices("AAPL", LOOKBACK_DAYS))
                 .thenReturn(prices);
 
         Optional<EmaAnalysis> result = service.analyze("AAPL", "Apple");
@@ -82,7 +101,7 @@ class EmaServiceTest {
     @Test
     void analyze_partialEmas_25DataPoints() {
         List<DailyPrice> prices = generateDailyPrices(25, 150.0);
-        when(dailyPriceProvider.findDailyClosingPrices("AAPL", EmaService.LOOKBACK_CALENDAR_DAYS))
+        when(dailyPriceProvider.findDailyClosingPrices("AAPL", LOOKBACK_DAYS))
                 .thenReturn(prices);
 
         Optional<EmaAnalysis> result = service.analyze("AAPL", "Apple");
@@ -100,7 +119,7 @@ class EmaServiceTest {
     @Test
     void analyze_partialEmas_10DataPoints() {
         List<DailyPrice> prices = generateDailyPrices(10, 150.0);
-        when(dailyPriceProvider.findDailyClosingPrices("AAPL", EmaService.LOOKBACK_CALENDAR_DAYS))
+        when(dailyPriceProvider.findDailyClosingPrices("AAPL", LOOKBACK_DAYS))
                 .thenReturn(prices);
 
         Optional<EmaAnalysis> result = service.analyze("AAPL", "Apple");
@@ -118,7 +137,7 @@ class EmaServiceTest {
     @Test
     void analyze_greenSignalWhenPriceAboveAllEmas() {
         List<DailyPrice> prices = generateRisingPrices(250, 100.0, 1.0);
-        when(dailyPriceProvider.findDailyClosingPrices("MSFT", EmaService.LOOKBACK_CALENDAR_DAYS))
+        when(dailyPriceProvider.findDailyClosingPrices("MSFT", LOOKBACK_DAYS))
                 .thenReturn(prices);
 
         Optional<EmaAnalysis> result = service.analyze("MSFT", "Microsoft");
@@ -133,7 +152,7 @@ class EmaServiceTest {
     @Test
     void analyze_redSignalWhenPriceBelowAllEmas() {
         List<DailyPrice> prices = generateFallingPrices(250, 300.0, 0.5);
-        when(dailyPriceProvider.findDailyClosingPrices("TSLA", EmaService.LOOKBACK_CALENDAR_DAYS))
+        when(dailyPriceProvider.findDailyClosingPrices("TSLA", LOOKBACK_DAYS))
                 .thenReturn(prices);
 
         Optional<EmaAnalysis> result = service.analyze("TSLA", "Tesla");
@@ -149,7 +168,7 @@ class EmaServiceTest {
     void analyze_redSignalWithPartialEmas() {
         // Falling prices with only 25 data points — 2 EMAs available, below both = RED
         List<DailyPrice> prices = generateFallingPrices(25, 300.0, 5.0);
-        when(dailyPriceProvider.findDailyClosingPrices("TSLA", EmaService.LOOKBACK_CALENDAR_DAYS))
+        when(dailyPriceProvider.findDailyClosingPrices("TSLA", LOOKBACK_DAYS))
                 .thenReturn(prices);
 
         Optional<EmaAnalysis> result = service.analyze("TSLA", "Tesla");
@@ -216,6 +235,192 @@ class EmaServiceTest {
                 .isZero();
     }
 
+    // ========== Materialized snapshots ==========
+
+    @Test
+    void analyze_currentSnapshotWithoutLivePrice_usesStoredEmas() {
+        LocalDate bar = LocalDate.of(2026, 4, 17);
+        IndicatorSnapshot snapshot = emaSnapshot(bar, 90.0, 250, 100, 101, 102, 103, 104);
+        when(indicatorSnapshotService.findCurrent("AAPL")).thenReturn(Optional.of(snapshot));
+        when(dailyPriceProvider.findIntradayPriceAfter("AAPL", bar)).thenReturn(Optional.empty());
+
+        EmaAnalysis analysis = service.analyze("AAPL", "Apple").orElseThrow();
+
+        assertThat(analysis.currentPrice()).isEqualTo(90.0);
+        assertThat(analysis.ema200()).isEqualTo(104.0);
+        assertThat(analysis.emasBelow()).isEqualTo(5);
+        assertThat(analysis.signalType()).isEqualTo(EmaSignalType.RED);
+        verify(dailyPriceProvider, never()).findDailyClosingPrices(anyString(), anyInt());
+    }
+
+    @Test
+    void analyze_snapshotWithLivePrice_matchesRecomputeOverNextDaysWindow() {
+        // Materialized Friday night, read during Monday's session
+        LocalDate friday = LocalDate.of(2026, 4, 17);
+        Instant materializedAt = Instant.parse("2026-04-17T21:05:00Z");
+        List<DailyPrice> bars = weekdayBars(LocalDate.of(2025, 1, 2), friday);
+        List<Double> materialized = closesFrom(bars, EmaService.windowStart(friday));
+        IndicatorSnapshot snapshot =
+                emaSnapshot(
+                        friday,
+                        materialized.getLast(),
+                        materialized.size(),
+                        EmaService.computeEmaOrNaN(materialized, 9),
+                        EmaService.computeEmaOrNaN(materialized, 21),
+                        EmaService.computeEmaOrNaN(materialized, 50),
+                        EmaService.computeEmaOrNaN(materialized, 100),
+                        EmaService.computeEmaOrNaN(materialized, 200),
+                        materializedAt);
+        DailyPrice live = new DailyPrice(TODAY, 140.0);
+        when(indicatorSnapshotService.findCurrent("AAPL")).thenReturn(Optional.of(snapshot));
+        when(dailyPriceProvider.findIntradayPriceAfter("AAPL", friday))
+                .thenReturn(Optional.of(live));
+
+        EmaAnalysis analysis = service.analyze("AAPL", "Apple").orElseThrow();
+
+        // What the live path loads on Monday: the bars of Monday's window plus the live price
+        List<Double> recomputed = new ArrayList<>(closesFrom(bars, EmaService.windowStart(TODAY)));
+        recomputed.add(live.getPrice());
+        assertThat(analysis.currentPrice()).isEqualTo(live.getPrice());
+        assertThat(analysis.ema9())
+                .isCloseTo(EmaService.computeEmaOrNaN(recomputed, 9), within(1e-9));
+        assertThat(analysis.ema21())
+                .isCloseTo(EmaService.computeEmaOrNaN(recomputed, 21), within(1e-9));
+        assertThat(analysis.ema50())
+                .isCloseTo(EmaService.computeEmaOrNaN(recomputed, 50), within(1e-9));
+        assertThat(analysis.ema100())
+                .isCloseTo(EmaService.computeEmaOrNaN(recomputed, 100), within(1e-9));
+        assertThat(analysis.ema200())
+                .isCloseTo(EmaService.computeEmaOrNaN(recomputed, 200), within(1e-9));
+        verify(dailyPriceProvider, never()).findDailyClosingPrices(anyString(), anyInt());
+    }
+
+    @Test
+    void analyze_snapshotFromBeforeWindowStartMoved_recomputesFromHistory() {
+        LocalDate bar = LocalDate.of(2026, 4, 2);
+        IndicatorSnapshot snapshot =
+                emaSnapshot(
+                        bar,
+                        150.0,
+                        250,
+                        150,
+                        150,
+                        150,
+                        150,
+                        150,
+                        Instant.parse("2026-04-02T21:05:00Z"));
+        when(indicatorSnapshotService.findCurrent("AAPL")).thenReturn(Optional.of(snapshot));
+        when(dailyPriceProvider.findDailyClosingPrices("AAPL", LOOKBACK_DAYS))
+                .thenReturn(generateDailyPrices(250, 120.0));
+
+        EmaAnalysis analysis = service.analyze("AAPL", "Apple").orElseThrow();
+
+        assertThat(analysis.ema200()).isCloseTo(120.0, within(1e-9));
+        verify(dailyPriceProvider, never()).findIntradayPriceAfter(anyString(), any());
+    }
+
+    @Test
+    void windowStart_movesOnlyOnceAMonth() {
+        assertThat(EmaService.windowStart(LocalDate.of(2026, 4, 17)))
+                .isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(EmaService.windowStart(TODAY)).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(EmaService.windowStart(LocalDate.of(2026, 5, 6)))
+                .isEqualTo(LocalDate.of(2025, 4, 1));
+        assertThat(LOOKBACK_DAYS).isGreaterThanOrEqualTo(EmaService.LOOKBACK_CALENDAR_DAYS);
+    }
+
+    @Test
+    void analyze_livePriceCompletesEmaSeed_recomputesFromHistory() {
+        LocalDate bar = LocalDate.of(2026, 4, 17);
+        IndicatorSnapshot snapshot = emaSnapshot(bar, 150.0, 199, 150, 150, 150, 150, Double.NaN);
+        when(indicatorSnapshotService.findCurrent("AAPL")).thenReturn(Optional.of(snapshot));
+        when(dailyPriceProvider.findIntradayPriceAfter("AAPL", bar))
+                .thenReturn(Optional.of(new DailyPrice(bar.plusDays(3), 151.0)));
+        when(dailyPriceProvider.findDailyClosingPrices("AAPL", LOOKBACK_DAYS))
+                .thenReturn(generateDailyPrices(200, 150.0));
+
+        EmaAnalysis analysis = service.analyze("AAPL", "Apple").orElseThrow();
+
+        assertThat(analysis.emasAvailable()).isEqualTo(5);
+    }
+
+    @Test
+    void extendEma_appliesOneSmoothingStep() {
+        // multiplier for period 9 is 0.2
+        assertThat(EmaService.extendEma(100.0, 110.0, 9)).isCloseTo(102.0, within(1e-9));
+    }
+
+    private static IndicatorSnapshot emaSnapshot(
+            LocalDate barDate,
+            double close,
+            int dataPoints,
+            double ema9,
+            double ema21,
+            double ema50,
+            double ema100,
+            double ema200) {
+        return emaSnapshot(barDate, close, dataPoints, ema9, ema21, ema50, ema100, ema200, NOW);
+    }
+
+    private static IndicatorSnapshot emaSnapshot(
+            LocalDate barDate,
+            double close,
+            int dataPoints,
+            double ema9,
+            double ema21,
+            double ema50,
+            double ema100,
+            double ema200,
+            Instant computedAt) {
+        double nan = Double.NaN;
+        return new IndicatorSnapshot(
+                "AAPL",
+                barDate,
+                close,
+                dataPoints,
+                ema9,
+                ema21,
+                ema50,
+                ema100,
+                ema200,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                computedAt);
+    }
+
+    /** Weekday closes of a wavy series from {@code from} through {@code to}, oldest first. */
+    private static List<DailyPrice> weekdayBars(LocalDate from, LocalDate to) {
+        List<DailyPrice> bars = new ArrayList<>();
+        int i = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY
+                    && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                bars.add(new DailyPrice(date, 120.0 + 20.0 * Math.sin(i++ / 15.0)));
+            }
+        }
+        return bars;
+    }
+
+    private static List<Double> closesFrom(List<DailyPrice> bars, LocalDate from) {
+        return bars.stream()
+                .filter(bar -> !bar.getDate().isBefore(from))
+                .map(DailyPrice::getPrice)
+                .toList();
+    }
+
     // ========== Helper methods ==========
 
     private List<DailyPrice> generateDailyPrices(int count, double price) {
@@ -15,6 +15,7 @@ import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.FeatureToggle;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.FeatureToggleService;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,7 +30,13 @@ class EmaTrackerTest {
 
     @BeforeEach
     void setUp() {
-        tracker = new EmaTracker(emaService, telegramClient, symbolRegistry, featureToggleService);
+        tracker =
+                new EmaTracker(
+                        emaService,
+                        telegramClient,
+                        symbolRegistry,
+                        featureToggleService,
+                        new SymbolFanOut(4));
     }
 
     @Test
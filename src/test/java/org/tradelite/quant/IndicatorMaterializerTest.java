@@ -0,0 +1,228 @@
+package org.tradelite.quant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.StockSymbol;
+import org.tradelite.common.SymbolRegistry;
+import org.tradelite.repository.IndicatorSnapshotRepository;
+import org.tradelite.repository.OhlcvRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.SymbolFanOut;
+import org.tradelite.service.DailyPriceProvider;
+import org.tradelite.service.RsiService;
+import org.tradelite.service.model.DailyPrice;
+
+@ExtendWith(MockitoExtension.class)
+class IndicatorMaterializerTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-17T21:05:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2026, 4, 17);
+    private static final int EMA_LOOKBACK_DAYS = EmaService.lookbackDays(TODAY);
+
+    @Mock private OhlcvRepository ohlcvRepository;
+    @Mock private IndicatorSnapshotRepository indicatorSnapshotRepository;
+    @Mock private SymbolRegistry symbolRegistry;
+    @Mock private InstanceCoordinator instanceCoordinator;
+    @Mock private DailyPriceProvider dailyPriceProvider;
+    @Mock private IndicatorSnapshotService indicatorSnapshotService;
+
+    private EmaService emaService;
+    private VfiService vfiService;
+    private BollingerBandService bollingerBandService;
+    private TailRiskService tailRiskService;
+    private RsiService rsiService;
+    private IndicatorMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(instanceCoordinator.owns(anyString())).thenReturn(true);
+        emaService =
+                new EmaService(
+                        dailyPriceProvider,
+                        indicatorSnapshotService,
+                        Clock.fixed(NOW, ZoneOffset.UTC));
+        vfiService = new VfiService(ohlcvRepository, indicatorSnapshotService);
+        bollingerBandService = new BollingerBandService(dailyPriceProvider);
+        tailRiskService = new TailRiskService(dailyPriceProvider, indicatorSnapshotService);
+        rsiService = new RsiService(dailyPriceProvider);
+        materializer =
+                new IndicatorMaterializer(
+                        ohlcvRepository,
+                        indicatorSnapshotRepository,
+                        symbolRegistry,
+                        instanceCoordinator,
+                        new SymbolFanOut(1),
+                        vfiService,
+                        bollingerBandService,
+                        tailRiskService,
+                        rsiService,
+                        Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void materialize_matchesLiveComputationOfEveryIndicator() {
+        List<OhlcvRecord> history = history("AAPL", EMA_LOOKBACK_DAYS);
+        when(ohlcvRepository.findBySymbol("AAPL", EMA_LOOKBACK_DAYS)).thenReturn(history);
+        LocalDate vfiFrom = TODAY.minusDays(VfiService.LOOKBACK_CALENDAR_DAYS);
+        when(ohlcvRepository.findBySymbol("AAPL", VfiService.LOOKBACK_CALENDAR_DAYS))
+                .thenReturn(history.stream().filter(r -> !r.date().isBefore(vfiFrom)).toList());
+        stubDailyPrices(history);
+
+        IndicatorSnapshot snapshot = materializer.materialize("AAPL", TODAY, NOW).orElseThrow();
+
+        OhlcvRecord lastBar = history.getLast();
+        assertThat(snapshot.barDate()).isEqualTo(lastBar.date());
+        assertThat(snapshot.close()).isEqualTo(lastBar.close());
+        assertThat(snapshot.computedAt()).isEqualTo(NOW);
+
+        EmaAnalysis ema = emaService.analyze("AAPL", "Apple").orElseThrow();
+        assertThat(snapshot.dataPoints()).isEqualTo(history.size());
+        assertThat(snapshot.ema9()).isEqualTo(ema.ema9());
+        assertThat(snapshot.ema21()).isEqualTo(ema.ema21());
+        assertThat(snapshot.ema50()).isEqualTo(ema.ema50());
+        assertThat(snapshot.ema100()).isEqualTo(ema.ema100());
+        assertThat(snapshot.ema200()).isEqualTo(ema.ema200());
+
+        VfiAnalysis vfi = vfiService.analyze("AAPL", "Apple").orElseThrow();
+        assertThat(snapshot.vfi()).isEqualTo(vfi.vfiValue());
+        assertThat(snapshot.vfiSignal()).isEqualTo(vfi.signalLineValue());
+
+        double rsi = rsiService.getCurrentRsi(new StockSymbol("AAPL", "Apple")).orElseThrow();
+        assertThat(snapshot.rsi()).isEqualTo(rsi);
+
+        BollingerBandAnalysis bollinger =
+                bollingerBandService.analyze("AAPL", "Apple").orElseThrow();
+        assertThat(snapshot.bollingerSma()).isEqualTo(bollinger.sma());
+        assertThat(snapshot.bollingerUpper()).isEqualTo(bollinger.upperBand());
+        assertThat(snapshot.bollingerLower()).isEqualTo(bollinger.lowerBand());
+        assertThat(snapshot.bollingerPercentB()).isEqualTo(bollinger.percentB());
+        assertThat(snapshot.bollingerBandwidth()).isEqualTo(bollinger.bandwidth());
+        assertThat(snapshot.bollingerBandwidthPercentile())
+                .isEqualTo(bollinger.bandwidthPercentile());
+
+        double close10Ago = history.get(history.size() - 11).close();
+        assertThat(snapshot.roc10())
+                .isCloseTo((lastBar.close() - close10Ago) / close10Ago * 100, within(1e-9));
+        assertThat(snapshot.roc20()).isNotNaN();
+
+        TailRiskAnalysis tailShort =
+                tailRiskService
+                        .analyzeTailRisk("AAPL", "Apple", TailRiskTracker.SHORT)
+                        .orElseThrow();
+        TailRiskAnalysis tailLong =
+                tailRiskService
+                        .analyzeTailRisk("AAPL", "Apple", TailRiskTracker.LONG)
+                        .orElseThrow();
+        assertThat(snapshot.kurtosisShort()).isEqualTo(tailShort.kurtosis());
+        assertThat(snapshot.skewnessShort()).isEqualTo(tailShort.skewness());
+        assertThat(snapshot.kurtosisLong()).isEqualTo(tailLong.kurtosis());
+        assertThat(snapshot.skewnessLong()).isEqualTo(tailLong.skewness());
+    }
+
+    @Test
+    void materialize_shortHistory_leavesLongIndicatorsMissing() {
+        List<OhlcvRecord> history = history("NEW", 80);
+        when(ohlcvRepository.findBySymbol("NEW", EMA_LOOKBACK_DAYS)).thenReturn(history);
+
+        IndicatorSnapshot snapshot = materializer.materialize("NEW", TODAY, NOW).orElseThrow();
+
+        assertThat(snapshot.dataPoints()).isEqualTo(history.size());
+        assertThat(snapshot.ema50()).isNotNaN();
+        assertThat(snapshot.ema100()).isNaN();
+        assertThat(snapshot.ema200()).isNaN();
+        assertThat(snapshot.vfi()).isNaN();
+        assertThat(snapshot.vfiSignal()).isNaN();
+        assertThat(snapshot.rsi()).isNotNaN();
+        assertThat(snapshot.bollingerSma()).isNotNaN();
+        assertThat(snapshot.kurtosisShort()).isNotNaN();
+        assertThat(snapshot.kurtosisLong()).isNaN();
+        assertThat(snapshot.skewnessLong()).isNaN();
+    }
+
+    @Test
+    void materialize_noHistory_returnsEmpty() {
+        when(ohlcvRepository.findBySymbol("GONE", EMA_LOOKBACK_DAYS)).thenReturn(List.of());
+
+        assertThat(materializer.materialize("GONE", TODAY, NOW)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void materializeAll_savesOwnedSymbolsAndPrunesOldSnapshots() {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("AAPL", "Apple"),
+                                new StockSymbol("MSFT", "Microsoft"),
+                                new StockSymbol("GONE", "Delisted")));
+        when(instanceCoordinator.owns("MSFT")).thenReturn(false);
+        when(ohlcvRepository.findBySymbol("AAPL", EMA_LOOKBACK_DAYS))
+                .thenReturn(history("AAPL", EMA_LOOKBACK_DAYS));
+        when(ohlcvRepository.findBySymbol("GONE", EMA_LOOKBACK_DAYS)).thenReturn(List.of());
+
+        materializer.materializeAll();
+
+        ArgumentCaptor<List<IndicatorSnapshot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(indicatorSnapshotRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(IndicatorSnapshot::symbol).containsExactly("AAPL");
+        verify(ohlcvRepository, never()).findBySymbol("MSFT", EMA_LOOKBACK_DAYS);
+        verify(indicatorSnapshotRepository).deleteOlderThan(TODAY.minusDays(400));
+    }
+
+    private void stubDailyPrices(List<OhlcvRecord> history) {
+        for (int days : new int[] {35, 50, 90, 300, 400, EMA_LOOKBACK_DAYS}) {
+            LocalDate from = TODAY.minusDays(days);
+            List<DailyPrice> prices =
+                    history.stream()
+                            .filter(r -> !r.date().isBefore(from))
+                            .map(r -> new DailyPrice(r.date(), r.close()))
+                            .toList();
+            lenient()
+                    .when(dailyPriceProvider.findDailyClosingPrices("AAPL", days))
+                    .thenReturn(prices);
+        }
+    }
+
+    /** Weekday bars of a noisy uptrend over the last {@code calendarDays} days, oldest first. */
+    private static List<OhlcvRecord> history(String symbol, int calendarDays) {
+        Random random = new Random(42);
+        List<OhlcvRecord> records = new ArrayList<>();
+        double close = 100.0;
+        for (LocalDate date = TODAY.minusDays(calendarDays - 1L);
+                !date.isAfter(TODAY);
+                date = date.plusDays(1)) {
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY
+                    || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            double open = close;
+            close = Math.max(1.0, close * (1 + 0.0005 + random.nextGaussian() * 0.015));
+            double high = Math.max(open, close) * (1 + random.nextDouble() * 0.01);
+            double low = Math.min(open, close) * (1 - random.nextDouble() * 0.01);
+            long volume = 1_000_000L + random.nextInt(500_000);
+            records.add(new OhlcvRecord(symbol, date, open, high, low, close, volume));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,113 @@
+package org.tradelite.quant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tradelite.common.OhlcvRecord;
+import org.tradelite.repository.IndicatorSnapshotRepository;
+import org.tradelite.repository.OhlcvRepository;
+
+@ExtendWith(MockitoExtension.class)
+class IndicatorSnapshotServiceTest {
+
+    private static final LocalDate BAR = LocalDate.of(2026, 4, 17);
+
+    @Mock private IndicatorSnapshotRepository indicatorSnapshotRepository;
+    @Mock private OhlcvRepository ohlcvRepository;
+
+    private IndicatorSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IndicatorSnapshotService(indicatorSnapshotRepository, ohlcvRepository);
+    }
+
+    @Test
+    void findCurrent_snapshotOfLatestBar_returnsIt() {
+        IndicatorSnapshot snapshot = snapshot(BAR, 100.0);
+        when(indicatorSnapshotRepository.findLatest("AAPL")).thenReturn(Optional.of(snapshot));
+        when(ohlcvRepository.findLatest("AAPL")).thenReturn(Optional.of(bar(BAR, 100.0)));
+
+        assertThat(service.findCurrent("AAPL")).contains(snapshot);
+    }
+
+    @Test
+    void findCurrent_newerBarFetched_returnsEmpty() {
+        when(indicatorSnapshotRepository.findLatest("AAPL"))
+                .thenReturn(Optional.of(snapshot(BAR, 100.0)));
+        when(ohlcvRepository.findLatest("AAPL"))
+                .thenReturn(Optional.of(bar(BAR.plusDays(3), 101.0)));
+
+        assertThat(service.findCurrent("AAPL")).isEmpty();
+    }
+
+    @Test
+    void findCurrent_historyRewrittenAfterSplit_returnsEmpty() {
+        when(indicatorSnapshotRepository.findLatest("AAPL"))
+                .thenReturn(Optional.of(snapshot(BAR, 400.0)));
+        when(ohlcvRepository.findLatest("AAPL")).thenReturn(Optional.of(bar(BAR, 100.0)));
+
+        assertThat(service.findCurrent("AAPL")).isEmpty();
+    }
+
+    @Test
+    void findCurrent_noSnapshot_skipsOhlcvLookup() {
+        when(indicatorSnapshotRepository.findLatest("AAPL")).thenReturn(Optional.empty());
+
+        assertThat(service.findCurrent("AAPL")).isEmpty();
+        verify(ohlcvRepository, never()).findLatest("AAPL");
+    }
+
+    @Test
+    void findCurrent_ohlcvHistoryDeleted_returnsEmpty() {
+        when(indicatorSnapshotRepository.findLatest("AAPL"))
+                .thenReturn(Optional.of(snapshot(BAR, 100.0)));
+        when(ohlcvRepository.findLatest("AAPL")).thenReturn(Optional.empty());
+
+        assertThat(service.findCurrent("AAPL")).isEmpty();
+    }
+
+    private static OhlcvRecord bar(LocalDate date, double close) {
+        return new OhlcvRecord("AAPL", date, close, close, close, close, 1_000_000L);
+    }
+
+    private static IndicatorSnapshot snapshot(LocalDate barDate, double close) {
+        double nan = Double.NaN;
+        return new IndicatorSnapshot(
+                "AAPL",
+                barDate,
+                close,
+                250,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                Instant.EPOCH);
+    }
+}
@@ -23,6 +23,7 @@ import org.tradelite.common.SymbolRegistry;
 import org.tradelite.common.TargetPriceProvider;
 import org.tradelite.core.IgnoreReason;
 import org.tradelite.repository.ApexPerformerRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.LivePriceCache;
 import org.tradelite.service.MarketStatusService;
@@ -65,7 +66,8 @@ class PullbackBuyTrackerTest {
                         targetPriceProvider,
                         featureToggleService,
                         apexPerformerRepository,
-                        marketStatusService);
+                        marketStatusService,
+                        InstanceCoordinator.standalone());
         lenient()
                 .when(featureToggleService.isEnabled(FeatureToggle.PULLBACK_BUY_ALERT))
                 .thenReturn(Boolean.TRUE);
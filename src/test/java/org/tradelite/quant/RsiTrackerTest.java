@@ -16,6 +16,7 @@ import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.FeatureToggle;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.RsiService;
 import org.tradelite.service.RsiService.RsiSignal;
@@ -36,7 +37,13 @@ class RsiTrackerTest {
 
     @BeforeEach
     void setUp() {
-        tracker = new RsiTracker(rsiService, telegramClient, symbolRegistry, featureToggleService);
+        tracker =
+                new RsiTracker(
+                        rsiService,
+                        telegramClient,
+                        symbolRegistry,
+                        featureToggleService,
+                        new SymbolFanOut(4));
         lenient().when(featureToggleService.isEnabled(FeatureToggle.RSI_REPORT)).thenReturn(true);
     }
 
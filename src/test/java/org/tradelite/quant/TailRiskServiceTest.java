@@ -2,9 +2,13 @@ package org.tradelite.quant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,12 +39,13 @@ class TailRiskServiceTest {
     private static final TailRiskWindow TEST_WINDOW = new TailRiskWindow(40, 20);
 
     @Mock private DailyPriceProvider dailyPriceProvider;
+    @Mock private IndicatorSnapshotService indicatorSnapshotService;
 
     private TailRiskService tailRiskService;
 
     @BeforeEach
     void setUp() {
-        tailRiskService = new TailRiskService(dailyPriceProvider);
+        tailRiskService = new TailRiskService(dailyPriceProvider, indicatorSnapshotService);
     }
 
     @Test
@@ -408,6 +413,96 @@ class TailRiskServiceTest {
         assertThat(changePercents.getFirst()).isCloseTo(2.0, within(0.001));
     }
 
+    // ========== Materialized snapshots ==========
+
+    @Test
+    void analyzeTailRisk_canonicalWindowWithCurrentSnapshot_skipsHistory() {
+        LocalDate bar = LocalDate.of(2026, 4, 17);
+        when(indicatorSnapshotService.findCurrent("XLE"))
+                .thenReturn(Optional.of(tailSnapshot(bar, 7.5, -1.2, 3.1, 0.1)));
+        when(dailyPriceProvider.findIntradayPriceAfter("XLE", bar)).thenReturn(Optional.empty());
+
+        TailRiskAnalysis shortWindow =
+                tailRiskService
+                        .analyzeTailRisk("XLE", "Energy", TailRiskTracker.SHORT)
+                        .orElseThrow();
+        TailRiskAnalysis longWindow =
+                tailRiskService
+                        .analyzeTailRisk("XLE", "Energy", TailRiskTracker.LONG)
+                        .orElseThrow();
+
+        assertThat(shortWindow.kurtosis()).isEqualTo(7.5);
+        assertThat(shortWindow.excessKurtosis()).isCloseTo(4.5, within(1e-9));
+        assertThat(shortWindow.riskLevel())
+                .isEqualTo(TailRiskLevel.fromExcessKurtosis(shortWindow.excessKurtosis()));
+        assertThat(shortWindow.skewnessLevel()).isEqualTo(SkewnessLevel.fromSkewness(-1.2));
+        assertThat(shortWindow.dataPoints()).isEqualTo(TailRiskTracker.SHORT.minDataPoints() - 1);
+        assertThat(longWindow.kurtosis()).isEqualTo(3.1);
+        assertThat(longWindow.skewness()).isEqualTo(0.1);
+        verify(dailyPriceProvider, never()).findDailyClosingPrices(anyString(), anyInt());
+    }
+
+    @Test
+    void analyzeTailRisk_livePriceAfterSnapshot_computesFromHistory() {
+        LocalDate bar = LocalDate.of(2026, 4, 17);
+        TailRiskWindow window = TailRiskTracker.SHORT;
+        when(indicatorSnapshotService.findCurrent("XLE"))
+                .thenReturn(Optional.of(tailSnapshot(bar, 7.5, -1.2, 3.1, 0.1)));
+        when(dailyPriceProvider.findIntradayPriceAfter("XLE", bar))
+                .thenReturn(Optional.of(new DailyPrice(bar.plusDays(3), 90.0)));
+        when(dailyPriceProvider.findDailyClosingPrices("XLE", window.lookbackCalendarDays()))
+                .thenReturn(changesToPrices(generateNormalReturns(29)));
+
+        TailRiskAnalysis result =
+                tailRiskService.analyzeTailRisk("XLE", "Energy", window).orElseThrow();
+
+        assertThat(result.kurtosis()).isNotEqualTo(7.5);
+    }
+
+    @Test
+    void analyzeTailRisk_customWindow_ignoresSnapshot() {
+        when(dailyPriceProvider.findDailyClosingPrices("XLE", TEST_WINDOW.lookbackCalendarDays()))
+                .thenReturn(changesToPrices(generateNormalReturns(25)));
+
+        assertThat(tailRiskService.analyzeTailRisk("XLE", "Energy", TEST_WINDOW)).isPresent();
+        verify(indicatorSnapshotService, never()).findCurrent("XLE");
+    }
+
+    private static IndicatorSnapshot tailSnapshot(
+            LocalDate barDate,
+            double kurtosisShort,
+            double skewnessShort,
+            double kurtosisLong,
+            double skewnessLong) {
+        double nan = Double.NaN;
+        return new IndicatorSnapshot(
+                "XLE",
+                barDate,
+                90.0,
+                250,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                kurtosisShort,
+                skewnessShort,
+                kurtosisLong,
+                skewnessLong,
+                Instant.EPOCH);
+    }
+
     // ========== Helpers ==========
 
     private List<Double> generateNormalReturns(int count) {
@@ -2,8 +2,11 @@ package org.tradelite.quant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,12 +23,13 @@ import org.tradelite.repository.OhlcvRepository;
 class VfiServiceTest {
 
     @Mock private OhlcvRepository ohlcvRepository;
+    @Mock private IndicatorSnapshotService indicatorSnapshotService;
 
     private VfiService service;
 
     @BeforeEach
     void setUp() {
-        service = new VfiService(ohlcvRepository);
+        service = new VfiService(ohlcvRepository, indicatorSnapshotService);
     }
 
     @Test
@@ -159,6 +163,57 @@ class VfiServiceTest {
         assertThat(difference).isGreaterThan(0.01);
     }
 
+    @Test
+    void analyze_currentSnapshot_skipsHistory() {
+        when(indicatorSnapshotService.findCurrent("AAPL"))
+                .thenReturn(Optional.of(vfiSnapshot(3.21, 1.5)));
+
+        VfiAnalysis result = service.analyze("AAPL", "Apple").orElseThrow();
+
+        assertThat(result).isEqualTo(new VfiAnalysis("AAPL", "Apple", 3.21, 1.5));
+        verify(ohlcvRepository, never()).findBySymbol("AAPL", 400);
+    }
+
+    @Test
+    void analyze_snapshotWithoutVfi_computesFromHistory() {
+        when(indicatorSnapshotService.findCurrent("AAPL"))
+                .thenReturn(Optional.of(vfiSnapshot(Double.NaN, Double.NaN)));
+        when(ohlcvRepository.findBySymbol("AAPL", 400))
+                .thenReturn(generateRecords(136, 100.0, 0.5, 1_000_000L));
+
+        assertThat(service.analyze("AAPL", "Apple")).isPresent();
+    }
+
+    private static IndicatorSnapshot vfiSnapshot(double vfi, double vfiSignal) {
+        double nan = Double.NaN;
+        return new IndicatorSnapshot(
+                "AAPL",
+                LocalDate.of(2026, 4, 17),
+                100.0,
+                250,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                vfi,
+                vfiSignal,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                nan,
+                Instant.EPOCH);
+    }
+
     private List<OhlcvRecord> buildAaplGoldenData() {
         // Real AAPL OHLCV data with full Twelve Data precision (136 trading days)
         double[][] data = {
@@ -18,6 +18,7 @@ import org.tradelite.client.telegram.TelegramGateway;
 import org.tradelite.common.FeatureToggle;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.scheduling.SymbolFanOut;
 import org.tradelite.service.FeatureToggleService;
 import org.tradelite.service.RelativeStrengthService;
 import org.tradelite.service.RelativeStrengthService.RsResult;
@@ -41,7 +42,8 @@ class VfiTrackerTest {
                         relativeStrengthService,
                         telegramClient,
                         symbolRegistry,
-                        featureToggleService);
+                        featureToggleService,
+                        new SymbolFanOut(4));
         lenient().when(featureToggleService.isEnabled(FeatureToggle.VFI_REPORT)).thenReturn(true);
         lenient().when(symbolRegistry.getAll()).thenReturn(List.of());
         lenient()
@@ -12,12 +12,14 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.OhlcvSeries;
 
 @ExtendWith(MockitoExtension.class)
 class CachingOhlcvRepositoryTest {
@@ -102,6 +104,25 @@ class CachingOhlcvRepositoryTest {
         verify(delegate, times(1)).findBySymbol("MSFT", 252);
     }
 
+    @Test
+    void saveAll_seriesInvalidatesItsSymbol() {
+        when(delegate.findBySymbol("AAPL", 252))
+                .thenReturn(List.of(ohlcvRecord("AAPL", LocalDate.of(2026, 4, 10))));
+        when(delegate.findBySymbol("MSFT", 252))
+                .thenReturn(List.of(ohlcvRecord("MSFT", LocalDate.of(2026, 4, 10))));
+        cache.findBySymbol("AAPL", 252);
+        cache.findBySymbol("MSFT", 252);
+        OhlcvSeries series = new OhlcvSeries("AAPL", 1);
+        series.append(LocalDate.of(2026, 4, 11).toEpochDay(), 1, 1, 1, 1, 1);
+
+        cache.saveAll(series);
+        cache.findBySymbol("AAPL", 252);
+        cache.findBySymbol("MSFT", 252);
+
+        verify(delegate, times(2)).findBySymbol("AAPL", 252);
+        verify(delegate, times(1)).findBySymbol("MSFT", 252);
+    }
+
     @Test
     void saveAll_invalidatesAllDaysVariantsForTouchedSymbol() {
         when(delegate.findBySymbol("AAPL", 35))
@@ -234,6 +255,18 @@ class CachingOhlcvRepositoryTest {
         assertEquals(1, cached.size());
     }
 
+    @Test
+    void findLatest_alwaysDelegates() {
+        OhlcvRecord latest = ohlcvRecord("AAPL", LocalDate.of(2026, 4, 10));
+        when(delegate.findLatest("AAPL")).thenReturn(Optional.of(latest));
+
+        cache.findLatest("AAPL");
+        Optional<OhlcvRecord> result = cache.findLatest("AAPL");
+
+        assertEquals(Optional.of(latest), result);
+        verify(delegate, times(2)).findLatest("AAPL");
+    }
+
     private static OhlcvRecord ohlcvRecord(String symbol, LocalDate date) {
         return new OhlcvRecord(symbol, date, 100.0, 105.0, 99.0, 103.0, 1_000_000L);
     }
@@ -0,0 +1,118 @@
+package org.tradelite.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.tradelite.quant.IndicatorSnapshot;
+
+class SqliteIndicatorSnapshotRepositoryTest extends AbstractSqliteRepositoryTest {
+
+    private static final LocalDate BAR = LocalDate.of(2026, 4, 17);
+    private static final Instant COMPUTED = Instant.parse("2026-04-17T21:05:00Z");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private SqliteIndicatorSnapshotRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SqliteIndicatorSnapshotRepository(jdbcTemplate);
+    }
+
+    @Test
+    void saveAll_roundTripsValuesAndMissingIndicators() {
+        IndicatorSnapshot full = snapshot("AAPL", BAR, 101.5, 1.25);
+        IndicatorSnapshot young = snapshot("NEW", BAR, 20.0, Double.NaN);
+
+        repository.saveAll(List.of(full, young));
+
+        assertEquals(Optional.of(full), repository.findLatest("AAPL"));
+        assertEquals(Optional.of(young), repository.findLatest("NEW"));
+        assertTrue(Double.isNaN(repository.findLatest("NEW").orElseThrow().ema200()));
+    }
+
+    @Test
+    void saveAll_replacesSameBarAndFindLatestPicksNewestBar() {
+        repository.saveAll(List.of(snapshot("AAPL", BAR.minusDays(1), 99.0, 1.0)));
+        repository.saveAll(List.of(snapshot("AAPL", BAR, 100.0, 1.0)));
+        IndicatorSnapshot recomputed = snapshot("AAPL", BAR, 100.0, 2.0);
+
+        repository.saveAll(List.of(recomputed));
+
+        assertEquals(Optional.of(recomputed), repository.findLatest("AAPL"));
+        assertEquals(
+                2,
+                jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM indicator_snapshot WHERE symbol = 'AAPL'",
+                        Integer.class));
+    }
+
+    @Test
+    void findLatest_emptyForUnknownSymbol() {
+        assertEquals(Optional.empty(), repository.findLatest("MSFT"));
+    }
+
+    @Test
+    void deleteOlderThan_keepsBarsOnOrAfterCutoff() {
+        repository.saveAll(
+                List.of(
+                        snapshot("AAPL", BAR.minusDays(2), 98.0, 1.0),
+                        snapshot("AAPL", BAR.minusDays(1), 99.0, 1.0),
+                        snapshot("AAPL", BAR, 100.0, 1.0)));
+
+        assertEquals(1, repository.deleteOlderThan(BAR.minusDays(1)));
+        assertEquals(BAR, repository.findLatest("AAPL").orElseThrow().barDate());
+    }
+
+    @Test
+    void onSymbolRemoved_deletesAllBarsOfSymbol() {
+        repository.saveAll(
+                List.of(
+                        snapshot("AAPL", BAR.minusDays(1), 99.0, 1.0),
+                        snapshot("AAPL", BAR, 100.0, 1.0),
+                        snapshot("MSFT", BAR, 300.0, 1.0)));
+
+        repository.onSymbolRemoved("AAPL");
+
+        assertEquals(Optional.empty(), repository.findLatest("AAPL"));
+        assertTrue(repository.findLatest("MSFT").isPresent());
+    }
+
+    private static IndicatorSnapshot snapshot(
+            String symbol, LocalDate barDate, double close, double value) {
+        return new IndicatorSnapshot(
+                symbol,
+                barDate,
+                close,
+                250,
+                close * 0.99,
+                close * 0.98,
+                close * 0.97,
+                close * 0.96,
+                Double.isNaN(value) ? Double.NaN : close * 0.95,
+                value,
+                value * 0.5,
+                55.0,
+                close,
+                close * 1.05,
+                close * 0.95,
+                0.6,
+                0.1,
+                42.0,
+                value,
+                value * 2,
+                3.4,
+                -0.2,
+                Double.isNaN(value) ? Double.NaN : 4.1,
+                Double.isNaN(value) ? Double.NaN : -0.5,
+                COMPUTED);
+    }
+}
@@ -0,0 +1,70 @@
+package org.tradelite.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class SqliteInstanceLeaseRepositoryTest extends AbstractSqliteRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2026-04-20T14:00:00Z");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private SqliteInstanceLeaseRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SqliteInstanceLeaseRepository(jdbcTemplate);
+    }
+
+    @Test
+    void save_renewsExistingLease() {
+        repository.save(lease("a", BASE, BASE.plusSeconds(30), 0, 0, false));
+        InstanceLease renewed = lease("a", BASE, BASE.plusSeconds(40), 0, 1024, true);
+
+        repository.save(renewed);
+
+        assertEquals(List.of(renewed), repository.findLive(BASE.plusSeconds(10)));
+    }
+
+    @Test
+    void findLive_excludesExpiredAndOrdersOldestFirst() {
+        InstanceLease newer =
+                lease("a", BASE.plusSeconds(5), BASE.plusSeconds(30), 512, 1024, false);
+        InstanceLease older = lease("b", BASE, BASE.plusSeconds(30), 0, 512, true);
+        repository.save(newer);
+        repository.save(older);
+        repository.save(lease("c", BASE, BASE.plusSeconds(10), 0, 0, false));
+
+        assertEquals(List.of(older, newer), repository.findLive(BASE.plusSeconds(10)));
+    }
+
+    @Test
+    void deleteExpired_dropsOnlyLapsedLeases() {
+        repository.save(lease("a", BASE, BASE.plusSeconds(30), 0, 0, false));
+        repository.save(lease("b", BASE, BASE.plusSeconds(10), 0, 0, false));
+
+        assertEquals(1, repository.deleteExpired(BASE.plusSeconds(10)));
+        assertEquals(1, repository.findLive(BASE).size());
+
+        repository.delete("a");
+
+        assertEquals(List.of(), repository.findLive(BASE));
+    }
+
+    private static InstanceLease lease(
+            String instanceId,
+            Instant startedAt,
+            Instant expiresAt,
+            int shardFrom,
+            int shardTo,
+            boolean leader) {
+        return new InstanceLease(
+                instanceId, startedAt, startedAt, expiresAt, shardFrom, shardTo, leader);
+    }
+}
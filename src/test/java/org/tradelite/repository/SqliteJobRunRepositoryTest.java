@@ -0,0 +1,98 @@
+package org.tradelite.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.tradelite.scheduling.JobOutcome;
+import org.tradelite.scheduling.JobTrigger;
+
+class SqliteJobRunRepositoryTest extends AbstractSqliteRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2026-05-11T10:00:00Z");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private SqliteJobRunRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SqliteJobRunRepository(jdbcTemplate);
+    }
+
+    @Test
+    void save_roundTripsAllColumns() {
+        JobRunRecord jobRun =
+                new JobRunRecord(
+                        "stockMarketMonitoring",
+                        JobTrigger.SCHEDULED,
+                        BASE,
+                        BASE.plusMillis(5),
+                        BASE.plusSeconds(320),
+                        319_995,
+                        JobOutcome.FAILED,
+                        312,
+                        300,
+                        true);
+
+        repository.save(jobRun);
+
+        assertEquals(List.of(jobRun), repository.findSince(BASE));
+    }
+
+    @Test
+    void findSince_excludesOlderRunsAndOrdersOldestFirst() {
+        repository.save(run("a", BASE.minusSeconds(60)));
+        repository.save(run("b", BASE.plusSeconds(120)));
+        repository.save(run("c", BASE.plusSeconds(60)));
+
+        List<JobRunRecord> result = repository.findSince(BASE);
+
+        assertEquals(List.of("c", "b"), result.stream().map(JobRunRecord::jobName).toList());
+    }
+
+    @Test
+    void findRecent_filtersByJobAndLimitsNewestFirst() {
+        repository.save(run("stockMarketMonitoring", BASE));
+        repository.save(run("stockMarketMonitoring", BASE.plusSeconds(300)));
+        repository.save(run("stockMarketMonitoring", BASE.plusSeconds(600)));
+        repository.save(run("periodicMaintenance", BASE.plusSeconds(900)));
+
+        List<JobRunRecord> stock = repository.findRecent("stockMarketMonitoring", 2);
+        List<JobRunRecord> all = repository.findRecent(null, 10);
+
+        assertEquals(2, stock.size());
+        assertEquals(BASE.plusSeconds(600), stock.getFirst().triggeredAt());
+        assertEquals(4, all.size());
+        assertEquals("periodicMaintenance", all.getFirst().jobName());
+    }
+
+    @Test
+    void deleteOlderThan_removesOnlyOlderRuns() {
+        repository.save(run("a", BASE.minusSeconds(1)));
+        repository.save(run("b", BASE));
+
+        int deleted = repository.deleteOlderThan(BASE);
+
+        assertEquals(1, deleted);
+        assertEquals(1, repository.findSince(Instant.EPOCH).size());
+    }
+
+    private static JobRunRecord run(String jobName, Instant triggeredAt) {
+        return new JobRunRecord(
+                jobName,
+                JobTrigger.SCHEDULED,
+                triggeredAt,
+                triggeredAt,
+                triggeredAt.plusSeconds(1),
+                1000,
+                JobOutcome.SUCCEEDED,
+                0,
+                0,
+                false);
+    }
+}
@@ -0,0 +1,126 @@
+package org.tradelite.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.tradelite.repository.OhlcvFetchCheckpoint.Mode;
+import org.tradelite.repository.OhlcvFetchCheckpoint.Status;
+
+class SqliteOhlcvFetchCheckpointRepositoryTest extends AbstractSqliteRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2026-04-14T21:00:00Z");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private SqliteOhlcvFetchCheckpointRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SqliteOhlcvFetchCheckpointRepository(jdbcTemplate);
+    }
+
+    @Test
+    void findOpenRun_noRuns_isEmpty() {
+        assertEquals(Optional.empty(), repository.findOpenRun());
+    }
+
+    @Test
+    void startRunUnlessOpen_isOpenUntilFinished() {
+        assertTrue(repository.startRunUnlessOpen("run-1", BASE, BASE.minusSeconds(60)));
+
+        assertEquals(Optional.of(new OhlcvFetchRun("run-1", BASE)), repository.findOpenRun());
+
+        repository.finishRun("run-1", BASE.plusSeconds(3600));
+
+        assertEquals(Optional.empty(), repository.findOpenRun());
+    }
+
+    @Test
+    void saveCheckpoint_overwritesPreviousStatus() {
+        repository.startRunUnlessOpen("run-1", BASE, BASE.minusSeconds(60));
+        repository.saveCheckpoint(
+                "run-1", new OhlcvFetchCheckpoint("IREN", Mode.BACKFILL, Status.FAILED), BASE);
+        repository.saveCheckpoint(
+                "run-1", new OhlcvFetchCheckpoint("AAPL", Mode.REFRESH, Status.COMPLETED), BASE);
+        repository.saveCheckpoint(
+                "run-1",
+                new OhlcvFetchCheckpoint("IREN", Mode.BACKFILL, Status.COMPLETED),
+                BASE.plusSeconds(60));
+
+        Map<String, OhlcvFetchCheckpoint> checkpoints = repository.findCheckpoints("run-1");
+
+        assertEquals(2, checkpoints.size());
+        assertEquals(
+                new OhlcvFetchCheckpoint("IREN", Mode.BACKFILL, Status.COMPLETED),
+                checkpoints.get("IREN"));
+        assertEquals(
+                new OhlcvFetchCheckpoint("AAPL", Mode.REFRESH, Status.COMPLETED),
+                checkpoints.get("AAPL"));
+    }
+
+    @Test
+    void startRunUnlessOpen_finishedEarlierRun_dropsItAndItsCheckpoints() {
+        repository.startRunUnlessOpen("run-1", BASE, BASE.minusSeconds(60));
+        repository.saveCheckpoint(
+                "run-1", new OhlcvFetchCheckpoint("IREN", Mode.BACKFILL, Status.FAILED), BASE);
+        repository.finishRun("run-1", BASE.plusSeconds(3600));
+
+        assertTrue(
+                repository.startRunUnlessOpen(
+                        "run-2", BASE.plusSeconds(86_400), BASE.plusSeconds(43_200)));
+
+        assertTrue(repository.findCheckpoints("run-1").isEmpty());
+        assertEquals(Optional.of("run-2"), repository.findOpenRun().map(OhlcvFetchRun::runId));
+        assertEquals(
+                List.of(1),
+                jdbcTemplate.queryForList("SELECT COUNT(*) FROM ohlcv_fetch_runs", Integer.class));
+    }
+
+    @Test
+    void startRunUnlessOpen_calledTwiceWhileOpen_secondCallReturnsFalse() {
+        assertTrue(repository.startRunUnlessOpen("run-1", BASE, BASE.minusSeconds(60)));
+
+        assertFalse(repository.startRunUnlessOpen("run-1", BASE, BASE.minusSeconds(60)));
+        assertFalse(
+                repository.startRunUnlessOpen("run-2", BASE.plusSeconds(1), BASE.minusSeconds(60)));
+
+        assertEquals(Optional.of("run-1"), repository.findOpenRun().map(OhlcvFetchRun::runId));
+        assertEquals(
+                List.of(1),
+                jdbcTemplate.queryForList("SELECT COUNT(*) FROM ohlcv_fetch_runs", Integer.class));
+    }
+
+    @Test
+    void startRunUnlessOpen_recentOpenRun_joinsInsteadOfStarting() {
+        repository.startRunUnlessOpen("run-1", BASE, BASE.minusSeconds(60));
+        repository.saveCheckpoint(
+                "run-1", new OhlcvFetchCheckpoint("IREN", Mode.BACKFILL, Status.COMPLETED), BASE);
+
+        assertFalse(
+                repository.startRunUnlessOpen("run-2", BASE.plusSeconds(5), BASE.minusSeconds(60)));
+
+        assertEquals(Optional.of("run-1"), repository.findOpenRun().map(OhlcvFetchRun::runId));
+        assertEquals(1, repository.findCheckpoints("run-1").size());
+    }
+
+    @Test
+    void startRunUnlessOpen_staleOpenRun_startsAndDropsIt() {
+        repository.startRunUnlessOpen("run-1", BASE, BASE.minusSeconds(60));
+        repository.saveCheckpoint(
+                "run-1", new OhlcvFetchCheckpoint("IREN", Mode.BACKFILL, Status.FAILED), BASE);
+
+        assertTrue(
+                repository.startRunUnlessOpen(
+                        "run-2", BASE.plusSeconds(86_400), BASE.plusSeconds(43_200)));
+
+        assertTrue(repository.findCheckpoints("run-1").isEmpty());
+        assertEquals(Optional.of("run-2"), repository.findOpenRun().map(OhlcvFetchRun::runId));
+    }
+}
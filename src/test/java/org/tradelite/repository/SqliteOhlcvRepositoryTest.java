@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.tradelite.common.OhlcvRecord;
+import org.tradelite.common.OhlcvSeries;
 
 class SqliteOhlcvRepositoryTest extends AbstractSqliteRepositoryTest {
 
@@ -64,6 +65,21 @@ class SqliteOhlcvRepositoryTest extends AbstractSqliteRepositoryTest {
         assertThat(result.volume(), is(2_500_000L));
     }
 
+    @Test
+    void saveAll_series_bindsFromColumns() {
+        OhlcvSeries series = new OhlcvSeries("GOOG", 2);
+        series.append(
+                LocalDate.of(2026, 4, 10).toEpochDay(), 150.25, 155.75, 148.30, 149.80, 2_500_000L);
+        series.append(
+                LocalDate.of(2026, 4, 9).toEpochDay(), 148.0, 151.0, 147.5, 150.0, 1_900_000L);
+
+        repository.saveAll(series);
+
+        List<OhlcvRecord> results = repository.findBySymbol("GOOG", 365);
+        assertThat(results, hasSize(2));
+        assertThat(results, is(List.of(series.get(1), series.get(0))));
+    }
+
     @Test
     void saveAll_multipleRecordsForSameSymbol() {
         List<OhlcvRecord> records =
@@ -204,6 +220,19 @@ class SqliteOhlcvRepositoryTest extends AbstractSqliteRepositoryTest {
         assertThat(deleted, is(0));
     }
 
+    @Test
+    void findLatest_returnsNewestBarOfSymbol() {
+        repository.saveAll(
+                List.of(
+                        createRecord("AAPL", LocalDate.of(2026, 4, 10), 174.0, 178.0),
+                        createRecord("AAPL", LocalDate.of(2026, 4, 9), 170.0, 174.0),
+                        createRecord("GOOG", LocalDate.of(2026, 4, 13), 150.0, 152.0)));
+
+        assertThat(
+                repository.findLatest("AAPL").orElseThrow().date(), is(LocalDate.of(2026, 4, 10)));
+        assertThat(repository.findLatest("MSFT").isEmpty(), is(true));
+    }
+
     private OhlcvRecord createRecord(String symbol, LocalDate date, double open, double close) {
         return new OhlcvRecord(symbol, date, open, open + 5.0, open - 2.0, close, 1_000_000L);
     }
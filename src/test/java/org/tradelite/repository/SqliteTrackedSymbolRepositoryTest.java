@@ -60,6 +60,21 @@ class SqliteTrackedSymbolRepositoryTest extends AbstractSqliteRepositoryTest {
         assertTrue(results.isEmpty());
     }
 
+    @Test
+    void findAll_leavesOutCoins() {
+        repository.save("AAPL", "Apple", AssetType.STOCK);
+        repository.save("chainlink", "Chainlink", AssetType.COIN);
+
+        List<StockSymbolEntry> stocks = repository.findAll();
+        List<StockSymbolEntry> coins = repository.findByType(AssetType.COIN);
+
+        assertEquals(1, stocks.size());
+        assertEquals("AAPL", stocks.getFirst().getTicker());
+        assertEquals(1, coins.size());
+        assertEquals("chainlink", coins.getFirst().getTicker());
+        assertEquals("Chainlink", coins.getFirst().getDisplayName());
+    }
+
     @Test
     void deleteByTickerAndType_existingEntry_returnsTrue() {
         repository.save("AAPL", "Apple", AssetType.STOCK);
@@ -0,0 +1,186 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tradelite.web.dashboard.DashboardEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncJobServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-14T09:00:00Z");
+
+    @Mock private DashboardEventPublisher eventPublisher;
+    @Mock private Clock clock;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final List<Runnable> pending = new ArrayList<>();
+
+    private AsyncJobService inlineService;
+    private AsyncJobService deferredService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenAnswer(_ -> now.get());
+        inlineService = new AsyncJobService(eventPublisher, clock, Runnable::run);
+        deferredService = new AsyncJobService(eventPublisher, clock, pending::add);
+    }
+
+    @Test
+    void submit_succeedingJob_reportsResult() {
+        AsyncJobService.Submission submission = inlineService.submit("ohlcv-fetch", () -> true);
+
+        assertFalse(submission.attached());
+        AsyncJobSnapshot finished = inlineService.find(submission.job().id()).orElseThrow();
+        assertEquals(AsyncJobStatus.SUCCEEDED, finished.status());
+        assertEquals("ohlcv-fetch", finished.job());
+        assertEquals("ok", finished.result());
+        assertEquals(NOW, finished.finishedAt());
+    }
+
+    @Test
+    void hasRunningJobs_trueUntilTheJobFinishes() {
+        deferredService.submit("ohlcv-fetch", () -> true);
+
+        assertTrue(deferredService.hasRunningJobs());
+        pending.forEach(Runnable::run);
+        assertFalse(deferredService.hasRunningJobs());
+    }
+
+    @Test
+    void submit_returnsBeforeJobRuns() {
+        AsyncJobService.Submission submission = deferredService.submit("ohlcv-fetch", () -> true);
+
+        assertEquals(AsyncJobStatus.RUNNING, submission.job().status());
+        assertNull(submission.job().finishedAt());
+        assertEquals(1, pending.size());
+    }
+
+    @Test
+    void submit_failingJob_reportsFailure() {
+        String id = inlineService.submit("vfi-report", () -> false).job().id();
+
+        AsyncJobSnapshot finished = inlineService.find(id).orElseThrow();
+        assertEquals(AsyncJobStatus.FAILED, finished.status());
+        assertEquals("check logs", finished.result());
+    }
+
+    @Test
+    void submit_throwingJob_reportsExceptionMessage() {
+        String id =
+                inlineService
+                        .submit(
+                                "vfi-report",
+                                () -> {
+                                    throw new IllegalStateException("database is locked");
+                                })
+                        .job()
+                        .id();
+
+        AsyncJobSnapshot finished = inlineService.find(id).orElseThrow();
+        assertEquals(AsyncJobStatus.FAILED, finished.status());
+        assertEquals("database is locked", finished.result());
+    }
+
+    @Test
+    void submit_jobAlreadyRunning_attachesInsteadOfStartingDuplicate() {
+        AtomicInteger runs = new AtomicInteger();
+
+        AsyncJobService.Submission first =
+                deferredService.submit("ohlcv-fetch", () -> runs.incrementAndGet() > 0);
+        AsyncJobService.Submission second =
+                deferredService.submit("ohlcv-fetch", () -> runs.incrementAndGet() > 0);
+
+        assertTrue(second.attached());
+        assertEquals(first.job().id(), second.job().id());
+        assertEquals(1, pending.size());
+
+        pending.removeFirst().run();
+        AsyncJobService.Submission third =
+                deferredService.submit("ohlcv-fetch", () -> runs.incrementAndGet() > 0);
+
+        assertFalse(third.attached());
+        assertNotEquals(first.job().id(), third.job().id());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void submit_differentJobs_runSideBySide() {
+        deferredService.submit("ohlcv-fetch", () -> true);
+        AsyncJobService.Submission other = deferredService.submit("vfi-report", () -> true);
+
+        assertFalse(other.attached());
+        assertEquals(2, pending.size());
+    }
+
+    @Test
+    void progress_countsSymbolsOfNestedRunsAndThrottlesEvents() {
+        AtomicReference<AsyncJobSnapshot> midRun = new AtomicReference<>();
+        AtomicReference<String> id = new AtomicReference<>();
+
+        id.set(
+                deferredService
+                        .submit(
+                                "ohlcv-fetch",
+                                () -> {
+                                    // The ledger opens its own context inside the job
+                                    JobRunContext ledgerRun = JobRunContext.open();
+                                    JobRunContext.recordSymbolsTotal(3);
+                                    JobRunContext.recordSymbolsProcessed(1);
+                                    JobRunContext.recordSymbolsProcessed(1);
+                                    now.set(NOW.plus(AsyncJobService.PROGRESS_INTERVAL));
+                                    JobRunContext.recordSymbolsProcessed(1);
+                                    midRun.set(deferredService.find(id.get()).orElseThrow());
+                                    ledgerRun.close();
+                                    return true;
+                                })
+                        .job()
+                        .id());
+        pending.removeFirst().run();
+
+        assertEquals(3, midRun.get().symbolsDone());
+        assertEquals(3, midRun.get().symbolsTotal());
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce())
+                .publish(eq(AsyncJobService.PROGRESS_EVENT), events.capture());
+        List<String> progress =
+                events.getAllValues().stream()
+                        .map(AsyncJobSnapshot.class::cast)
+                        .map(s -> s.status() + " " + s.symbolsDone() + "/" + s.symbolsTotal())
+                        .toList();
+        // submitted, first count, one event per interval, finished
+        assertEquals(
+                List.of("RUNNING 0/0", "RUNNING 0/3", "RUNNING 3/3", "SUCCEEDED 3/3"), progress);
+    }
+
+    @Test
+    void find_unknownId_isEmpty() {
+        assertTrue(inlineService.find("missing").isEmpty());
+    }
+
+    @Test
+    void submit_prunesJobsFinishedBeforeRetention() {
+        String old = inlineService.submit("ohlcv-fetch", () -> true).job().id();
+        now.set(NOW.plus(AsyncJobService.RETENTION).plusSeconds(1));
+
+        inlineService.submit("vfi-report", () -> true);
+
+        assertTrue(inlineService.find(old).isEmpty());
+    }
+}
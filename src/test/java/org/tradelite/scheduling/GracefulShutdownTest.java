@@ -0,0 +1,163 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.service.ApiRequestMeteringService;
+import org.tradelite.web.dashboard.DashboardEventPublisher;
+
+/** Isolated: the drain waits for, and may cancel, every run open in the JVM. */
+@Isolated
+class GracefulShutdownTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-14T09:00:00Z");
+
+    private JobLaneExecutor jobLaneExecutor;
+    private AsyncJobService asyncJobService;
+    private ApiRequestMeteringService meteringService;
+    private DashboardEventPublisher eventPublisher;
+    private ThreadPoolTaskScheduler taskScheduler;
+    private TradebotSchedulingProperties properties;
+    private GracefulShutdown shutdown;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jobLaneExecutor = mock(JobLaneExecutor.class);
+        asyncJobService = mock(AsyncJobService.class);
+        meteringService = mock(ApiRequestMeteringService.class);
+        eventPublisher = mock(DashboardEventPublisher.class);
+        taskScheduler = mock(ThreadPoolTaskScheduler.class);
+        ObjectProvider<TaskScheduler> schedulerProvider = mock(ObjectProvider.class);
+        when(schedulerProvider.getIfAvailable()).thenReturn(taskScheduler);
+        properties = new TradebotSchedulingProperties();
+        shutdown =
+                new GracefulShutdown(
+                        jobLaneExecutor,
+                        asyncJobService,
+                        meteringService,
+                        eventPublisher,
+                        schedulerProvider,
+                        properties);
+    }
+
+    @Test
+    void stop_idle_runsPipelineInOrder() {
+        shutdown.start();
+        assertTrue(shutdown.isRunning());
+
+        shutdown.stop();
+
+        assertFalse(shutdown.isRunning());
+        InOrder order = inOrder(jobLaneExecutor, taskScheduler, meteringService, eventPublisher);
+        order.verify(jobLaneExecutor).stopAccepting();
+        order.verify(taskScheduler).initiateShutdown();
+        order.verify(meteringService).flushCounters();
+        order.verify(eventPublisher).completeAll();
+    }
+
+    @Test
+    void stop_waitsForRunningJobBeforeFlushing() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finishedBeforeFlush = new AtomicBoolean();
+        AtomicBoolean finished = new AtomicBoolean();
+        Thread job =
+                Thread.ofVirtual()
+                        .start(
+                                () -> {
+                                    JobRunContext run =
+                                            JobRunContext.openRun(
+                                                    "dailyOhlcvFetch",
+                                                    NOW,
+                                                    null,
+                                                    Clock.systemUTC());
+                                    started.countDown();
+                                    try {
+                                        Thread.sleep(300);
+                                        finished.set(true);
+                                    } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                    } finally {
+                                        run.close();
+                                    }
+                                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        doAnswer(
+                        _ -> {
+                            finishedBeforeFlush.set(finished.get());
+                            return null;
+                        })
+                .when(meteringService)
+                .flushCounters();
+
+        shutdown.stop();
+        job.join(5_000);
+
+        assertTrue(finishedBeforeFlush.get());
+    }
+
+    @Test
+    void stop_drainTimeout_cancelsStragglersAndStillFlushes() throws Exception {
+        properties.setShutdownDrainTimeout(Duration.ofMillis(200));
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread job =
+                Thread.ofVirtual()
+                        .start(
+                                () -> {
+                                    JobRunContext run =
+                                            JobRunContext.openRun(
+                                                    "dailyOhlcvFetch",
+                                                    NOW,
+                                                    null,
+                                                    Clock.systemUTC());
+                                    started.countDown();
+                                    try {
+                                        new CountDownLatch(1).await();
+                                    } catch (InterruptedException e) {
+                                        interrupted.set(true);
+                                    } finally {
+                                        run.close();
+                                    }
+                                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        shutdown.stop();
+        job.join(5_000);
+
+        assertTrue(interrupted.get());
+        verify(meteringService).flushCounters();
+        verify(eventPublisher).completeAll();
+    }
+
+    @Test
+    void stop_waitsForManualAsyncJobs() {
+        properties.setShutdownDrainTimeout(Duration.ofSeconds(5));
+        when(asyncJobService.hasRunningJobs()).thenReturn(true, true, false);
+
+        shutdown.stop();
+
+        verify(asyncJobService, times(3)).hasRunningJobs();
+        verify(meteringService).flushCounters();
+    }
+}
@@ -0,0 +1,224 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tradelite.config.TradebotCoordinationProperties;
+import org.tradelite.repository.InstanceLease;
+import org.tradelite.repository.InstanceLeaseRepository;
+
+class InstanceCoordinatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-20T14:00:00Z");
+    private static final List<String> SYMBOLS =
+            IntStream.range(0, 200).mapToObj(i -> "SYM" + i).toList();
+
+    private Instant now;
+    private Clock clock;
+    private InMemoryLeases leases;
+
+    @BeforeEach
+    void setUp() {
+        now = NOW;
+        clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(_ -> now);
+        leases = new InMemoryLeases();
+    }
+
+    @Test
+    void standalone_ownsEverythingAndLeads() {
+        InstanceCoordinator coordinator = InstanceCoordinator.standalone();
+
+        assertTrue(SYMBOLS.stream().allMatch(coordinator::owns));
+        assertTrue(coordinator.isLeader());
+    }
+
+    @Test
+    void disabled_neverTouchesLeaseTable() {
+        InstanceCoordinator coordinator =
+                new InstanceCoordinator(leases, new TradebotCoordinationProperties(), clock);
+
+        coordinator.join();
+        coordinator.heartbeat();
+
+        assertTrue(leases.rows.isEmpty());
+        assertTrue(coordinator.owns("AAPL"));
+        assertTrue(coordinator.isLeader());
+    }
+
+    @Test
+    void join_splitsSymbolsAcrossLiveInstancesAndOldestLeads() {
+        InstanceCoordinator first = start("a");
+        now = now.plusSeconds(1);
+        InstanceCoordinator second = start("b");
+        first.heartbeat();
+
+        assertTrue(first.isLeader());
+        assertFalse(second.isLeader());
+        for (String symbol : SYMBOLS) {
+            assertTrue(first.owns(symbol) ^ second.owns(symbol), symbol);
+        }
+        assertTrue(SYMBOLS.stream().anyMatch(first::owns));
+        assertTrue(SYMBOLS.stream().anyMatch(second::owns));
+        assertEquals(0, leases.rows.get("a").shardFrom());
+        assertEquals(512, leases.rows.get("b").shardFrom());
+        assertTrue(leases.rows.get("a").leader());
+    }
+
+    @Test
+    void heartbeat_deadInstance_rebalancesItsShardToSurvivors() {
+        InstanceCoordinator first = start("a");
+        now = now.plusSeconds(1);
+        InstanceCoordinator second = start("b");
+
+        // "a" stops renewing; "b" keeps its heartbeat until a's lease runs out
+        now = now.plusSeconds(10);
+        second.heartbeat();
+        now = now.plusSeconds(25);
+        second.heartbeat();
+
+        assertTrue(second.isLeader());
+        assertTrue(SYMBOLS.stream().allMatch(second::owns));
+        assertEquals(List.of("b"), List.copyOf(leases.rows.keySet()));
+        // The dead instance's own view lapsed with its lease
+        assertFalse(first.isLeader());
+        assertFalse(SYMBOLS.stream().anyMatch(first::owns));
+    }
+
+    @Test
+    void leave_releasesShardBeforeLeaseExpires() {
+        InstanceCoordinator first = start("a");
+        now = now.plusSeconds(1);
+        InstanceCoordinator second = start("b");
+
+        first.leave();
+        second.heartbeat();
+
+        assertFalse(first.owns("AAPL"));
+        assertTrue(second.isLeader());
+        assertTrue(SYMBOLS.stream().allMatch(second::owns));
+    }
+
+    @Test
+    void heartbeat_renewalFails_keepsShardUntilLeaseWouldExpire() {
+        InstanceCoordinator coordinator = start("a");
+        leases.failing.set(true);
+
+        now = now.plusSeconds(20);
+        coordinator.heartbeat();
+        assertTrue(coordinator.isLeader());
+
+        now = now.plusSeconds(10);
+        coordinator.heartbeat();
+        assertFalse(coordinator.isLeader());
+        assertFalse(coordinator.owns("AAPL"));
+    }
+
+    @Test
+    void join_restartUnderSameId_keepsLeadership() {
+        start("a");
+        now = now.plusSeconds(1);
+        start("b");
+
+        now = now.plusSeconds(5);
+        InstanceCoordinator restarted = start("a");
+
+        assertTrue(restarted.isLeader());
+        assertEquals(NOW, leases.rows.get("a").startedAt());
+    }
+
+    @Test
+    void assign_coversEverySlotExactlyOnce() {
+        List<InstanceLease> live = List.of(lease("a"), lease("b"), lease("c"));
+
+        List<InstanceCoordinator.Assignment> assignments =
+                live.stream()
+                        .map(l -> InstanceCoordinator.assign(live, l.instanceId(), NOW))
+                        .toList();
+
+        assertEquals(0, assignments.get(0).shardFrom());
+        assertEquals(assignments.get(0).shardTo(), assignments.get(1).shardFrom());
+        assertEquals(assignments.get(1).shardTo(), assignments.get(2).shardFrom());
+        assertEquals(InstanceCoordinator.SLOTS, assignments.get(2).shardTo());
+        assertEquals(
+                InstanceCoordinator.Assignment.NONE,
+                InstanceCoordinator.assign(live, "unknown", NOW));
+    }
+
+    private InstanceCoordinator start(String instanceId) {
+        TradebotCoordinationProperties properties = new TradebotCoordinationProperties();
+        properties.setEnabled(true);
+        properties.setInstanceId(instanceId);
+        properties.setLeaseTtl(Duration.ofSeconds(30));
+        InstanceCoordinator coordinator = new InstanceCoordinator(leases, properties, clock);
+        coordinator.join();
+        return coordinator;
+    }
+
+    private static InstanceLease lease(String instanceId) {
+        return new InstanceLease(instanceId, NOW, NOW, NOW.plusSeconds(30), 0, 0, false);
+    }
+
+    /** The lease table semantics of {@code SqliteInstanceLeaseRepository}, in memory. */
+    private static final class InMemoryLeases implements InstanceLeaseRepository {
+
+        private final Map<String, InstanceLease> rows = new LinkedHashMap<>();
+        private final AtomicBoolean failing = new AtomicBoolean();
+
+        @Override
+        public void save(InstanceLease lease) {
+            failIfBroken();
+            rows.put(lease.instanceId(), lease);
+        }
+
+        @Override
+        public List<InstanceLease> findLive(Instant at) {
+            failIfBroken();
+            List<InstanceLease> live = new ArrayList<>();
+            for (InstanceLease lease : rows.values()) {
+                if (lease.expiresAt().isAfter(at)) {
+                    live.add(lease);
+                }
+            }
+            live.sort(
+                    Comparator.comparing(InstanceLease::startedAt)
+                            .thenComparing(InstanceLease::instanceId));
+            return live;
+        }
+
+        @Override
+        public int deleteExpired(Instant at) {
+            failIfBroken();
+            int before = rows.size();
+            rows.values().removeIf(lease -> !lease.expiresAt().isAfter(at));
+            return before - rows.size();
+        }
+
+        @Override
+        public void delete(String instanceId) {
+            failIfBroken();
+            rows.remove(instanceId);
+        }
+
+        private void failIfBroken() {
+            if (failing.get()) {
+                throw new IllegalStateException("database is locked");
+            }
+        }
+    }
+}
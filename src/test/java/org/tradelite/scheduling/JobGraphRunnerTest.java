@@ -0,0 +1,153 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.tradelite.RootErrorHandler;
+
+class JobGraphRunnerTest {
+
+    private final JobGraphRunner runner = new JobGraphRunner(new RootErrorHandler());
+
+    @Test
+    void run_independentNodes_runConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        JobGraph graph =
+                JobGraph.builder("monitoring")
+                        .node("finnhub", Set.of(), Set.of(), () -> awaitPeer(bothStarted))
+                        .node("yahoo", Set.of(), Set.of(), () -> awaitPeer(bothStarted))
+                        .build();
+
+        List<JobGraphRunner.NodeRun> runs = runner.run(graph);
+
+        assertEquals(2, runs.size());
+        assertTrue(runs.stream().allMatch(JobGraphRunner.NodeRun::succeeded));
+    }
+
+    @Test
+    void run_nodesReportIntoCallersRunContext() {
+        JobGraph graph =
+                JobGraph.builder("monitoring")
+                        .node("finnhub", Set.of(), Set.of("prices"), JobRunContext::recordApiCall)
+                        .node("pullback", Set.of("prices"), Set.of(), JobRunContext::recordApiCall)
+                        .build();
+
+        JobRunContext context = JobRunContext.open();
+        try {
+            runner.run(graph);
+
+            assertEquals(2, context.getApiCalls());
+        } finally {
+            context.close();
+        }
+    }
+
+    @Test
+    void run_dependentNode_startsAfterProducerFinishes() {
+        Queue<String> events = new ConcurrentLinkedQueue<>();
+
+        JobGraph graph =
+                JobGraph.builder("monitoring")
+                        .node("pullback", Set.of("prices"), Set.of(), () -> events.add("pullback"))
+                        .node(
+                                "yahoo",
+                                Set.of(),
+                                Set.of("prices"),
+                                () -> {
+                                    Thread.sleep(50);
+                                    events.add("yahoo");
+                                })
+                        .build();
+
+        Map<String, JobGraphRunner.NodeRun> runs = byName(runner.run(graph));
+
+        assertEquals(List.of("yahoo", "pullback"), List.copyOf(events));
+        assertFalse(
+                runs.get("pullback").startOffset().compareTo(runs.get("yahoo").endOffset()) < 0);
+    }
+
+    @Test
+    void run_failingNode_isRecordedAndDependentsStillRun() {
+        Queue<String> events = new ConcurrentLinkedQueue<>();
+
+        JobGraph graph =
+                JobGraph.builder("monitoring")
+                        .node(
+                                "yahoo",
+                                Set.of(),
+                                Set.of("prices"),
+                                () -> {
+                                    throw new IllegalStateException("rate limited");
+                                })
+                        .node("pullback", Set.of("prices"), Set.of(), () -> events.add("pullback"))
+                        .build();
+
+        Map<String, JobGraphRunner.NodeRun> runs = byName(runner.run(graph));
+
+        assertFalse(runs.get("yahoo").succeeded());
+        assertTrue(runs.get("pullback").succeeded());
+        assertEquals(List.of("pullback"), List.copyOf(events));
+    }
+
+    @Test
+    void run_emptyGraph_returnsNoRuns() {
+        assertEquals(List.of(), runner.run(JobGraph.builder("empty").build()));
+    }
+
+    @Test
+    void run_callerInterrupted_returnsEmptyAndKeepsFlag() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        JobGraph graph =
+                JobGraph.builder("monitoring")
+                        .node(
+                                "slow",
+                                Set.of(),
+                                Set.of(),
+                                () -> {
+                                    started.countDown();
+                                    Thread.sleep(10_000);
+                                })
+                        .build();
+
+        CountDownLatch done = new CountDownLatch(1);
+        boolean[] result = new boolean[2];
+        Thread caller =
+                Thread.ofPlatform()
+                        .start(
+                                () -> {
+                                    result[0] = runner.run(graph).isEmpty();
+                                    result[1] = Thread.currentThread().isInterrupted();
+                                    done.countDown();
+                                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        caller.interrupt();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(result[0]);
+        assertTrue(result[1]);
+    }
+
+    private static Map<String, JobGraphRunner.NodeRun> byName(List<JobGraphRunner.NodeRun> runs) {
+        return runs.stream()
+                .collect(Collectors.toMap(JobGraphRunner.NodeRun::name, Function.identity()));
+    }
+
+    private static void awaitPeer(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("peer node never started");
+        }
+    }
+}
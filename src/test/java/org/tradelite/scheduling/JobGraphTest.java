@@ -0,0 +1,94 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class JobGraphTest {
+
+    @Test
+    void build_derivesDependenciesFromInputsAndOutputs() {
+        JobGraph graph =
+                JobGraph.builder("monitoring")
+                        .node("pullback", Set.of("prices"), Set.of(), () -> {})
+                        .node("evaluator", Set.of(), Set.of("prices"), () -> {})
+                        .node("sectors", Set.of(), Set.of(), () -> {})
+                        .build();
+
+        assertEquals(Set.of("evaluator"), graph.dependenciesOf("pullback"));
+        assertEquals(Set.of(), graph.dependenciesOf("evaluator"));
+        assertEquals(Set.of(), graph.dependenciesOf("sectors"));
+    }
+
+    @Test
+    void build_ordersProducersBeforeConsumersAndKeepsDeclarationOrderOtherwise() {
+        JobGraph graph =
+                JobGraph.builder("monitoring")
+                        .node("pullback", Set.of("prices"), Set.of(), () -> {})
+                        .node("evaluator", Set.of(), Set.of("prices"), () -> {})
+                        .node("sectors", Set.of(), Set.of(), () -> {})
+                        .build();
+
+        List<String> order = graph.getNodes().stream().map(JobGraph.Node::name).toList();
+
+        assertEquals(List.of("evaluator", "sectors", "pullback"), order);
+    }
+
+    @Test
+    void build_inputFromSeveralProducers_dependsOnAll() {
+        JobGraph graph =
+                JobGraph.builder("monitoring")
+                        .node("finnhub", Set.of(), Set.of("prices"), () -> {})
+                        .node("yahoo", Set.of(), Set.of("prices"), () -> {})
+                        .node("report", Set.of("prices"), Set.of(), () -> {})
+                        .build();
+
+        assertEquals(Set.of("finnhub", "yahoo"), graph.dependenciesOf("report"));
+    }
+
+    @Test
+    void build_missingProducer_throws() {
+        JobGraph.Builder builder =
+                JobGraph.builder("monitoring")
+                        .node("pullback", Set.of("prices"), Set.of(), () -> {});
+
+        IllegalArgumentException thrown =
+                assertThrows(IllegalArgumentException.class, builder::build);
+
+        assertTrue(thrown.getMessage().contains("prices"));
+    }
+
+    @Test
+    void build_cycle_throws() {
+        JobGraph.Builder builder =
+                JobGraph.builder("monitoring")
+                        .node("a", Set.of("b-out"), Set.of("a-out"), () -> {})
+                        .node("b", Set.of("a-out"), Set.of("b-out"), () -> {});
+
+        IllegalArgumentException thrown =
+                assertThrows(IllegalArgumentException.class, builder::build);
+
+        assertTrue(thrown.getMessage().contains("cycle"));
+    }
+
+    @Test
+    void node_duplicateName_throws() {
+        JobGraph.Builder builder =
+                JobGraph.builder("monitoring").node("a", Set.of(), Set.of(), () -> {});
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> builder.node("a", Set.of(), Set.of(), () -> {}));
+    }
+
+    @Test
+    void dependenciesOf_unknownNode_throws() {
+        JobGraph graph = JobGraph.builder("monitoring").build();
+
+        assertThrows(IllegalArgumentException.class, () -> graph.dependenciesOf("missing"));
+    }
+}
@@ -0,0 +1,336 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.repository.JobRunRepository;
+
+class JobLaneExecutorTest {
+
+    private TradebotSchedulingProperties properties;
+    private JobRunRepository jobRunRepository;
+    private InstanceCoordinator coordinator;
+    private JobLaneExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TradebotSchedulingProperties();
+        jobRunRepository = mock(JobRunRepository.class);
+        coordinator = InstanceCoordinator.standalone();
+        executor = newExecutor();
+    }
+
+    @Test
+    void execute_freeLane_runsBodyOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean ran =
+                executor.execute(
+                        JobLane.MAINTENANCE,
+                        "maintenance",
+                        () -> {
+                            assertEquals(caller, Thread.currentThread());
+                            runs.incrementAndGet();
+                        });
+
+        assertTrue(ran);
+        assertEquals(1, runs.get());
+        assertEquals(0, executor.getActiveCount(JobLane.MAINTENANCE));
+        verify(jobRunRepository)
+                .save(
+                        argThat(
+                                jobRun ->
+                                        jobRun.jobName().equals("maintenance")
+                                                && jobRun.outcome() == JobOutcome.SUCCEEDED));
+        assertFalse(executor.isRunning("maintenance"));
+    }
+
+    @Test
+    void execute_bodyThrows_releasesSlot() {
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        executor.execute(
+                                JobLane.BATCH_INGEST,
+                                "ohlcv",
+                                () -> {
+                                    throw new IllegalStateException("boom");
+                                }));
+
+        assertEquals(0, executor.getActiveCount(JobLane.BATCH_INGEST));
+        assertTrue(executor.execute(JobLane.BATCH_INGEST, "ohlcv", () -> {}));
+    }
+
+    @Test
+    void skipPolicy_overlappingTrigger_isDropped() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first =
+                runAsync(JobLane.BATCH_INGEST, "ohlcv", blockingBody(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        boolean second = executor.execute(JobLane.BATCH_INGEST, "ohlcv", () -> {});
+
+        assertFalse(second);
+        assertEquals(1, executor.getSkippedCount(JobLane.BATCH_INGEST));
+        verify(jobRunRepository).save(argThat(jobRun -> jobRun.outcome() == JobOutcome.SKIPPED));
+        assertTrue(executor.isRunning("ohlcv"));
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void stopAccepting_dropsNewTriggersWithoutLedgerRow() {
+        executor.stopAccepting();
+        AtomicInteger runs = new AtomicInteger();
+
+        assertFalse(executor.execute(JobLane.REALTIME, "stocks", runs::incrementAndGet));
+
+        assertEquals(0, runs.get());
+        verify(jobRunRepository, never()).save(any());
+    }
+
+    @Test
+    void stopAccepting_dropsTriggerQueuedBehindBusyLane() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first =
+                runAsync(JobLane.SIGNALS, "vfi-report", blockingBody(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        AtomicInteger queuedRuns = new AtomicInteger();
+        CompletableFuture<Boolean> queued =
+                runAsync(JobLane.SIGNALS, "ema-report", queuedRuns::incrementAndGet);
+        Thread.sleep(100);
+
+        executor.stopAccepting();
+        release.countDown();
+
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertFalse(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0, queuedRuns.get());
+        assertEquals(0, executor.getActiveCount(JobLane.SIGNALS));
+        assertFalse(executor.isRunning("ema-report"));
+    }
+
+    @Test
+    void busyLane_doesNotBlockOtherLanes() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> ohlcv =
+                runAsync(JobLane.BATCH_INGEST, "ohlcv", blockingBody(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger realtimeRuns = new AtomicInteger();
+        boolean ran = executor.execute(JobLane.REALTIME, "stocks", realtimeRuns::incrementAndGet);
+
+        assertTrue(ran);
+        assertEquals(1, realtimeRuns.get());
+        assertEquals(1, executor.getActiveCount(JobLane.BATCH_INGEST));
+        release.countDown();
+        assertTrue(ohlcv.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void queuePolicy_queuesWithoutBlockingThenRunsAfterSlotFrees() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first =
+                runAsync(JobLane.SIGNALS, "vfi-report", blockingBody(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger queuedRuns = new AtomicInteger();
+        boolean ranNow =
+                executor.execute(JobLane.SIGNALS, "ema-report", queuedRuns::incrementAndGet);
+
+        assertFalse(ranNow);
+        assertEquals(0, queuedRuns.get());
+
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, queuedRuns.get());
+        assertEquals(0, executor.getSkippedCount(JobLane.SIGNALS));
+        assertEquals(0, executor.getActiveCount(JobLane.SIGNALS));
+    }
+
+    @Test
+    void queuePolicy_burstWhileBusy_holdsNoThreadsAndRunsInTriggerOrder() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first =
+                runAsync(JobLane.SIGNALS, "dailyEmaReport", blockingBody(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        List<String> ran = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        for (String job : List.of("hourlySignals", "sectorRsReport", "vfiReport")) {
+            // Returns on the trigger thread right away instead of parking it
+            assertFalse(
+                    executor.execute(
+                            JobLane.SIGNALS,
+                            job,
+                            () -> {
+                                ran.add(job);
+                                threads.add(Thread.currentThread().getName());
+                            }));
+        }
+        assertTrue(ran.isEmpty());
+
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("hourlySignals", "sectorRsReport", "vfiReport"), ran);
+        assertEquals(1, threads.stream().distinct().count());
+        assertEquals(0, executor.getActiveCount(JobLane.SIGNALS));
+        verify(jobRunRepository, never())
+                .save(argThat(jobRun -> jobRun.outcome() == JobOutcome.SKIPPED));
+    }
+
+    @Test
+    void coalescePolicy_keepsSingleWaitingTrigger() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first =
+                runAsync(JobLane.REALTIME, "stocks", blockingBody(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger catchUpRuns = new AtomicInteger();
+        CompletableFuture<Boolean> waiting =
+                runAsync(JobLane.REALTIME, "stocks", catchUpRuns::incrementAndGet);
+        Thread.sleep(100);
+
+        boolean third = executor.execute(JobLane.REALTIME, "stocks", catchUpRuns::incrementAndGet);
+
+        assertFalse(third);
+        assertEquals(1, executor.getSkippedCount(JobLane.REALTIME));
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(1, catchUpRuns.get());
+    }
+
+    @Test
+    void laneOverride_raisesConcurrencyAndChangesPolicy() throws Exception {
+        TradebotSchedulingProperties.LaneSettings settings =
+                new TradebotSchedulingProperties.LaneSettings();
+        settings.setMaxConcurrent(2);
+        settings.setPolicy(OverlapPolicy.QUEUE);
+        properties.getLanes().put(JobLane.BATCH_INGEST, settings);
+        executor = newExecutor();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> ohlcv =
+                runAsync(JobLane.BATCH_INGEST, "ohlcv", blockingBody(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        boolean sectorRotation =
+                executor.execute(JobLane.BATCH_INGEST, "sector-rotation", () -> {});
+
+        assertTrue(sectorRotation);
+        assertEquals(OverlapPolicy.QUEUE, executor.getPolicy(JobLane.BATCH_INGEST));
+        release.countDown();
+        assertTrue(ohlcv.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void coalescePolicy_interruptedWhileWaiting_returnsFalseAndKeepsFlag() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first =
+                runAsync(JobLane.REALTIME, "stocks", blockingBody(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger queuedRuns = new AtomicInteger();
+        CompletableFuture<Boolean> interruptFlag = new CompletableFuture<>();
+        Thread waiter =
+                Thread.ofPlatform()
+                        .start(
+                                () -> {
+                                    boolean ran =
+                                            executor.execute(
+                                                    JobLane.REALTIME,
+                                                    "stocks",
+                                                    queuedRuns::incrementAndGet);
+                                    interruptFlag.complete(
+                                            !ran && Thread.currentThread().isInterrupted());
+                                });
+        Thread.sleep(100);
+        waiter.interrupt();
+
+        assertTrue(interruptFlag.get(5, TimeUnit.SECONDS));
+        assertEquals(0, queuedRuns.get());
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertFalse(executor.isRunning("stocks"));
+    }
+
+    @Test
+    void executeOnLeader_leader_runsAndRecords() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(
+                executor.executeOnLeader(JobLane.SIGNALS, "dailyEmaReport", runs::incrementAndGet));
+
+        assertEquals(1, runs.get());
+        verify(jobRunRepository).save(argThat(jobRun -> jobRun.jobName().equals("dailyEmaReport")));
+    }
+
+    @Test
+    void executeOnLeader_follower_dropsTriggerWithoutLedgerRow() {
+        coordinator = mock(InstanceCoordinator.class);
+        executor = newExecutor();
+        AtomicInteger runs = new AtomicInteger();
+
+        assertFalse(
+                executor.executeOnLeader(JobLane.SIGNALS, "dailyEmaReport", runs::incrementAndGet));
+
+        assertEquals(0, runs.get());
+        verify(jobRunRepository, never()).save(any());
+    }
+
+    private JobLaneExecutor newExecutor() {
+        JobRunLedger ledger =
+                new JobRunLedger(
+                        jobRunRepository,
+                        new JobScheduleCatalog(),
+                        mock(TelegramGateway.class),
+                        properties,
+                        Clock.systemUTC());
+        return new JobLaneExecutor(properties, ledger, coordinator, Clock.systemUTC());
+    }
+
+    private CompletableFuture<Boolean> runAsync(JobLane lane, String jobName, Runnable body) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        Thread.ofPlatform().start(() -> result.complete(executor.execute(lane, jobName, body)));
+        return result;
+    }
+
+    private static Runnable blockingBody(CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+}
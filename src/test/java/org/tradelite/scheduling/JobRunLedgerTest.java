@@ -0,0 +1,634 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.tradelite.RootErrorHandler;
+import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.repository.JobRunRecord;
+import org.tradelite.repository.JobRunRepository;
+
+class JobRunLedgerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-30T15:00:00Z");
+
+    private JobRunRepository repository;
+    private TelegramGateway telegramClient;
+    private Clock clock;
+    private JobRunLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(JobRunRepository.class);
+        telegramClient = mock(TelegramGateway.class);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        ledger =
+                new JobRunLedger(
+                        repository,
+                        new JobScheduleCatalog(),
+                        telegramClient,
+                        new TradebotSchedulingProperties(),
+                        clock);
+    }
+
+    @Test
+    void recordScheduled_savesTimingsAndCountersFromRunContext() {
+        when(clock.instant()).thenReturn(NOW.plusMillis(10), NOW.plusSeconds(42));
+
+        ledger.recordScheduled(
+                "stockMarketMonitoring",
+                NOW,
+                () -> {
+                    JobRunContext.recordSymbolsProcessed(3);
+                    JobRunContext.recordApiCall();
+                    JobRunContext.recordApiCall();
+                });
+
+        JobRunRecord saved = captureSaved();
+        assertEquals("stockMarketMonitoring", saved.jobName());
+        assertEquals(JobTrigger.SCHEDULED, saved.trigger());
+        assertEquals(NOW, saved.triggeredAt());
+        assertEquals(NOW.plusMillis(10), saved.startedAt());
+        assertEquals(41_990, saved.durationMs());
+        assertEquals(JobOutcome.SUCCEEDED, saved.outcome());
+        assertEquals(3, saved.symbolsProcessed());
+        assertEquals(2, saved.apiCalls());
+        assertFalse(saved.overrun());
+    }
+
+    @Test
+    void recordScheduled_finishingAfterNextFire_isOverrun() {
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(301));
+
+        ledger.recordScheduled("stockMarketMonitoring", NOW, () -> {});
+
+        assertTrue(captureSaved().overrun());
+    }
+
+    @Test
+    void recordScheduled_stepFailureCaughtByRootErrorHandler_isFailed() {
+        RootErrorHandler rootErrorHandler = new RootErrorHandler();
+
+        ledger.recordScheduled(
+                "periodicMaintenance",
+                NOW,
+                () ->
+                        rootErrorHandler.run(
+                                () -> {
+                                    throw new IllegalStateException("db locked");
+                                }));
+
+        assertEquals(JobOutcome.FAILED, captureSaved().outcome());
+    }
+
+    @Test
+    void recordScheduled_bodyThrows_recordsFailureAndRethrows() {
+        Runnable body =
+                () -> {
+                    throw new IllegalStateException("boom");
+                };
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> ledger.recordScheduled("periodicMaintenance", NOW, body));
+
+        assertEquals(JobOutcome.FAILED, captureSaved().outcome());
+    }
+
+    @Test
+    void recordScheduled_repositoryFails_doesNotFailJob() {
+        doThrow(new IllegalStateException("db down")).when(repository).save(any());
+        List<String> ran = new ArrayList<>();
+
+        ledger.recordScheduled("periodicMaintenance", NOW, () -> ran.add("ran"));
+
+        assertEquals(List.of("ran"), ran);
+    }
+
+    @Test
+    void recordManual_returnsBodyResultAndRecordsOutcome() {
+        boolean result = ledger.recordManual("dailyEmaReport", () -> false);
+
+        assertFalse(result);
+        JobRunRecord saved = captureSaved();
+        assertEquals(JobTrigger.MANUAL, saved.trigger());
+        assertEquals(JobOutcome.FAILED, saved.outcome());
+    }
+
+    @Test
+    void runContext_outsideRun_isNoOp() {
+        JobRunContext.recordApiCall();
+        JobRunContext.recordSymbolsProcessed(5);
+        JobRunContext.markFailed();
+
+        ledger.recordManual("dailyEmaReport", () -> true);
+
+        JobRunRecord saved = captureSaved();
+        assertEquals(0, saved.apiCalls());
+        assertEquals(JobOutcome.SUCCEEDED, saved.outcome());
+    }
+
+    @Test
+    void runContext_propagatedToFanOutThreads() {
+        SymbolFanOut fanOut = new SymbolFanOut(4);
+
+        ledger.recordScheduled(
+                "dailyVfiReport",
+                NOW,
+                () ->
+                        fanOut.map(
+                                List.of("AAPL", "MSFT", "NVDA"),
+                                symbol -> {
+                                    JobRunContext.recordApiCall();
+                                    return java.util.Optional.of(symbol);
+                                }));
+
+        JobRunRecord saved = captureSaved();
+        assertEquals(3, saved.symbolsProcessed());
+        assertEquals(3, saved.apiCalls());
+    }
+
+    @Test
+    void runContext_notInheritedByThreadsStartedDuringRun() {
+        ledger.recordScheduled(
+                "dailyVfiReport",
+                NOW,
+                () -> {
+                    JobRunContext.recordApiCall();
+                    Thread thread = Thread.ofPlatform().start(JobRunContext::recordApiCall);
+                    try {
+                        thread.join();
+                    } catch (InterruptedException _) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        assertEquals(1, captureSaved().apiCalls());
+    }
+
+    @Test
+    void recordManual_afterScheduledRunWithinWindow_reusesItsResult() {
+        AtomicInteger runs = new AtomicInteger();
+        ledger.recordScheduled("dailyOhlcvFetch", NOW, runs::incrementAndGet);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(4)));
+
+        boolean result =
+                ledger.recordManual(
+                        "dailyOhlcvFetch",
+                        () -> {
+                            runs.incrementAndGet();
+                            return true;
+                        });
+
+        assertTrue(result);
+        assertEquals(1, runs.get());
+        verify(repository, times(1)).save(any());
+    }
+
+    @Test
+    void recordManual_afterWindow_runsAgain() {
+        AtomicInteger runs = new AtomicInteger();
+        ledger.recordScheduled("dailyOhlcvFetch", NOW, runs::incrementAndGet);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(6)));
+
+        ledger.recordManual("dailyOhlcvFetch", () -> runs.incrementAndGet() > 0);
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void recordScheduled_afterManualRunWithinWindow_recordsCoalescedRow() {
+        ledger.recordManual("dailyOhlcvFetch", () -> true);
+        AtomicInteger runs = new AtomicInteger();
+
+        ledger.recordScheduled("dailyOhlcvFetch", NOW.plusSeconds(60), runs::incrementAndGet);
+
+        assertEquals(0, runs.get());
+        ArgumentCaptor<JobRunRecord> saved = ArgumentCaptor.forClass(JobRunRecord.class);
+        verify(repository, times(2)).save(saved.capture());
+        JobRunRecord coalesced = saved.getAllValues().getLast();
+        assertEquals(JobOutcome.COALESCED, coalesced.outcome());
+        assertEquals(JobTrigger.SCHEDULED, coalesced.trigger());
+        assertEquals(NOW.plusSeconds(60), coalesced.triggeredAt());
+    }
+
+    @Test
+    void recordScheduled_afterScheduledRun_alwaysRuns() {
+        AtomicInteger runs = new AtomicInteger();
+
+        ledger.recordScheduled("stockMarketMonitoring", NOW, runs::incrementAndGet);
+        ledger.recordScheduled("stockMarketMonitoring", NOW.plusSeconds(60), runs::incrementAndGet);
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void recordManual_afterFailedRun_runsAgain() {
+        ledger.recordManual("dailyOhlcvFetch", () -> false);
+
+        assertTrue(ledger.recordManual("dailyOhlcvFetch", () -> true));
+    }
+
+    @Test
+    void recordManual_whileRunActive_attachesAndGetsItsResult() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<Void> scheduled =
+                CompletableFuture.runAsync(
+                        () ->
+                                ledger.recordScheduled(
+                                        "dailyOhlcvFetch",
+                                        NOW,
+                                        () -> {
+                                            runs.incrementAndGet();
+                                            started.countDown();
+                                            awaitQuietly(release);
+                                        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> manual =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                ledger.recordManual(
+                                        "dailyOhlcvFetch", () -> runs.incrementAndGet() > 0));
+        Thread.sleep(100);
+        assertFalse(manual.isDone());
+
+        release.countDown();
+        scheduled.get(5, TimeUnit.SECONDS);
+        assertTrue(manual.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void recordScheduled_whileLimitedManualRunActive_runsItsOwnFullRun() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger limitedRuns = new AtomicInteger();
+        AtomicInteger fullRuns = new AtomicInteger();
+        CompletableFuture<Boolean> limited =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                ledger.recordManual(
+                                        "dailyOhlcvFetch",
+                                        "dailyOhlcvFetch:limit=5",
+                                        () -> {
+                                            limitedRuns.incrementAndGet();
+                                            started.countDown();
+                                            awaitQuietly(release);
+                                            return true;
+                                        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> scheduled =
+                CompletableFuture.runAsync(
+                        () ->
+                                ledger.recordScheduled(
+                                        "dailyOhlcvFetch", NOW, fullRuns::incrementAndGet));
+        scheduled.get(5, TimeUnit.SECONDS);
+        assertEquals(1, fullRuns.get());
+
+        release.countDown();
+        assertTrue(limited.get(5, TimeUnit.SECONDS));
+        ledger.recordScheduled("dailyOhlcvFetch", NOW.plusSeconds(60), fullRuns::incrementAndGet);
+
+        assertEquals(2, fullRuns.get());
+        assertEquals(1, limitedRuns.get());
+        ArgumentCaptor<JobRunRecord> saved = ArgumentCaptor.forClass(JobRunRecord.class);
+        verify(repository, times(3)).save(saved.capture());
+        assertTrue(
+                saved.getAllValues().stream()
+                        .allMatch(jobRun -> jobRun.jobName().equals("dailyOhlcvFetch")));
+        assertTrue(
+                saved.getAllValues().stream()
+                        .noneMatch(jobRun -> jobRun.outcome() == JobOutcome.COALESCED));
+    }
+
+    @Test
+    void summarize_coalescedScheduledTrigger_isNeitherRunNorMissedFire() {
+        Instant first = NOW.minus(Duration.ofMinutes(10));
+        when(repository.findSince(any()))
+                .thenReturn(
+                        List.of(
+                                run("stockMarketMonitoring", first, 1000, false),
+                                coalesced("stockMarketMonitoring", first.plusSeconds(300)),
+                                run("stockMarketMonitoring", first.plusSeconds(600), 1000, false)));
+
+        JobRunStats stats = ledger.summarize(Duration.ofDays(7)).getFirst();
+
+        assertEquals(2, stats.runs());
+        assertEquals(0, stats.missedFires());
+    }
+
+    @Test
+    void recordSkipped_savesSkippedRow() {
+        ledger.recordSkipped("dailyOhlcvFetch", NOW);
+
+        JobRunRecord saved = captureSaved();
+        assertEquals(JobOutcome.SKIPPED, saved.outcome());
+        assertEquals(0, saved.durationMs());
+    }
+
+    @Test
+    void summarize_computesPercentilesOverrunsAndMissedFires() {
+        List<JobRunRecord> runs = new ArrayList<>();
+        Instant first = NOW.minus(Duration.ofHours(2));
+        // 24 fires expected every 5 minutes over 115 minutes; fire #10 has no row, #11 skipped
+        for (int i = 0; i < 24; i++) {
+            Instant triggeredAt = first.plusSeconds(300L * i);
+            if (i == 10) {
+                continue;
+            }
+            if (i == 11) {
+                runs.add(skipped("stockMarketMonitoring", triggeredAt));
+                continue;
+            }
+            runs.add(run("stockMarketMonitoring", triggeredAt, (i + 1) * 1000L, i == 23));
+        }
+        runs.add(manual("stockMarketMonitoring", first.plusSeconds(30), 400_000));
+        when(repository.findSince(NOW.minus(Duration.ofDays(7)))).thenReturn(runs);
+
+        JobRunStats stats = ledger.summarize(Duration.ofDays(7)).getFirst();
+
+        assertEquals("stockMarketMonitoring", stats.jobName());
+        assertEquals(23, stats.runs());
+        assertEquals(1, stats.overruns());
+        assertEquals(2, stats.missedFires());
+        assertEquals(400_000, stats.maxMs());
+        assertEquals(400_000, stats.p99Ms());
+        assertEquals(24_000, stats.p95Ms());
+        assertEquals(14_000, stats.p50Ms());
+    }
+
+    @Test
+    void summarize_groupsAndSortsByJobName() {
+        when(repository.findSince(any()))
+                .thenReturn(
+                        List.of(
+                                run("stockMarketMonitoring", NOW, 1000, false),
+                                run("periodicMaintenance", NOW, 1000, false)));
+
+        List<String> names =
+                ledger.summarize(Duration.ofDays(1)).stream().map(JobRunStats::jobName).toList();
+
+        assertEquals(List.of("periodicMaintenance", "stockMarketMonitoring"), names);
+    }
+
+    @Test
+    void percentile_nearestRank() {
+        List<Long> sorted = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+        assertEquals(5, JobRunLedger.percentile(sorted, 50));
+        assertEquals(10, JobRunLedger.percentile(sorted, 95));
+        assertEquals(1, JobRunLedger.percentile(List.of(1L), 99));
+        assertEquals(0, JobRunLedger.percentile(List.of(), 50));
+    }
+
+    @Test
+    void formatDuration_picksReadableUnit() {
+        assertEquals("250ms", JobRunLedger.formatDuration(250));
+        assertEquals("4.2s", JobRunLedger.formatDuration(4_200));
+        assertEquals("5m12s", JobRunLedger.formatDuration(312_000));
+    }
+
+    @Test
+    void sendWeeklyDigest_flagsOverrunsMissedFiresAndFailures() {
+        when(repository.findSince(NOW.minus(JobRunLedger.DIGEST_WINDOW)))
+                .thenReturn(
+                        List.of(
+                                run("stockMarketMonitoring", NOW, 320_000, true),
+                                skipped("stockMarketMonitoring", NOW.plusSeconds(300)),
+                                failed("dailyEmaReport", NOW)));
+
+        ledger.sendWeeklyDigest();
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(telegramClient).sendMessage(message.capture());
+        assertTrue(message.getValue().contains("*Weekly Job Digest*"));
+        assertTrue(message.getValue().contains("*stockMarketMonitoring*: 1 runs"));
+        assertTrue(message.getValue().contains("1 overruns"));
+        assertTrue(message.getValue().contains("1 missed"));
+        assertTrue(message.getValue().contains("*dailyEmaReport*: 1 runs"));
+        assertTrue(message.getValue().contains("1 failed"));
+    }
+
+    @Test
+    void sendWeeklyDigest_noRuns_skipsTelegram() {
+        when(repository.findSince(any())).thenReturn(List.of());
+
+        ledger.sendWeeklyDigest();
+
+        verify(telegramClient, never()).sendMessage(anyString());
+    }
+
+    @Test
+    void pruneOldRuns_deletesBeyondRetention() {
+        ledger.pruneOldRuns();
+
+        verify(repository).deleteOlderThan(NOW.minus(Duration.ofDays(90)));
+    }
+
+    @Test
+    void deadline_defaultsToNextFire() {
+        assertEquals(NOW.plusSeconds(300), ledger.deadline("stockMarketMonitoring", NOW));
+    }
+
+    @Test
+    void deadline_overriddenPerJob_zeroDisables() {
+        TradebotSchedulingProperties properties = new TradebotSchedulingProperties();
+        properties.getJobDeadlines().put("stockMarketMonitoring", Duration.ofMinutes(2));
+        properties.getJobDeadlines().put("dailyOhlcvFetch", Duration.ZERO);
+        ledger =
+                new JobRunLedger(
+                        repository, new JobScheduleCatalog(), telegramClient, properties, clock);
+
+        assertEquals(NOW.plusSeconds(120), ledger.deadline("stockMarketMonitoring", NOW));
+        assertNull(ledger.deadline("dailyOhlcvFetch", NOW));
+    }
+
+    @Test
+    void recordScheduled_pastDeadline_stopsAtNextCheckpointAndRecordsPartialRun() {
+        Instant[] now = {NOW};
+        when(clock.instant()).thenAnswer(_ -> now[0]);
+        List<String> processed = new ArrayList<>();
+
+        ledger.recordScheduled(
+                "stockMarketMonitoring",
+                NOW,
+                () -> {
+                    for (String symbol : List.of("AAPL", "MSFT", "NVDA")) {
+                        JobRunContext.checkDeadline();
+                        processed.add(symbol);
+                        JobRunContext.recordSymbolsProcessed(1);
+                        now[0] = now[0].plusSeconds(200);
+                    }
+                });
+
+        assertEquals(List.of("AAPL", "MSFT"), processed);
+        JobRunRecord saved = captureSaved();
+        assertEquals(JobOutcome.CANCELLED, saved.outcome());
+        assertEquals(2, saved.symbolsProcessed());
+    }
+
+    @Test
+    void recordScheduled_cancellationPointReportsOverrun_isCancelled() {
+        ledger.recordScheduled(
+                "stockMarketMonitoring",
+                NOW,
+                () -> {
+                    // Swallowed, as a client's catch-all would; the run is still marked.
+                    try {
+                        throw JobRunContext.deadlineExceeded("budget gone");
+                    } catch (RuntimeException _) {
+                        // ignored
+                    }
+                });
+
+        assertEquals(JobOutcome.CANCELLED, captureSaved().outcome());
+    }
+
+    @Test
+    void recordManual_hasNoDeadline() {
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofDays(1)));
+
+        boolean result =
+                ledger.recordManual(
+                        "stockMarketMonitoring",
+                        () -> {
+                            JobRunContext.checkDeadline();
+                            return true;
+                        });
+
+        assertTrue(result);
+        assertEquals(JobOutcome.SUCCEEDED, captureSaved().outcome());
+    }
+
+    @Test
+    void boundedByDeadline_capsTimeoutAtTimeLeft() {
+        when(clock.instant()).thenReturn(NOW.plusSeconds(290));
+        List<Duration> bounded = new ArrayList<>();
+
+        ledger.recordScheduled(
+                "stockMarketMonitoring",
+                NOW,
+                () -> {
+                    bounded.add(JobRunContext.boundedByDeadline(Duration.ofSeconds(15)));
+                    bounded.add(JobRunContext.boundedByDeadline(Duration.ofSeconds(5)));
+                });
+
+        assertEquals(List.of(Duration.ofSeconds(10), Duration.ofSeconds(5)), bounded);
+        assertEquals(
+                Duration.ofSeconds(15), JobRunContext.boundedByDeadline(Duration.ofSeconds(15)));
+    }
+
+    private JobRunRecord captureSaved() {
+        ArgumentCaptor<JobRunRecord> captor = ArgumentCaptor.forClass(JobRunRecord.class);
+        verify(repository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static JobRunRecord run(
+            String jobName, Instant triggeredAt, long durationMs, boolean overrun) {
+        return new JobRunRecord(
+                jobName,
+                JobTrigger.SCHEDULED,
+                triggeredAt,
+                triggeredAt,
+                triggeredAt.plusMillis(durationMs),
+                durationMs,
+                JobOutcome.SUCCEEDED,
+                10,
+                10,
+                overrun);
+    }
+
+    private static JobRunRecord manual(String jobName, Instant triggeredAt, long durationMs) {
+        return new JobRunRecord(
+                jobName,
+                JobTrigger.MANUAL,
+                triggeredAt,
+                triggeredAt,
+                triggeredAt.plusMillis(durationMs),
+                durationMs,
+                JobOutcome.SUCCEEDED,
+                0,
+                0,
+                false);
+    }
+
+    private static JobRunRecord failed(String jobName, Instant triggeredAt) {
+        return new JobRunRecord(
+                jobName,
+                JobTrigger.SCHEDULED,
+                triggeredAt,
+                triggeredAt,
+                triggeredAt,
+                0,
+                JobOutcome.FAILED,
+                0,
+                0,
+                false);
+    }
+
+    private static JobRunRecord skipped(String jobName, Instant triggeredAt) {
+        return new JobRunRecord(
+                jobName,
+                JobTrigger.SCHEDULED,
+                triggeredAt,
+                triggeredAt,
+                triggeredAt,
+                0,
+                JobOutcome.SKIPPED,
+                0,
+                0,
+                false);
+    }
+
+    private static JobRunRecord coalesced(String jobName, Instant triggeredAt) {
+        return new JobRunRecord(
+                jobName,
+                JobTrigger.SCHEDULED,
+                triggeredAt,
+                triggeredAt,
+                triggeredAt,
+                0,
+                JobOutcome.COALESCED,
+                0,
+                0,
+                false);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
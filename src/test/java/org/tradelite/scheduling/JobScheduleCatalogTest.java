@@ -0,0 +1,89 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.annotation.Scheduled;
+
+class JobScheduleCatalogTest {
+
+    private final JobScheduleCatalog catalog = new JobScheduleCatalog();
+
+    @Test
+    void find_fixedRateJob_nextFireIsOneRateLater() {
+        JobSchedule schedule = catalog.find("stockMarketMonitoring").orElseThrow();
+        Instant start = Instant.parse("2026-03-30T15:00:00Z");
+
+        assertEquals(Duration.ofMinutes(5), schedule.fixedRate());
+        assertEquals(start.plusSeconds(300), schedule.nextFireAfter(start));
+    }
+
+    @Test
+    void find_cronJob_usesDeclaredZone() {
+        JobSchedule schedule = catalog.find("dailyOhlcvFetch").orElseThrow();
+
+        // Friday 23:00 CET fire -> next fire Monday 23:00 CET (MON-FRI)
+        Instant friday = Instant.parse("2026-01-16T22:00:00Z");
+
+        assertEquals(Instant.parse("2026-01-19T22:00:00Z"), schedule.nextFireAfter(friday));
+    }
+
+    @Test
+    void all_listsEveryScheduledJobByName() {
+        var names = catalog.all().stream().map(JobSchedule::jobName).toList();
+
+        assertTrue(names.contains("stockMarketMonitoring"));
+        assertTrue(names.contains("dailyOhlcvFetch"));
+        assertEquals(names.stream().sorted().toList(), names);
+    }
+
+    @Test
+    void find_unscheduledMethod_isEmpty() {
+        assertTrue(catalog.find("manualStockMarketMonitoring").isEmpty());
+    }
+
+    @Test
+    void expectedFires_fixedRate_countsInclusiveWindow() {
+        JobSchedule schedule = JobSchedule.fixedRate("job", Duration.ofMinutes(5));
+        Instant from = Instant.parse("2026-03-30T15:00:00Z");
+
+        assertEquals(4, schedule.expectedFires(from, from.plusSeconds(900), 100));
+        assertEquals(0, schedule.expectedFires(from, from.minusSeconds(1), 100));
+        assertEquals(2, schedule.expectedFires(from, from.plusSeconds(900), 2));
+    }
+
+    @Test
+    void expectedFires_cron_skipsDaysWithoutFires() {
+        JobSchedule schedule =
+                JobSchedule.cron("job", "0 0 9 * * MON-FRI", java.time.ZoneId.of("UTC"));
+
+        // Friday 09:00 through Monday 09:00: Friday and Monday only
+        assertEquals(
+                2,
+                schedule.expectedFires(
+                        Instant.parse("2026-01-16T09:00:00Z"),
+                        Instant.parse("2026-01-19T09:00:00Z"),
+                        100));
+    }
+
+    @Test
+    void constructor_customClass_readsTimeUnit() {
+        JobScheduleCatalog custom = new JobScheduleCatalog(SecondsScheduler.class);
+
+        assertEquals(
+                Duration.ofSeconds(30),
+                custom.find("everyThirtySeconds").orElseThrow().fixedRate());
+        assertTrue(custom.find("delayed").isEmpty());
+    }
+
+    static class SecondsScheduler {
+        @Scheduled(fixedRate = 30, timeUnit = java.util.concurrent.TimeUnit.SECONDS)
+        void everyThirtySeconds() {}
+
+        @Scheduled(fixedDelay = 1000)
+        void delayed() {}
+    }
+}
@@ -0,0 +1,116 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class JobTriggerCoalescerTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-14T23:00:00Z");
+
+    private final AtomicReference<Duration> window = new AtomicReference<>(Duration.ofMinutes(5));
+    private final JobTriggerCoalescer coalescer = new JobTriggerCoalescer(window::get);
+
+    @Test
+    void run_freshJob_runsBody() {
+        JobTriggerCoalescer.Result result =
+                coalescer.run("ohlcv", JobTrigger.MANUAL, NOW, () -> completion(true, NOW));
+
+        assertTrue(result.succeeded());
+        assertEquals(JobTriggerCoalescer.Source.RAN, result.source());
+    }
+
+    @Test
+    void run_withinWindow_reusesSuccessfulResult() {
+        coalescer.run("ohlcv", JobTrigger.SCHEDULED, NOW, () -> completion(true, NOW));
+
+        JobTriggerCoalescer.Result result =
+                coalescer.run(
+                        "ohlcv",
+                        JobTrigger.MANUAL,
+                        NOW.plus(Duration.ofMinutes(5)),
+                        () -> completion(false, NOW));
+
+        assertTrue(result.succeeded());
+        assertEquals(JobTriggerCoalescer.Source.REUSED, result.source());
+    }
+
+    @Test
+    void run_zeroWindow_onlyCoalescesOverlappingTriggers() {
+        window.set(Duration.ZERO);
+        coalescer.run("ohlcv", JobTrigger.SCHEDULED, NOW, () -> completion(true, NOW));
+
+        JobTriggerCoalescer.Result result =
+                coalescer.run("ohlcv", JobTrigger.MANUAL, NOW, () -> completion(true, NOW));
+
+        assertEquals(JobTriggerCoalescer.Source.RAN, result.source());
+    }
+
+    @Test
+    void run_otherJobName_isIndependent() {
+        coalescer.run("ohlcv", JobTrigger.MANUAL, NOW, () -> completion(true, NOW));
+
+        JobTriggerCoalescer.Result result =
+                coalescer.run("vfi", JobTrigger.MANUAL, NOW, () -> completion(true, NOW));
+
+        assertEquals(JobTriggerCoalescer.Source.RAN, result.source());
+    }
+
+    @Test
+    void run_bodyThrows_propagatesToOwnerAndFailsAttachedTrigger() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<JobTriggerCoalescer.Result> owner =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                coalescer.run(
+                                        "ohlcv",
+                                        JobTrigger.SCHEDULED,
+                                        NOW,
+                                        () -> {
+                                            started.countDown();
+                                            try {
+                                                release.await();
+                                            } catch (InterruptedException e) {
+                                                Thread.currentThread().interrupt();
+                                            }
+                                            throw new IllegalStateException("boom");
+                                        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<JobTriggerCoalescer.Result> attached =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                coalescer.run(
+                                        "ohlcv",
+                                        JobTrigger.MANUAL,
+                                        NOW,
+                                        () -> completion(true, NOW)));
+        Thread.sleep(100);
+
+        release.countDown();
+
+        Exception thrown = assertThrows(Exception.class, () -> owner.get(5, TimeUnit.SECONDS));
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+        JobTriggerCoalescer.Result result = attached.get(5, TimeUnit.SECONDS);
+        assertFalse(result.succeeded());
+        assertEquals(JobTriggerCoalescer.Source.ATTACHED, result.source());
+        assertEquals(
+                JobTriggerCoalescer.Source.RAN,
+                coalescer
+                        .run("ohlcv", JobTrigger.MANUAL, NOW, () -> completion(true, NOW))
+                        .source());
+    }
+
+    private static JobTriggerCoalescer.Completion completion(boolean succeeded, Instant at) {
+        return new JobTriggerCoalescer.Completion(succeeded, at);
+    }
+}
@@ -0,0 +1,272 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.mockito.ArgumentCaptor;
+import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.config.TradebotWatchdogProperties;
+import org.tradelite.repository.JobRunRecord;
+import org.tradelite.repository.JobRunRepository;
+
+/** Isolated: the watchdog sees every run open in the JVM, including other test classes' runs. */
+@Isolated
+class JobWatchdogTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-30T15:00:00Z");
+
+    @TempDir Path dumpDirectory;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private TelegramGateway telegramClient;
+    private Clock clock;
+    private TradebotWatchdogProperties properties;
+    private JobWatchdog watchdog;
+    private JobRunContext run;
+
+    @BeforeEach
+    void setUp() {
+        telegramClient = mock(TelegramGateway.class);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(_ -> now.get());
+        properties = new TradebotWatchdogProperties();
+        properties.setDumpDirectory(dumpDirectory.toString());
+        properties.setJfrDuration(Duration.ZERO);
+        watchdog = new JobWatchdog(properties, telegramClient, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (run != null) {
+            run.close();
+        }
+    }
+
+    @Test
+    void check_healthyRun_sendsNothing() {
+        run = JobRunContext.openRun("stockMarketMonitoring", NOW, NOW.plusSeconds(300), clock);
+        now.set(NOW.plusSeconds(60));
+
+        watchdog.check();
+
+        verify(telegramClient, never()).sendMessage(anyString());
+    }
+
+    @Test
+    void check_runPastDeadlineAndGrace_alertsOnceWithThreadDump() throws Exception {
+        run = JobRunContext.openRun("stockMarketMonitoring", NOW, NOW.plusSeconds(300), clock);
+        now.set(NOW.plusSeconds(300 + 61));
+
+        watchdog.check();
+        watchdog.check();
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(telegramClient, times(1)).sendMessage(message.capture());
+        assertTrue(message.getValue().contains("*Stuck job: stockMarketMonitoring*"));
+        assertTrue(message.getValue().contains("Still running 1m01s past its deadline"));
+        assertTrue(message.getValue().contains("Thread dump:"));
+        assertFalse(message.getValue().contains("JFR recording"));
+        Path dump = dumpDirectory.resolve("stockMarketMonitoring-20260330T150601Z-threads.txt");
+        assertTrue(Files.exists(dump));
+        assertTrue(Files.readString(dump).contains("JobWatchdogTest"));
+    }
+
+    @Test
+    void check_runPastExpectedDuration_alertsBeforeDeadline() {
+        properties.getExpectedDurations().put("dailyOhlcvFetch", Duration.ofMinutes(20));
+        run = JobRunContext.openRun("dailyOhlcvFetch", NOW, NOW.plus(Duration.ofDays(1)), clock);
+        now.set(NOW.plus(Duration.ofMinutes(21)));
+
+        watchdog.check();
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(telegramClient).sendMessage(message.capture());
+        assertTrue(message.getValue().contains("Running for 21m00s, expected 20m00s"));
+    }
+
+    @Test
+    void check_silentRun_namesTheFrameItIsBlockedIn() throws Exception {
+        properties.setHeartbeatTimeout(Duration.ofMillis(50));
+        run = JobRunContext.openRun("manualJob", NOW, null, clock);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread worker =
+                Thread.ofVirtual()
+                        .start(
+                                JobRunContext.propagate(
+                                        () -> {
+                                            JobRunContext.heartbeat();
+                                            blocked.countDown();
+                                            awaitQuietly(release);
+                                        }));
+        try {
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+
+            watchdog.check();
+
+            ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+            verify(telegramClient).sendMessage(message.capture());
+            assertTrue(message.getValue().contains("No heartbeat for"));
+            assertTrue(message.getValue().contains("via org.tradelite.scheduling.JobWatchdogTest"));
+        } finally {
+            release.countDown();
+            worker.join();
+        }
+    }
+
+    @Test
+    void check_heartbeatsKeepRunAlive() throws Exception {
+        properties.setHeartbeatTimeout(Duration.ofMillis(200));
+        run = JobRunContext.openRun("manualJob", NOW, null, clock);
+        Thread.sleep(250);
+        JobRunContext.recordSymbolsProcessed(1);
+
+        watchdog.check();
+
+        verify(telegramClient, never()).sendMessage(anyString());
+    }
+
+    @Test
+    void check_interruptEnabled_cancelsRunAndInterruptsItsThreads() throws Exception {
+        properties.setInterrupt(true);
+        run = JobRunContext.openRun("stockMarketMonitoring", NOW, NOW.plusSeconds(300), clock);
+        CountDownLatch blocked = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread worker =
+                Thread.ofVirtual()
+                        .start(
+                                JobRunContext.propagate(
+                                        () -> {
+                                            JobRunContext.heartbeat();
+                                            blocked.countDown();
+                                            try {
+                                                new CountDownLatch(1).await();
+                                            } catch (InterruptedException e) {
+                                                interrupted.set(true);
+                                            }
+                                        }));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        now.set(NOW.plusSeconds(400));
+
+        watchdog.check();
+        boolean ownerInterrupted = Thread.interrupted();
+        worker.join(5_000);
+
+        assertTrue(interrupted.get());
+        assertTrue(ownerInterrupted, "the thread that opened the run is interrupted too");
+        assertTrue(run.isCancelled());
+        assertTrue(run.isDeadlineExceeded());
+    }
+
+    @Test
+    void check_interruptEnabled_leavesPooledThreadsThatFinishedTheirTask() throws Exception {
+        properties.setInterrupt(true);
+        run = JobRunContext.openRun("stockMarketMonitoring", NOW, NOW.plusSeconds(300), clock);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            pool.submit(JobRunContext.propagate((Runnable) JobRunContext::heartbeat)).get();
+            now.set(NOW.plusSeconds(400));
+
+            watchdog.check();
+            Thread.interrupted();
+
+            assertTrue(run.isCancelled());
+            assertFalse(pool.submit(() -> Thread.currentThread().isInterrupted()).get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void check_disabled_ignoresStuckRuns() {
+        properties.setEnabled(false);
+        run = JobRunContext.openRun("stockMarketMonitoring", NOW, NOW.plusSeconds(300), clock);
+        now.set(NOW.plus(Duration.ofHours(1)));
+
+        watchdog.check();
+
+        verify(telegramClient, never()).sendMessage(anyString());
+    }
+
+    @Test
+    void ledger_runCancelledByWatchdog_isRecordedCancelledAndClearsInterrupt() {
+        JobRunRepository repository = mock(JobRunRepository.class);
+        JobRunLedger ledger =
+                new JobRunLedger(
+                        repository,
+                        new JobScheduleCatalog(),
+                        telegramClient,
+                        new TradebotSchedulingProperties(),
+                        clock);
+        properties.setInterrupt(true);
+        properties.getExpectedDurations().put("manualJob", Duration.ofMinutes(1));
+
+        ledger.recordManual(
+                "manualJob",
+                () -> {
+                    now.set(NOW.plus(Duration.ofMinutes(2)));
+                    watchdog.check();
+                    JobRunContext.checkDeadline();
+                    return true;
+                });
+
+        ArgumentCaptor<JobRunRecord> saved = ArgumentCaptor.forClass(JobRunRecord.class);
+        verify(repository).save(saved.capture());
+        assertEquals(JobOutcome.CANCELLED, saved.getValue().outcome());
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertTrue(JobRunContext.running().isEmpty());
+    }
+
+    @Test
+    void describeFrame_libraryFrame_addsInnermostApplicationFrame() {
+        StackTraceElement[] stack = {
+            new StackTraceElement("sun.nio.ch.NioSocketImpl", "park", "NioSocketImpl.java", 191),
+            new StackTraceElement("java.net.Socket$SocketInputStream", "read", "Socket.java", 1099),
+            new StackTraceElement(
+                    "org.tradelite.client.finnhub.FinnhubClient",
+                    "getPriceQuote",
+                    "FinnhubClient.java",
+                    88),
+        };
+
+        assertEquals(
+                "sun.nio.ch.NioSocketImpl.park(NioSocketImpl.java:191)"
+                        + " via org.tradelite.client.finnhub.FinnhubClient"
+                        + ".getPriceQuote(FinnhubClient.java:88)",
+                JobWatchdog.describeFrame(stack));
+        assertEquals("unknown", JobWatchdog.describeFrame(new StackTraceElement[0]));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
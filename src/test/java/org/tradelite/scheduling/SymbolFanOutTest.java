@@ -0,0 +1,276 @@
+package org.tradelite.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.tradelite.config.TradebotSchedulingProperties;
+
+class SymbolFanOutTest {
+
+    @Test
+    void constructor_readsParallelismFromProperties() {
+        TradebotSchedulingProperties properties = new TradebotSchedulingProperties();
+        properties.setFanOutParallelism(3);
+
+        assertEquals(3, new SymbolFanOut(properties).getParallelism());
+        assertEquals(1, new SymbolFanOut(0).getParallelism());
+    }
+
+    @Test
+    void map_sequential_runsOnCallingThreadAndDropsEmptyResults() {
+        Thread caller = Thread.currentThread();
+        SymbolFanOut fanOut = new SymbolFanOut(1);
+
+        List<String> results =
+                fanOut.map(
+                        List.of("AAPL", "SKIP", "MSFT"),
+                        symbol -> {
+                            assertEquals(caller, Thread.currentThread());
+                            return "SKIP".equals(symbol) ? Optional.empty() : Optional.of(symbol);
+                        });
+
+        assertEquals(List.of("AAPL", "MSFT"), results);
+    }
+
+    @Test
+    void map_parallel_keepsInputOrder() {
+        SymbolFanOut fanOut = new SymbolFanOut(8);
+        List<Integer> inputs = IntStream.range(0, 50).boxed().toList();
+
+        List<Integer> results =
+                fanOut.map(
+                        inputs,
+                        i -> {
+                            sleepQuietly((50 - i) % 7);
+                            return i % 5 == 0 ? Optional.empty() : Optional.of(i);
+                        });
+
+        assertEquals(inputs.stream().filter(i -> i % 5 != 0).toList(), results);
+    }
+
+    @Test
+    void map_parallel_neverExceedsParallelism() {
+        SymbolFanOut fanOut = new SymbolFanOut(3);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        fanOut.map(
+                IntStream.range(0, 30).boxed().toList(),
+                i -> {
+                    int now = inFlight.incrementAndGet();
+                    maxInFlight.accumulateAndGet(now, Math::max);
+                    sleepQuietly(5);
+                    inFlight.decrementAndGet();
+                    return Optional.of(i);
+                });
+
+        assertTrue(maxInFlight.get() <= 3, "max in flight was " + maxInFlight.get());
+        assertTrue(maxInFlight.get() > 1, "expected concurrent execution");
+    }
+
+    @Test
+    void map_sequential_stopsAtDeadline() {
+        Instant deadline = Instant.parse("2026-03-30T15:00:00Z");
+        Instant[] now = {deadline.minusSeconds(2)};
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(_ -> now[0]);
+        SymbolFanOut fanOut = new SymbolFanOut(1);
+        List<String> ran = new ArrayList<>();
+
+        JobRunContext context = JobRunContext.open(null, deadline, clock);
+        try {
+            assertThrows(
+                    JobDeadlineExceededException.class,
+                    () ->
+                            fanOut.map(
+                                    List.of("AAPL", "MSFT", "NVDA"),
+                                    symbol -> {
+                                        ran.add(symbol);
+                                        now[0] = now[0].plusSeconds(1);
+                                        return Optional.of(symbol);
+                                    }));
+            assertTrue(context.isDeadlineExceeded());
+            assertEquals(2, context.getSymbolsProcessed());
+        } finally {
+            context.close();
+        }
+        assertEquals(List.of("AAPL", "MSFT"), ran);
+    }
+
+    @Test
+    void map_parallel_pastDeadline_runsNoTasks() {
+        Instant deadline = Instant.parse("2026-03-30T15:00:00Z");
+        SymbolFanOut fanOut = new SymbolFanOut(4);
+        AtomicInteger ran = new AtomicInteger();
+
+        JobRunContext context =
+                JobRunContext.open(null, deadline, Clock.fixed(deadline, ZoneOffset.UTC));
+        try {
+            assertThrows(
+                    JobDeadlineExceededException.class,
+                    () ->
+                            fanOut.map(
+                                    List.of("AAPL", "MSFT", "NVDA"),
+                                    symbol -> {
+                                        ran.incrementAndGet();
+                                        return Optional.of(symbol);
+                                    }));
+            assertEquals(0, context.getSymbolsProcessed());
+        } finally {
+            context.close();
+        }
+        assertEquals(0, ran.get());
+    }
+
+    @Test
+    void map_taskThrowsRuntimeException_rethrowsIt() {
+        SymbolFanOut fanOut = new SymbolFanOut(4);
+
+        IllegalStateException thrown =
+                assertThrows(
+                        IllegalStateException.class,
+                        () ->
+                                fanOut.map(
+                                        List.of("AAPL", "BROKEN", "MSFT"),
+                                        symbol -> {
+                                            if ("BROKEN".equals(symbol)) {
+                                                throw new IllegalStateException("no data");
+                                            }
+                                            return Optional.of(symbol);
+                                        }));
+
+        assertEquals("no data", thrown.getMessage());
+    }
+
+    @Test
+    void map_taskThrowsCheckedException_wrapsIt() {
+        SymbolFanOut fanOut = new SymbolFanOut(4);
+
+        IllegalStateException thrown =
+                assertThrows(
+                        IllegalStateException.class,
+                        () ->
+                                fanOut.map(
+                                        List.of("AAPL", "MSFT"),
+                                        symbol -> {
+                                            throw sneaky(new IOException("io"));
+                                        }));
+
+        assertInstanceOf(IOException.class, thrown.getCause());
+    }
+
+    @Test
+    void map_callerInterrupted_cancelsAndKeepsFlag() throws Exception {
+        SymbolFanOut fanOut = new SymbolFanOut(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> outcome = new CompletableFuture<>();
+
+        Thread caller =
+                Thread.ofPlatform()
+                        .start(
+                                () -> {
+                                    try {
+                                        fanOut.map(
+                                                List.of("AAPL", "MSFT"),
+                                                symbol -> {
+                                                    started.countDown();
+                                                    sleepQuietly(10_000);
+                                                    return Optional.of(symbol);
+                                                });
+                                        outcome.complete(false);
+                                    } catch (CancellationException _) {
+                                        outcome.complete(Thread.currentThread().isInterrupted());
+                                    }
+                                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        caller.interrupt();
+
+        assertTrue(outcome.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void map_parallel_sharesSingleSqliteConnection() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:sqlite:file:" + UUID.randomUUID() + "?mode=memory&cache=shared");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(Duration.ofSeconds(5).toMillis());
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE prices (symbol TEXT, close REAL)");
+            List<Integer> symbols = IntStream.range(0, 64).boxed().toList();
+            for (int symbol : symbols) {
+                jdbcTemplate.update(
+                        "INSERT INTO prices VALUES (?, ?), (?, ?)",
+                        "S" + symbol,
+                        symbol,
+                        "S" + symbol,
+                        symbol + 1);
+            }
+            SymbolFanOut fanOut = new SymbolFanOut(8);
+
+            List<Double> sums =
+                    assertTimeoutPreemptively(
+                            Duration.ofSeconds(30),
+                            () ->
+                                    fanOut.map(
+                                            symbols,
+                                            symbol -> {
+                                                // Several statements per task, like the trackers
+                                                List<Double> closes =
+                                                        jdbcTemplate.queryForList(
+                                                                "SELECT close FROM prices WHERE"
+                                                                        + " symbol = ?",
+                                                                Double.class,
+                                                                "S" + symbol);
+                                                Integer count =
+                                                        jdbcTemplate.queryForObject(
+                                                                "SELECT COUNT(*) FROM prices",
+                                                                Integer.class);
+                                                assertEquals(128, count);
+                                                return Optional.of(
+                                                        closes.stream()
+                                                                .mapToDouble(Double::doubleValue)
+                                                                .sum());
+                                            }));
+
+            assertEquals(symbols.stream().map(symbol -> 2.0 * symbol + 1).toList(), sums);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneaky(Throwable t) throws E {
+        throw (E) t;
+    }
+}
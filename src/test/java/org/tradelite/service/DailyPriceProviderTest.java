@@ -194,6 +194,26 @@ class DailyPriceProviderTest {
         verify(livePriceCache).getEntry("AAPL");
     }
 
+    @Test
+    void findIntradayPriceAfter_livePriceForLaterDay_returnsIt() {
+        LocalDate lastBar = LocalDate.of(2026, 4, 15);
+        LocalDate today = LocalDate.of(2026, 4, 16);
+        when(livePriceCache.getEntry("AAPL"))
+                .thenReturn(Optional.of(new PricedAt(157.0, instantAt(today, 10, 0))));
+
+        assertThat(provider.findIntradayPriceAfter("AAPL", lastBar))
+                .contains(new DailyPrice(today, 157.0));
+    }
+
+    @Test
+    void findIntradayPriceAfter_livePriceForSameDay_returnsEmpty() {
+        LocalDate lastBar = LocalDate.of(2026, 4, 16);
+        when(livePriceCache.getEntry("AAPL"))
+                .thenReturn(Optional.of(new PricedAt(157.0, instantAt(lastBar, 15, 59))));
+
+        assertThat(provider.findIntradayPriceAfter("AAPL", lastBar)).isEmpty();
+    }
+
     private Instant instantAt(LocalDate date, int hour, int minute) {
         return date.atTime(LocalTime.of(hour, minute)).atZone(NY_ZONE).toInstant();
     }
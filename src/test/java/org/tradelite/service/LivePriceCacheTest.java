@@ -8,8 +8,11 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -92,6 +95,21 @@ class LivePriceCacheTest {
         assertTrue(second.updatedAt().isAfter(firstWrite));
     }
 
+    @Test
+    void put_andEvictStale_useInjectedClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-04-13T15:00:00Z"));
+        LivePriceCache clocked = new LivePriceCache(clock);
+
+        clocked.put("AAPL", 175.50);
+
+        assertThat(clocked.getEntry("AAPL").orElseThrow().updatedAt(), is(clock.instant()));
+
+        clock.now = clock.now.plus(Duration.ofHours(25));
+        clocked.evictStale();
+
+        assertThat(clocked.get("AAPL"), is(nullValue()));
+    }
+
     @Test
     void evictStale_removesEntriesOlderThanTtl() {
         Duration ttl = Duration.ofMinutes(30);
@@ -153,4 +171,100 @@ class LivePriceCacheTest {
 
         assertThat(cache.getAll(), is(anEmptyMap()));
     }
+
+    @Test
+    void getRecentRangePercent_singlePrice_isEmpty() {
+        cache.put("AAPL", 100.0);
+
+        assertTrue(cache.getRecentRangePercent("AAPL").isEmpty());
+        assertTrue(cache.getRecentRangePercent("UNKNOWN").isEmpty());
+    }
+
+    @Test
+    void getRecentRangePercent_highLowRangeRelativeToLatest() {
+        cache.put("AAPL", 100.0);
+        cache.put("AAPL", 104.0);
+        cache.put("AAPL", 98.0);
+        cache.put("AAPL", 100.0);
+
+        assertThat(cache.getRecentRangePercent("AAPL").getAsDouble(), is(6.0));
+    }
+
+    @Test
+    void getRecentRangePercent_onlyKeepsRecentHistory() {
+        cache.put("AAPL", 50.0);
+        for (int i = 0; i < LivePriceCache.HISTORY_SIZE; i++) {
+            cache.put("AAPL", 100.0);
+        }
+
+        assertThat(cache.getRecentRangePercent("AAPL").getAsDouble(), is(0.0));
+    }
+
+    @Test
+    void putLatest_updatesPriceWithoutAddingToHistory() {
+        cache.put("AAPL", 100.0);
+        cache.putLatest("AAPL", 120.0);
+        cache.putLatest("AAPL", 80.0);
+
+        assertThat(cache.get("AAPL"), is(80.0));
+        assertTrue(cache.getRecentRangePercent("AAPL").isEmpty());
+    }
+
+    @Test
+    void sampleHistory_addsLatestPrice() {
+        cache.put("AAPL", 100.0);
+        cache.putLatest("AAPL", 125.0);
+
+        cache.sampleHistory("AAPL");
+        cache.sampleHistory("UNKNOWN");
+
+        assertThat(cache.getRecentRangePercent("AAPL").getAsDouble(), is(20.0));
+        assertTrue(cache.getRecentRangePercent("UNKNOWN").isEmpty());
+    }
+
+    @Test
+    void sampleHistory_unchangedPrice_addsNothing() {
+        cache.put("AAPL", 50.0);
+        for (int i = 1; i < LivePriceCache.HISTORY_SIZE; i++) {
+            cache.put("AAPL", 100.0);
+        }
+
+        cache.sampleHistory("AAPL");
+
+        assertThat(cache.getRecentRangePercent("AAPL").getAsDouble(), is(50.0));
+    }
+
+    @Test
+    void evictStale_dropsHistoryWithEntry() {
+        cache.put("AAPL", 100.0);
+        cache.put("AAPL", 110.0);
+
+        cache.evictStale(Instant.now().plus(Duration.ofHours(2)), Duration.ofMinutes(30));
+
+        assertTrue(cache.getRecentRangePercent("AAPL").isEmpty());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
 }
@@ -7,9 +7,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.HashMap;
@@ -69,7 +72,28 @@ class MarketStatusServiceTest {
                                     eq(entry.getKey()), any(LocalDate.class), any(LocalDate.class)))
                     .thenReturn(entry.getValue());
         }
-        service = new MarketStatusService(finnhubClient, enricoClient);
+        service = new MarketStatusService(finnhubClient, enricoClient, Clock.systemUTC());
+    }
+
+    @Test
+    void currentSessionDate_usesNewYorkDate() {
+        // 2026-04-14 02:00 UTC is still Monday evening in New York
+        Clock lateMonday = Clock.fixed(Instant.parse("2026-04-14T02:00:00Z"), ZoneOffset.UTC);
+        MarketStatusService clocked =
+                new MarketStatusService(finnhubClient, enricoClient, lateMonday);
+
+        assertEquals(LocalDate.of(2026, 4, 13), clocked.currentSessionDate());
+    }
+
+    @Test
+    void isMarketOpen_noDateTime_readsInjectedClock() {
+        // Monday 2026-04-13 11:00 New York
+        Clock monday = Clock.fixed(Instant.parse("2026-04-13T15:00:00Z"), NY_ZONE);
+        Clock saturday = Clock.fixed(Instant.parse("2026-04-18T15:00:00Z"), NY_ZONE);
+
+        assertTrue(new MarketStatusService(finnhubClient, enricoClient, monday).isMarketOpen(null));
+        assertFalse(
+                new MarketStatusService(finnhubClient, enricoClient, saturday).isMarketOpen(null));
     }
 
     @Test
@@ -728,4 +752,82 @@ class MarketStatusServiceTest {
 
         assertEquals("Synthetic Today Holiday", result.get(Exchange.XETRA));
     }
+
+    // --- Session table queries ---
+
+    @Test
+    void nextMarketOpen_saturday_isMondayOpen() {
+        Instant saturday = ZonedDateTime.of(2026, 4, 18, 11, 0, 0, 0, NY_ZONE).toInstant();
+
+        assertEquals(
+                ZonedDateTime.of(2026, 4, 20, 9, 30, 0, 0, NY_ZONE).toInstant(),
+                service.nextMarketOpen(saturday).orElseThrow());
+    }
+
+    @Test
+    void nextMarketClose_earlyCloseDay_usesShortenedSession() {
+        when(finnhubClient.getMarketHolidays())
+                .thenReturn(buildResponse(holiday("Christmas Eve", "2026-12-24", "09:30-13:00")));
+        service.loadHolidays();
+        Instant morning = ZonedDateTime.of(2026, 12, 24, 10, 0, 0, 0, NY_ZONE).toInstant();
+
+        assertEquals(
+                ZonedDateTime.of(2026, 12, 24, 13, 0, 0, 0, NY_ZONE).toInstant(),
+                service.nextMarketClose(morning).orElseThrow());
+    }
+
+    @Test
+    void isMarketOpen_holidaysLoadedAfterFirstQuery_recompilesSessions() {
+        ZonedDateTime christmas = ZonedDateTime.of(2026, 12, 25, 11, 0, 0, 0, NY_ZONE);
+        assertTrue(service.isMarketOpen(christmas));
+
+        when(finnhubClient.getMarketHolidays())
+                .thenReturn(buildResponse(holiday("Christmas", "2026-12-25", "")));
+        service.loadHolidays();
+
+        assertFalse(service.isMarketOpen(christmas));
+    }
+
+    @Test
+    void nextOpen_jpxLunchBreak_isAfternoonSession() {
+        Instant lunch = ZonedDateTime.of(2026, 7, 15, 11, 45, 0, 0, TOKYO_ZONE).toInstant();
+
+        assertEquals(
+                ZonedDateTime.of(2026, 7, 15, 12, 30, 0, 0, TOKYO_ZONE).toInstant(),
+                service.nextOpen(Exchange.JPX, lunch).orElseThrow());
+        assertEquals(
+                ZonedDateTime.of(2026, 7, 15, 15, 0, 0, 0, TOKYO_ZONE).toInstant(),
+                service.nextClose(Exchange.JPX, lunch.plusSeconds(3600)).orElseThrow());
+    }
+
+    @Test
+    void nextOpen_exchangeHoliday_skipsToNextTradingDay() {
+        loadEmptyHolidayCache();
+        // Thursday 2026-04-30 after close; Friday 2026-05-01 is Labour Day on XETRA
+        Instant thursdayEvening =
+                ZonedDateTime.of(2026, 4, 30, 18, 0, 0, 0, BERLIN_ZONE).toInstant();
+
+        assertEquals(
+                ZonedDateTime.of(2026, 5, 4, 9, 0, 0, 0, BERLIN_ZONE).toInstant(),
+                service.nextOpen(Exchange.XETRA, thursdayEvening).orElseThrow());
+    }
+
+    @Test
+    void nextOpenIfAllClosed_weekend_isEarliestAsianOpen() {
+        // Saturday noon New York; Seoul and Tokyo both open Monday 09:00 (UTC+9)
+        ZonedDateTime saturday = ZonedDateTime.of(2026, 7, 18, 12, 0, 0, 0, NY_ZONE);
+
+        assertEquals(
+                ZonedDateTime.of(2026, 7, 20, 9, 0, 0, 0, SEOUL_ZONE).toInstant(),
+                service.nextOpenIfAllClosed(saturday).orElseThrow());
+    }
+
+    @Test
+    void nextOpenIfAllClosed_anyExchangeTrading_isEmpty() {
+        // Wednesday 10:00 Berlin: XETRA open, NYSE not yet
+        ZonedDateTime xetraOnly = ZonedDateTime.of(2026, 7, 15, 10, 0, 0, 0, BERLIN_ZONE);
+
+        assertTrue(service.nextOpenIfAllClosed(xetraOnly).isEmpty());
+        assertFalse(service.isMarketOpen(xetraOnly));
+    }
 }
@@ -12,6 +12,7 @@ import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
 import org.tradelite.repository.NewlyAddedSymbolRepository;
 import org.tradelite.repository.NewlyAddedSymbolRepository.NewlyAddedSymbol;
+import org.tradelite.scheduling.InstanceCoordinator;
 
 @ExtendWith(MockitoExtension.class)
 class OhlcvBackfillServiceTest {
@@ -25,7 +26,11 @@ class OhlcvBackfillServiceTest {
     @BeforeEach
     void setUp() {
         service =
-                new OhlcvBackfillService(newlyAddedSymbolRepository, ohlcvFetcher, symbolRegistry);
+                new OhlcvBackfillService(
+                        newlyAddedSymbolRepository,
+                        ohlcvFetcher,
+                        symbolRegistry,
+                        InstanceCoordinator.standalone());
     }
 
     @Test
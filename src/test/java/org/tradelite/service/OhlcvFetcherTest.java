@@ -2,39 +2,60 @@ package org.tradelite.service;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimitExceededException;
 import org.tradelite.client.telegram.TelegramGateway;
+import org.tradelite.client.twelvedata.TwelveDataBatch;
 import org.tradelite.client.twelvedata.TwelveDataClient;
 import org.tradelite.client.yahoo.YahooFetchException;
 import org.tradelite.client.yahoo.YahooFinanceClient;
 import org.tradelite.common.OhlcvRecord;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolRegistry;
+import org.tradelite.repository.OhlcvFetchCheckpoint;
+import org.tradelite.repository.OhlcvFetchCheckpoint.Mode;
+import org.tradelite.repository.OhlcvFetchCheckpoint.Status;
+import org.tradelite.repository.OhlcvFetchCheckpointRepository;
+import org.tradelite.repository.OhlcvFetchRun;
 import org.tradelite.repository.OhlcvRepository;
+import org.tradelite.scheduling.InstanceCoordinator;
+import org.tradelite.scheduling.JobDeadlineExceededException;
 
 @SuppressWarnings("SameParameterValue")
 @ExtendWith(MockitoExtension.class)
 class OhlcvFetcherTest {
 
+    private static final Instant NOW = Instant.parse("2026-04-14T21:00:00Z");
+
     @Mock private TwelveDataClient twelveDataClient;
     @Mock private YahooFinanceClient yahooFinanceClient;
     @Mock private OhlcvRepository ohlcvRepository;
     @Mock private SymbolRegistry symbolRegistry;
     @Mock private TelegramGateway telegramGateway;
+    @Mock private OhlcvFetchCheckpointRepository checkpointRepository;
 
     private OhlcvFetcher ohlcvFetcher;
 
@@ -48,10 +69,10 @@ class OhlcvFetcherTest {
                         ohlcvRepository,
                         symbolRegistry,
                         telegramGateway,
-                        stockSplitDetector);
-        ohlcvFetcher.setRequestDelayMs(0);
-        ohlcvFetcher.setYahooRequestDelayMs(0);
-        ohlcvFetcher.setRateLimitWaitMs(0);
+                        stockSplitDetector,
+                        checkpointRepository,
+                        InstanceCoordinator.standalone(),
+                        Clock.fixed(NOW, ZoneOffset.UTC));
         // Default: return all ETFs + benchmark (no extra stocks)
         lenient().when(symbolRegistry.getAll()).thenReturn(defaultEtfSymbols());
         // Default: no international symbols
@@ -59,6 +80,10 @@ class OhlcvFetcherTest {
         lenient().when(symbolRegistry.isInternationalSymbol(anyString())).thenReturn(false);
         // Default: all symbols need backfill
         lenient().when(ohlcvRepository.findBySymbol(anyString(), anyInt())).thenReturn(List.of());
+        // Default: no other instance starts a run concurrently
+        lenient()
+                .when(checkpointRepository.startRunUnlessOpen(anyString(), any(), any()))
+                .thenReturn(true);
         // Default: fetch returns empty
         lenient()
                 .when(twelveDataClient.fetchDailyOhlcv(anyString(), anyInt()))
@@ -207,10 +232,10 @@ class OhlcvFetcherTest {
                         ohlcvRepository,
                         symbolRegistry,
                         telegramGateway,
-                        throwingDetector);
-        fetcherWithThrowingDetector.setRequestDelayMs(0);
-        fetcherWithThrowingDetector.setYahooRequestDelayMs(0);
-        fetcherWithThrowingDetector.setRateLimitWaitMs(0);
+                        throwingDetector,
+                        checkpointRepository,
+                        InstanceCoordinator.standalone(),
+                        Clock.fixed(NOW, ZoneOffset.UTC));
 
         when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("NFLX", "Netflix")));
 
@@ -259,67 +284,370 @@ class OhlcvFetcherTest {
     }
 
     @Test
-    void fetchAndBackfillOhlcv_rateLimitHit_retriesAfterWait() throws InterruptedException {
-        ohlcvFetcher.setRequestDelayMs(0);
-        ohlcvFetcher.setRateLimitWaitMs(0);
-        when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("IREN", "Iris Energy")));
-        when(ohlcvRepository.findBySymbol("IREN", OhlcvFetcher.LOOKBACK_CALENDAR_DAYS))
+    void fetchAndBackfillOhlcv_rateLimitExceeded_marksFailedWithoutRetrying()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("IREN", "Iris Energy"),
+                                new StockSymbol("NFLX", "Netflix")));
+        when(ohlcvRepository.findBySymbol(anyString(), eq(OhlcvFetcher.LOOKBACK_CALENDAR_DAYS)))
                 .thenReturn(List.of());
 
-        List<OhlcvRecord> records = generateRecords("IREN", 400, 10.0);
+        List<OhlcvRecord> records = generateRecords("NFLX", 400, 10.0);
         when(twelveDataClient.fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
                 .thenThrow(
-                        new IllegalStateException(
+                        new RateLimitExceededException(
+                                ApiProvider.TWELVEDATA,
                                 "Twelve Data API error for IREN: You have run out of API credits"
-                                        + " for the current minute. 9 API credits were used, with"
-                                        + " the current limit being 8."))
+                                        + " for the current minute."));
+        when(twelveDataClient.fetchDailyOhlcv("NFLX", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
                 .thenReturn(records);
 
         ohlcvFetcher.fetchAndBackfillOhlcv();
 
-        verify(twelveDataClient, times(2))
-                .fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(twelveDataClient).fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
         verify(ohlcvRepository).saveAll(records);
-        verify(telegramGateway, never()).sendMessage(anyString());
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(telegramGateway).sendMessage(messageCaptor.capture());
+        assertThat(messageCaptor.getValue(), containsString("1/2 failed [IREN]"));
     }
 
     @Test
-    void fetchAndBackfillOhlcv_rateLimitHitTwice_failsAfterRetry() throws InterruptedException {
-        ohlcvFetcher.setRequestDelayMs(0);
-        ohlcvFetcher.setRateLimitWaitMs(0);
-        when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("IREN", "Iris Energy")));
-        when(ohlcvRepository.findBySymbol("IREN", OhlcvFetcher.LOOKBACK_CALENDAR_DAYS))
-                .thenReturn(List.of());
+    void fetchAndBackfillOhlcv_noOpenRun_startsRunAndCheckpointsEverySymbol()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("IREN", "Iris Energy"),
+                                new StockSymbol("NFLX", "Netflix")));
+        when(twelveDataClient.fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenThrow(new IllegalStateException("boom"));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        ArgumentCaptor<String> runId = ArgumentCaptor.forClass(String.class);
+        verify(checkpointRepository)
+                .startRunUnlessOpen(
+                        runId.capture(), eq(NOW), eq(NOW.minus(OhlcvFetcher.RESUME_WINDOW)));
+        verify(checkpointRepository)
+                .saveCheckpoint(
+                        runId.getValue(),
+                        new OhlcvFetchCheckpoint("IREN", Mode.BACKFILL, Status.FAILED),
+                        NOW);
+        verify(checkpointRepository)
+                .saveCheckpoint(
+                        runId.getValue(),
+                        new OhlcvFetchCheckpoint("NFLX", Mode.BACKFILL, Status.COMPLETED),
+                        NOW);
+        verify(checkpointRepository, never()).finishRun(anyString(), any());
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_allSymbolsSucceed_finishesRun() throws InterruptedException {
+        when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("NFLX", "Netflix")));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
 
+        ArgumentCaptor<String> runId = ArgumentCaptor.forClass(String.class);
+        verify(checkpointRepository)
+                .startRunUnlessOpen(
+                        runId.capture(), eq(NOW), eq(NOW.minus(OhlcvFetcher.RESUME_WINDOW)));
+        verify(checkpointRepository).finishRun(runId.getValue(), NOW);
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_openRun_retriesOnlyFailedAndPendingSymbols()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("AAPL", "Apple"),
+                                new StockSymbol("IREN", "Iris Energy"),
+                                new StockSymbol("NFLX", "Netflix")));
+        when(checkpointRepository.findOpenRun())
+                .thenReturn(Optional.of(new OhlcvFetchRun("run-1", NOW.minusSeconds(3600))));
+        when(checkpointRepository.findCheckpoints("run-1"))
+                .thenReturn(
+                        Map.of(
+                                "AAPL",
+                                new OhlcvFetchCheckpoint("AAPL", Mode.REFRESH, Status.COMPLETED),
+                                "IREN",
+                                new OhlcvFetchCheckpoint("IREN", Mode.BACKFILL, Status.FAILED)));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        verify(checkpointRepository, never()).startRunUnlessOpen(anyString(), any(), any());
+        verify(twelveDataClient, never()).fetchDailyOhlcv(eq("AAPL"), anyInt());
+        verify(ohlcvRepository, never()).findBySymbol(eq("AAPL"), anyInt());
+        // The failed backfill keeps its mode without re-reading the stored history
+        verify(ohlcvRepository, never()).findBySymbol(eq("IREN"), anyInt());
+        verify(twelveDataClient).fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(twelveDataClient).fetchDailyOhlcv("NFLX", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(checkpointRepository).finishRun("run-1", NOW);
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_limited_leavesOpenRunToTheFullFetch() throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("AAPL", "Apple"),
+                                new StockSymbol("IREN", "Iris Energy"),
+                                new StockSymbol("NFLX", "Netflix")));
+        when(checkpointRepository.findOpenRun())
+                .thenReturn(Optional.of(new OhlcvFetchRun("run-1", NOW.minusSeconds(3600))));
+        when(checkpointRepository.findCheckpoints("run-1"))
+                .thenReturn(
+                        Map.of(
+                                "AAPL",
+                                new OhlcvFetchCheckpoint("AAPL", Mode.BACKFILL, Status.FAILED)));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv(1);
+
+        verify(twelveDataClient).fetchDailyOhlcv("AAPL", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(checkpointRepository, never()).findOpenRun();
+        verify(checkpointRepository, never()).saveCheckpoint(anyString(), any(), any());
+        verify(checkpointRepository, never()).finishRun(anyString(), any());
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        verify(checkpointRepository, never()).startRunUnlessOpen(anyString(), any(), any());
+        verify(twelveDataClient).fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(twelveDataClient).fetchDailyOhlcv("NFLX", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(checkpointRepository).finishRun("run-1", NOW);
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_openRunOutsideResumeWindow_startsFreshRun()
+            throws InterruptedException {
+        when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("AAPL", "Apple")));
+        when(checkpointRepository.findOpenRun())
+                .thenReturn(
+                        Optional.of(
+                                new OhlcvFetchRun(
+                                        "run-1",
+                                        NOW.minus(OhlcvFetcher.RESUME_WINDOW)
+                                                .minus(Duration.ofMinutes(1)))));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        verify(checkpointRepository, never()).findCheckpoints(anyString());
+        verify(checkpointRepository).startRunUnlessOpen(anyString(), eq(NOW), any());
+        verify(twelveDataClient).fetchDailyOhlcv("AAPL", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_runStartedConcurrently_joinsIt() throws InterruptedException {
+        when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("AAPL", "Apple")));
+        when(checkpointRepository.startRunUnlessOpen(anyString(), any(), any())).thenReturn(false);
+        when(checkpointRepository.findOpenRun())
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new OhlcvFetchRun("run-1", NOW)));
+        when(checkpointRepository.findCheckpoints("run-1")).thenReturn(Map.of());
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        verify(checkpointRepository)
+                .saveCheckpoint(
+                        "run-1",
+                        new OhlcvFetchCheckpoint("AAPL", Mode.BACKFILL, Status.COMPLETED),
+                        NOW);
+        verify(checkpointRepository).finishRun("run-1", NOW);
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_sharded_fetchesOwnSymbolsAndWaitsForOthers()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("AAPL", "Apple"),
+                                new StockSymbol("NFLX", "Netflix")));
+        InstanceCoordinator coordinator = mock(InstanceCoordinator.class);
+        when(coordinator.owns(anyString())).thenAnswer(inv -> "AAPL".equals(inv.getArgument(0)));
+        OhlcvFetcher shardedFetcher =
+                new OhlcvFetcher(
+                        twelveDataClient,
+                        yahooFinanceClient,
+                        ohlcvRepository,
+                        symbolRegistry,
+                        telegramGateway,
+                        new StockSplitDetector(),
+                        checkpointRepository,
+                        coordinator,
+                        Clock.fixed(NOW, ZoneOffset.UTC));
+
+        shardedFetcher.fetchAndBackfillOhlcv();
+
+        verify(twelveDataClient).fetchDailyOhlcv("AAPL", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(twelveDataClient, never()).fetchDailyOhlcv(eq("NFLX"), anyInt());
+        verify(checkpointRepository, never()).finishRun(anyString(), any());
+
+        // Once the other instance has checkpointed NFLX, the last instance to finish closes the run
+        when(checkpointRepository.findCheckpoints(anyString()))
+                .thenReturn(
+                        Map.of(
+                                "NFLX",
+                                new OhlcvFetchCheckpoint("NFLX", Mode.REFRESH, Status.COMPLETED)));
+
+        shardedFetcher.fetchAndBackfillOhlcv();
+
+        verify(checkpointRepository).finishRun(anyString(), eq(NOW));
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_internationalFailure_leavesRunOpen() throws InterruptedException {
+        when(symbolRegistry.getAll()).thenReturn(List.of());
+        when(symbolRegistry.getInternationalStocks())
+                .thenReturn(List.of(new StockSymbol("7203.T", "Toyota")));
+        when(yahooFinanceClient.fetchDailyOhlcv("7203.T", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenThrow(new YahooFetchException("7203.T", "timeout"));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        verify(checkpointRepository)
+                .saveCheckpoint(
+                        anyString(),
+                        eq(new OhlcvFetchCheckpoint("7203.T", Mode.BACKFILL, Status.FAILED)),
+                        eq(NOW));
+        verify(checkpointRepository, never()).finishRun(anyString(), any());
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_jobDeadlineExceeded_stopsWithoutCheckpointingFailure()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("IREN", "Iris Energy"),
+                                new StockSymbol("NFLX", "Netflix")));
         when(twelveDataClient.fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
-                .thenThrow(
-                        new IllegalStateException(
-                                "Twelve Data API error for IREN: You have run out of API credits"
-                                        + " for the current minute."));
+                .thenThrow(new JobDeadlineExceededException("Deadline passed"));
+
+        assertThrows(
+                JobDeadlineExceededException.class, () -> ohlcvFetcher.fetchAndBackfillOhlcv());
+
+        verify(twelveDataClient, never()).fetchDailyOhlcv(eq("NFLX"), anyInt());
+        verify(checkpointRepository, never()).saveCheckpoint(anyString(), any(), any());
+        verify(checkpointRepository, never()).finishRun(anyString(), any());
+        verify(telegramGateway, never()).sendMessage(anyString());
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_checkpointWriteFails_continuesFetching()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("AAPL", "Apple"),
+                                new StockSymbol("NFLX", "Netflix")));
+        doThrow(new IllegalStateException("database is locked"))
+                .when(checkpointRepository)
+                .saveCheckpoint(anyString(), any(), any());
 
         ohlcvFetcher.fetchAndBackfillOhlcv();
 
-        verify(twelveDataClient, times(2))
-                .fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
-        verify(ohlcvRepository, never()).saveAll(anyList());
+        verify(twelveDataClient).fetchDailyOhlcv("NFLX", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(telegramGateway, never()).sendMessage(anyString());
+    }
 
+    @Test
+    void fetchAndBackfillOhlcv_refreshSymbols_fetchedInBatchesOfMaxBatchSize()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("AAPL", "Apple"),
+                                new StockSymbol("IREN", "Iris Energy"),
+                                new StockSymbol("MSFT", "Microsoft"),
+                                new StockSymbol("NFLX", "Netflix")));
+        for (String ticker : List.of("AAPL", "MSFT", "NFLX")) {
+            when(ohlcvRepository.findBySymbol(ticker, OhlcvFetcher.LOOKBACK_CALENDAR_DAYS))
+                    .thenReturn(generateRecords(ticker, 140));
+        }
+        when(twelveDataClient.maxBatchSize()).thenReturn(2);
+        List<OhlcvRecord> aapl = generateRecords("AAPL", 5);
+        List<OhlcvRecord> msft = generateRecords("MSFT", 5);
+        List<OhlcvRecord> nflx = generateRecords("NFLX", 5);
+        when(twelveDataClient.fetchDailyOhlcvBatch(
+                        List.of("AAPL", "MSFT"), OhlcvFetcher.REFRESH_OUTPUT_SIZE))
+                .thenReturn(new TwelveDataBatch(Map.of("AAPL", aapl, "MSFT", msft), Map.of()));
+        when(twelveDataClient.fetchDailyOhlcvBatch(
+                        List.of("NFLX"), OhlcvFetcher.REFRESH_OUTPUT_SIZE))
+                .thenReturn(new TwelveDataBatch(Map.of("NFLX", nflx), Map.of()));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        // IREN has no history, so it is backfilled on its own
+        verify(twelveDataClient).fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE);
+        verify(twelveDataClient, never())
+                .fetchDailyOhlcv(anyString(), eq(OhlcvFetcher.REFRESH_OUTPUT_SIZE));
+        verify(ohlcvRepository).saveAll(aapl);
+        verify(ohlcvRepository).saveAll(msft);
+        verify(ohlcvRepository).saveAll(nflx);
+        verify(telegramGateway, never()).sendMessage(anyString());
+        verify(checkpointRepository).finishRun(anyString(), eq(NOW));
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_symbolRejectedInBatch_failsOnlyThatSymbol()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(new StockSymbol("AAPL", "Apple"), new StockSymbol("XYZ", "Gone")));
+        for (String ticker : List.of("AAPL", "XYZ")) {
+            when(ohlcvRepository.findBySymbol(ticker, OhlcvFetcher.LOOKBACK_CALENDAR_DAYS))
+                    .thenReturn(generateRecords(ticker, 140));
+        }
+        when(twelveDataClient.maxBatchSize()).thenReturn(8);
+        List<OhlcvRecord> aapl = generateRecords("AAPL", 5);
+        when(twelveDataClient.fetchDailyOhlcvBatch(
+                        List.of("AAPL", "XYZ"), OhlcvFetcher.REFRESH_OUTPUT_SIZE))
+                .thenReturn(
+                        new TwelveDataBatch(
+                                Map.of("AAPL", aapl), Map.of("XYZ", "symbol not found")));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        verify(ohlcvRepository).saveAll(aapl);
+        verify(checkpointRepository)
+                .saveCheckpoint(
+                        anyString(),
+                        eq(new OhlcvFetchCheckpoint("AAPL", Mode.REFRESH, Status.COMPLETED)),
+                        eq(NOW));
+        verify(checkpointRepository)
+                .saveCheckpoint(
+                        anyString(),
+                        eq(new OhlcvFetchCheckpoint("XYZ", Mode.REFRESH, Status.FAILED)),
+                        eq(NOW));
         ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
         verify(telegramGateway).sendMessage(messageCaptor.capture());
-        assertThat(messageCaptor.getValue(), containsString("IREN"));
+        assertThat(messageCaptor.getValue(), containsString("1/2 failed [XYZ]"));
     }
 
     @Test
-    void isRateLimitError_detectsRateLimitMessage() {
-        Exception rateLimitError =
-                new IllegalStateException(
-                        "Twelve Data API error: You have run out of API credits for the current"
-                                + " minute.");
-        Exception otherError = new IllegalStateException("Connection timed out");
-        Exception nullMessage = new IllegalStateException((String) null);
+    void fetchAndBackfillOhlcv_batchRequestFails_failsEverySymbolInIt()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(new StockSymbol("AAPL", "Apple"), new StockSymbol("MSFT", "MS")));
+        for (String ticker : List.of("AAPL", "MSFT")) {
+            when(ohlcvRepository.findBySymbol(ticker, OhlcvFetcher.LOOKBACK_CALENDAR_DAYS))
+                    .thenReturn(generateRecords(ticker, 140));
+        }
+        when(twelveDataClient.maxBatchSize()).thenReturn(8);
+        when(twelveDataClient.fetchDailyOhlcvBatch(
+                        List.of("AAPL", "MSFT"), OhlcvFetcher.REFRESH_OUTPUT_SIZE))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
 
-        assertThat(OhlcvFetcher.isRateLimitError(rateLimitError), is(true));
-        assertThat(OhlcvFetcher.isRateLimitError(otherError), is(false));
-        assertThat(OhlcvFetcher.isRateLimitError(nullMessage), is(false));
+        verify(ohlcvRepository, never()).saveAll(any());
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(telegramGateway).sendMessage(messageCaptor.capture());
+        assertThat(messageCaptor.getValue(), containsString("2/2 failed [AAPL, MSFT]"));
     }
 
     private List<OhlcvRecord> generateRecords(String symbol, int count) {
@@ -490,6 +818,128 @@ class OhlcvFetcherTest {
         verify(twelveDataClient, never()).fetchDailyOhlcv(eq("RHM.DE"), anyInt());
     }
 
+    @Test
+    void fetchAndBackfillOhlcv_providerPasses_runConcurrently() throws InterruptedException {
+        when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("AAPL", "Apple")));
+        when(symbolRegistry.getInternationalStocks())
+                .thenReturn(List.of(new StockSymbol("7203.T", "Toyota")));
+        // Each provider waits for the other to have started: sequential passes would time out
+        CountDownLatch twelveDataStarted = new CountDownLatch(1);
+        CountDownLatch yahooStarted = new CountDownLatch(1);
+        when(twelveDataClient.fetchDailyOhlcv("AAPL", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenAnswer(
+                        _ -> {
+                            twelveDataStarted.countDown();
+                            return awaitOther(yahooStarted, "AAPL");
+                        });
+        when(yahooFinanceClient.fetchDailyOhlcv("7203.T", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenAnswer(
+                        _ -> {
+                            yahooStarted.countDown();
+                            return awaitOther(twelveDataStarted, "7203.T");
+                        });
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        verify(telegramGateway, never()).sendMessage(anyString());
+        verify(checkpointRepository).finishRun(anyString(), eq(NOW));
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_failuresFromBothProviders_mergedIntoOneAlert()
+            throws InterruptedException {
+        when(symbolRegistry.getAll())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("AAPL", "Apple"),
+                                new StockSymbol("IREN", "Iris Energy")));
+        when(symbolRegistry.getInternationalStocks())
+                .thenReturn(
+                        List.of(
+                                new StockSymbol("7203.T", "Toyota"),
+                                new StockSymbol("RHM.DE", "Rheinmetall")));
+        when(twelveDataClient.fetchDailyOhlcv("IREN", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenThrow(new IllegalStateException("boom"));
+        when(yahooFinanceClient.fetchDailyOhlcv("7203.T", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenThrow(new YahooFetchException("7203.T", "timeout"));
+        when(yahooFinanceClient.fetchDailyOhlcv("RHM.DE", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenReturn(List.of());
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(telegramGateway).sendMessage(messageCaptor.capture());
+        assertThat(messageCaptor.getValue(), containsString("2/4 failed [IREN, 7203.T]"));
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_yahooThrowsUnexpectedException_alertsBothPassesFailures()
+            throws InterruptedException {
+        when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("AAPL", "Apple")));
+        when(symbolRegistry.getInternationalStocks())
+                .thenReturn(List.of(new StockSymbol("7203.T", "Toyota")));
+        when(twelveDataClient.fetchDailyOhlcv("AAPL", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenThrow(new IllegalStateException("boom"));
+        when(yahooFinanceClient.fetchDailyOhlcv("7203.T", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenThrow(new IllegalStateException("unexpected"));
+
+        ohlcvFetcher.fetchAndBackfillOhlcv();
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(telegramGateway).sendMessage(messageCaptor.capture());
+        assertThat(messageCaptor.getValue(), containsString("2/2 failed [AAPL, 7203.T]"));
+        verify(checkpointRepository, never()).finishRun(anyString(), any());
+    }
+
+    @Test
+    void fetchAndBackfillOhlcv_domesticPassThrows_alertsThenRethrows() {
+        when(symbolRegistry.getAll()).thenReturn(List.of(new StockSymbol("AAPL", "Apple")));
+        when(symbolRegistry.getInternationalStocks())
+                .thenReturn(List.of(new StockSymbol("7203.T", "Toyota")));
+        when(twelveDataClient.maxBatchSize()).thenThrow(new IllegalStateException("no plan"));
+
+        IllegalStateException thrown =
+                assertThrows(IllegalStateException.class, ohlcvFetcher::fetchAndBackfillOhlcv);
+
+        assertThat(thrown.getMessage(), is("no plan"));
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(telegramGateway).sendMessage(messageCaptor.capture());
+        assertThat(messageCaptor.getValue(), containsString("Domestic pass aborted: no plan"));
+        verify(checkpointRepository, never()).finishRun(anyString(), any());
+    }
+
+    @Test
+    void backfillSymbols_providerPasses_runConcurrentlyAndKeepDomesticFirst()
+            throws InterruptedException {
+        when(symbolRegistry.isInternationalSymbol("ASML.AS")).thenReturn(true);
+        CountDownLatch twelveDataStarted = new CountDownLatch(1);
+        CountDownLatch yahooStarted = new CountDownLatch(1);
+        when(twelveDataClient.fetchDailyOhlcv("AAPL", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenAnswer(
+                        _ -> {
+                            twelveDataStarted.countDown();
+                            return awaitOther(yahooStarted, "AAPL");
+                        });
+        when(yahooFinanceClient.fetchDailyOhlcv("ASML.AS", OhlcvFetcher.BACKFILL_OUTPUT_SIZE))
+                .thenAnswer(
+                        _ -> {
+                            yahooStarted.countDown();
+                            return awaitOther(twelveDataStarted, "ASML.AS");
+                        });
+
+        List<String> result = ohlcvFetcher.backfillSymbols(List.of("ASML.AS", "AAPL"));
+
+        assertThat(result, contains("AAPL", "ASML.AS"));
+    }
+
+    private List<OhlcvRecord> awaitOther(CountDownLatch other, String symbol)
+            throws InterruptedException {
+        if (!other.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("provider passes ran sequentially");
+        }
+        return generateRecords(symbol, 400);
+    }
+
     @Test
     void backfillSymbols_mixedSymbols_routesCorrectly() throws InterruptedException {
         when(symbolRegistry.isInternationalSymbol("AAPL")).thenReturn(false);
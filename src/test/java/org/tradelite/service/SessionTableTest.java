@@ -0,0 +1,85 @@
+package org.tradelite.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.tradelite.service.SessionTable.Session;
+
+class SessionTableTest {
+
+    private static final ZoneId TOKYO = ZoneId.of("Asia/Tokyo");
+
+    // Monday 2026-04-13 through Sunday 2026-04-19, weekdays with a lunch break
+    private final SessionTable table =
+            SessionTable.compile(
+                    TOKYO,
+                    LocalDate.of(2026, 4, 13),
+                    7,
+                    date ->
+                            date.getDayOfWeek().getValue() >= DayOfWeek.SATURDAY.getValue()
+                                    ? List.of()
+                                    : List.of(
+                                            new Session(LocalTime.of(9, 0), LocalTime.of(11, 30)),
+                                            new Session(
+                                                    LocalTime.of(12, 30), LocalTime.of(15, 0))));
+
+    @Test
+    void isOpen_openInclusiveCloseExclusive() {
+        assertTrue(table.isOpen(tokyo("2026-04-13T09:00:00")));
+        assertTrue(table.isOpen(tokyo("2026-04-13T11:29:59.999")));
+        assertFalse(table.isOpen(tokyo("2026-04-13T11:30:00")));
+        assertFalse(table.isOpen(tokyo("2026-04-13T08:59:59.999")));
+        assertFalse(table.isOpen(tokyo("2026-04-18T10:00:00")));
+    }
+
+    @Test
+    void nextOpen_duringLunch_isAfternoonSession() {
+        assertEquals(
+                Optional.of(tokyo("2026-04-13T12:30:00")),
+                table.nextOpen(tokyo("2026-04-13T11:45:00")));
+    }
+
+    @Test
+    void nextOpen_whileOpen_isNextSession() {
+        assertEquals(
+                Optional.of(tokyo("2026-04-13T12:30:00")),
+                table.nextOpen(tokyo("2026-04-13T09:00:00")));
+    }
+
+    @Test
+    void nextOpen_friday_skipsWeekendToOutOfRange() {
+        assertEquals(Optional.empty(), table.nextOpen(tokyo("2026-04-17T16:00:00")));
+    }
+
+    @Test
+    void nextClose_beforeOpen_isFirstCloseOfDay() {
+        assertEquals(
+                Optional.of(tokyo("2026-04-14T11:30:00")),
+                table.nextClose(tokyo("2026-04-14T07:00:00")));
+        assertEquals(
+                Optional.of(tokyo("2026-04-14T15:00:00")),
+                table.nextClose(tokyo("2026-04-14T13:00:00")));
+    }
+
+    @Test
+    void covers_spansWholeDaysInZone() {
+        assertTrue(table.covers(tokyo("2026-04-13T00:00:00")));
+        assertTrue(table.covers(tokyo("2026-04-19T23:59:59")));
+        assertFalse(table.covers(tokyo("2026-04-20T00:00:00")));
+        assertFalse(table.covers(tokyo("2026-04-12T23:59:59")));
+    }
+
+    private static Instant tokyo(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(TOKYO).toInstant();
+    }
+}
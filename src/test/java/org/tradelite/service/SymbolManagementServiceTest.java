@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,9 @@ import org.tradelite.client.finnhub.FinnhubClient;
 import org.tradelite.client.finnhub.dto.PriceQuoteResponse;
 import org.tradelite.client.yahoo.YahooFinanceClient;
 import org.tradelite.common.AssetType;
+import org.tradelite.common.CoinId;
+import org.tradelite.common.CoinRegistry;
+import org.tradelite.common.CoinSymbol;
 import org.tradelite.common.OhlcvRecord;
 import org.tradelite.common.StockSymbol;
 import org.tradelite.common.SymbolLifecycleListener;
@@ -46,6 +50,7 @@ class SymbolManagementServiceTest {
     @Mock private NewlyAddedSymbolRepository newlyAddedSymbolRepository;
     @Mock private SymbolLifecycleListener listenerA;
     @Mock private SymbolLifecycleListener listenerB;
+    @Mock private CoinRegistry coinRegistry;
 
     private SymbolManagementService service;
 
@@ -66,7 +71,8 @@ class SymbolManagementServiceTest {
                         coinGeckoClient,
                         yahooFinanceClient,
                         newlyAddedSymbolRepository,
-                        List.of(listenerA, listenerB));
+                        List.of(listenerA, listenerB),
+                        coinRegistry);
     }
 
     @Test
@@ -268,4 +274,52 @@ class SymbolManagementServiceTest {
         verify(listenerB).onSymbolRemoved("AAPL");
         verify(targetPriceProvider).removeSymbolFromTargetPrices("AAPL", AssetType.STOCK);
     }
+
+    @Test
+    void addCoin_pricedByCoinGecko_tracksLowercaseId() {
+        CoinGeckoPriceResponse.CoinData coinData = new CoinGeckoPriceResponse.CoinData();
+        coinData.setUsd(18.5);
+        when(coinRegistry.fromString("chainlink")).thenReturn(Optional.empty());
+        when(coinGeckoClient.getCoinPrices(List.of("chainlink")))
+                .thenReturn(Map.of("chainlink", coinData));
+        when(coinRegistry.addCoin("chainlink", "Chainlink")).thenReturn(true);
+
+        AddResult result = service.addCoin("Chainlink", "Chainlink");
+
+        assertThat(result.success(), is(true));
+        assertThat(result.message(), containsString("Added Chainlink (chainlink)"));
+    }
+
+    @Test
+    void addCoin_unknownToCoinGecko_returnsFailure() {
+        when(coinRegistry.fromString("notacoin")).thenReturn(Optional.empty());
+        when(coinGeckoClient.getCoinPrices(List.of("notacoin"))).thenReturn(Map.of());
+
+        AddResult result = service.addCoin("notacoin", "Nope");
+
+        assertThat(result.success(), is(false));
+        assertThat(result.message(), containsString("Invalid coin: notacoin"));
+        verify(coinRegistry, never()).addCoin(anyString(), anyString());
+    }
+
+    @Test
+    void addCoin_alreadyTracked_skipsValidation() {
+        when(coinRegistry.fromString("bitcoin"))
+                .thenReturn(Optional.of(CoinSymbol.of(CoinId.BITCOIN)));
+
+        AddResult result = service.addCoin("bitcoin", "Bitcoin");
+
+        assertThat(result.success(), is(false));
+        verify(coinGeckoClient, never()).getCoinPrices(any());
+    }
+
+    @Test
+    void removeCoin_removed_dropsCoinTargetPrices() {
+        when(coinRegistry.removeCoin("chainlink")).thenReturn(true);
+
+        boolean removed = service.removeCoin("chainlink");
+
+        assertThat(removed, is(true));
+        verify(targetPriceProvider).removeSymbolFromTargetPrices("chainlink", AssetType.COIN);
+    }
 }
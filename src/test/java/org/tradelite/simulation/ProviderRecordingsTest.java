@@ -0,0 +1,82 @@
+package org.tradelite.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tradelite.simulation.ProviderRecordings.Recording;
+
+class ProviderRecordingsTest {
+
+    private static final URI QUOTE =
+            URI.create("https://finnhub.io/api/v1/quote?symbol=AAPL&token=secret-1");
+
+    @TempDir Path dir;
+
+    @Test
+    void key_dropsApiKeysAndSortsQuery() {
+        URI uri =
+                URI.create(
+                        "https://api.twelvedata.com/time_series?symbol=IREN&apikey=k&interval=1day");
+
+        assertEquals(
+                "GET api.twelvedata.com/time_series?interval=1day&symbol=IREN",
+                ProviderRecordings.key("GET", uri));
+        assertEquals(
+                "GET api.stlouisfed.org/fred/series",
+                ProviderRecordings.key(
+                        "GET", URI.create("https://api.stlouisfed.org/fred/series?api_key=k")));
+    }
+
+    @Test
+    void saveAndFind_roundTripAcrossApiKeys() {
+        ProviderRecordings recordings = new ProviderRecordings(dir, new ObjectMapper());
+        byte[] body = "{\"c\":187.5}".getBytes(StandardCharsets.UTF_8);
+
+        recordings.save("GET", QUOTE, 200, "application/json", body);
+        Recording found =
+                recordings
+                        .find(
+                                "GET",
+                                URI.create(
+                                        "https://finnhub.io/api/v1/quote?token=other&symbol=AAPL"))
+                        .orElseThrow();
+
+        assertEquals(200, found.status());
+        assertEquals("application/json", found.contentType());
+        assertArrayEquals(body, found.bodyBytes());
+    }
+
+    @Test
+    void save_neverWritesApiKeys() throws IOException {
+        ProviderRecordings recordings = new ProviderRecordings(dir, new ObjectMapper());
+
+        recordings.save("GET", QUOTE, 200, null, new byte[0]);
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        assertEquals(1, files.size());
+        assertTrue(files.getFirst().startsWith(dir.resolve("finnhub.io")));
+        assertFalse(Files.readString(files.getFirst()).contains("secret-1"));
+    }
+
+    @Test
+    void find_unrecorded_isEmpty() {
+        ProviderRecordings recordings = new ProviderRecordings(dir, new ObjectMapper());
+
+        assertTrue(recordings.find("GET", QUOTE).isEmpty());
+    }
+}
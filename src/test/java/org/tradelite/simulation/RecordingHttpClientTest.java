@@ -0,0 +1,131 @@
+package org.tradelite.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tradelite.client.http.HttpCompression;
+import org.tradelite.config.TradebotSimulationProperties.Mode;
+
+class RecordingHttpClientTest {
+
+    private static final HttpRequest CHART =
+            HttpRequest.newBuilder(
+                            URI.create(
+                                    "https://query1.finance.yahoo.com/v8/finance/chart/7203.T?interval=1d"))
+                    .GET()
+                    .build();
+    private static final String BODY = "{\"chart\":{}}";
+
+    @TempDir Path dir;
+
+    private final HttpClient delegate = mock(HttpClient.class);
+    private ProviderRecordings recordings;
+
+    @BeforeEach
+    void setUp() {
+        recordings = new ProviderRecordings(dir, new ObjectMapper());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void send_record_storesLiveResponse() throws Exception {
+        HttpResponse<byte[]> live = mock(HttpResponse.class);
+        when(live.statusCode()).thenReturn(200);
+        when(live.body()).thenReturn(BODY.getBytes(StandardCharsets.UTF_8));
+        when(live.headers())
+                .thenReturn(
+                        HttpHeaders.of(
+                                Map.of("Content-Type", List.of("application/json")),
+                                (_, _) -> true));
+        when(delegate.send(eq(CHART), any(HttpResponse.BodyHandler.class))).thenReturn(live);
+
+        HttpResponse<String> response =
+                new RecordingHttpClient(delegate, recordings, Mode.RECORD)
+                        .send(CHART, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(BODY, response.body());
+        assertEquals(
+                "application/json",
+                recordings.find("GET", CHART.uri()).orElseThrow().contentType());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void send_recordGzippedResponse_storesDecodedBody() throws Exception {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+        HttpResponse<byte[]> live = mock(HttpResponse.class);
+        when(live.statusCode()).thenReturn(200);
+        when(live.body()).thenReturn(gzipped.toByteArray());
+        when(live.headers())
+                .thenReturn(
+                        HttpHeaders.of(
+                                Map.of(
+                                        "Content-Type", List.of("application/json"),
+                                        "Content-Encoding", List.of("gzip")),
+                                (_, _) -> true));
+        when(delegate.send(eq(CHART), any(HttpResponse.BodyHandler.class))).thenReturn(live);
+
+        HttpResponse<InputStream> response =
+                new RecordingHttpClient(delegate, recordings, Mode.RECORD)
+                        .send(CHART, HttpCompression.ofDecodedStream());
+
+        assertEquals(BODY, new String(response.body().readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(
+                BODY,
+                new String(
+                        recordings.find("GET", CHART.uri()).orElseThrow().bodyBytes(),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void send_replay_feedsRecordingThroughBodyHandler() throws Exception {
+        recordings.save(
+                "GET", CHART.uri(), 200, "application/json", BODY.getBytes(StandardCharsets.UTF_8));
+
+        HttpResponse<String> response =
+                new RecordingHttpClient(delegate, recordings, Mode.REPLAY)
+                        .send(CHART, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(BODY, response.body());
+        assertEquals(CHART.uri(), response.uri());
+        verify(delegate, never()).send(any(), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void sendAsync_replayWithoutRecording_completesWithNotFound() {
+        HttpResponse<String> response =
+                new RecordingHttpClient(delegate, recordings, Mode.REPLAY)
+                        .sendAsync(CHART, HttpResponse.BodyHandlers.ofString())
+                        .join();
+
+        assertEquals(404, response.statusCode());
+        assertEquals("", response.body());
+    }
+}
@@ -0,0 +1,94 @@
+package org.tradelite.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.tradelite.config.TradebotSimulationProperties.Mode;
+
+@ExtendWith(MockitoExtension.class)
+class RecordingInterceptorTest {
+
+    private static final URI QUOTE =
+            URI.create("https://finnhub.io/api/v1/quote?symbol=AAPL&token=secret");
+    private static final byte[] BODY = "{\"c\":187.5}".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir Path dir;
+
+    @Mock private HttpRequest request;
+    @Mock private ClientHttpRequestExecution execution;
+    @Mock private ClientHttpResponse liveResponse;
+
+    private ProviderRecordings recordings;
+
+    @BeforeEach
+    void setUp() {
+        recordings = new ProviderRecordings(dir, new ObjectMapper());
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        when(request.getURI()).thenReturn(QUOTE);
+    }
+
+    @Test
+    void intercept_record_passesThroughAndStores() throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        when(execution.execute(request, new byte[0])).thenReturn(liveResponse);
+        when(liveResponse.getBody()).thenReturn(new ByteArrayInputStream(BODY));
+        when(liveResponse.getHeaders()).thenReturn(headers);
+        when(liveResponse.getStatusCode()).thenReturn(HttpStatusCode.valueOf(200));
+
+        ClientHttpResponse response =
+                new RecordingInterceptor(recordings, Mode.RECORD)
+                        .intercept(request, new byte[0], execution);
+
+        assertArrayEquals(BODY, response.getBody().readAllBytes());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        verify(liveResponse).close();
+        assertArrayEquals(BODY, recordings.find("GET", QUOTE).orElseThrow().bodyBytes());
+    }
+
+    @Test
+    void intercept_replay_servesRecordingWithoutCallingProvider() throws IOException {
+        recordings.save("GET", QUOTE, 200, "application/json", BODY);
+
+        ClientHttpResponse response =
+                new RecordingInterceptor(recordings, Mode.REPLAY)
+                        .intercept(request, new byte[0], execution);
+
+        assertEquals(HttpStatusCode.valueOf(200), response.getStatusCode());
+        assertArrayEquals(BODY, response.getBody().readAllBytes());
+        verify(execution, never()).execute(any(), any());
+    }
+
+    @Test
+    void intercept_replayWithoutRecording_answersNotFound() throws IOException {
+        ClientHttpResponse response =
+                new RecordingInterceptor(recordings, Mode.REPLAY)
+                        .intercept(request, new byte[0], execution);
+
+        assertEquals(HttpStatusCode.valueOf(404), response.getStatusCode());
+        assertEquals(0, response.getBody().readAllBytes().length);
+    }
+}
@@ -0,0 +1,60 @@
+package org.tradelite.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SimulationClockTest {
+
+    private static final Instant START = Instant.parse("2026-04-13T13:00:00Z");
+
+    private final AtomicLong nanos = new AtomicLong(5_000);
+    private final SimulationClock clock = new SimulationClock(START, nanos::get);
+
+    @Test
+    void instant_passesAtWallClockSpeed() {
+        assertEquals(START, clock.instant());
+
+        nanos.addAndGet(1_500_000_000L);
+
+        assertEquals(START.plusMillis(1_500), clock.instant());
+        assertEquals(ZoneOffset.UTC, clock.getZone());
+    }
+
+    @Test
+    void advanceTo_jumpsForwardAndKeepsRunning() {
+        Instant target = START.plusSeconds(3_600);
+
+        clock.advanceTo(target);
+        nanos.addAndGet(2_000_000_000L);
+
+        assertEquals(target.plusSeconds(2), clock.instant());
+    }
+
+    @Test
+    void advanceTo_pastInstant_isIgnored() {
+        nanos.addAndGet(10_000_000_000L);
+
+        clock.advanceTo(START.plusSeconds(5));
+
+        assertEquals(START.plusSeconds(10), clock.instant());
+    }
+
+    @Test
+    void withZone_sharesTimeline() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        Clock zoned = clock.withZone(newYork);
+
+        clock.advanceTo(START.plusSeconds(60));
+
+        assertEquals(newYork, zoned.getZone());
+        assertEquals(START.plusSeconds(60), zoned.instant());
+        assertSame(clock, clock.withZone(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,74 @@
+package org.tradelite.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestTemplate;
+import org.tradelite.client.http.HttpTransportMetrics;
+import org.tradelite.client.http.ProviderRequestFactory;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.config.TradebotHttpProperties;
+import org.tradelite.config.TradebotSimulationProperties;
+
+class SimulationConfigTest {
+
+    private static final Instant START = Instant.parse("2026-04-13T00:00:00Z");
+
+    @Test
+    void constructor_withoutDevProfile_failsFast() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("simulation");
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> new SimulationConfig(new TradebotSimulationProperties(), environment));
+    }
+
+    @Test
+    void simulationClock_startsAtConfiguredInstant() {
+        assertEquals(START, config().simulationClock().instant().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void replayRateLimiterRegistry_isUnpaced() {
+        SimulationConfig config = config();
+
+        assertEquals(
+                SimulationConfig.REPLAY_REQUESTS_PER_MINUTE,
+                config.replayRateLimiterRegistry(config.simulationClock())
+                        .getStats()
+                        .get(ApiProvider.TWELVEDATA)
+                        .requestsPerMinute());
+    }
+
+    @Test
+    void recordingRestTemplate_recordsOnTopOfProviderRequestFactory(@TempDir Path dir) {
+        RestTemplate restTemplate =
+                config().recordingRestTemplate(
+                                HttpClient.newHttpClient(),
+                                new TradebotHttpProperties(),
+                                new HttpTransportMetrics(),
+                                new ProviderRecordings(dir, new ObjectMapper()));
+
+        assertInstanceOf(RecordingInterceptor.class, restTemplate.getInterceptors().getFirst());
+        restTemplate.getInterceptors().clear();
+        assertInstanceOf(ProviderRequestFactory.class, restTemplate.getRequestFactory());
+    }
+
+    private static SimulationConfig config() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("dev", "simulation");
+        TradebotSimulationProperties properties = new TradebotSimulationProperties();
+        properties.setStart(START);
+        return new SimulationConfig(properties, environment);
+    }
+}
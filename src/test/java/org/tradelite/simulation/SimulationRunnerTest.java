@@ -0,0 +1,194 @@
+package org.tradelite.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tradelite.Scheduler;
+import org.tradelite.config.TradebotSchedulingProperties;
+import org.tradelite.config.TradebotSimulationProperties;
+import org.tradelite.scheduling.JobLaneExecutor;
+import org.tradelite.scheduling.JobRunLedger;
+import org.tradelite.scheduling.JobSchedule;
+import org.tradelite.scheduling.JobScheduleCatalog;
+
+@ExtendWith(MockitoExtension.class)
+class SimulationRunnerTest {
+
+    // Monday
+    private static final Instant START = Instant.parse("2026-04-13T08:00:00Z");
+
+    @Mock private JobScheduleCatalog jobScheduleCatalog;
+    @Mock private Scheduler scheduler;
+    @Mock private JobRunLedger jobRunLedger;
+    @Mock private JobLaneExecutor jobLaneExecutor;
+
+    private final TradebotSimulationProperties properties = new TradebotSimulationProperties();
+    private final SimulationClock clock = new SimulationClock(START);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void replay_idleJobs_fireOnSimulatedScheduleInOrder() throws InterruptedException {
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        JobSchedule polling = JobSchedule.fixedRate("polling", Duration.ofMinutes(20));
+        JobSchedule report = JobSchedule.cron("report", "0 30 * * * MON-FRI", ZoneId.of("UTC"));
+
+        SimulationReport result =
+                runner().replay(
+                                List.of(polling, report),
+                                Map.of(
+                                        "polling", recordFire("polling", fired),
+                                        "report", recordFire("report", fired)),
+                                START,
+                                START.plus(Duration.ofHours(1)),
+                                executor);
+
+        assertEquals(
+                List.of(
+                        "polling@08:00:00Z",
+                        "polling@08:20:00Z",
+                        "report@08:30:00Z",
+                        "polling@08:40:00Z",
+                        "polling@09:00:00Z"),
+                fired);
+        assertEquals(5, result.triggers());
+        assertTrue(result.wallTime().compareTo(Duration.ofMinutes(1)) < 0);
+        assertTrue(!clock.instant().isBefore(START.plus(Duration.ofHours(1))));
+    }
+
+    @Test
+    void replay_busyJob_holdsSimulatedTimeAtWallClockSpeed() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        Runnable slow =
+                () -> {
+                    if (running.getCount() > 0) {
+                        running.countDown();
+                        await(release);
+                    }
+                };
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread replay =
+                Thread.ofVirtual()
+                        .start(
+                                () -> {
+                                    try {
+                                        runner().replay(
+                                                        List.of(
+                                                                JobSchedule.fixedRate(
+                                                                        "slow",
+                                                                        Duration.ofHours(1)),
+                                                                JobSchedule.fixedRate(
+                                                                        "fast",
+                                                                        Duration.ofMinutes(30))),
+                                                        Map.of(
+                                                                "slow",
+                                                                slow,
+                                                                "fast",
+                                                                recordFire("fast", fired)),
+                                                        START,
+                                                        START.plus(Duration.ofHours(1)),
+                                                        executor);
+                                    } catch (Throwable e) {
+                                        failure.set(e);
+                                    }
+                                });
+
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        assertTrue(clock.instant().isBefore(START.plusSeconds(60)));
+        assertEquals(List.of("fast@08:00:00Z"), fired);
+
+        release.countDown();
+        replay.join(5_000);
+
+        assertEquals(null, failure.get());
+        assertEquals(List.of("fast@08:00:00Z", "fast@08:30:00Z", "fast@09:00:00Z"), fired);
+    }
+
+    @Test
+    void replay_failingTrigger_doesNotStopReplay() throws InterruptedException {
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        Runnable failing =
+                () -> {
+                    throw new IllegalStateException("boom");
+                };
+
+        SimulationReport result =
+                runner().replay(
+                                List.of(
+                                        JobSchedule.fixedRate("failing", Duration.ofMinutes(30)),
+                                        JobSchedule.fixedRate("ok", Duration.ofMinutes(30)),
+                                        JobSchedule.fixedRate(
+                                                "untriggered", Duration.ofMinutes(1))),
+                                Map.of("failing", failing, "ok", recordFire("ok", fired)),
+                                START,
+                                START.plus(Duration.ofHours(1)),
+                                executor);
+
+        assertEquals(6, result.triggers());
+        assertEquals(3, fired.size());
+    }
+
+    @Test
+    void run_withoutStart_doesNothing() throws InterruptedException {
+        runner().run(null);
+
+        verifyNoInteractions(jobScheduleCatalog, scheduler, jobRunLedger, jobLaneExecutor);
+    }
+
+    private SimulationRunner runner() {
+        return new SimulationRunner(
+                properties,
+                new TradebotSchedulingProperties(),
+                clock,
+                jobScheduleCatalog,
+                scheduler,
+                jobRunLedger,
+                jobLaneExecutor);
+    }
+
+    private Runnable recordFire(String jobName, List<String> fired) {
+        return () ->
+                fired.add(
+                        jobName
+                                + "@"
+                                + clock.instant()
+                                        .truncatedTo(ChronoUnit.MINUTES)
+                                        .toString()
+                                        .substring(11));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.tradelite.web.dashboard;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -125,4 +126,19 @@ class DashboardEventPublisherTest {
         verify(dead, times(1)).send(any(SseEmitter.SseEventBuilder.class));
         verify(alive, times(2)).send(any(SseEmitter.SseEventBuilder.class));
     }
+
+    @Test
+    void completeAll_completesAndForgetsEveryEmitter() throws IOException {
+        SseEmitter first = spy(new SseEmitter(0L));
+        SseEmitter second = spy(new SseEmitter(0L));
+        publisher.register(first);
+        publisher.register(second);
+
+        publisher.completeAll();
+        publisher.publish("after-shutdown", null);
+
+        verify(first).complete();
+        verify(second).complete();
+        verify(first, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
 }
@@ -0,0 +1,41 @@
+package org.tradelite.web.dashboard;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.tradelite.client.http.HttpTransportMetrics;
+
+class HttpTransportControllerTest {
+
+    HttpTransportMetrics transportMetrics = new HttpTransportMetrics();
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc =
+                MockMvcBuilders.standaloneSetup(new HttpTransportController(transportMetrics))
+                        .setMessageConverters(new MappingJackson2HttpMessageConverter())
+                        .build();
+    }
+
+    @Test
+    void stats_returnsPerHostReuse() throws Exception {
+        transportMetrics.recordConnection("finnhub.io");
+        for (int i = 0; i < 3; i++) {
+            transportMetrics.recordRequest("finnhub.io");
+        }
+
+        mockMvc.perform(get("/api/v1/http-transport"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['finnhub.io'].requests").value(3))
+                .andExpect(jsonPath("$['finnhub.io'].connectionsOpened").value(1))
+                .andExpect(jsonPath("$['finnhub.io'].reusedRequests").value(2));
+    }
+}
@@ -0,0 +1,100 @@
+package org.tradelite.web.dashboard;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.tradelite.repository.JobRunRecord;
+import org.tradelite.scheduling.JobOutcome;
+import org.tradelite.scheduling.JobRunLedger;
+import org.tradelite.scheduling.JobRunStats;
+import org.tradelite.scheduling.JobTrigger;
+
+class JobRunControllerTest {
+
+    JobRunLedger jobRunLedger = mock(JobRunLedger.class);
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc =
+                MockMvcBuilders.standaloneSetup(new JobRunController(jobRunLedger))
+                        .setMessageConverters(new MappingJackson2HttpMessageConverter())
+                        .build();
+    }
+
+    @Test
+    void recentRuns_returnsLedgerRows() throws Exception {
+        Instant at = Instant.parse("2026-03-30T15:00:00Z");
+        when(jobRunLedger.findRecent("stockMarketMonitoring", 10))
+                .thenReturn(
+                        List.of(
+                                new JobRunRecord(
+                                        "stockMarketMonitoring",
+                                        JobTrigger.SCHEDULED,
+                                        at,
+                                        at,
+                                        at.plusSeconds(42),
+                                        42_000,
+                                        JobOutcome.SUCCEEDED,
+                                        300,
+                                        300,
+                                        false)));
+
+        mockMvc.perform(
+                        get("/api/v1/job-runs")
+                                .param("job", "stockMarketMonitoring")
+                                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].jobName").value("stockMarketMonitoring"))
+                .andExpect(jsonPath("$[0].outcome").value("SUCCEEDED"))
+                .andExpect(jsonPath("$[0].durationMs").value(42_000));
+    }
+
+    @Test
+    void recentRuns_clampsLimit() throws Exception {
+        when(jobRunLedger.findRecent(null, JobRunController.MAX_LIMIT)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/job-runs").param("limit", "100000"))
+                .andExpect(status().isOk());
+
+        verify(jobRunLedger).findRecent(null, JobRunController.MAX_LIMIT);
+    }
+
+    @Test
+    void stats_defaultsToOneWeek() throws Exception {
+        when(jobRunLedger.summarize(Duration.ofDays(7)))
+                .thenReturn(
+                        List.of(
+                                new JobRunStats(
+                                        "stockMarketMonitoring",
+                                        2016,
+                                        3,
+                                        12,
+                                        1,
+                                        40_000,
+                                        290_000,
+                                        330_000,
+                                        410_000,
+                                        600_000,
+                                        590_000)));
+
+        mockMvc.perform(get("/api/v1/job-runs/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].jobName").value("stockMarketMonitoring"))
+                .andExpect(jsonPath("$[0].overruns").value(12))
+                .andExpect(jsonPath("$[0].p95Ms").value(290_000));
+    }
+}
@@ -0,0 +1,48 @@
+package org.tradelite.web.dashboard;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.tradelite.client.ratelimit.ApiProvider;
+import org.tradelite.client.ratelimit.RateLimiterRegistry;
+import org.tradelite.client.ratelimit.RateLimiterRegistry.RateLimiterStats;
+
+class RateLimitControllerTest {
+
+    RateLimiterRegistry rateLimiterRegistry = mock(RateLimiterRegistry.class);
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc =
+                MockMvcBuilders.standaloneSetup(new RateLimitController(rateLimiterRegistry))
+                        .setMessageConverters(new MappingJackson2HttpMessageConverter())
+                        .build();
+    }
+
+    @Test
+    void stats_returnsPerProviderBudgetAndWaits() throws Exception {
+        when(rateLimiterRegistry.getStats())
+                .thenReturn(
+                        Map.of(
+                                ApiProvider.TWELVEDATA,
+                                new RateLimiterStats(8, 0, 120, 112, 840_000, 52_000, 1)));
+
+        mockMvc.perform(get("/api/v1/rate-limits"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.TWELVEDATA.requestsPerMinute").value(8))
+                .andExpect(jsonPath("$.TWELVEDATA.throttled").value(112))
+                .andExpect(jsonPath("$.TWELVEDATA.maxWaitMs").value(52_000))
+                .andExpect(jsonPath("$.TWELVEDATA.rateLimitedResponses").value(1));
+    }
+}
@@ -122,6 +122,38 @@ class WatchlistControllerTest {
         mockMvc.perform(delete("/api/v1/symbols/UNKNOWN")).andExpect(status().isNotFound());
     }
 
+    @Test
+    void addCoin_200onSuccess() throws Exception {
+        when(symbolManagementService.addCoin("chainlink", "Chainlink"))
+                .thenReturn(new AddResult(true, "Added Chainlink (chainlink)."));
+
+        mockMvc.perform(
+                        post("/api/v1/coins")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        "{\"ticker\":\"chainlink\",\"displayName\":\"Chainlink\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void addCoin_400onFailure() throws Exception {
+        when(symbolManagementService.addCoin("notacoin", "Nope"))
+                .thenReturn(new AddResult(false, "Invalid coin: notacoin."));
+
+        mockMvc.perform(
+                        post("/api/v1/coins")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ticker\":\"notacoin\",\"displayName\":\"Nope\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void removeCoin_404whenNotTracked() throws Exception {
+        when(symbolManagementService.removeCoin("bitcoin")).thenReturn(false);
+
+        mockMvc.perform(delete("/api/v1/coins/bitcoin")).andExpect(status().isNotFound());
+    }
+
     @Test
     void setTarget_200whenSymbolFound() throws Exception {
         StockSymbol aapl = new StockSymbol("AAPL", "Apple Inc");